@@ -0,0 +1,66 @@
+package org.ebean.jmh;
+
+import io.ebean.EbeanServer;
+import io.ebean.Transaction;
+import org.ebean.jmh.domain.Customer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Insert using JDBC batch (BatchControl) with cascade to contacts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchInsertBenchmark {
+
+  @Param({"100"})
+  int batchSize;
+
+  private EbeanServer server;
+
+  @Setup
+  public void setup() {
+    server = BenchDatabase.create("batchInsert");
+  }
+
+  @Setup(Level.Iteration)
+  public void truncate() {
+    server.createSqlUpdate("delete from bench_contact").execute();
+    server.createSqlUpdate("delete from bench_customer").execute();
+  }
+
+  @TearDown
+  public void tearDown() {
+    server.shutdown(true, false);
+  }
+
+  @Benchmark
+  public List<Customer> insertBatch() {
+    List<Customer> customers = BenchDatabase.newCustomers(100, 2);
+    try (Transaction transaction = server.beginTransaction()) {
+      transaction.setBatchMode(true);
+      transaction.setBatchSize(batchSize);
+      server.saveAll(customers);
+      transaction.commit();
+    }
+    return customers;
+  }
+}
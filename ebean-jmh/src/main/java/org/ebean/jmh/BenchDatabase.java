@@ -0,0 +1,143 @@
+package org.ebean.jmh;
+
+import io.ebean.EbeanServer;
+import io.ebean.EbeanServerFactory;
+import io.ebean.Transaction;
+import io.ebean.config.ContainerConfig;
+import io.ebean.config.ServerConfig;
+import io.ebeaninternal.server.core.DefaultContainer;
+import org.ebean.jmh.domain.Contact;
+import org.ebean.jmh.domain.Customer;
+import org.ebean.jmh.domain.Product;
+import org.avaje.datasource.DataSourceConfig;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Creates EbeanServer instances against in memory H2 for the benchmarks.
+ */
+public class BenchDatabase {
+
+  /**
+   * Create a new EbeanServer (and in memory database) with the given name.
+   */
+  public static EbeanServer create(String name) {
+
+    System.setProperty("ebean.ignoreExtraDdl", "true");
+
+    DataSourceConfig dataSourceConfig = new DataSourceConfig();
+    dataSourceConfig.setUsername("sa");
+    dataSourceConfig.setPassword("");
+    dataSourceConfig.setUrl("jdbc:h2:mem:" + name);
+    dataSourceConfig.setDriver("org.h2.Driver");
+
+    ServerConfig config = new ServerConfig();
+    config.setName(name);
+    config.setDataSourceConfig(dataSourceConfig);
+    config.setDdlGenerate(true);
+    config.setDdlRun(true);
+    config.setDefaultServer(false);
+    config.setRegister(false);
+    config.addClass(Customer.class);
+    config.addClass(Contact.class);
+
+    return EbeanServerFactory.create(config);
+  }
+
+  /**
+   * Create a container for a member of a cluster connected by the loopback broadcast (in this JVM).
+   * <p>
+   * Each member has its own container, shutdown via {@link DefaultContainer#shutdownContainer()}.
+   * </p>
+   *
+   * @param name           The cluster name
+   * @param coalesceMillis The time window to coalesce the cluster events (0 for none)
+   */
+  public static DefaultContainer createClusterContainer(String name, int coalesceMillis) {
+
+    Properties properties = new Properties();
+    properties.setProperty("ebean.cluster.active", "true");
+    properties.setProperty("ebean.cluster.type", "loopback");
+    properties.setProperty("ebean.cluster.loopback.name", name);
+    properties.setProperty("ebean.cluster.coalesceMillis", Integer.toString(coalesceMillis));
+    ContainerConfig containerConfig = new ContainerConfig();
+    containerConfig.loadFromProperties(properties);
+
+    return new DefaultContainer(containerConfig);
+  }
+
+  /**
+   * Create a member of a cluster using the given container.
+   * <p>
+   * All the members use the same in memory database.
+   * </p>
+   *
+   * @param container The container of this member
+   * @param name      The database name
+   * @param node      The member number (member 0 runs the DDL)
+   */
+  public static EbeanServer createClusterNode(DefaultContainer container, String name, int node) {
+
+    System.setProperty("ebean.ignoreExtraDdl", "true");
+
+    DataSourceConfig dataSourceConfig = new DataSourceConfig();
+    dataSourceConfig.setUsername("sa");
+    dataSourceConfig.setPassword("");
+    dataSourceConfig.setUrl("jdbc:h2:mem:" + name);
+    dataSourceConfig.setDriver("org.h2.Driver");
+
+    ServerConfig config = new ServerConfig();
+    config.setName("cluster");
+    config.setDataSourceConfig(dataSourceConfig);
+    config.setDdlGenerate(node == 0);
+    config.setDdlRun(node == 0);
+    config.setDefaultServer(false);
+    config.setRegister(false);
+    config.addClass(Product.class);
+
+    return container.createServer(config);
+  }
+
+  /**
+   * Return new (unsaved) customers each with the given number of contacts.
+   */
+  public static List<Customer> newCustomers(int count, int contactsEach) {
+
+    List<Customer> customers = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      Customer customer = new Customer();
+      customer.setName("customer" + i);
+      customer.setEmail("customer" + i + "@example.com");
+      customer.setStatus(Customer.Status.values()[i % 3]);
+      customer.setCreditLimit(BigDecimal.valueOf(1000 + i));
+      customer.setRegistered(LocalDate.of(2017, 1, 1).plusDays(i % 365));
+      customer.setNotes("Some notes about customer " + i);
+      for (int j = 0; j < contactsEach; j++) {
+        Contact contact = new Contact();
+        contact.setFirstName("first" + j);
+        contact.setLastName("last" + i);
+        contact.setEmail("contact" + j + "." + i + "@example.com");
+        contact.setCustomer(customer);
+        customer.getContacts().add(contact);
+      }
+      customers.add(customer);
+    }
+    return customers;
+  }
+
+  /**
+   * Insert customers (and contacts) using JDBC batch.
+   */
+  public static void insert(EbeanServer server, int count, int contactsEach) {
+    try (Transaction transaction = server.beginTransaction()) {
+      transaction.setBatchMode(true);
+      transaction.setBatchSize(100);
+      server.saveAll(newCustomers(count, contactsEach));
+      transaction.commit();
+    }
+  }
+}
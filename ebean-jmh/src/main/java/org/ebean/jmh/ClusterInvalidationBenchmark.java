@@ -0,0 +1,137 @@
+package org.ebean.jmh;
+
+import io.ebean.EbeanServer;
+import io.ebeaninternal.server.cluster.LoopbackCluster;
+import io.ebeaninternal.server.core.DefaultContainer;
+import org.ebean.jmh.domain.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cluster L2 cache invalidation fan out using the loopback cluster broadcast.
+ * <p>
+ * Updates of a cached bean on one member are broadcast to the other members in this JVM.
+ * The throughput is that of committing the updates with 1, 4 and 16 writing threads and
+ * the commit to remote invalidation latency (mean and max) along with the messages and
+ * bytes sent are logged per iteration.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClusterInvalidationBenchmark {
+
+  private static final Logger log = LoggerFactory.getLogger(ClusterInvalidationBenchmark.class);
+
+  private static final int PRODUCTS = 1000;
+
+  @Param({"2", "4", "8"})
+  int nodes;
+
+  @Param({"0", "5"})
+  int coalesceMillis;
+
+  private final List<DefaultContainer> containers = new ArrayList<>();
+
+  private final List<EbeanServer> servers = new ArrayList<>();
+
+  private LoopbackCluster cluster;
+
+  private long firstId;
+
+  @Setup
+  public void setup() {
+    String name = "cluster_" + nodes + "_" + coalesceMillis + "_" + System.nanoTime();
+    for (int i = 0; i < nodes; i++) {
+      DefaultContainer container = BenchDatabase.createClusterContainer(name, coalesceMillis);
+      containers.add(container);
+      servers.add(BenchDatabase.createClusterNode(container, name, i));
+    }
+    cluster = LoopbackCluster.get(name);
+
+    List<Product> products = new ArrayList<>(PRODUCTS);
+    for (int i = 0; i < PRODUCTS; i++) {
+      Product product = new Product();
+      product.setName("product" + i);
+      products.add(product);
+    }
+    servers.get(0).saveAll(products);
+    firstId = products.get(0).getId();
+
+    // load the products into the L2 cache of every member
+    for (EbeanServer server : servers) {
+      for (Product product : products) {
+        server.find(Product.class, product.getId());
+      }
+    }
+  }
+
+  @TearDown(Level.Iteration)
+  public void iterationStatistics() {
+    log.info("nodes:{} coalesceMillis:{} {}", nodes, coalesceMillis, cluster);
+    cluster.resetStatistics();
+  }
+
+  @TearDown
+  public void tearDown() {
+    for (EbeanServer server : servers) {
+      server.shutdown(true, false);
+    }
+    for (DefaultContainer container : containers) {
+      container.shutdownContainer();
+    }
+    cluster.shutdown();
+  }
+
+  /**
+   * Update a cached product on a random member (broadcast to the other members).
+   */
+  private Product update() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    Product product = new Product();
+    product.setId(firstId + random.nextInt(PRODUCTS));
+    product.setStock(random.nextInt(1000));
+    servers.get(random.nextInt(nodes)).update(product);
+    return product;
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Product writers01() {
+    return update();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Product writers04() {
+    return update();
+  }
+
+  @Benchmark
+  @Threads(16)
+  public Product writers16() {
+    return update();
+  }
+}
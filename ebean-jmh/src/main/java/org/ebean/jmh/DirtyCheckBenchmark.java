@@ -0,0 +1,63 @@
+package org.ebean.jmh;
+
+import io.ebean.bean.EntityBean;
+import io.ebean.bean.EntityBeanIntercept;
+import org.ebean.jmh.domain.Customer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dirty checking via EntityBeanIntercept.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DirtyCheckBenchmark {
+
+  private Customer customer;
+
+  private EntityBeanIntercept intercept;
+
+  private int counter;
+
+  @Setup
+  public void setup() {
+    customer = BenchDatabase.newCustomers(1, 0).get(0);
+    customer.setId(1L);
+    customer.setVersion(1L);
+    intercept = ((EntityBean) customer)._ebean_getIntercept();
+    intercept.setLoaded();
+  }
+
+  @Benchmark
+  public boolean setUnchanged() {
+    customer.setName(customer.getName());
+    customer.setEmail(customer.getEmail());
+    return intercept.isDirty();
+  }
+
+  @Benchmark
+  public Set<String> setChanged_dirtyPropertyNames() {
+    customer.setName("name" + (counter++ & 7));
+    customer.setCreditLimit(BigDecimal.TEN);
+    Set<String> dirty = intercept.getDirtyPropertyNames();
+    // reset the dirty state for the next invocation
+    intercept.setLoaded();
+    return dirty;
+  }
+}
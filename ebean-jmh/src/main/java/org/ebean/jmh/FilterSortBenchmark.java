@@ -0,0 +1,84 @@
+package org.ebean.jmh;
+
+import io.ebean.EbeanServer;
+import org.ebean.jmh.domain.Contact;
+import org.ebean.jmh.domain.Customer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In memory sort (EbeanServer.sort()) and filter (Filter.filter()) of beans.
+ * <p>
+ * The contacts are sorted and filtered by the path <code>customer.name</code> to include
+ * the object graph traversal of the property values.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterSortBenchmark {
+
+  @Param({"1000", "100000"})
+  int size;
+
+  private EbeanServer server;
+
+  private List<Contact> contacts;
+
+  @Setup
+  public void setup() {
+    server = BenchDatabase.create("filtersort");
+    contacts = new ArrayList<>(size);
+    for (Customer customer : BenchDatabase.newCustomers(size / 2, 2)) {
+      contacts.addAll(customer.getContacts());
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    server.shutdown(true, false);
+  }
+
+  @Benchmark
+  public List<Contact> sort() {
+    List<Contact> list = new ArrayList<>(contacts);
+    server.sort(list, "customer.name desc, lastName, firstName");
+    return list;
+  }
+
+  @Benchmark
+  public List<Contact> filter() {
+    return server.filter(Contact.class)
+      .sort("customer.name")
+      .startsWith("customer.name", "customer1")
+      .eq("firstName", "first1")
+      .filter(contacts);
+  }
+
+  @Benchmark
+  public List<Contact> filterParallel() {
+    return server.filter(Contact.class)
+      .sort("customer.name")
+      .startsWith("customer.name", "customer1")
+      .eq("firstName", "first1")
+      .parallel()
+      .filter(contacts);
+  }
+}
@@ -0,0 +1,96 @@
+package org.ebean.jmh;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import io.ebean.EbeanServer;
+import org.ebean.jmh.domain.Customer;
+import io.ebean.text.PathProperties;
+import io.ebean.text.json.JsonContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON write (WriteJson) and read (ReadJson) of beans.
+ * <p>
+ * The jackson benchmarks write the same beans using Jackson databind for comparison.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+  private EbeanServer server;
+
+  private JsonContext json;
+
+  private ObjectMapper objectMapper;
+
+  private List<Customer> customers;
+
+  private String customersJson;
+
+  private PathProperties pathProperties;
+
+  @Setup
+  public void setup() {
+    server = BenchDatabase.create("json");
+    json = server.json();
+    customers = BenchDatabase.newCustomers(100, 2);
+    long id = 0;
+    for (Customer customer : customers) {
+      customer.setId(++id);
+      customer.getContacts().forEach(contact -> contact.setCustomer(null));
+    }
+    customersJson = json.toJson(customers);
+    pathProperties = PathProperties.parse("id,name,email,status,contacts(firstName,lastName,email)");
+
+    SimpleModule module = new SimpleModule();
+    module.addSerializer(LocalDate.class, ToStringSerializer.instance);
+    objectMapper = new ObjectMapper();
+    objectMapper.registerModule(module);
+  }
+
+  @TearDown
+  public void tearDown() {
+    server.shutdown(true, false);
+  }
+
+  @Benchmark
+  public String toJson() {
+    return json.toJson(customers);
+  }
+
+  @Benchmark
+  public String toJsonPathProperties() {
+    return json.toJson(customers, pathProperties);
+  }
+
+  @Benchmark
+  public String jacksonToJson() throws JsonProcessingException {
+    return objectMapper.writeValueAsString(customers);
+  }
+
+  @Benchmark
+  public List<Customer> toList() {
+    return json.toList(Customer.class, customersJson);
+  }
+}
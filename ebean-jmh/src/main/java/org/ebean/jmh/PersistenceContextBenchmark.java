@@ -0,0 +1,83 @@
+package org.ebean.jmh;
+
+import io.ebean.bean.PersistenceContext;
+import io.ebeaninternal.server.transaction.ConcurrentPersistenceContext;
+import io.ebeaninternal.server.transaction.DefaultPersistenceContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compare the default (single lock) and concurrent persistence context under
+ * 1, 4 and 16 threads with a read mostly (lazy loading like) workload.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersistenceContextBenchmark {
+
+  private static final int BEANS = 10_000;
+
+  private static final Class<?>[] TYPES = {Integer.class, Long.class, String.class, Object.class};
+
+  @Param({"default", "concurrent"})
+  String type;
+
+  private PersistenceContext pc;
+
+  @Setup
+  public void setup() {
+    pc = "concurrent".equals(type) ? new ConcurrentPersistenceContext() : new DefaultPersistenceContext();
+    for (Class<?> rootType : TYPES) {
+      for (int i = 0; i < BEANS; i++) {
+        pc.put(rootType, i, new Object());
+      }
+    }
+  }
+
+  /**
+   * Mostly get with some putIfAbsent (as per building and lazy loading a graph).
+   */
+  private Object operation() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    Class<?> rootType = TYPES[random.nextInt(TYPES.length)];
+    Integer id = random.nextInt(BEANS * 2);
+    if (random.nextInt(10) == 0) {
+      return pc.putIfAbsent(rootType, id, id);
+    }
+    return pc.get(rootType, id);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Object threads01() {
+    return operation();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Object threads04() {
+    return operation();
+  }
+
+  @Benchmark
+  @Threads(16)
+  public Object threads16() {
+    return operation();
+  }
+}
@@ -0,0 +1,64 @@
+package org.ebean.jmh;
+
+import io.ebean.EbeanServer;
+import org.ebean.jmh.domain.Customer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query execution and bean hydration (CQuery.readNextBean, SqlBeanLoad).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryHydrationBenchmark {
+
+  private EbeanServer server;
+
+  @Setup
+  public void setup() {
+    server = BenchDatabase.create("hydration");
+    BenchDatabase.insert(server, 1000, 2);
+  }
+
+  @TearDown
+  public void tearDown() {
+    server.shutdown(true, false);
+  }
+
+  @Benchmark
+  public List<Customer> findList() {
+    return server.find(Customer.class).findList();
+  }
+
+  @Benchmark
+  public List<Customer> findList_fetchContacts() {
+    return server.find(Customer.class).fetch("contacts").findList();
+  }
+
+  @Benchmark
+  public void findEach(Blackhole blackhole) {
+    server.find(Customer.class).findEach(blackhole::consume);
+  }
+
+  @Benchmark
+  public Customer findById() {
+    return server.find(Customer.class, 42L);
+  }
+}
@@ -0,0 +1,96 @@
+package org.ebean.jmh;
+
+import io.ebean.EbeanServer;
+import io.ebean.Query;
+import io.ebean.Transaction;
+import io.ebean.event.BeanQueryRequest;
+import org.ebean.jmh.domain.Customer;
+import io.ebeaninternal.api.CQueryPlanKey;
+import io.ebeaninternal.api.SpiQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building a query and computing its CQueryPlanKey (hashCode and equals).
+ * <p>
+ * The query is prepared via SpiQuery as per OrmQueryRequest.prepareQuery().
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryPlanKeyBenchmark {
+
+  private EbeanServer server;
+
+  private CQueryPlanKey existing;
+
+  @Setup
+  public void setup() {
+    server = BenchDatabase.create("planKey");
+    existing = queryPlanKey(query());
+  }
+
+  @TearDown
+  public void tearDown() {
+    server.shutdown(true, false);
+  }
+
+  private Query<Customer> query() {
+    return server.find(Customer.class)
+      .select("name, email, status")
+      .fetch("contacts", "firstName, lastName")
+      .where()
+      .eq("status", Customer.Status.ACTIVE)
+      .startsWith("name", "cust")
+      .in("id", 1L, 2L, 3L)
+      .order().asc("name")
+      .setMaxRows(100);
+  }
+
+  /**
+   * Prepare the query returning the query plan key.
+   */
+  private CQueryPlanKey queryPlanKey(Query<Customer> query) {
+    SpiQuery<Customer> spiQuery = (SpiQuery<Customer>) query;
+    spiQuery.setType(SpiQuery.Type.LIST);
+    spiQuery.getBeanDescriptor().prepareQuery(spiQuery);
+    spiQuery.convertJoins();
+    return spiQuery.prepare(new BeanQueryRequest<Customer>() {
+      @Override
+      public EbeanServer getEbeanServer() {
+        return server;
+      }
+
+      @Override
+      public Transaction getTransaction() {
+        return null;
+      }
+
+      @Override
+      public Query<Customer> getQuery() {
+        return query;
+      }
+    });
+  }
+
+  @Benchmark
+  public boolean queryPlanKey() {
+    CQueryPlanKey key = queryPlanKey(query());
+    return key.hashCode() != 0 && key.equals(existing);
+  }
+}
@@ -0,0 +1,34 @@
+package org.ebean.jmh.domain;
+
+import javax.persistence.Id;
+import javax.persistence.MappedSuperclass;
+import javax.persistence.Version;
+
+/**
+ * Base domain with id and version.
+ */
+@MappedSuperclass
+public abstract class BaseDomain {
+
+  @Id
+  Long id;
+
+  @Version
+  Long version;
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public Long getVersion() {
+    return version;
+  }
+
+  public void setVersion(Long version) {
+    this.version = version;
+  }
+}
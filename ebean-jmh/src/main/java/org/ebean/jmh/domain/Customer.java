@@ -0,0 +1,92 @@
+package org.ebean.jmh.domain;
+
+import javax.persistence.CascadeType;
+import javax.persistence.Entity;
+import javax.persistence.OneToMany;
+import javax.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity
+@Table(name = "bench_customer")
+public class Customer extends BaseDomain {
+
+  public enum Status {
+    NEW,
+    ACTIVE,
+    INACTIVE
+  }
+
+  String name;
+
+  String email;
+
+  Status status;
+
+  BigDecimal creditLimit;
+
+  LocalDate registered;
+
+  String notes;
+
+  @OneToMany(mappedBy = "customer", cascade = CascadeType.ALL)
+  List<Contact> contacts = new ArrayList<>();
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public String getEmail() {
+    return email;
+  }
+
+  public void setEmail(String email) {
+    this.email = email;
+  }
+
+  public Status getStatus() {
+    return status;
+  }
+
+  public void setStatus(Status status) {
+    this.status = status;
+  }
+
+  public BigDecimal getCreditLimit() {
+    return creditLimit;
+  }
+
+  public void setCreditLimit(BigDecimal creditLimit) {
+    this.creditLimit = creditLimit;
+  }
+
+  public LocalDate getRegistered() {
+    return registered;
+  }
+
+  public void setRegistered(LocalDate registered) {
+    this.registered = registered;
+  }
+
+  public String getNotes() {
+    return notes;
+  }
+
+  public void setNotes(String notes) {
+    this.notes = notes;
+  }
+
+  public List<Contact> getContacts() {
+    return contacts;
+  }
+
+  public void setContacts(List<Contact> contacts) {
+    this.contacts = contacts;
+  }
+}
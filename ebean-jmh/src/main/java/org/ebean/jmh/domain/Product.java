@@ -0,0 +1,32 @@
+package org.ebean.jmh.domain;
+
+import io.ebean.annotation.Cache;
+
+import javax.persistence.Entity;
+import javax.persistence.Table;
+
+@Cache
+@Entity
+@Table(name = "bench_product")
+public class Product extends BaseDomain {
+
+  String name;
+
+  int stock;
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public int getStock() {
+    return stock;
+  }
+
+  public void setStock(int stock) {
+    this.stock = stock;
+  }
+}
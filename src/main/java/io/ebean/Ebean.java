@@ -570,6 +570,33 @@ public final class Ebean {
     serverMgr.getDefaultServer().insertAll(beans);
   }
 
+  /**
+   * Insert or update the bean based on its id value (upsert).
+   *
+   * @see EbeanServer#upsert(Object)
+   */
+  public static void upsert(Object bean) {
+    serverMgr.getDefaultServer().upsert(bean);
+  }
+
+  /**
+   * Insert or update a collection of beans (upsert).
+   *
+   * @see EbeanServer#upsertAll(Collection)
+   */
+  public static void upsertAll(Collection<?> beans) {
+    serverMgr.getDefaultServer().upsertAll(beans);
+  }
+
+  /**
+   * Bulk insert a collection of beans (without per bean lifecycle events, cascading or L2 cache notification).
+   *
+   * @see EbeanServer#bulkInsert(Collection)
+   */
+  public static int bulkInsert(Collection<?> beans) {
+    return serverMgr.getDefaultServer().bulkInsert(beans);
+  }
+
   /**
    * Marks the entity bean as dirty.
    * <p>
@@ -1,5 +1,6 @@
 package io.ebean;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.ebean.annotation.TxIsolation;
 import io.ebean.cache.ServerCacheManager;
 import io.ebean.config.ServerConfig;
@@ -20,6 +21,7 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Provides the API for fetching and saving beans to a particular DataSource.
@@ -811,6 +813,37 @@ public interface EbeanServer {
    */
   <T> QueryIterator<T> findIterate(Query<T> query, Transaction transaction);
 
+  /**
+   * Execute the query returning the result as a Stream.
+   * <p>
+   * The Stream should be closed after use which closes the underlying jdbc
+   * statement and resultSet.
+   * </p>
+   *
+   * @see Query#findStream()
+   */
+  <T> Stream<T> findStream(Query<T> query, Transaction transaction);
+
+  /**
+   * Execute the query returning the result as a Stream for large query results.
+   * <p>
+   * The persistence context is cleared periodically such that memory use stays flat.
+   * </p>
+   *
+   * @see Query#findLargeStream()
+   */
+  <T> Stream<T> findLargeStream(Query<T> query, Transaction transaction);
+
+  /**
+   * Execute the query writing the result as a JSON array to the generator.
+   * <p>
+   * The rows are written as the resultSet is read without building beans.
+   * </p>
+   *
+   * @see Query#findJson(JsonGenerator)
+   */
+  <T> void findJson(Query<T> query, JsonGenerator generator, Transaction transaction);
+
   /**
    * Execute the query visiting the each bean one at a time.
    * <p>
@@ -1164,6 +1197,24 @@ public interface EbeanServer {
    */
   void findEachWhile(SqlQuery query, Predicate<SqlRow> consumer, Transaction transaction);
 
+  /**
+   * Execute the SqlQuery returning the rows as a Stream.
+   * <p>
+   * The Stream should be closed after use which closes the underlying jdbc
+   * statement and resultSet.
+   * </p>
+   *
+   * @see SqlQuery#findStream()
+   */
+  Stream<SqlRow> findStream(SqlQuery query, Transaction transaction);
+
+  /**
+   * Execute the SqlQuery returning the rows as a Stream for large query results.
+   *
+   * @see SqlQuery#findLargeStream()
+   */
+  Stream<SqlRow> findLargeStream(SqlQuery query, Transaction transaction);
+
   /**
    * Execute the sql query returning a single MapBean or null.
    * <p>
@@ -1582,6 +1633,81 @@ public interface EbeanServer {
    */
   void insertAll(Collection<?> beans, Transaction transaction);
 
+  /**
+   * Insert or update the bean based on its id value (upsert).
+   * <p>
+   * Compared to save() this does not decide insert or update based on the bean state but instead
+   * uses the database to insert the row or update it if a row with the id value already exists.
+   * This is useful when syncing data from an external source as it avoids querying first.
+   * </p>
+   * <p>
+   * The statement is platform specific (<code>INSERT ... ON CONFLICT DO UPDATE</code> on Postgres,
+   * <code>MERGE</code> on H2, Oracle and SQL Server and <code>ON DUPLICATE KEY UPDATE</code> on MySql)
+   * and a PersistenceException is thrown when the platform does not support upsert.
+   * </p>
+   * <p>
+   * The bean should have its id value set (or use a sequence or UUID id generator) and all its
+   * properties populated as all the columns are inserted or updated. There is no optimistic
+   * concurrency checking. When an existing row is updated its version is incremented so the
+   * version property of the bean is unloaded after the upsert (reading it lazy loads the version
+   * from the database and a save() prior to that updates without an optimistic concurrency check).
+   * Persist controller, listener, change log and L2 cache events are the same as for an insert.
+   * </p>
+   */
+  void upsert(Object bean);
+
+  /**
+   * Insert or update the bean with a transaction.
+   *
+   * @see #upsert(Object)
+   */
+  void upsert(Object bean, Transaction transaction);
+
+  /**
+   * Insert or update a collection of beans (upsert). If there is no current transaction one is
+   * created and used to upsert all the beans in the collection.
+   * <p>
+   * The statements are executed using JDBC batch (batch mode is turned on for the collection).
+   * </p>
+   *
+   * @see #upsert(Object)
+   */
+  void upsertAll(Collection<?> beans);
+
+  /**
+   * Insert or update a collection of beans with an explicit transaction.
+   *
+   * @see #upsertAll(Collection)
+   */
+  void upsertAll(Collection<?> beans, Transaction transaction);
+
+  /**
+   * Bulk insert a collection of beans returning the number of rows inserted.
+   * <p>
+   * This trades per bean features for throughput when loading large numbers of beans.
+   * Compared to insertAll() there are no per bean persist controller or listener events,
+   * no cascade saving, no change log and no L2 cache notification per bean. Instead the
+   * table is notified as inserted which invalidates the query cache of the bean type.
+   * </p>
+   * <p>
+   * On Postgres the rows are streamed using <code>COPY ... FROM STDIN</code> when the ids
+   * are assigned (set, generated by a sequence or UUID). Otherwise the rows are inserted
+   * using multi-row inserts (or JDBC batch where multi-row inserts are not supported)
+   * and generated keys are set to the beans where the driver supports this.
+   * </p>
+   * <p>
+   * Associated beans (ManyToOne) must already have ids.
+   * </p>
+   */
+  int bulkInsert(Collection<?> beans);
+
+  /**
+   * Bulk insert a collection of beans with an explicit transaction.
+   *
+   * @see #bulkInsert(Collection)
+   */
+  int bulkInsert(Collection<?> beans, Transaction transaction);
+
   /**
    * Execute explicitly passing a transaction.
    */
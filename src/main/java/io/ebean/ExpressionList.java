@@ -1,5 +1,6 @@
 package io.ebean;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.ebean.search.Match;
 import io.ebean.search.MultiMatch;
 import io.ebean.search.TextCommonTerms;
@@ -8,6 +9,7 @@ import io.ebean.search.TextSimple;
 import org.jetbrains.annotations.Nullable;
 
 import javax.persistence.NonUniqueResultException;
+import java.io.Writer;
 import java.sql.Timestamp;
 import java.util.Collection;
 import java.util.List;
@@ -16,6 +18,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * List of Expressions that make up a where or having clause.
@@ -172,6 +175,34 @@ public interface ExpressionList<T> {
    */
   QueryIterator<T> findIterate();
 
+  /**
+   * Execute the query returning the result as a Stream.
+   *
+   * @see Query#findStream()
+   */
+  Stream<T> findStream();
+
+  /**
+   * Execute the query returning the result as a Stream for large query results.
+   *
+   * @see Query#findLargeStream()
+   */
+  Stream<T> findLargeStream();
+
+  /**
+   * Execute the query writing the result as a JSON array to the writer.
+   *
+   * @see Query#findJson(Writer)
+   */
+  void findJson(Writer writer);
+
+  /**
+   * Execute the query writing the result as a JSON array to the generator.
+   *
+   * @see Query#findJson(JsonGenerator)
+   */
+  void findJson(JsonGenerator generator);
+
   /**
    * Execute the query process the beans one at a time.
    *
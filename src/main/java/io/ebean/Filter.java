@@ -96,6 +96,16 @@ public interface Filter<T> {
    */
   Filter<T> maxRows(int maxRows);
 
+  /**
+   * Apply the sort and filter expressions in parallel for large lists.
+   * <p>
+   * This is useful when filtering large lists. Note that the property values of the
+   * beans are read by multiple threads so the beans should be fully loaded (such that
+   * lazy loading is not invoked).
+   * </p>
+   */
+  Filter<T> parallel();
+
   /**
    * Equal To - property equal to the given value.
    */
@@ -31,5 +31,14 @@ public enum PersistenceContextScope {
    * <p/>
    * You may use QUERY scope on a query that is executed in a transaction and you want to get a 'fresh copy' of the bean.
    */
-  QUERY
+  QUERY,
+
+  /**
+   * PersistenceContext is scoped to the query (as per QUERY) and supports concurrent access.
+   * <p/>
+   * Use this when the resulting object graph is processed by multiple threads (for example via a parallel
+   * stream) such that lazy loading occurs concurrently. The default persistence context uses a single lock
+   * and is not expected to be used concurrently.
+   */
+  QUERY_CONCURRENT
 }
@@ -1,8 +1,10 @@
 package io.ebean;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import org.jetbrains.annotations.Nullable;
 
 import javax.persistence.NonUniqueResultException;
+import java.io.Writer;
 import java.sql.Timestamp;
 import java.util.List;
 import java.util.Map;
@@ -10,6 +12,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Object relational query for finding a List, Set, Map or single entity bean.
@@ -639,6 +642,86 @@ public interface Query<T> {
    */
   QueryIterator<T> findIterate();
 
+  /**
+   * Execute the query returning the result as a Stream.
+   * <p>
+   * Note that this method returns a Stream that should be closed after use
+   * (typically via try with resources). Closing the stream closes the
+   * underlying jdbc resultSet and ends the transaction if one was created
+   * for the query.
+   * </p>
+   * <p>
+   * The beans are read from the resultSet as the stream is consumed and
+   * the persistence context is retained for the duration of the stream such
+   * that beans with the same id are the same instance. For very large
+   * results use {@link #findLargeStream()} instead.
+   * </p>
+   * <pre>{@code
+   *
+   *  try (Stream<Customer> stream =
+   *    ebeanServer.find(Customer.class)
+   *     .where().eq("status", Status.NEW)
+   *     .order().asc("id")
+   *     .findStream()) {
+   *
+   *    stream.map(Customer::getName)
+   *      .forEach(...);
+   *  }
+   *
+   * }</pre>
+   */
+  Stream<T> findStream();
+
+  /**
+   * Execute the query returning the result as a Stream for large query results.
+   * <p>
+   * As per {@link #findStream()} but the persistence context is cleared
+   * periodically (like findEach) such that memory use stays flat when
+   * processing very large numbers of beans.
+   * </p>
+   * <p>
+   * The Stream should be closed after use (typically via try with resources).
+   * </p>
+   */
+  Stream<T> findLargeStream();
+
+  /**
+   * Execute the query writing the result as a JSON array to the writer.
+   * <p>
+   * The rows are written as JSON while the jdbc resultSet is read without building
+   * beans or using a persistence context. As such memory use stays flat regardless
+   * of the size of the query result which suits read only API endpoints.
+   * </p>
+   * <p>
+   * The JSON contains the selected properties, ToOne properties as objects containing
+   * the id and fetch joined ToOne properties as nested objects. Fetch paths to ToMany
+   * properties and query joins (fetchQuery) are not supported and throw a PersistenceException.
+   * Transient properties are not written as they are not read from the resultSet.
+   * </p>
+   * <pre>{@code
+   *
+   *  ebeanServer.find(Customer.class)
+   *     .select("id, name")
+   *     .fetch("billingAddress", "city")
+   *     .where().eq("status", Status.NEW)
+   *     .order().asc("id")
+   *     .findJson(writer);
+   *
+   * }</pre>
+   *
+   * @param writer the writer the JSON is written to (flushed but not closed)
+   */
+  void findJson(Writer writer);
+
+  /**
+   * Execute the query writing the result as a JSON array to the generator.
+   * <p>
+   * As per {@link #findJson(Writer)} but writing to the given Jackson generator
+   * such that the JSON array can be written as part of a larger JSON document.
+   * </p>
+   */
+  void findJson(JsonGenerator generator);
+
   /**
    * Execute the query processing the beans one at a time.
    * <p>
@@ -1331,6 +1414,38 @@ public interface Query<T> {
     return setUseQueryCache(enabled ? CacheMode.ON : CacheMode.OFF);
   }
 
+  /**
+   * Set to true to coalesce concurrent cache misses for this query.
+   * <p>
+   * When multiple threads execute the same query (same query and bind values) at the same time
+   * and miss the query cache (or for find by id miss the bean cache) then only one thread executes
+   * the query and loads the cache. The other threads wait and then read the result from the cache.
+   * </p>
+   * <p>
+   * This overrides the server default set via {@link io.ebean.config.ServerConfig#setCacheMissCoalescing(boolean)}.
+   * </p>
+   */
+  Query<T> setCacheMissCoalescing(boolean cacheMissCoalescing);
+
+  /**
+   * Set to false for this query to use the primary DataSource rather than the read only DataSource.
+   * <p>
+   * When a read only DataSource is configured via {@link io.ebean.config.ServerConfig#setReadOnlyDataSource(javax.sql.DataSource)}
+   * queries executed without a transaction use it by default. Set this to false when the query
+   * must read its own recent writes (which may not yet be replicated to the read only DataSource).
+   * Queries executed with an explicit or current transaction always use that transaction.
+   * </p>
+   * <pre>{@code
+   *
+   *   Customer customer = ebeanServer.find(Customer.class)
+   *     .setUseReadOnlyDataSource(false)
+   *     .setId(42)
+   *     .findOne();
+   *
+   * }</pre>
+   */
+  Query<T> setUseReadOnlyDataSource(boolean useReadOnlyDataSource);
+
   /**
    * Set to true if this query should execute against the doc store.
    * <p>
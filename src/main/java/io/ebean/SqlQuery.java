@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Query object for performing native SQL queries that return SqlRow's.
@@ -64,6 +65,25 @@ public interface SqlQuery extends Serializable {
    */
   void findEachWhile(Predicate<SqlRow> consumer);
 
+  /**
+   * Execute the SqlQuery returning the rows as a Stream.
+   * <p>
+   * The rows are read from the resultSet as the stream is consumed. The Stream
+   * should be closed after use (typically via try with resources) which closes
+   * the underlying jdbc resultSet and ends the transaction if one was created.
+   * </p>
+   */
+  Stream<SqlRow> findStream();
+
+  /**
+   * Execute the SqlQuery returning the rows as a Stream for large query results.
+   * <p>
+   * SqlRows are not held in a persistence context so this is the same as
+   * {@link #findStream()} and is provided for symmetry with {@link Query#findLargeStream()}.
+   * </p>
+   */
+  Stream<SqlRow> findLargeStream();
+
   /**
    * Execute the query returning a single row or null.
    * <p>
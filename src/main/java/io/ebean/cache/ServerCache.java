@@ -1,5 +1,9 @@
 package io.ebean.cache;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Represents part of the "L2" server side cache.
  * <p>
@@ -18,6 +22,43 @@ public interface ServerCache {
    */
   Object get(Object id);
 
+  /**
+   * Return the values for the given keys.
+   * <p>
+   * The returned map only contains entries for the keys that were found in the cache.
+   * Implementations backed by a remote cache should override this to fetch all the
+   * keys in one round trip.
+   * </p>
+   */
+  default Map<Object, Object> getAll(Set<Object> keys) {
+    Map<Object, Object> map = new LinkedHashMap<>();
+    for (Object key : keys) {
+      Object value = get(key);
+      if (value != null) {
+        map.put(key, value);
+      }
+    }
+    return map;
+  }
+
+  /**
+   * Put all the values in the cache.
+   */
+  default void putAll(Map<Object, Object> keyValues) {
+    for (Map.Entry<Object, Object> entry : keyValues.entrySet()) {
+      put(entry.getKey(), entry.getValue());
+    }
+  }
+
+  /**
+   * Remove the entries from the cache given their ids.
+   */
+  default void removeAll(Set<Object> keys) {
+    for (Object key : keys) {
+      remove(key);
+    }
+  }
+
   /**
    * Put the value in the cache with a given id.
    */
@@ -28,6 +69,17 @@ public interface ServerCache {
    */
   Object remove(Object id);
 
+  /**
+   * Remove an entry returned by get() that was found to be stale due to a change of the underlying data.
+   * <p>
+   * Used by the query cache where cached results are validated when they are read. Implementations
+   * can count these by cause. The default implementation just removes the entry.
+   * </p>
+   */
+  default void invalidate(Object id, ServerCacheInvalidation cause) {
+    remove(id);
+  }
+
   /**
    * Clear all entries from the cache.
    */
@@ -0,0 +1,22 @@
+package io.ebean.cache;
+
+/**
+ * The cause of a cache entry being invalidated by a change to the underlying data.
+ */
+public enum ServerCacheInvalidation {
+
+  /**
+   * A row was inserted into the table the entry depends on.
+   */
+  INSERT,
+
+  /**
+   * A column the entry depends on was updated.
+   */
+  UPDATE,
+
+  /**
+   * A row was deleted from the table the entry depends on.
+   */
+  DELETE
+}
@@ -39,6 +39,12 @@ public class ServerCacheStatistics {
 
   protected long evictByLRU;
 
+  protected long invalidateByInsert;
+
+  protected long invalidateByUpdate;
+
+  protected long invalidateByDelete;
+
   @Override
   public String toString() {
     //noinspection StringBufferReplaceableByString
@@ -56,6 +62,9 @@ public class ServerCacheStatistics {
     sb.append(" evictByIdle:").append(evictByIdle);
     sb.append(" evictByTTL:").append(evictByTTL);
     sb.append(" evictByLRU:").append(evictByLRU);
+    sb.append(" invalidateByInsert:").append(invalidateByInsert);
+    sb.append(" invalidateByUpdate:").append(invalidateByUpdate);
+    sb.append(" invalidateByDelete:").append(invalidateByDelete);
     sb.append(" evictionRunCount:").append(evictionRunCount);
     sb.append(" evictionRunMicros:").append(evictionRunMicros);
     return sb.toString();
@@ -275,4 +284,46 @@ public class ServerCacheStatistics {
   public long getEvictByLRU() {
     return evictByLRU;
   }
+
+  /**
+   * Set the count of entries invalidated due to an insert.
+   */
+  public void setInvalidateByInsert(long invalidateByInsert) {
+    this.invalidateByInsert = invalidateByInsert;
+  }
+
+  /**
+   * Return the count of entries invalidated due to an insert.
+   */
+  public long getInvalidateByInsert() {
+    return invalidateByInsert;
+  }
+
+  /**
+   * Set the count of entries invalidated due to an update of a column they depend on.
+   */
+  public void setInvalidateByUpdate(long invalidateByUpdate) {
+    this.invalidateByUpdate = invalidateByUpdate;
+  }
+
+  /**
+   * Return the count of entries invalidated due to an update of a column they depend on.
+   */
+  public long getInvalidateByUpdate() {
+    return invalidateByUpdate;
+  }
+
+  /**
+   * Set the count of entries invalidated due to a delete.
+   */
+  public void setInvalidateByDelete(long invalidateByDelete) {
+    this.invalidateByDelete = invalidateByDelete;
+  }
+
+  /**
+   * Return the count of entries invalidated due to a delete.
+   */
+  public long getInvalidateByDelete() {
+    return invalidateByDelete;
+  }
 }
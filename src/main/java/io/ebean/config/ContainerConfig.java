@@ -12,6 +12,10 @@ public class ContainerConfig {
 
   protected boolean clusterActive;
 
+  protected int clusterCoalesceMillis;
+
+  protected int clusterCompressThreshold = 1024;
+
   protected Properties properties;
 
   /**
@@ -28,6 +32,41 @@ public class ContainerConfig {
     this.clusterActive = clusterActive;
   }
 
+  /**
+   * Return the time window in millis over which the cluster events of many transactions are
+   * merged into a single broadcast (0 means no coalescing).
+   */
+  public int getClusterCoalesceMillis() {
+    return clusterCoalesceMillis;
+  }
+
+  /**
+   * Set the time window in millis over which the cluster events of many transactions are
+   * merged into a single broadcast.
+   * <p>
+   * During bursts of writes this reduces the number (and total size) of messages sent to
+   * the cluster at the cost of delaying remote L2 cache invalidation by up to this window.
+   * Defaults to 0 which means each transaction is broadcast immediately.
+   * </p>
+   */
+  public void setClusterCoalesceMillis(int clusterCoalesceMillis) {
+    this.clusterCoalesceMillis = clusterCoalesceMillis;
+  }
+
+  /**
+   * Return the size in bytes above which compact cluster messages are compressed.
+   */
+  public int getClusterCompressThreshold() {
+    return clusterCompressThreshold;
+  }
+
+  /**
+   * Set the size in bytes above which compact cluster messages are compressed (0 to disable compression).
+   */
+  public void setClusterCompressThreshold(int clusterCompressThreshold) {
+    this.clusterCompressThreshold = clusterCompressThreshold;
+  }
+
   /**
    * Return the deployment properties.
    */
@@ -48,6 +87,8 @@ public class ContainerConfig {
   public void loadFromProperties(Properties properties) {
     this.properties = properties;
     this.clusterActive = getProperty(properties, "ebean.cluster.active", clusterActive);
+    this.clusterCoalesceMillis = getProperty(properties, "ebean.cluster.coalesceMillis", clusterCoalesceMillis);
+    this.clusterCompressThreshold = getProperty(properties, "ebean.cluster.compressThreshold", clusterCompressThreshold);
   }
 
   /**
@@ -57,4 +98,12 @@ public class ContainerConfig {
     return "true".equalsIgnoreCase(properties.getProperty(key, Boolean.toString(defaultValue)));
   }
 
+  /**
+   * Return the int property setting.
+   */
+  protected int getProperty(Properties properties, String key, int defaultValue) {
+    String value = properties.getProperty(key);
+    return value == null ? defaultValue : Integer.parseInt(value.trim());
+  }
+
 }
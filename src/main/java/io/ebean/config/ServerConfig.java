@@ -9,6 +9,7 @@ import io.ebean.annotation.Encrypted;
 import io.ebean.annotation.PersistBatch;
 import io.ebean.annotation.Platform;
 import io.ebean.cache.ServerCachePlugin;
+import io.ebean.cache.ServerCacheType;
 import io.ebean.config.dbplatform.DatabasePlatform;
 import io.ebean.config.dbplatform.DbEncrypt;
 import io.ebean.config.dbplatform.DbType;
@@ -32,12 +33,14 @@ import org.avaje.datasource.DataSourceConfig;
 
 import javax.sql.DataSource;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.ServiceLoader;
+import java.util.Set;
 
 /**
  * The configuration used for creating a EbeanServer.
@@ -185,6 +188,11 @@ public class ServerConfig {
    */
   private int databaseSequenceBatchSize = 20;
 
+  /**
+   * The maximum number of query plans held (for all bean types).
+   */
+  private int queryPlanCacheMaxSize = 10000;
+
   /**
    * JDBC fetchSize hint when using findList.  Defaults to 0 leaving it up to the JDBC driver.
    */
@@ -228,6 +236,11 @@ public class ServerConfig {
 
   private int persistBatchSize = 20;
 
+  /**
+   * Set to true to execute batched inserts as multi-row inserts (where supported by the platform).
+   */
+  private boolean persistBatchMultiRowInsert;
+
   /**
    * The default batch size for lazy loading
    */
@@ -238,6 +251,16 @@ public class ServerConfig {
    */
   private int queryBatchSize = 100;
 
+  /**
+   * The maximum number of secondary queries (fetchQuery) executed in parallel.
+   */
+  private int secondaryQueryParallelism = 1;
+
+  /**
+   * The number of threads used to deploy the BeanDescriptors at startup.
+   */
+  private int deployParallelism = Runtime.getRuntime().availableProcessors();
+
   private boolean eagerFetchLobs;
 
   /**
@@ -277,6 +300,16 @@ public class ServerConfig {
    */
   private DataSourceConfig dataSourceConfig = new DataSourceConfig();
 
+  /**
+   * The read only data source (if programmatically provided).
+   */
+  private DataSource readOnlyDataSource;
+
+  /**
+   * The read only data source config.
+   */
+  private DataSourceConfig readOnlyDataSourceConfig = new DataSourceConfig();
+
   /**
    * The db migration config (migration resource path etc).
    */
@@ -418,8 +451,19 @@ public class ServerConfig {
   private int queryCacheMaxSize = 1000;
   private int queryCacheMaxIdleTime = 600;
   private int queryCacheMaxTimeToLive = 60 * 60 * 6;
+
+  /**
+   * The L2 cache types that use the size bounded W-TinyLFU cache rather than the periodic trim cache.
+   */
+  private Set<ServerCacheType> boundedCacheTypes = EnumSet.noneOf(ServerCacheType.class);
+
   private Object objectMapper;
 
+  /**
+   * Set to true to parse the JSON content of @DbJson Map, List and Set properties on first access.
+   */
+  private boolean dbJsonLazyParse;
+
   /**
    * Set to true if you want eq("someProperty", null) to generate 1=1 rather than "is null" sql expression.
    */
@@ -430,6 +474,21 @@ public class ServerConfig {
    */
   private boolean expressionNativeIlike;
 
+  /**
+   * Set to true to pad IN lists to power of two sizes (by repeating the last value).
+   */
+  private boolean inListPadding;
+
+  /**
+   * Set to true to bind IN lists as a single array parameter where supported by the platform.
+   */
+  private boolean inListArrayBinding;
+
+  /**
+   * Set to true to coalesce concurrent query cache and bean cache misses for the same key.
+   */
+  private boolean cacheMissCoalescing;
+
   private String jodaLocalTimeMode;
 
   /**
@@ -816,6 +875,30 @@ public class ServerConfig {
     this.persistBatchSize = persistBatchSize;
   }
 
+  /**
+   * Return true if batched inserts are executed as multi-row inserts (where supported).
+   */
+  public boolean isPersistBatchMultiRowInsert() {
+    return persistBatchMultiRowInsert;
+  }
+
+  /**
+   * Set to true to execute batched inserts as multi-row inserts where supported by the platform.
+   * <p>
+   * Rather than executing a JDBC batch of single row inserts, the batched inserts of a bean type
+   * are executed as <code>insert into t (..) values (..),(..),...</code> statements with as many
+   * rows per statement as the platform's maximum number of bind parameters allows. This
+   * significantly reduces the number of round trips for large loads.
+   * </p>
+   * <p>
+   * Where an insert uses getGeneratedKeys and the platform's JDBC driver does not return a
+   * key per row for a multi-row insert (H2, SQL Server) the inserts use JDBC batch as normal.
+   * </p>
+   */
+  public void setPersistBatchMultiRowInsert(boolean persistBatchMultiRowInsert) {
+    this.persistBatchMultiRowInsert = persistBatchMultiRowInsert;
+  }
+
   /**
    * Gets the query batch size. This defaults to 100.
    *
@@ -834,6 +917,50 @@ public class ServerConfig {
     this.queryBatchSize = queryBatchSize;
   }
 
+  /**
+   * Return the maximum number of secondary queries executed in parallel. This defaults to 1.
+   */
+  public int getSecondaryQueryParallelism() {
+    return secondaryQueryParallelism;
+  }
+
+  /**
+   * Set the maximum number of secondary queries (fetchQuery) executed in parallel.
+   * <p>
+   * This defaults to 1 meaning secondary queries are executed one after another. With a value
+   * greater than 1 the secondary queries at the same depth are executed concurrently using
+   * background threads with each thread using its own query only transaction (connection).
+   * </p>
+   * <p>
+   * Secondary queries are only executed in parallel when the query was not executed with an
+   * explicit or current transaction, as the parallel queries do not see its uncommitted changes.
+   * They are also not executed in parallel for findEach() and findIterate().
+   * </p>
+   */
+  public void setSecondaryQueryParallelism(int secondaryQueryParallelism) {
+    this.secondaryQueryParallelism = secondaryQueryParallelism;
+  }
+
+  /**
+   * Return the number of threads used to deploy the BeanDescriptors at startup.
+   * This defaults to the number of available processors.
+   */
+  public int getDeployParallelism() {
+    return deployParallelism;
+  }
+
+  /**
+   * Set the number of threads used to deploy the BeanDescriptors at startup.
+   * <p>
+   * The independent parts of deployment (reading the annotations of each entity and
+   * creating the DML for each entity) are executed in parallel. Set this to 1 to
+   * deploy using only the calling thread.
+   * </p>
+   */
+  public void setDeployParallelism(int deployParallelism) {
+    this.deployParallelism = deployParallelism;
+  }
+
   /**
    * Return the default batch size for lazy loading of beans and collections.
    */
@@ -871,6 +998,25 @@ public class ServerConfig {
     this.databaseSequenceBatchSize = databaseSequenceBatchSize;
   }
 
+  /**
+   * Return the maximum number of query plans held (for all bean types).
+   */
+  public int getQueryPlanCacheMaxSize() {
+    return queryPlanCacheMaxSize;
+  }
+
+  /**
+   * Set the maximum number of query plans held (for all bean types). Defaults to 10000.
+   * <p>
+   * When exceeded the least valuable query plans (based on recency and frequency of use)
+   * are evicted. This bounds the memory used when queries are built with many dynamic
+   * predicate combinations.
+   * </p>
+   */
+  public void setQueryPlanCacheMaxSize(int queryPlanCacheMaxSize) {
+    this.queryPlanCacheMaxSize = queryPlanCacheMaxSize;
+  }
+
   /**
    * Return the default JDBC fetchSize hint for findList queries.
    */
@@ -1295,6 +1441,30 @@ public class ServerConfig {
     this.queryCacheMaxTimeToLive = queryCacheMaxTimeToLive;
   }
 
+  /**
+   * Return the L2 cache types that use the size bounded (W-TinyLFU) cache implementation.
+   */
+  public Set<ServerCacheType> getBoundedCacheTypes() {
+    return boundedCacheTypes;
+  }
+
+  /**
+   * Set the L2 cache types that use the size bounded (W-TinyLFU) cache implementation.
+   * <p>
+   * These caches enforce maxSize on every put using a frequency based admission policy
+   * rather than trimming back to maxSize when the periodic trim runs. This only applies
+   * to the built in (local) L2 cache.
+   * </p>
+   * <pre>{@code
+   *
+   *   serverConfig.setBoundedCacheTypes(EnumSet.of(ServerCacheType.BEAN, ServerCacheType.NATURAL_KEY));
+   *
+   * }</pre>
+   */
+  public void setBoundedCacheTypes(Set<ServerCacheType> boundedCacheTypes) {
+    this.boundedCacheTypes = boundedCacheTypes;
+  }
+
   /**
    * Return the NamingConvention.
    * <p>
@@ -1419,6 +1589,50 @@ public class ServerConfig {
     this.dataSourceConfig = dataSourceConfig;
   }
 
+  /**
+   * Return the read only DataSource.
+   */
+  public DataSource getReadOnlyDataSource() {
+    return readOnlyDataSource;
+  }
+
+  /**
+   * Set the read only DataSource (typically connecting to a read replica).
+   * <p>
+   * When set, queries executed without an explicit or current transaction use a
+   * connection from the read only DataSource. This includes findFuture queries,
+   * lazy loading and secondary (fetchQuery) queries. Queries can use the primary
+   * DataSource instead via {@link io.ebean.Query#setUseReadOnlyDataSource(boolean)}
+   * (for example to read their own writes).
+   * </p>
+   * <p>
+   * The read only DataSource is not used with multi-tenancy.
+   * </p>
+   */
+  public void setReadOnlyDataSource(DataSource readOnlyDataSource) {
+    this.readOnlyDataSource = readOnlyDataSource;
+  }
+
+  /**
+   * Return the configuration for the read only DataSource.
+   */
+  public DataSourceConfig getReadOnlyDataSourceConfig() {
+    return readOnlyDataSourceConfig;
+  }
+
+  /**
+   * Set the configuration to build the read only DataSource using Ebean's own
+   * DataSource implementation.
+   * <p>
+   * This is only used when a url has been set. When loading from properties these
+   * use the server name with a <code>-readonly</code> suffix such as
+   * <code>datasource.db-readonly.url</code>.
+   * </p>
+   */
+  public void setReadOnlyDataSourceConfig(DataSourceConfig readOnlyDataSourceConfig) {
+    this.readOnlyDataSourceConfig = readOnlyDataSourceConfig;
+  }
+
   /**
    * Return the JNDI name of the DataSource to use.
    */
@@ -2508,6 +2722,7 @@ public class ServerConfig {
    */
   protected void loadDataSourceSettings(PropertiesWrapper p) {
     dataSourceConfig.loadSettings(p.properties, name);
+    readOnlyDataSourceConfig.loadSettings(p.properties, name + "-readonly");
   }
 
   /**
@@ -2548,6 +2763,9 @@ public class ServerConfig {
     if (dataSourceConfig == null) {
       dataSourceConfig = new DataSourceConfig();
     }
+    if (readOnlyDataSourceConfig == null) {
+      readOnlyDataSourceConfig = new DataSourceConfig();
+    }
     loadDataSourceSettings(p);
 
     if (docStoreConfig == null) {
@@ -2563,6 +2781,10 @@ public class ServerConfig {
     slowQueryMillis = p.getLong("slowQueryMillis", slowQueryMillis);
     docStoreOnly = p.getBoolean("docStoreOnly", docStoreOnly);
     disableL2Cache = p.getBoolean("disableL2Cache", disableL2Cache);
+    String boundedTypes = p.get("boundedCacheTypes", null);
+    if (boundedTypes != null) {
+      boundedCacheTypes = getCacheTypes(boundedTypes);
+    }
     explicitTransactionBeginMode = p.getBoolean("explicitTransactionBeginMode", explicitTransactionBeginMode);
     autoCommitMode = p.getBoolean("autoCommitMode", autoCommitMode);
     useJtaTransactionManager = p.getBoolean("useJtaTransactionManager", useJtaTransactionManager);
@@ -2603,12 +2825,16 @@ public class ServerConfig {
 
     int batchSize = p.getInt("batch.size", persistBatchSize);
     persistBatchSize = p.getInt("persistBatchSize", batchSize);
+    persistBatchMultiRowInsert = p.getBoolean("persistBatchMultiRowInsert", persistBatchMultiRowInsert);
 
     persistenceContextScope = PersistenceContextScope.valueOf(p.get("persistenceContextScope", "TRANSACTION"));
 
     changeLogIncludeInserts = p.getBoolean("changeLogIncludeInserts", changeLogIncludeInserts);
     expressionEqualsWithNullAsNoop = p.getBoolean("expressionEqualsWithNullAsNoop", expressionEqualsWithNullAsNoop);
     expressionNativeIlike = p.getBoolean("expressionNativeIlike", expressionNativeIlike);
+    inListPadding = p.getBoolean("inListPadding", inListPadding);
+    cacheMissCoalescing = p.getBoolean("cacheMissCoalescing", cacheMissCoalescing);
+    inListArrayBinding = p.getBoolean("inListArrayBinding", inListArrayBinding);
 
     dataTimeZone = p.get("dataTimeZone", dataTimeZone);
     asOfViewSuffix = p.get("asOfViewSuffix", asOfViewSuffix);
@@ -2618,6 +2844,7 @@ public class ServerConfig {
     jdbcFetchSizeFindEach = p.getInt("jdbcFetchSizeFindEach", jdbcFetchSizeFindEach);
     jdbcFetchSizeFindList = p.getInt("jdbcFetchSizeFindList", jdbcFetchSizeFindList);
     databaseSequenceBatchSize = p.getInt("databaseSequenceBatchSize", databaseSequenceBatchSize);
+    queryPlanCacheMaxSize = p.getInt("queryPlanCacheMaxSize", queryPlanCacheMaxSize);
     databaseBooleanTrue = p.get("databaseBooleanTrue", databaseBooleanTrue);
     databaseBooleanFalse = p.get("databaseBooleanFalse", databaseBooleanFalse);
     databasePlatformName = p.get("databasePlatformName", databasePlatformName);
@@ -2634,8 +2861,11 @@ public class ServerConfig {
 
     lazyLoadBatchSize = p.getInt("lazyLoadBatchSize", lazyLoadBatchSize);
     queryBatchSize = p.getInt("queryBatchSize", queryBatchSize);
+    secondaryQueryParallelism = p.getInt("secondaryQueryParallelism", secondaryQueryParallelism);
+    deployParallelism = p.getInt("deployParallelism", deployParallelism);
 
     jsonInclude = p.getEnum(JsonConfig.Include.class, "jsonInclude", jsonInclude);
+    dbJsonLazyParse = p.getBoolean("dbJsonLazyParse", dbJsonLazyParse);
     String jsonDateTimeFormat = p.get("jsonDateTime", null);
     if (jsonDateTimeFormat != null) {
       jsonDateTime = JsonConfig.DateTime.valueOf(jsonDateTimeFormat);
@@ -2687,6 +2917,15 @@ public class ServerConfig {
     return classes;
   }
 
+  private Set<ServerCacheType> getCacheTypes(String cacheTypes) {
+
+    Set<ServerCacheType> types = EnumSet.noneOf(ServerCacheType.class);
+    for (String entry : StringHelper.splitNames(cacheTypes)) {
+      types.add(ServerCacheType.valueOf(entry.trim().toUpperCase()));
+    }
+    return types;
+  }
+
   private List<String> getSearchJarsPackages(String searchPackages) {
 
     List<String> hitList = new ArrayList<>();
@@ -2734,6 +2973,30 @@ public class ServerConfig {
     this.objectMapper = objectMapper;
   }
 
+  /**
+   * Return true if the JSON content of @DbJson Map, List and Set properties is parsed on first access.
+   */
+  public boolean isDbJsonLazyParse() {
+    return dbJsonLazyParse;
+  }
+
+  /**
+   * Set to true to parse the JSON content of @DbJson Map, List and Set properties on first access.
+   * <p>
+   * When true the raw JSON content is held when the bean is loaded and only parsed when the
+   * value is accessed. A value that is not accessed is written back (for example to JSON via
+   * toJson()) using the raw content without re-serialization.
+   * </p>
+   * <p>
+   * This is useful when queries load large JSON documents that are typically not read.
+   * Other @DbJson types (JsonNode and other types mapped by Jackson ObjectMapper) are
+   * always parsed when read.
+   * </p>
+   */
+  public void setDbJsonLazyParse(boolean dbJsonLazyParse) {
+    this.dbJsonLazyParse = dbJsonLazyParse;
+  }
+
   /**
    * Return true if eq("someProperty", null) should to generate "1=1" rather than "is null" sql expression.
    */
@@ -2767,6 +3030,64 @@ public class ServerConfig {
     this.expressionNativeIlike = expressionNativeIlike;
   }
 
+  /**
+   * Return true if IN lists are padded to power of two sizes.
+   */
+  public boolean isInListPadding() {
+    return inListPadding;
+  }
+
+  /**
+   * Set to true to pad IN lists to power of two sizes by repeating the last value.
+   * <p>
+   * This limits the number of distinct query plans and SQL statements (and hence server side
+   * prepared statements) for queries using IN lists of varying size. For example, IN lists of
+   * 5 to 8 values all use the same SQL with 8 bind parameters.
+   * </p>
+   */
+  public void setInListPadding(boolean inListPadding) {
+    this.inListPadding = inListPadding;
+  }
+
+  /**
+   * Return true if concurrent cache misses for the same key are coalesced by default.
+   */
+  public boolean isCacheMissCoalescing() {
+    return cacheMissCoalescing;
+  }
+
+  /**
+   * Set to true to coalesce concurrent query cache and bean cache misses by default.
+   * <p>
+   * When true and multiple threads miss the query cache (for the same query and bind values)
+   * or the bean cache (for the same id) at the same time then only one of those threads
+   * executes the query. The other threads wait for it to load the cache and then read the
+   * cache. This can be overridden per query via {@link io.ebean.Query#setCacheMissCoalescing(boolean)}.
+   * </p>
+   */
+  public void setCacheMissCoalescing(boolean cacheMissCoalescing) {
+    this.cacheMissCoalescing = cacheMissCoalescing;
+  }
+
+  /**
+   * Return true if IN lists are bound as a single array parameter (where supported).
+   */
+  public boolean isInListArrayBinding() {
+    return inListArrayBinding;
+  }
+
+  /**
+   * Set to true to bind IN lists as a single array parameter where supported by the database platform.
+   * <p>
+   * With Postgres this uses <code>= any(?)</code> and with H2 <code>in (select * from table(x type = ?))</code>.
+   * The SQL is then the same regardless of the number of values. When the platform or the type of
+   * the values is not supported this falls back to padding (if enabled) or binding each value.
+   * </p>
+   */
+  public void setInListArrayBinding(boolean inListArrayBinding) {
+    this.inListArrayBinding = inListArrayBinding;
+  }
+
   /**
    * Return true if L2 cache is disabled.
    */
@@ -159,6 +159,31 @@ public class DatabasePlatform {
    */
   protected PersistBatch persistBatchOnCascade = PersistBatch.ALL;
 
+  /**
+   * Set to true if multi-row inserts (insert into t (..) values (..),(..)) are supported.
+   */
+  protected boolean supportsMultiRowInsert;
+
+  /**
+   * Set to true if getGeneratedKeys returns a key per row for a multi-row insert.
+   */
+  protected boolean multiRowInsertGeneratedKeys;
+
+  /**
+   * The maximum number of bind parameters supported in a single statement.
+   */
+  protected int maxBindParameters = 999;
+
+  /**
+   * Set to true if bulk insert can use COPY FROM STDIN (Postgres).
+   */
+  protected boolean supportsCopyIn;
+
+  /**
+   * Generates insert or update (upsert) statements. Null when upsert is not supported.
+   */
+  protected SqlUpsert sqlUpsert;
+
   /**
    * The maximum length of table names - used specifically when derived
    * default table names for intersection tables.
@@ -173,6 +198,11 @@ public class DatabasePlatform {
 
   protected boolean supportsNativeIlike;
 
+  /**
+   * Binding of IN expression values as a single parameter (null when not supported).
+   */
+  protected MultiValueBind multiValueBind;
+
   protected SqlExceptionTranslator exceptionTranslator = new SqlCodeTranslator();
 
   protected char[] specialLikeCharacters = { '%', '_', '\\' };
@@ -472,6 +502,68 @@ public class DatabasePlatform {
     this.forwardOnlyHintOnFindIterate = forwardOnlyHintOnFindIterate;
   }
 
+  /**
+   * Return true if multi-row inserts (insert into t (..) values (..),(..)) are supported.
+   */
+  public boolean isSupportsMultiRowInsert() {
+    return supportsMultiRowInsert;
+  }
+
+  /**
+   * Set to true if multi-row inserts are supported.
+   */
+  public void setSupportsMultiRowInsert(boolean supportsMultiRowInsert) {
+    this.supportsMultiRowInsert = supportsMultiRowInsert;
+  }
+
+  /**
+   * Return true if getGeneratedKeys returns a key per row for a multi-row insert.
+   * <p>
+   * When false batched inserts that use getGeneratedKeys are not executed as multi-row inserts.
+   * </p>
+   */
+  public boolean isMultiRowInsertGeneratedKeys() {
+    return multiRowInsertGeneratedKeys;
+  }
+
+  /**
+   * Set to true if getGeneratedKeys returns a key per row for a multi-row insert.
+   */
+  public void setMultiRowInsertGeneratedKeys(boolean multiRowInsertGeneratedKeys) {
+    this.multiRowInsertGeneratedKeys = multiRowInsertGeneratedKeys;
+  }
+
+  /**
+   * Return the maximum number of bind parameters supported in a single statement.
+   * <p>
+   * This limits the number of rows in a multi-row insert.
+   * </p>
+   */
+  public int getMaxBindParameters() {
+    return maxBindParameters;
+  }
+
+  /**
+   * Set the maximum number of bind parameters supported in a single statement.
+   */
+  public void setMaxBindParameters(int maxBindParameters) {
+    this.maxBindParameters = maxBindParameters;
+  }
+
+  /**
+   * Return true if bulk insert can use COPY FROM STDIN (Postgres).
+   */
+  public boolean isSupportsCopyIn() {
+    return supportsCopyIn;
+  }
+
+  /**
+   * Set to true if bulk insert can use COPY FROM STDIN.
+   */
+  public void setSupportsCopyIn(boolean supportsCopyIn) {
+    this.supportsCopyIn = supportsCopyIn;
+  }
+
   /**
    * Return the DB identity/sequence features for this platform.
    *
@@ -501,6 +593,20 @@ public class DatabasePlatform {
     return basicSqlLimiter;
   }
 
+  /**
+   * Return the SqlUpsert used to generate insert or update statements (null if upsert is not supported).
+   */
+  public SqlUpsert getSqlUpsert() {
+    return sqlUpsert;
+  }
+
+  /**
+   * Set the SqlUpsert used to generate insert or update statements.
+   */
+  public void setSqlUpsert(SqlUpsert sqlUpsert) {
+    this.sqlUpsert = sqlUpsert;
+  }
+
   /**
    * Set the DB TRUE literal (from the registered boolean ScalarType)
    */
@@ -584,6 +690,13 @@ public class DatabasePlatform {
     return likeClause;
   }
 
+  /**
+   * Return the binding of IN expression values as a single parameter (null when not supported).
+   */
+  public MultiValueBind getMultiValueBind() {
+    return multiValueBind;
+  }
+
   /**
    * Return the platform default JDBC batch mode for persist cascade.
    */
@@ -0,0 +1,80 @@
+package io.ebean.config.dbplatform;
+
+import java.util.List;
+
+/**
+ * Upsert using the standard MERGE statement.
+ * <pre>{@code
+ *
+ *   merge into t using (values (?,?)) s (id,name) on (t.id = s.id)
+ *   when matched then update set name = s.name
+ *   when not matched then insert (id,name) values (s.id,s.name)
+ *
+ * }</pre>
+ */
+public class MergeUpsert implements SqlUpsert {
+
+  @Override
+  public String upsert(String table, List<String> keyColumns, List<String> columns, List<String> binds, List<String> updateColumns, String versionColumn) {
+
+    StringBuilder sb = new StringBuilder(200);
+    sb.append("merge into ").append(table).append(" t using ");
+    appendSource(sb, columns, binds);
+    sb.append(" on (");
+    for (int i = 0; i < keyColumns.size(); i++) {
+      if (i > 0) {
+        sb.append(" and ");
+      }
+      String column = keyColumns.get(i);
+      sb.append("t.").append(column).append(" = s.").append(column);
+    }
+    sb.append(")");
+    if (!updateColumns.isEmpty()) {
+      sb.append(" when matched then update set ");
+      for (int i = 0; i < updateColumns.size(); i++) {
+        if (i > 0) {
+          sb.append(", ");
+        }
+        String column = updateColumns.get(i);
+        sb.append(column).append(" = s.").append(column);
+      }
+      if (versionColumn != null) {
+        sb.append(", ").append(versionColumn).append(" = t.").append(versionColumn).append(" + 1");
+      }
+    }
+    sb.append(" when not matched then insert (");
+    appendList(sb, "", columns);
+    sb.append(") values (");
+    appendList(sb, "s.", columns);
+    sb.append(")");
+    appendEnd(sb);
+    return sb.toString();
+  }
+
+  /**
+   * Append the source of the merge with the alias 's' and a column per bind value.
+   */
+  protected void appendSource(StringBuilder sb, List<String> columns, List<String> binds) {
+    sb.append("(values (");
+    appendList(sb, "", binds);
+    sb.append(")) s (");
+    appendList(sb, "", columns);
+    sb.append(")");
+  }
+
+  /**
+   * Append any terminator required for the merge statement.
+   */
+  protected void appendEnd(StringBuilder sb) {
+    // none by default
+  }
+
+  protected void appendList(StringBuilder sb, String prefix, List<String> values) {
+    for (int i = 0; i < values.size(); i++) {
+      if (i > 0) {
+        sb.append(",");
+      }
+      sb.append(prefix).append(values.get(i));
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package io.ebean.config.dbplatform;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Binds the values of an IN expression as a single parameter (typically a JDBC array).
+ * <p>
+ * This means the SQL is the same regardless of the number of values. Platforms that
+ * support this provide an implementation via DatabasePlatform.getMultiValueBind().
+ * </p>
+ */
+public abstract class MultiValueBind {
+
+  /**
+   * Return true if multi value binding is supported for the given type of values.
+   */
+  public abstract boolean isTypeSupported(Class<?> valueType);
+
+  /**
+   * Return the SQL that follows the property/column for the IN (or NOT IN) expression.
+   */
+  public abstract String getInExpression(boolean not, Class<?> valueType);
+
+  /**
+   * Bind the values as a single parameter at the given position.
+   */
+  public abstract void bindMultiValues(Connection connection, PreparedStatement pstmt, int position, Class<?> valueType, Object[] values) throws SQLException;
+}
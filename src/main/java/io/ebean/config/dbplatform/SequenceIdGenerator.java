@@ -11,23 +11,52 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Database sequence based IdGenerator.
+ * <p>
+ * Ids are handed out lock free from a block of pre-fetched sequence values (a primitive
+ * long[] with an atomic position). When half of the current block has been used the next
+ * block is loaded in the background such that it is typically ready (double buffered) by
+ * the time the current block is exhausted. If the next block is not ready yet but is being
+ * loaded then threads wait for that background load (back pressure) rather than each
+ * executing their own sequence query. Sequence queries are never executed while holding
+ * the monitor.
+ * </p>
  */
 public abstract class SequenceIdGenerator implements PlatformIdGenerator {
 
   private static final Logger logger = LoggerFactory.getLogger(SequenceIdGenerator.class);
 
   /**
-   * Used to synchronise the idList access.
+   * The maximum number of sequence values fetched by a single query.
+   */
+  protected static final int MAX_FETCH_SIZE = 1000;
+
+  /**
+   * The maximum number of Id's that can be pre-allocated via preAllocateIds().
+   */
+  protected static final int MAX_PRE_ALLOCATE = 100000;
+
+  /**
+   * Maximum time to wait for a background load before loading synchronously.
+   */
+  private static final long BACKGROUND_WAIT_MILLIS = 5000;
+
+  /**
+   * Used to synchronise the loading of blocks and idList access (not used when handing out Id's).
    */
   protected final Object monitor = new Object();
 
   /**
-   * Used to synchronise background loading (loadBatchInBackground).
+   * No longer used (background loading is synchronised via monitor).
    */
+  @Deprecated
   protected final Object backgroundLoadMonitor = new Object();
 
   /**
@@ -39,12 +68,33 @@ public abstract class SequenceIdGenerator implements PlatformIdGenerator {
 
   protected final BackgroundExecutor backgroundExecutor;
 
+  /**
+   * Id's added here (guarded by monitor) are used before the next ready block.
+   */
   protected final ArrayList<Long> idList = new ArrayList<>(50);
 
   protected final int batchSize;
 
+  /**
+   * The number of Id's currently being loaded (guarded by monitor).
+   */
   protected int currentlyBackgroundLoading;
 
+  /**
+   * The block that Id's are currently handed out from.
+   */
+  private final AtomicReference<IdBlock> current = new AtomicReference<>(IdBlock.EMPTY);
+
+  /**
+   * Blocks loaded and ready to use when the current block is exhausted (guarded by monitor).
+   */
+  private final ArrayDeque<IdBlock> readyBlocks = new ArrayDeque<>();
+
+  /**
+   * The number of Id's in the ready blocks (guarded by monitor).
+   */
+  private int readyCount;
+
   /**
    * Construct given a dataSource and sql to return the next sequence value.
    */
@@ -77,7 +127,8 @@ public abstract class SequenceIdGenerator implements PlatformIdGenerator {
    * If allocateSize is large load some sequences in a background thread.
    * <p>
    * For example, when inserting a bean with a cascade on a OneToMany with many
-   * beans Ebean can call this to ensure .
+   * beans or via insertAll() Ebean calls this such that the Id's are loaded in
+   * larger blocks ahead of the inserts.
    * </p>
    */
   @Override
@@ -85,11 +136,7 @@ public abstract class SequenceIdGenerator implements PlatformIdGenerator {
     if (batchSize > 1 && allocateSize > batchSize) {
       // only bother if allocateSize is bigger than
       // the normal loading batchSize
-      if (allocateSize > 100) {
-        // max out at 100 for now
-        allocateSize = 100;
-      }
-      loadLargeAllocation(allocateSize);
+      loadLargeAllocation(Math.min(allocateSize, MAX_PRE_ALLOCATE));
     }
   }
 
@@ -98,9 +145,17 @@ public abstract class SequenceIdGenerator implements PlatformIdGenerator {
    * to be needed shortly.
    */
   protected void loadLargeAllocation(final int allocateSize) {
-    // preAllocateIds was called with a relatively large batchSize
-    // so we will just go ahead and load those anyway in background
-    backgroundExecutor.execute(() -> loadMoreIds(allocateSize, null));
+
+    final int loadSize;
+    synchronized (monitor) {
+      // take into account the Id's already available or being loaded
+      loadSize = allocateSize - current.get().remaining() - idList.size() - readyCount - currentlyBackgroundLoading;
+      if (loadSize <= 0) {
+        return;
+      }
+      currentlyBackgroundLoading += loadSize;
+    }
+    backgroundExecutor.execute(() -> loadInBackground(loadSize));
   }
 
   /**
@@ -111,20 +166,88 @@ public abstract class SequenceIdGenerator implements PlatformIdGenerator {
    */
   @Override
   public Object nextId(Transaction t) {
-    synchronized (monitor) {
-
-      if (idList.isEmpty()) {
-        loadMoreIds(batchSize, t);
+    while (true) {
+      IdBlock block = current.get();
+      int position = block.position.getAndIncrement();
+      if (position < block.ids.length) {
+        if (position == block.refillPosition) {
+          // half the block used so load the next block in background
+          loadBatchInBackground();
+        }
+        return block.ids[position];
       }
-      Long nextId = idList.remove(0);
+      nextBlock(block, t);
+    }
+  }
 
-      if (batchSize > 1) {
-        if (idList.size() <= batchSize / 2) {
-          loadBatchInBackground();
+  /**
+   * Switch from the exhausted block to the next block.
+   * <p>
+   * When no block is ready or being loaded the next block is loaded by this thread
+   * (outside the monitor) with other threads waiting for it as for a background load.
+   * </p>
+   */
+  private void nextBlock(IdBlock exhausted, Transaction t) {
+
+    synchronized (monitor) {
+      if (current.get() != exhausted) {
+        // another thread already switched to the next block
+        return;
+      }
+      IdBlock next = pollReady();
+      if (next == null && currentlyBackgroundLoading > 0) {
+        // back pressure, wait for the in progress load
+        waitForBackgroundLoad();
+        if (current.get() != exhausted) {
+          return;
         }
+        next = pollReady();
+      }
+      if (next != null) {
+        current.set(next);
+        return;
       }
+      currentlyBackgroundLoading += batchSize;
+    }
 
-      return nextId;
+    if (loadReady(batchSize, t) == 0) {
+      throw new PersistenceException("No sequence values returned for " + seqName);
+    }
+  }
+
+  /**
+   * Return the next ready block (guarded by monitor).
+   */
+  private IdBlock pollReady() {
+    if (!idList.isEmpty()) {
+      IdBlock block = new IdBlock(toArray(idList), batchSize);
+      idList.clear();
+      return block;
+    }
+    IdBlock next = readyBlocks.poll();
+    if (next != null) {
+      readyCount -= next.ids.length;
+    }
+    return next;
+  }
+
+  /**
+   * Wait (holding the monitor) for a background load to add a ready block.
+   */
+  private void waitForBackgroundLoad() {
+
+    long until = System.currentTimeMillis() + BACKGROUND_WAIT_MILLIS;
+    try {
+      while (readyBlocks.isEmpty() && currentlyBackgroundLoading > 0) {
+        long waitMillis = until - System.currentTimeMillis();
+        if (waitMillis <= 0) {
+          logger.debug("... seq:{} timeout waiting for background load", seqName);
+          return;
+        }
+        monitor.wait(waitMillis);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
     }
   }
 
@@ -133,36 +256,82 @@ public abstract class SequenceIdGenerator implements PlatformIdGenerator {
    */
   protected void loadBatchInBackground() {
 
-    // single threaded processing...
-    synchronized (backgroundLoadMonitor) {
-
-      if (currentlyBackgroundLoading > 0) {
-        // skip as already background loading
+    synchronized (monitor) {
+      if (currentlyBackgroundLoading > 0 || readyCount >= batchSize) {
+        // skip as already background loading or next block is ready
         logger.debug("... skip background sequence load (another load in progress)");
         return;
       }
-
       currentlyBackgroundLoading = batchSize;
-
-      backgroundExecutor.execute(() -> {
-        loadMoreIds(batchSize, null);
-        synchronized (backgroundLoadMonitor) {
-          currentlyBackgroundLoading = 0;
-        }
-      });
     }
+    backgroundExecutor.execute(() -> loadInBackground(batchSize));
   }
 
-  protected void loadMoreIds(final int numberToLoad, Transaction t) {
+  /**
+   * Load the given number of Id's in the background (already included in currentlyBackgroundLoading).
+   */
+  protected void loadInBackground(int numberToLoad) {
+    loadReady(numberToLoad, null);
+  }
 
-    ArrayList<Long> newIds = getMoreIds(numberToLoad, t);
+  /**
+   * Load more Id's adding them to those ready for use.
+   */
+  protected void loadMoreIds(int numberToLoad, Transaction t) {
+    synchronized (monitor) {
+      currentlyBackgroundLoading += numberToLoad;
+    }
+    loadReady(numberToLoad, t);
+  }
 
-    if (logger.isDebugEnabled()) {
-      logger.debug("... seq:" + seqName + " loaded:" + numberToLoad + " ids:" + newIds);
+  /**
+   * Load the given number of Id's (in chunks of at most MAX_FETCH_SIZE) adding them as ready blocks.
+   * <p>
+   * The numberToLoad has already been added to currentlyBackgroundLoading. This is not called
+   * holding the monitor. Returns the number of Id's loaded.
+   * </p>
+   */
+  private int loadReady(int numberToLoad, Transaction t) {
+
+    int remaining = numberToLoad;
+    int loaded = 0;
+    try {
+      while (remaining > 0) {
+        int loadSize = Math.min(remaining, MAX_FETCH_SIZE);
+        ArrayList<Long> newIds = getMoreIds(loadSize, t);
+        if (logger.isDebugEnabled()) {
+          logger.debug("... seq:{} loaded:{} ids:{}", seqName, newIds.size(), newIds);
+        }
+        remaining -= loadSize;
+        loaded += newIds.size();
+        addReady(toArray(newIds), loadSize);
+        if (newIds.isEmpty()) {
+          // database shutting down
+          break;
+        }
+      }
+    } finally {
+      if (remaining > 0) {
+        synchronized (monitor) {
+          currentlyBackgroundLoading -= remaining;
+          monitor.notifyAll();
+        }
+      }
     }
+    return loaded;
+  }
 
+  /**
+   * Add a block of loaded Id's making them available for use.
+   */
+  private void addReady(long[] newIds, int requested) {
     synchronized (monitor) {
-      idList.addAll(newIds);
+      if (newIds.length > 0) {
+        readyBlocks.add(new IdBlock(newIds, batchSize));
+        readyCount += newIds.length;
+      }
+      currentlyBackgroundLoading -= requested;
+      monitor.notifyAll();
     }
   }
 
@@ -212,6 +381,46 @@ public abstract class SequenceIdGenerator implements PlatformIdGenerator {
     }
   }
 
+  /**
+   * Return the Id's as a primitive array.
+   */
+  private static long[] toArray(List<Long> ids) {
+    long[] array = new long[ids.size()];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = ids.get(i);
+    }
+    return array;
+  }
+
+  /**
+   * A block of sequence values handed out lock free via an atomic position.
+   */
+  private static final class IdBlock {
+
+    static final IdBlock EMPTY = new IdBlock(new long[0], 0);
+
+    final long[] ids;
+
+    final AtomicInteger position = new AtomicInteger();
+
+    /**
+     * The position at which to trigger loading the next block in background.
+     */
+    final int refillPosition;
+
+    IdBlock(long[] ids, int batchSize) {
+      this.ids = ids;
+      this.refillPosition = (batchSize > 1) ? ids.length / 2 : -1;
+    }
+
+    /**
+     * Return the number of Id's remaining in this block.
+     */
+    int remaining() {
+      return Math.max(0, ids.length - position.get());
+    }
+  }
+
   /**
    * Close the JDBC resources.
    */
@@ -0,0 +1,29 @@
+package io.ebean.config.dbplatform;
+
+import java.util.List;
+
+/**
+ * Generates the platform specific insert or update (upsert) statement for a table.
+ * <p>
+ * The generated statement must bind the column values once and in the order of
+ * the given columns, such that it is bound in the same way as the insert statement.
+ * </p>
+ * <p>
+ * The version column (if any) is inserted with the bound value but when the row already
+ * exists it is incremented (rather than set) such that optimistic locking is preserved.
+ * </p>
+ */
+public interface SqlUpsert {
+
+  /**
+   * Return the insert or update statement for the given table.
+   *
+   * @param table         the table to insert into or update
+   * @param keyColumns    the primary key columns used to detect an existing row
+   * @param columns       all the columns inserted (including the key columns)
+   * @param binds         the bind expression of each column (typically "?")
+   * @param updateColumns the columns updated when the row already exists (excluding the version column)
+   * @param versionColumn the version column incremented when the row already exists (null for none)
+   */
+  String upsert(String table, List<String> keyColumns, List<String> columns, List<String> binds, List<String> updateColumns, String versionColumn);
+}
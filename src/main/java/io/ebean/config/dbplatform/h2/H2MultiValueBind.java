@@ -0,0 +1,42 @@
+package io.ebean.config.dbplatform.h2;
+
+import io.ebean.config.dbplatform.MultiValueBind;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * H2 multi value binding using <code>in (select * from table(x type = ?))</code> with an array.
+ */
+public class H2MultiValueBind extends MultiValueBind {
+
+  @Override
+  public boolean isTypeSupported(Class<?> valueType) {
+    return columnType(valueType) != null;
+  }
+
+  @Override
+  public String getInExpression(boolean not, Class<?> valueType) {
+    String prefix = not ? " not in" : " in";
+    return prefix + " (select * from table(x " + columnType(valueType) + " = ?)) ";
+  }
+
+  @Override
+  public void bindMultiValues(Connection connection, PreparedStatement pstmt, int position, Class<?> valueType, Object[] values) throws SQLException {
+    pstmt.setObject(position, values);
+  }
+
+  private String columnType(Class<?> valueType) {
+    if (valueType == Long.class) {
+      return "bigint";
+    } else if (valueType == Integer.class) {
+      return "int";
+    } else if (valueType == Short.class) {
+      return "smallint";
+    } else if (valueType == String.class) {
+      return "varchar";
+    }
+    return null;
+  }
+}
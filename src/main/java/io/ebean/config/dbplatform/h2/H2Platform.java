@@ -22,9 +22,13 @@ public class H2Platform extends DatabasePlatform {
     this.platform = Platform.H2;
     this.dbEncrypt = new H2DbEncrypt();
     this.historySupport = new H2HistorySupport();
+    this.sqlUpsert = new H2Upsert();
     this.nativeUuidType = true;
     this.dbDefaultValue.setNow("now()");
     this.columnAliasPrefix = null;
+    this.multiValueBind = new H2MultiValueBind();
+    this.supportsMultiRowInsert = true;
+    this.maxBindParameters = 32767;
 
     this.exceptionTranslator =
       new SqlErrorCodes()
@@ -0,0 +1,54 @@
+package io.ebean.config.dbplatform.h2;
+
+import io.ebean.config.dbplatform.SqlUpsert;
+
+import java.util.List;
+
+/**
+ * H2 upsert using MERGE INTO ... KEY.
+ * <p>
+ * Note that H2 updates all the given columns when the row already exists. With a version
+ * column the merge instead selects from the bind values left joined to the existing row
+ * such that the version is incremented and insert only columns keep their existing values.
+ * </p>
+ */
+public class H2Upsert implements SqlUpsert {
+
+  @Override
+  public String upsert(String table, List<String> keyColumns, List<String> columns, List<String> binds, List<String> updateColumns, String versionColumn) {
+
+    String prefix = "merge into " + table + " (" + String.join(", ", columns) + ") key (" + String.join(", ", keyColumns) + ") ";
+    if (versionColumn == null) {
+      return prefix + "values (" + String.join(",", binds) + ")";
+    }
+
+    // the columns of the values are named C1, C2 etc
+    String existsCheck = "t." + keyColumns.get(0) + " is null";
+    StringBuilder sb = new StringBuilder(300);
+    sb.append(prefix).append("select ");
+    for (int i = 0; i < columns.size(); i++) {
+      if (i > 0) {
+        sb.append(", ");
+      }
+      String column = columns.get(i);
+      String source = "s.c" + (i + 1);
+      if (keyColumns.contains(column) || updateColumns.contains(column)) {
+        sb.append(source);
+      } else if (column.equals(versionColumn) && !updateColumns.isEmpty()) {
+        sb.append("case when ").append(existsCheck).append(" then ").append(source).append(" else t.").append(column).append(" + 1 end");
+      } else {
+        sb.append("case when ").append(existsCheck).append(" then ").append(source).append(" else t.").append(column).append(" end");
+      }
+    }
+    sb.append(" from (select * from (values (").append(String.join(",", binds)).append("))) s left join ");
+    sb.append(table).append(" t on ");
+    for (int i = 0; i < keyColumns.size(); i++) {
+      if (i > 0) {
+        sb.append(" and ");
+      }
+      String column = keyColumns.get(i);
+      sb.append("t.").append(column).append(" = s.c").append(columns.indexOf(column) + 1);
+    }
+    return sb.toString();
+  }
+}
@@ -30,8 +30,12 @@ public class MySqlPlatform extends DatabasePlatform {
     this.platform = Platform.MYSQL;
     this.useExtraTransactionOnIterateSecondaryQueries = true;
     this.selectCountWithAlias = true;
+    this.supportsMultiRowInsert = true;
+    this.multiRowInsertGeneratedKeys = true;
+    this.maxBindParameters = 65535;
     this.dbEncrypt = new MySqlDbEncrypt();
     this.historySupport = new MySqlHistorySupport();
+    this.sqlUpsert = new MySqlUpsert();
     this.columnAliasPrefix = null;
 
     this.dbIdentity.setIdType(IdType.IDENTITY);
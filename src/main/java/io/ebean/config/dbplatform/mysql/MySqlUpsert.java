@@ -0,0 +1,37 @@
+package io.ebean.config.dbplatform.mysql;
+
+import io.ebean.config.dbplatform.SqlUpsert;
+
+import java.util.List;
+
+/**
+ * MySql upsert using INSERT ... ON DUPLICATE KEY UPDATE.
+ */
+public class MySqlUpsert implements SqlUpsert {
+
+  @Override
+  public String upsert(String table, List<String> keyColumns, List<String> columns, List<String> binds, List<String> updateColumns, String versionColumn) {
+
+    StringBuilder sb = new StringBuilder(200);
+    sb.append("insert into ").append(table).append(" (").append(String.join(", ", columns));
+    sb.append(") values (").append(String.join(",", binds));
+    sb.append(") on duplicate key update ");
+    if (updateColumns.isEmpty()) {
+      // no-op update of the key
+      String column = keyColumns.get(0);
+      sb.append(column).append(" = ").append(column);
+    } else {
+      for (int i = 0; i < updateColumns.size(); i++) {
+        if (i > 0) {
+          sb.append(", ");
+        }
+        String column = updateColumns.get(i);
+        sb.append(column).append(" = values(").append(column).append(")");
+      }
+      if (versionColumn != null) {
+        sb.append(", ").append(versionColumn).append(" = ").append(versionColumn).append(" + 1");
+      }
+    }
+    return sb.toString();
+  }
+}
@@ -28,6 +28,7 @@ public class OraclePlatform extends DatabasePlatform {
     this.sqlLimiter = new RownumSqlLimiter();
     this.basicSqlLimiter = new BasicSqlAnsiLimiter();
     this.historySupport = new OracleDbHistorySupport();
+    this.sqlUpsert = new OracleUpsert();
 
     // Not using getGeneratedKeys as instead we will
     // batch load sequences which enables JDBC batch execution
@@ -0,0 +1,23 @@
+package io.ebean.config.dbplatform.oracle;
+
+import io.ebean.config.dbplatform.MergeUpsert;
+
+import java.util.List;
+
+/**
+ * Oracle MERGE upsert using a select from dual as the source.
+ */
+public class OracleUpsert extends MergeUpsert {
+
+  @Override
+  protected void appendSource(StringBuilder sb, List<String> columns, List<String> binds) {
+    sb.append("(select ");
+    for (int i = 0; i < columns.size(); i++) {
+      if (i > 0) {
+        sb.append(", ");
+      }
+      sb.append(binds.get(i)).append(" ").append(columns.get(i));
+    }
+    sb.append(" from dual) s");
+  }
+}
@@ -17,6 +17,8 @@ public class Postgres8Platform extends PostgresPlatform {
     this.dbIdentity.setSupportsSequence(true);
     this.dbIdentity.setSupportsIdentity(true);
     this.columnAliasPrefix = "as c";
+    // insert on conflict requires Postgres 9.5
+    this.sqlUpsert = null;
   }
 
 }
@@ -0,0 +1,43 @@
+package io.ebean.config.dbplatform.postgres;
+
+import io.ebean.config.dbplatform.MultiValueBind;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Postgres multi value binding using <code>= any(?)</code> with a JDBC array.
+ */
+public class PostgresMultiValueBind extends MultiValueBind {
+
+  @Override
+  public boolean isTypeSupported(Class<?> valueType) {
+    return arrayType(valueType) != null;
+  }
+
+  @Override
+  public String getInExpression(boolean not, Class<?> valueType) {
+    return not ? " != all(?)" : " = any(?)";
+  }
+
+  @Override
+  public void bindMultiValues(Connection connection, PreparedStatement pstmt, int position, Class<?> valueType, Object[] values) throws SQLException {
+    Array array = connection.createArrayOf(arrayType(valueType), values);
+    pstmt.setArray(position, array);
+  }
+
+  private String arrayType(Class<?> valueType) {
+    if (valueType == Long.class) {
+      return "bigint";
+    } else if (valueType == Integer.class) {
+      return "integer";
+    } else if (valueType == Short.class) {
+      return "smallint";
+    } else if (valueType == String.class) {
+      return "varchar";
+    }
+    return null;
+  }
+}
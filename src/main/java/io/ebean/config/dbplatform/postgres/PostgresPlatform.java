@@ -26,6 +26,11 @@ public class PostgresPlatform extends DatabasePlatform {
     this.platform = Platform.POSTGRES;
     this.supportsNativeIlike = true;
     this.selectCountWithAlias = true;
+    this.supportsMultiRowInsert = true;
+    this.multiRowInsertGeneratedKeys = true;
+    this.maxBindParameters = 32767;
+    this.supportsCopyIn = true;
+    this.sqlUpsert = new PostgresUpsert();
     this.blobDbType = Types.LONGVARBINARY;
     this.clobDbType = Types.VARCHAR;
     this.nativeUuidType = true;
@@ -33,6 +38,7 @@ public class PostgresPlatform extends DatabasePlatform {
 
     this.dbEncrypt = new PostgresDbEncrypt();
     this.historySupport = new PostgresHistorySupport();
+    this.multiValueBind = new PostgresMultiValueBind();
 
     // Use Identity and getGeneratedKeys
     this.dbIdentity.setIdType(IdType.IDENTITY);
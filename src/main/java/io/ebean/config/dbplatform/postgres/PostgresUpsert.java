@@ -0,0 +1,41 @@
+package io.ebean.config.dbplatform.postgres;
+
+import io.ebean.config.dbplatform.SqlUpsert;
+
+import java.util.List;
+
+/**
+ * Postgres upsert using INSERT ... ON CONFLICT DO UPDATE.
+ */
+public class PostgresUpsert implements SqlUpsert {
+
+  @Override
+  public String upsert(String table, List<String> keyColumns, List<String> columns, List<String> binds, List<String> updateColumns, String versionColumn) {
+
+    StringBuilder sb = new StringBuilder(200);
+    sb.append("insert into ").append(table);
+    if (versionColumn != null) {
+      // alias to reference the existing row version
+      sb.append(" as t");
+    }
+    sb.append(" (").append(String.join(", ", columns));
+    sb.append(") values (").append(String.join(",", binds));
+    sb.append(") on conflict (").append(String.join(", ", keyColumns)).append(")");
+    if (updateColumns.isEmpty()) {
+      sb.append(" do nothing");
+    } else {
+      sb.append(" do update set ");
+      for (int i = 0; i < updateColumns.size(); i++) {
+        if (i > 0) {
+          sb.append(", ");
+        }
+        String column = updateColumns.get(i);
+        sb.append(column).append(" = excluded.").append(column);
+      }
+      if (versionColumn != null) {
+        sb.append(", ").append(versionColumn).append(" = t.").append(versionColumn).append(" + 1");
+      }
+    }
+    return sb.toString();
+  }
+}
@@ -13,6 +13,8 @@ public class SQLitePlatform extends DatabasePlatform {
   public SQLitePlatform() {
     super();
     this.platform = Platform.SQLITE;
+    this.supportsMultiRowInsert = true;
+    this.maxBindParameters = 999;
     this.dbIdentity.setIdType(IdType.IDENTITY);
     this.dbIdentity.setSupportsGetGeneratedKeys(false);
     this.dbIdentity.setSupportsSequence(false);
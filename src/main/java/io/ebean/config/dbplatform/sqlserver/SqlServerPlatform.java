@@ -23,9 +23,12 @@ public class SqlServerPlatform extends DatabasePlatform {
     this.persistBatchOnCascade = PersistBatch.NONE;
     this.idInExpandedForm = true;
     this.selectCountWithAlias = true;
+    this.supportsMultiRowInsert = true;
+    this.maxBindParameters = 2000;
     this.sqlLimiter = new SqlServerSqlLimiter();
     this.basicSqlLimiter = new SqlServerBasicSqlLimiter();
     this.historySupport = new SqlServerHistorySupport();
+    this.sqlUpsert = new SqlServerUpsert();
     this.dbIdentity.setIdType(IdType.IDENTITY);
     this.dbIdentity.setSupportsGetGeneratedKeys(true);
     this.dbIdentity.setSupportsIdentity(true);
@@ -0,0 +1,14 @@
+package io.ebean.config.dbplatform.sqlserver;
+
+import io.ebean.config.dbplatform.MergeUpsert;
+
+/**
+ * SQL Server MERGE upsert (which requires the statement to be terminated).
+ */
+public class SqlServerUpsert extends MergeUpsert {
+
+  @Override
+  protected void appendEnd(StringBuilder sb) {
+    sb.append(";");
+  }
+}
@@ -14,4 +14,14 @@ public interface MetaBeanInfo {
    */
   List<MetaQueryPlanStatistic> collectAllQueryPlanStatistics(boolean reset);
 
+  /**
+   * Return the statistics of the cache of parsed EQL statements for this bean type.
+   */
+  MetaEqlCacheStatistic getEqlCacheStatistic(boolean reset);
+
+  /**
+   * Return the statistics of coalesced query cache and bean cache misses for this bean type.
+   */
+  MetaCacheMissCoalesceStatistic getCacheMissCoalesceStatistic(boolean reset);
+
 }
@@ -0,0 +1,39 @@
+package io.ebean.meta;
+
+/**
+ * Statistics of the coalescing of concurrent query cache and bean cache misses for a bean type.
+ *
+ * @see MetaInfoManager#collectCacheMissCoalesceStatistics(boolean)
+ */
+public interface MetaCacheMissCoalesceStatistic {
+
+  /**
+   * Return the bean type.
+   */
+  Class<?> getBeanType();
+
+  /**
+   * Return the number of query cache misses that executed the query.
+   */
+  long getQueryCacheLoadCount();
+
+  /**
+   * Return the number of query cache misses that waited on a concurrent execution of the same query.
+   */
+  long getQueryCacheWaitCount();
+
+  /**
+   * Return the number of bean cache misses (find by id) that executed the query.
+   */
+  long getBeanCacheLoadCount();
+
+  /**
+   * Return the number of bean cache misses that waited on a concurrent load of the same id.
+   */
+  long getBeanCacheWaitCount();
+
+  /**
+   * Return the number of waits that timed out before the concurrent load completed.
+   */
+  long getTimeoutCount();
+}
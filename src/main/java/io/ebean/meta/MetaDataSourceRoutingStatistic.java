@@ -0,0 +1,24 @@
+package io.ebean.meta;
+
+/**
+ * Statistics of the query only transactions routed to the read only DataSource or the primary DataSource.
+ *
+ * @see MetaInfoManager#getDataSourceRoutingStatistic(boolean)
+ * @see io.ebean.config.ServerConfig#setReadOnlyDataSource(javax.sql.DataSource)
+ */
+public interface MetaDataSourceRoutingStatistic {
+
+  /**
+   * Return the number of transactions that used the read only DataSource.
+   */
+  long getReadOnlyCount();
+
+  /**
+   * Return the number of query only transactions that used the primary DataSource.
+   * <p>
+   * These are query only transactions when there is no read only DataSource or where the
+   * query was set to not use the read only DataSource (to read its own writes).
+   * </p>
+   */
+  long getPrimaryCount();
+}
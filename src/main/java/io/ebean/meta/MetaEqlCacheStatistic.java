@@ -0,0 +1,34 @@
+package io.ebean.meta;
+
+/**
+ * Statistics of the cache of parsed EQL statements for a bean type.
+ *
+ * @see MetaInfoManager#collectEqlCacheStatistics(boolean)
+ */
+public interface MetaEqlCacheStatistic {
+
+  /**
+   * Return the bean type the parsed EQL statements are for.
+   */
+  Class<?> getBeanType();
+
+  /**
+   * Return the number of parsed EQL statements in the cache.
+   */
+  int getSize();
+
+  /**
+   * Return the number of queries created using a cached parsed statement.
+   */
+  long getHitCount();
+
+  /**
+   * Return the number of queries that required the EQL to be parsed.
+   */
+  long getMissCount();
+
+  /**
+   * Return the hit ratio as a percentage (0 to 100).
+   */
+  int getHitRatio();
+}
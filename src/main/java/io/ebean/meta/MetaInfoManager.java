@@ -26,6 +26,13 @@ public interface MetaInfoManager {
    */
   List<MetaQueryPlanStatistic> collectQueryPlanStatistics(boolean reset);
 
+  /**
+   * Return the statistics of the query plan cache (size, hit ratio, evictions and plan build time).
+   *
+   * @param reset Set to true to reset the counters after collection.
+   */
+  MetaQueryPlanCacheStatistic getQueryPlanCacheStatistic(boolean reset);
+
   /**
    * Collect and return the ObjectGraphNode statistics.
    * <p>
@@ -38,4 +45,33 @@ public interface MetaInfoManager {
    */
   List<MetaObjectGraphNodeStats> collectNodeStatistics(boolean reset);
 
+  /**
+   * Collect and return the statistics of the parsed EQL statement caches.
+   * <p>
+   * Note that this excludes bean types where EQL has not been used (since the
+   * last collection with reset).
+   * </p>
+   *
+   * @param reset Set to true to reset the hit and miss counters after collection.
+   */
+  List<MetaEqlCacheStatistic> collectEqlCacheStatistics(boolean reset);
+
+  /**
+   * Collect and return the statistics of coalesced query cache and bean cache misses.
+   * <p>
+   * Note that this excludes bean types where there have been no cache loads (since the
+   * last collection with reset).
+   * </p>
+   *
+   * @param reset Set to true to reset the counters after collection.
+   */
+  List<MetaCacheMissCoalesceStatistic> collectCacheMissCoalesceStatistics(boolean reset);
+
+  /**
+   * Return the counts of query only transactions using the read only DataSource and the primary DataSource.
+   *
+   * @param reset Set to true to reset the counters after collection.
+   */
+  MetaDataSourceRoutingStatistic getDataSourceRoutingStatistic(boolean reset);
+
 }
@@ -0,0 +1,49 @@
+package io.ebean.meta;
+
+/**
+ * Statistics of the (size bounded) query plan cache of a server.
+ *
+ * @see MetaInfoManager#getQueryPlanCacheStatistic(boolean)
+ */
+public interface MetaQueryPlanCacheStatistic {
+
+  /**
+   * Return the number of query plans in the cache.
+   */
+  int getSize();
+
+  /**
+   * Return the maximum number of query plans held in the cache.
+   */
+  int getMaxSize();
+
+  /**
+   * Return the number of times a query plan was found in the cache.
+   */
+  long getHitCount();
+
+  /**
+   * Return the number of times a query plan was not found in the cache.
+   */
+  long getMissCount();
+
+  /**
+   * Return the hit ratio as a percentage (0 to 100).
+   */
+  int getHitRatio();
+
+  /**
+   * Return the number of query plans evicted due to the maximum size.
+   */
+  long getEvictCount();
+
+  /**
+   * Return the number of query plans built.
+   */
+  long getBuildCount();
+
+  /**
+   * Return the total time in microseconds spent building query plans.
+   */
+  long getBuildTimeMicros();
+}
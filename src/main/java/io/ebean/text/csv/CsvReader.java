@@ -72,6 +72,17 @@ public interface CsvReader<T> {
    */
   void setPersistBatchSize(int persistBatchSize);
 
+  /**
+   * Set to true to bulk insert the beans when using {@link #process(Reader)}.
+   * <p>
+   * The beans are then inserted without per bean lifecycle events, cascading or L2 cache
+   * notification (using COPY on Postgres and multi-row inserts on other platforms).
+   * </p>
+   *
+   * @see io.ebean.EbeanServer#bulkInsert(java.util.Collection)
+   */
+  void setBulkInsert(boolean bulkInsert);
+
   /**
    * Set to true if there is a header row that should be ignored.
    * <p>
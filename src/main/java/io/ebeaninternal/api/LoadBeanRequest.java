@@ -1,5 +1,6 @@
 package io.ebeaninternal.api;
 
+import io.ebean.Transaction;
 import io.ebean.bean.EntityBean;
 import io.ebean.bean.EntityBeanIntercept;
 import io.ebeaninternal.server.core.OrmQueryRequest;
@@ -31,20 +32,20 @@ public class LoadBeanRequest extends LoadRequest {
    * Construct for lazy load request.
    */
   public LoadBeanRequest(LoadBeanBuffer LoadBuffer, String lazyLoadProperty, boolean loadCache) {
-    this(LoadBuffer, null, true, lazyLoadProperty, loadCache);
+    this(LoadBuffer, null, null, true, lazyLoadProperty, loadCache);
   }
 
   /**
-   * Construct for secondary query.
+   * Construct for secondary query executing with the given transaction.
    */
-  public LoadBeanRequest(LoadBeanBuffer LoadBuffer, OrmQueryRequest<?> parentRequest) {
-    this(LoadBuffer, parentRequest, false, null, false);
+  public LoadBeanRequest(LoadBeanBuffer LoadBuffer, OrmQueryRequest<?> parentRequest, Transaction transaction) {
+    this(LoadBuffer, parentRequest, transaction, false, null, false);
   }
 
-  private LoadBeanRequest(LoadBeanBuffer loadBuffer, OrmQueryRequest<?> parentRequest, boolean lazy,
+  private LoadBeanRequest(LoadBeanBuffer loadBuffer, OrmQueryRequest<?> parentRequest, Transaction transaction, boolean lazy,
                           String lazyLoadProperty, boolean loadCache) {
 
-    super(parentRequest, lazy);
+    super(parentRequest, transaction, lazy);
     this.loadBuffer = loadBuffer;
     this.batch = loadBuffer.getBatch();
     this.lazyLoadProperty = lazyLoadProperty;
@@ -156,9 +157,9 @@ public class LoadBeanRequest extends LoadRequest {
     for (Object aList : list) {
       EntityBean loadedBean = (EntityBean) aList;
       loadedIds.add(desc.getId(loadedBean));
-      if (isLoadCache()) {
-        desc.cacheBeanPut(loadedBean);
-      }
+    }
+    if (isLoadCache()) {
+      desc.cacheBeanPutAll(list);
     }
 
     if (lazyLoadProperty != null) {
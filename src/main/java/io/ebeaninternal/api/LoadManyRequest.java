@@ -1,6 +1,7 @@
 package io.ebeaninternal.api;
 
 import io.ebean.EbeanServer;
+import io.ebean.Transaction;
 import io.ebean.bean.BeanCollection;
 import io.ebean.bean.EntityBean;
 import io.ebean.util.StringHelper;
@@ -11,7 +12,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Request for loading Associated Many Beans.
@@ -32,18 +35,19 @@ public class LoadManyRequest extends LoadRequest {
    * Construct for lazy loading.
    */
   public LoadManyRequest(LoadManyBuffer loadContext, boolean onlyIds, boolean loadCache) {
-    this(loadContext, null, true, onlyIds, loadCache);
+    this(loadContext, null, null, true, onlyIds, loadCache);
   }
 
   /**
-   * Construct for secondary query.
+   * Construct for secondary query executing with the given transaction.
    */
-  public LoadManyRequest(LoadManyBuffer loadContext, OrmQueryRequest<?> parentRequest) {
-    this(loadContext, parentRequest, false, false, false);
+  public LoadManyRequest(LoadManyBuffer loadContext, OrmQueryRequest<?> parentRequest, Transaction transaction) {
+    this(loadContext, parentRequest, transaction, false, false, false);
   }
 
-  private LoadManyRequest(LoadManyBuffer loadContext, OrmQueryRequest<?> parentRequest, boolean lazy, boolean onlyIds, boolean loadCache) {
-    super(parentRequest, lazy);
+  private LoadManyRequest(LoadManyBuffer loadContext, OrmQueryRequest<?> parentRequest, Transaction transaction,
+                          boolean lazy, boolean onlyIds, boolean loadCache) {
+    super(parentRequest, transaction, lazy);
     this.loadContext = loadContext;
     this.batch = loadContext.getBatch();
     this.onlyIds = onlyIds;
@@ -174,6 +178,8 @@ public class LoadManyRequest extends LoadRequest {
     BeanDescriptor<?> desc = loadContext.getBeanDescriptor();
     BeanPropertyAssocMany<?> many = getMany();
 
+    Map<Object, BeanCollection<?>> cachePuts = new LinkedHashMap<>();
+
     // check for BeanCollection's that where never processed
     // in the +query or +lazy load due to no rows (predicates)
     for (BeanCollection<?> bc : batch) {
@@ -184,10 +190,13 @@ public class LoadManyRequest extends LoadRequest {
           logger.debug("BeanCollection after lazy load was empty. type:" + ownerBean.getClass().getName() + " id:" + parentId + " owner:" + ownerBean);
         }
       } else if (isLoadCache()) {
-        Object parentId = desc.getId(bc.getOwnerBean());
-        desc.cacheManyPropPut(many, bc, parentId);
+        cachePuts.put(desc.getId(bc.getOwnerBean()), bc);
       }
     }
 
+    if (!cachePuts.isEmpty()) {
+      desc.cacheManyPropPutAll(many, cachePuts);
+    }
+
   }
 }
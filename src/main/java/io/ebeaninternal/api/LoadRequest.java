@@ -15,9 +15,16 @@ public abstract class LoadRequest {
   protected final boolean lazy;
 
   public LoadRequest(OrmQueryRequest<?> parentRequest, boolean lazy) {
+    this(parentRequest, parentRequest == null ? null : parentRequest.getTransaction(), lazy);
+  }
+
+  /**
+   * Construct with an explicit transaction (used when secondary queries execute in parallel).
+   */
+  public LoadRequest(OrmQueryRequest<?> parentRequest, Transaction transaction, boolean lazy) {
 
     this.parentRequest = parentRequest;
-    this.transaction = parentRequest == null ? null : parentRequest.getTransaction();
+    this.transaction = transaction;
     this.lazy = lazy;
   }
 
@@ -1,5 +1,6 @@
 package io.ebeaninternal.api;
 
+import io.ebean.Transaction;
 import io.ebeaninternal.server.core.OrmQueryRequest;
 
 /**
@@ -15,4 +16,10 @@ public interface LoadSecondaryQuery {
    * Execute the secondary query with a given batch size.
    */
   void loadSecondaryQuery(OrmQueryRequest<?> parentRequest, boolean forEach);
+
+  /**
+   * Execute the secondary query using the given transaction rather than the transaction of the
+   * parent request (used when secondary queries are executed in parallel).
+   */
+  void loadSecondaryQuery(OrmQueryRequest<?> parentRequest, Transaction transaction, boolean forEach);
 }
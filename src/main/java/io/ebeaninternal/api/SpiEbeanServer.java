@@ -16,6 +16,7 @@ import io.ebean.event.readaudit.ReadAuditPrepare;
 import io.ebeaninternal.dbmigration.ddlgeneration.DdlHandler;
 import io.ebeaninternal.server.core.timezone.DataTimeZone;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
+import io.ebeaninternal.server.persist.BulkInsert;
 import io.ebeaninternal.server.query.CQuery;
 import io.ebeaninternal.server.transaction.RemoteTransactionEvent;
 
@@ -75,6 +76,16 @@ public interface SpiEbeanServer extends EbeanServer, BeanLoader, BeanCollectionL
    */
   PersistenceContextScope getPersistenceContextScope(SpiQuery<?> query);
 
+  /**
+   * Return true if concurrent cache misses should be coalesced for this query (defined at query or server level).
+   */
+  boolean isCacheMissCoalescing(SpiQuery<?> query);
+
+  /**
+   * Create a bulk insert for beans of the given type.
+   */
+  BulkInsert createBulkInsert(Class<?> beanType, Transaction transaction);
+
   /**
    * Clear the query execution statistics.
    */
@@ -140,6 +151,14 @@ public interface SpiEbeanServer extends EbeanServer, BeanLoader, BeanCollectionL
    */
   SpiTransaction createQueryTransaction(Object tenantId);
 
+  /**
+   * Create a query only transaction using the read only DataSource if there is one
+   * (otherwise the primary DataSource).
+   *
+   * @param tenantId For multi-tenant lazy loading provide the tenantId to use.
+   */
+  SpiTransaction createReadOnlyTransaction(Object tenantId);
+
   /**
    * An event from another server in the cluster used to notify local
    * BeanListeners of remote inserts updates and deletes.
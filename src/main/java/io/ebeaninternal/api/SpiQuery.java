@@ -594,6 +594,19 @@ public interface SpiQuery<T> extends Query<T> {
    */
   CacheMode getUseQueryCache();
 
+  /**
+   * Return the explicit cache miss coalescing setting for this query (null means use the server default).
+   */
+  Boolean getCacheMissCoalescing();
+
+  /**
+   * Return true if this query should use the read only DataSource (when executed without a transaction).
+   * <p>
+   * This is false for update and delete queries and queries using forUpdate.
+   * </p>
+   */
+  boolean isUseReadOnlyDataSource();
+
   /**
    * Return true if the beans from this query should be loaded into the bean
    * cache.
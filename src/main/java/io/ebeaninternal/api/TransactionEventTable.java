@@ -5,6 +5,7 @@ import io.ebeaninternal.server.cluster.BinaryMessage;
 import io.ebeaninternal.server.cluster.BinaryMessageList;
 
 import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.Serializable;
@@ -106,12 +107,42 @@ public final class TransactionEventTable implements Serializable {
       msgList.add(msg);
     }
 
+    /**
+     * Read the compact form written by {@link #writeCompact(DataOutput)}.
+     */
+    public static TableIUD readCompact(DataInput dataInput) throws IOException {
+
+      String table = dataInput.readUTF();
+      int flags = dataInput.readByte();
+      return new TableIUD(table, (flags & 1) != 0, (flags & 2) != 0, (flags & 4) != 0);
+    }
+
+    /**
+     * Write in compact form with the insert, update and delete flags as bits of a single byte.
+     */
+    public void writeCompact(DataOutput dataOutput) throws IOException {
+
+      int flags = (insert ? 1 : 0) | (update ? 2 : 0) | (delete ? 4 : 0);
+      dataOutput.writeUTF(table);
+      dataOutput.writeByte(flags);
+    }
+
+    /**
+     * Return a copy of this TableIUD.
+     */
+    public TableIUD copy() {
+      return new TableIUD(table, insert, update, delete);
+    }
+
     @Override
     public String toString() {
       return "TableIUD " + table + " i:" + insert + " u:" + update + " d:" + delete;
     }
 
-    private void add(TableIUD other) {
+    /**
+     * Merge the insert, update and delete flags of the other TableIUD into this one.
+     */
+    public void add(TableIUD other) {
       if (other.insert) {
         insert = true;
       }
@@ -101,11 +101,21 @@ class EJsonReader {
     return new EJsonReader(parser, modifyAware).parseJson(token);
   }
 
+  /**
+   * Parse the json with the modify aware values using the given owner.
+   */
+  static Object parse(String content, ModifyAwareOwner owner) throws IOException {
+    if (content == null) {
+      return null;
+    }
+    return new EJsonReader(json.createParser(new StringReader(content)), owner).parseJson(null);
+  }
+
   private final JsonParser parser;
 
   private final boolean modifyAware;
 
-  private final ModifyAwareFlag modifyAwareOwner;
+  private final ModifyAwareOwner modifyAwareOwner;
 
   private int depth;
 
@@ -119,6 +129,12 @@ class EJsonReader {
     this.modifyAwareOwner = (modifyAware) ? new ModifyAwareFlag() : null;
   }
 
+  private EJsonReader(JsonParser parser, ModifyAwareOwner owner) {
+    this.parser = parser;
+    this.modifyAware = true;
+    this.modifyAwareOwner = owner;
+  }
+
   private void startArray() {
     depth++;
     stack.push(currentContext);
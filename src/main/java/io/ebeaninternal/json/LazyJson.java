@@ -0,0 +1,112 @@
+package io.ebeaninternal.json;
+
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Creates modify aware Map, List and Set values that hold the raw JSON content and
+ * parse it on first access.
+ * <p>
+ * The raw JSON content of a value that has not been accessed (and hence not modified)
+ * is returned by {@link #unparsedJson(Object)} such that it can be written back
+ * without re-serialization.
+ * </p>
+ */
+public final class LazyJson {
+
+  private static final LazyJsonParser<Map<String, Object>> EJSON_MAP = LazyJson::parseObject;
+
+  private static final LazyJsonParser<List<Object>> EJSON_LIST = LazyJson::parseList;
+
+  private static final LazyJsonParser<Set<Object>> EJSON_SET = (rawJson, owner) -> new LinkedHashSet<>(parseList(rawJson, owner));
+
+  private LazyJson() {
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> parseObject(String rawJson, ModifyAwareOwner owner) throws IOException {
+    return (Map<String, Object>) EJsonReader.parse(rawJson, owner);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<Object> parseList(String rawJson, ModifyAwareOwner owner) throws IOException {
+    return (List<Object>) EJsonReader.parse(rawJson, owner);
+  }
+
+  /**
+   * Return a modify aware Map of the JSON object parsed on first access (as per EJson.parseObject()).
+   */
+  public static Map<String, Object> parseObject(String rawJson) {
+    return map(rawJson, EJSON_MAP);
+  }
+
+  /**
+   * Return a modify aware List of the JSON array parsed on first access (as per EJson.parseList()).
+   */
+  public static List<Object> parseList(String rawJson) {
+    return list(rawJson, EJSON_LIST);
+  }
+
+  /**
+   * Return a modify aware Set of the JSON array parsed on first access (as per EJson.parseSet()).
+   */
+  public static Set<Object> parseSet(String rawJson) {
+    return set(rawJson, EJSON_SET);
+  }
+
+  /**
+   * Return a modify aware Map parsed on first access using the given parser.
+   */
+  public static <K, V> Map<K, V> map(String rawJson, LazyJsonParser<Map<K, V>> parser) {
+    if (rawJson == null) {
+      return null;
+    }
+    ModifyAwareFlag owner = new ModifyAwareFlag();
+    return new ModifyAwareMap<>(owner, new LazyJsonMap<>(rawJson, owner, parser));
+  }
+
+  /**
+   * Return a modify aware List parsed on first access using the given parser.
+   */
+  public static <E> List<E> list(String rawJson, LazyJsonParser<List<E>> parser) {
+    if (rawJson == null) {
+      return null;
+    }
+    ModifyAwareFlag owner = new ModifyAwareFlag();
+    return new ModifyAwareList<>(owner, new LazyJsonList<>(rawJson, owner, parser));
+  }
+
+  /**
+   * Return a modify aware Set parsed on first access using the given parser.
+   */
+  public static <E> Set<E> set(String rawJson, LazyJsonParser<Set<E>> parser) {
+    if (rawJson == null) {
+      return null;
+    }
+    ModifyAwareFlag owner = new ModifyAwareFlag();
+    return new ModifyAwareSet<>(owner, new LazyJsonSet<>(rawJson, owner, parser));
+  }
+
+  /**
+   * Return the raw JSON content if the value is lazy and has not been parsed (otherwise null).
+   */
+  public static String unparsedJson(Object value) {
+    Object underlying;
+    if (value instanceof ModifyAwareMap) {
+      underlying = ((ModifyAwareMap<?, ?>) value).map;
+    } else if (value instanceof ModifyAwareList) {
+      underlying = ((ModifyAwareList<?>) value).list;
+    } else if (value instanceof ModifyAwareSet) {
+      underlying = ((ModifyAwareSet<?>) value).set;
+    } else {
+      return null;
+    }
+    if (underlying instanceof LazyJsonValue) {
+      return ((LazyJsonValue<?>) underlying).getUnparsedJson();
+    }
+    return null;
+  }
+}
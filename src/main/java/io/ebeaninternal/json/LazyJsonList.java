@@ -0,0 +1,134 @@
+package io.ebeaninternal.json;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * List parsed from the raw JSON content on first access.
+ */
+final class LazyJsonList<E> extends LazyJsonValue<List<E>> implements List<E> {
+
+  private static final long serialVersionUID = 1;
+
+  LazyJsonList(String rawJson, ModifyAwareOwner owner, LazyJsonParser<List<E>> parser) {
+    super(rawJson, owner, parser);
+  }
+
+  @Override
+  public int size() {
+    return value().size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return value().isEmpty();
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return value().contains(o);
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return value().iterator();
+  }
+
+  @Override
+  public Object[] toArray() {
+    return value().toArray();
+  }
+
+  @Override
+  public <T> T[] toArray(T[] a) {
+    //noinspection SuspiciousToArrayCall
+    return value().toArray(a);
+  }
+
+  @Override
+  public boolean add(E e) {
+    return value().add(e);
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    return value().remove(o);
+  }
+
+  @Override
+  public boolean containsAll(Collection<?> c) {
+    return value().containsAll(c);
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends E> c) {
+    return value().addAll(c);
+  }
+
+  @Override
+  public boolean addAll(int index, Collection<? extends E> c) {
+    return value().addAll(index, c);
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    return value().removeAll(c);
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    return value().retainAll(c);
+  }
+
+  @Override
+  public void clear() {
+    value().clear();
+  }
+
+  @Override
+  public E get(int index) {
+    return value().get(index);
+  }
+
+  @Override
+  public E set(int index, E element) {
+    return value().set(index, element);
+  }
+
+  @Override
+  public void add(int index, E element) {
+    value().add(index, element);
+  }
+
+  @Override
+  public E remove(int index) {
+    return value().remove(index);
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    return value().indexOf(o);
+  }
+
+  @Override
+  public int lastIndexOf(Object o) {
+    return value().lastIndexOf(o);
+  }
+
+  @Override
+  public ListIterator<E> listIterator() {
+    return value().listIterator();
+  }
+
+  @Override
+  public ListIterator<E> listIterator(int index) {
+    return value().listIterator(index);
+  }
+
+  @Override
+  public List<E> subList(int fromIndex, int toIndex) {
+    return value().subList(fromIndex, toIndex);
+  }
+}
@@ -0,0 +1,77 @@
+package io.ebeaninternal.json;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Map parsed from the raw JSON content on first access.
+ */
+final class LazyJsonMap<K, V> extends LazyJsonValue<Map<K, V>> implements Map<K, V> {
+
+  private static final long serialVersionUID = 1;
+
+  LazyJsonMap(String rawJson, ModifyAwareOwner owner, LazyJsonParser<Map<K, V>> parser) {
+    super(rawJson, owner, parser);
+  }
+
+  @Override
+  public int size() {
+    return value().size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return value().isEmpty();
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return value().containsKey(key);
+  }
+
+  @Override
+  public boolean containsValue(Object val) {
+    return value().containsValue(val);
+  }
+
+  @Override
+  public V get(Object key) {
+    return value().get(key);
+  }
+
+  @Override
+  public V put(K key, V val) {
+    return value().put(key, val);
+  }
+
+  @Override
+  public V remove(Object key) {
+    return value().remove(key);
+  }
+
+  @Override
+  public void putAll(Map<? extends K, ? extends V> m) {
+    value().putAll(m);
+  }
+
+  @Override
+  public void clear() {
+    value().clear();
+  }
+
+  @Override
+  public Set<K> keySet() {
+    return value().keySet();
+  }
+
+  @Override
+  public Collection<V> values() {
+    return value().values();
+  }
+
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    return value().entrySet();
+  }
+}
@@ -0,0 +1,18 @@
+package io.ebeaninternal.json;
+
+import java.io.IOException;
+
+/**
+ * Parses the raw JSON content of a lazy value on first access.
+ */
+@FunctionalInterface
+public interface LazyJsonParser<T> {
+
+  /**
+   * Parse the raw JSON content.
+   *
+   * @param rawJson The raw JSON content
+   * @param owner   The owner nested modify aware values should use
+   */
+  T parse(String rawJson, ModifyAwareOwner owner) throws IOException;
+}
@@ -0,0 +1,83 @@
+package io.ebeaninternal.json;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Set parsed from the raw JSON content on first access.
+ */
+final class LazyJsonSet<E> extends LazyJsonValue<Set<E>> implements Set<E> {
+
+  private static final long serialVersionUID = 1;
+
+  LazyJsonSet(String rawJson, ModifyAwareOwner owner, LazyJsonParser<Set<E>> parser) {
+    super(rawJson, owner, parser);
+  }
+
+  @Override
+  public int size() {
+    return value().size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return value().isEmpty();
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return value().contains(o);
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return value().iterator();
+  }
+
+  @Override
+  public Object[] toArray() {
+    return value().toArray();
+  }
+
+  @Override
+  public <T> T[] toArray(T[] a) {
+    //noinspection SuspiciousToArrayCall
+    return value().toArray(a);
+  }
+
+  @Override
+  public boolean add(E e) {
+    return value().add(e);
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    return value().remove(o);
+  }
+
+  @Override
+  public boolean containsAll(Collection<?> c) {
+    return value().containsAll(c);
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends E> c) {
+    return value().addAll(c);
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    return value().retainAll(c);
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    return value().removeAll(c);
+  }
+
+  @Override
+  public void clear() {
+    value().clear();
+  }
+}
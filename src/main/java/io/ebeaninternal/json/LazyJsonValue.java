@@ -0,0 +1,92 @@
+package io.ebeaninternal.json;
+
+import io.ebean.text.TextException;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+/**
+ * Holds raw JSON content that is parsed on first access.
+ * <p>
+ * The first access may occur concurrently (e.g. a bean shared via the L2 cache) so parsing
+ * uses double checked locking on the volatile raw JSON. The raw JSON is cleared after the
+ * value is set such that a thread that reads it as null also sees the parsed value.
+ * </p>
+ */
+abstract class LazyJsonValue<T> implements Serializable {
+
+  private static final long serialVersionUID = 1;
+
+  private final ModifyAwareOwner owner;
+
+  private transient LazyJsonParser<T> parser;
+
+  private volatile String rawJson;
+
+  private T value;
+
+  LazyJsonValue(String rawJson, ModifyAwareOwner owner, LazyJsonParser<T> parser) {
+    this.rawJson = rawJson;
+    this.owner = owner;
+    this.parser = parser;
+  }
+
+  /**
+   * Return the raw JSON if the content has not been parsed (and hence not modified).
+   */
+  final String getUnparsedJson() {
+    return rawJson;
+  }
+
+  /**
+   * Return the parsed value (parsing the raw JSON if required).
+   */
+  final T value() {
+    if (rawJson != null) {
+      synchronized (this) {
+        if (rawJson != null) {
+          parse();
+        }
+      }
+    }
+    return value;
+  }
+
+  private void parse() {
+    String json = rawJson;
+    // parsing may reset the dirty state of the owner so restore it
+    boolean dirty = owner.isMarkedDirty();
+    try {
+      value = parser.parse(json, owner);
+    } catch (IOException e) {
+      throw new TextException("Failed to parse JSON content [" + json + "]", e);
+    }
+    parser = null;
+    rawJson = null;
+    if (dirty) {
+      owner.markAsModified();
+    }
+  }
+
+  /**
+   * Serialise as the parsed value.
+   */
+  Object writeReplace() {
+    return value();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return value().equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    return value().hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return value().toString();
+  }
+}
@@ -2,22 +2,31 @@ package io.ebeaninternal.server.cache;
 
 import io.ebeaninternal.server.deploy.BeanDescriptor;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 /**
- * Change to remove bean from L2 cache.
+ * Change to remove beans (of a given type) from L2 cache.
  */
 class CacheChangeBeanRemove implements CacheChange {
 
   private final BeanDescriptor<?> descriptor;
 
-  private final Object id;
+  private final Set<Object> ids = new LinkedHashSet<>();
 
-  CacheChangeBeanRemove(BeanDescriptor<?> descriptor, Object id) {
+  CacheChangeBeanRemove(BeanDescriptor<?> descriptor) {
     this.descriptor = descriptor;
-    this.id = id;
+  }
+
+  /**
+   * Add an id of a bean to remove.
+   */
+  void addId(Object id) {
+    ids.add(id);
   }
 
   @Override
   public void apply() {
-    descriptor.cacheHandleDeleteById(id);
+    descriptor.cacheHandleDeleteByIds(ids);
   }
 }
@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -17,10 +18,18 @@ public class CacheChangeSet {
 
   private final List<CacheChange> entries = new ArrayList<>();
 
-  private final Set<BeanDescriptor<?>> queryCaches = new HashSet<>();
+  /**
+   * Query cache changes by bean type (clear or invalidation by insert, update, delete).
+   */
+  private final Map<BeanDescriptor<?>, QueryChange> queryChangeMap = new LinkedHashMap<>();
 
   private final Map<ManyKey, ManyChange> manyChangeMap = new HashMap<>();
 
+  /**
+   * Bean removes by bean type such that they are applied as bulk removes.
+   */
+  private final Map<BeanDescriptor<?>, CacheChangeBeanRemove> beanRemoveMap = new HashMap<>();
+
   /**
    * Set of "base tables" modified used to invalidate entities based on views.
    */
@@ -41,8 +50,11 @@ public class CacheChangeSet {
    * Return the set of table changes to process invalidation for entities based on views.
    */
   public Set<String> apply() {
-    for (BeanDescriptor<?> entry : queryCaches) {
-      entry.clearQueryCache();
+    if (!queryChangeMap.isEmpty()) {
+      long generation = QueryCacheStamps.nextGeneration();
+      for (QueryChange entry : queryChangeMap.values()) {
+        entry.apply(generation);
+      }
     }
     for (CacheChange entry : entries) {
       entry.apply();
@@ -57,7 +69,33 @@ public class CacheChangeSet {
    * Add an entry to clear a query cache.
    */
   public void addClearQuery(BeanDescriptor<?> descriptor) {
-    queryCaches.add(descriptor);
+    query(descriptor).clear = true;
+  }
+
+  /**
+   * Add an insert that invalidates query cache entries.
+   */
+  public void addQueryInsert(BeanDescriptor<?> descriptor) {
+    query(descriptor).insert = true;
+  }
+
+  /**
+   * Add a delete that invalidates query cache entries.
+   */
+  public void addQueryDelete(BeanDescriptor<?> descriptor) {
+    query(descriptor).delete = true;
+  }
+
+  /**
+   * Add an update of the given columns that invalidates query cache entries depending on those columns.
+   * Null columns means the updated columns are not known.
+   */
+  public void addQueryUpdate(BeanDescriptor<?> descriptor, Set<String> columns) {
+    query(descriptor).addUpdate(columns);
+  }
+
+  private QueryChange query(BeanDescriptor<?> descriptor) {
+    return queryChangeMap.computeIfAbsent(descriptor, QueryChange::new);
   }
 
   /**
@@ -94,12 +132,18 @@ public class CacheChangeSet {
    * Remove a bean from the cache.
    */
   public <T> void addBeanRemove(BeanDescriptor<T> desc, Object id) {
-    entries.add(new CacheChangeBeanRemove(desc, id));
+    beanRemoveMap.computeIfAbsent(desc, this::newBeanRemove).addId(id);
     if (viewEntityInvalidation) {
       viewInvalidation.add(desc.getBaseTable());
     }
   }
 
+  private CacheChangeBeanRemove newBeanRemove(BeanDescriptor<?> desc) {
+    CacheChangeBeanRemove beanRemove = new CacheChangeBeanRemove(desc);
+    entries.add(beanRemove);
+    return beanRemove;
+  }
+
   /**
    * Update a bean entry.
    */
@@ -126,6 +170,48 @@ public class CacheChangeSet {
     return manyChange;
   }
 
+  /**
+   * Changes for the query cache of a bean type.
+   */
+  private static class QueryChange {
+
+    final BeanDescriptor<?> desc;
+
+    boolean clear;
+
+    boolean insert;
+
+    boolean delete;
+
+    boolean update;
+
+    /**
+     * The updated columns (null when not known).
+     */
+    Set<String> updateColumns = new HashSet<>();
+
+    QueryChange(BeanDescriptor<?> desc) {
+      this.desc = desc;
+    }
+
+    void addUpdate(Set<String> columns) {
+      update = true;
+      if (columns == null) {
+        updateColumns = null;
+      } else if (updateColumns != null) {
+        updateColumns.addAll(columns);
+      }
+    }
+
+    void apply(long generation) {
+      if (clear) {
+        desc.clearQueryCache();
+      } else {
+        desc.queryCacheInvalidate(generation, insert, delete, update, updateColumns);
+      }
+    }
+  }
+
   /**
    * Changes for a specific many property.
    */
@@ -133,9 +219,9 @@ public class CacheChangeSet {
 
     final ManyKey key;
 
-    final List<Object> removes = new ArrayList<>();
+    final Set<Object> removes = new LinkedHashSet<>();
 
-    final Map<Object, CachedManyIds> puts = new LinkedHashMap<>();
+    final Map<Object, Object> puts = new LinkedHashMap<>();
 
     boolean clear;
 
@@ -172,11 +258,11 @@ public class CacheChangeSet {
       if (clear) {
         key.cacheClear();
       } else {
-        for (Map.Entry<Object, CachedManyIds> entry : puts.entrySet()) {
-          key.cachePut(entry.getKey(), entry.getValue());
+        if (!puts.isEmpty()) {
+          key.cachePutAll(puts);
         }
-        for (Object parentId : removes) {
-          key.cacheRemove(parentId);
+        if (!removes.isEmpty()) {
+          key.cacheRemoveAll(removes);
         }
       }
     }
@@ -213,12 +299,12 @@ public class CacheChangeSet {
       desc.cacheManyPropClear(manyProperty);
     }
 
-    void cachePut(Object parentId, CachedManyIds entry) {
-      desc.cacheManyPropPut(manyProperty, parentId, entry);
+    void cachePutAll(Map<Object, Object> entries) {
+      desc.cacheManyPropPutAll(manyProperty, entries);
     }
 
-    void cacheRemove(Object parentId) {
-      desc.cacheManyPropRemove(manyProperty, parentId);
+    void cacheRemoveAll(Set<Object> parentIds) {
+      desc.cacheManyPropRemoveAll(manyProperty, parentIds);
     }
   }
 }
@@ -0,0 +1,109 @@
+package io.ebeaninternal.server.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Coalesces concurrent cache misses for the same key (single flight).
+ * <p>
+ * The first thread to miss for a key becomes the loader and executes the query.
+ * Other threads missing on the same key wait for that load to complete and then
+ * read the cache again rather than all executing the same query.
+ * </p>
+ * <p>
+ * The loader must always call {@link #release(Object)} (typically in a finally
+ * block) after it has put the loaded value into the cache or failed.
+ * </p>
+ */
+public final class CacheMissCoalescer {
+
+  /**
+   * Default maximum time a thread waits on an in flight load.
+   */
+  public static final long DEFAULT_WAIT_MILLIS = 10000;
+
+  private final ConcurrentHashMap<Object, CountDownLatch> inFlight = new ConcurrentHashMap<>();
+
+  private final long waitMillis;
+
+  private final LongAdder loadCount = new LongAdder();
+
+  private final LongAdder waitCount = new LongAdder();
+
+  private final LongAdder timeoutCount = new LongAdder();
+
+  public CacheMissCoalescer() {
+    this(DEFAULT_WAIT_MILLIS);
+  }
+
+  public CacheMissCoalescer(long waitMillis) {
+    this.waitMillis = waitMillis;
+  }
+
+  /**
+   * Acquire the load for the given key.
+   * <p>
+   * Returns true if the caller is the loader and must later call release().
+   * Returns false if another load was in flight and it has been waited on (the
+   * caller should read the cache again).
+   * </p>
+   */
+  public boolean acquire(Object key) {
+
+    CountDownLatch latch = new CountDownLatch(1);
+    CountDownLatch existing = inFlight.putIfAbsent(key, latch);
+    if (existing == null) {
+      loadCount.increment();
+      return true;
+    }
+    waitCount.increment();
+    try {
+      if (!existing.await(waitMillis, TimeUnit.MILLISECONDS)) {
+        timeoutCount.increment();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return false;
+  }
+
+  /**
+   * Release the load for the given key waking up any waiting threads.
+   */
+  public void release(Object key) {
+    CountDownLatch latch = inFlight.remove(key);
+    if (latch != null) {
+      latch.countDown();
+    }
+  }
+
+  /**
+   * Return the number of loads currently in flight.
+   */
+  public int inFlightCount() {
+    return inFlight.size();
+  }
+
+  /**
+   * Return the number of loads (cache misses that executed the query).
+   */
+  public long getLoadCount(boolean reset) {
+    return reset ? loadCount.sumThenReset() : loadCount.sum();
+  }
+
+  /**
+   * Return the number of cache misses that waited on an in flight load.
+   */
+  public long getWaitCount(boolean reset) {
+    return reset ? waitCount.sumThenReset() : waitCount.sum();
+  }
+
+  /**
+   * Return the number of waits that timed out before the in flight load completed.
+   */
+  public long getTimeoutCount(boolean reset) {
+    return reset ? timeoutCount.sumThenReset() : timeoutCount.sum();
+  }
+}
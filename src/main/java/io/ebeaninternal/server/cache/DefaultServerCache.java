@@ -2,6 +2,7 @@ package io.ebeaninternal.server.cache;
 
 import io.ebean.BackgroundExecutor;
 import io.ebean.cache.ServerCache;
+import io.ebean.cache.ServerCacheInvalidation;
 import io.ebean.cache.ServerCacheOptions;
 import io.ebean.cache.ServerCacheStatistics;
 import io.ebean.cache.TenantAwareKey;
@@ -15,7 +16,9 @@ import java.util.List;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.LongAdder;
@@ -54,6 +57,10 @@ public class DefaultServerCache implements ServerCache {
   protected final LongAdder evictCount = new LongAdder();
   protected final LongAdder evictMicros = new LongAdder();
 
+  protected final LongAdder invalidateByInsert = new LongAdder();
+  protected final LongAdder invalidateByUpdate = new LongAdder();
+  protected final LongAdder invalidateByDelete = new LongAdder();
+
   protected final String name;
 
   protected int maxSize;
@@ -142,6 +149,10 @@ public class DefaultServerCache implements ServerCache {
     long evictTTL = reset ? evictByTTL.sumThenReset() : evictByTTL.sum();
     long evictLRU = reset ? evictByLRU.sumThenReset() : evictByLRU.sum();
 
+    long invalidInsert = reset ? invalidateByInsert.sumThenReset() : invalidateByInsert.sum();
+    long invalidUpdate = reset ? invalidateByUpdate.sumThenReset() : invalidateByUpdate.sum();
+    long invalidDelete = reset ? invalidateByDelete.sumThenReset() : invalidateByDelete.sum();
+
     int size = size();
 
     cacheStats.setSize(size);
@@ -157,6 +168,9 @@ public class DefaultServerCache implements ServerCache {
     cacheStats.setEvictByIdle(evictIdle);
     cacheStats.setEvictByTTL(evictTTL);
     cacheStats.setEvictByLRU(evictLRU);
+    cacheStats.setInvalidateByInsert(invalidInsert);
+    cacheStats.setInvalidateByUpdate(invalidUpdate);
+    cacheStats.setInvalidateByDelete(invalidDelete);
 
     return cacheStats;
   }
@@ -194,7 +208,7 @@ public class DefaultServerCache implements ServerCache {
   /**
    * Return the tenant aware key.
    */
-  private Object key(Object id) {
+  protected Object key(Object id) {
     return tenantAwareKey.key(id);
   }
 
@@ -217,6 +231,58 @@ public class DefaultServerCache implements ServerCache {
     }
   }
 
+  /**
+   * Return the values for the given keys.
+   */
+  @Override
+  public Map<Object, Object> getAll(Set<Object> keys) {
+
+    Map<Object, Object> values = new LinkedHashMap<>();
+    long hits = 0;
+    for (Object id : keys) {
+      CacheEntry entry = map.get(key(id));
+      if (entry != null) {
+        values.put(id, entry.getValue());
+        hits++;
+      }
+    }
+    hitCount.add(hits);
+    missCount.add(keys.size() - hits);
+    return values;
+  }
+
+  /**
+   * Put all the values into the cache.
+   */
+  @Override
+  public void putAll(Map<Object, Object> keyValues) {
+
+    long inserts = 0;
+    for (Map.Entry<Object, Object> entry : keyValues.entrySet()) {
+      Object key = key(entry.getKey());
+      if (map.put(key, new CacheEntry(key, entry.getValue())) == null) {
+        inserts++;
+      }
+    }
+    insertCount.add(inserts);
+    updateCount.add(keyValues.size() - inserts);
+  }
+
+  /**
+   * Remove the entries from the cache.
+   */
+  @Override
+  public void removeAll(Set<Object> keys) {
+
+    long removes = 0;
+    for (Object id : keys) {
+      if (map.remove(key(id)) != null) {
+        removes++;
+      }
+    }
+    removeCount.add(removes);
+  }
+
   /**
    * Put a value into the cache.
    */
@@ -249,6 +315,29 @@ public class DefaultServerCache implements ServerCache {
     }
   }
 
+  /**
+   * Remove a stale entry returned by get() counting it as a miss (rather than hit) and by cause.
+   */
+  @Override
+  public void invalidate(Object id, ServerCacheInvalidation cause) {
+
+    if (remove(id) != null) {
+      removeCount.decrement();
+      hitCount.decrement();
+      missCount.increment();
+      switch (cause) {
+        case INSERT:
+          invalidateByInsert.increment();
+          break;
+        case UPDATE:
+          invalidateByUpdate.increment();
+          break;
+        default:
+          invalidateByDelete.increment();
+      }
+    }
+  }
+
   /**
    * Return the number of elements in the cache.
    */
@@ -257,6 +346,20 @@ public class DefaultServerCache implements ServerCache {
     return map.size();
   }
 
+  /**
+   * Return the values currently held in the cache.
+   * <p>
+   * This does not record an access so does not change the LRU order.
+   * </p>
+   */
+  public List<Object> values() {
+    List<Object> values = new ArrayList<>(map.size());
+    for (CacheEntry entry : map.values()) {
+      values.add(entry.peekValue());
+    }
+    return values;
+  }
+
   /**
    * Return the size to trim to based on the max size.
    * <p>
@@ -399,6 +502,13 @@ public class DefaultServerCache implements ServerCache {
       return value;
     }
 
+    /**
+     * Return the entry value without updating the last access time.
+     */
+    public Object peekValue() {
+      return value;
+    }
+
     /**
      * Return the time the entry was created.
      */
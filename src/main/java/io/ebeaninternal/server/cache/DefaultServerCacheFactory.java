@@ -7,6 +7,9 @@ import io.ebean.cache.ServerCacheOptions;
 import io.ebean.cache.ServerCacheType;
 import io.ebean.config.CurrentTenantProvider;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 
 /**
  * Default implementation of ServerCacheFactory.
@@ -15,28 +18,48 @@ class DefaultServerCacheFactory implements ServerCacheFactory {
 
   private final BackgroundExecutor executor;
 
+  /**
+   * The cache types that use the size bounded W-TinyLFU cache.
+   */
+  private final Set<ServerCacheType> boundedTypes;
+
   /**
    * Construct when l2 cache is disabled.
    */
   public DefaultServerCacheFactory() {
-    this.executor = null;
+    this(null, EnumSet.noneOf(ServerCacheType.class));
   }
 
   /**
    * Construct with executor service.
    */
   public DefaultServerCacheFactory(BackgroundExecutor executor) {
+    this(executor, EnumSet.noneOf(ServerCacheType.class));
+  }
+
+  /**
+   * Construct with executor service and the cache types that use the size bounded cache.
+   */
+  public DefaultServerCacheFactory(BackgroundExecutor executor, Set<ServerCacheType> boundedTypes) {
     this.executor = executor;
+    this.boundedTypes = (boundedTypes == null) ? EnumSet.noneOf(ServerCacheType.class) : boundedTypes;
   }
 
   @Override
   public ServerCache createCache(ServerCacheType type, String cacheKey, CurrentTenantProvider tenantProvider, ServerCacheOptions cacheOptions) {
 
-    DefaultServerCache cache = new DefaultServerCache(cacheKey, tenantProvider, cacheOptions);
+    DefaultServerCache cache = createDefaultCache(type, cacheKey, tenantProvider, cacheOptions);
     if (executor != null) {
       cache.periodicTrim(executor);
     }
     return cache;
   }
 
+  private DefaultServerCache createDefaultCache(ServerCacheType type, String cacheKey, CurrentTenantProvider tenantProvider, ServerCacheOptions cacheOptions) {
+    if (boundedTypes.contains(type)) {
+      return new TinyLfuServerCache(cacheKey, tenantProvider, cacheOptions);
+    }
+    return new DefaultServerCache(cacheKey, tenantProvider, cacheOptions);
+  }
+
 }
@@ -15,6 +15,6 @@ public class DefaultServerCachePlugin implements ServerCachePlugin {
    */
   @Override
   public ServerCacheFactory create(ServerConfig config, BackgroundExecutor executor) {
-    return new DefaultServerCacheFactory(executor);
+    return new DefaultServerCacheFactory(executor, config.getBoundedCacheTypes());
   }
 }
@@ -0,0 +1,114 @@
+package io.ebeaninternal.server.cache;
+
+import java.util.Arrays;
+
+/**
+ * A probabilistic estimate of the access frequency of keys (Count-Min sketch with 4 bit counters).
+ * <p>
+ * Used by TinyLfuServerCache as the admission policy. Each key maps to 4 counters (one per
+ * hash function) held in 64 bit longs with 16 counters per long. The estimated frequency is
+ * the minimum of the 4 counters. When the number of increments reaches the sample size all
+ * the counters are halved so that the sketch ages out old popularity.
+ * </p>
+ * <p>
+ * This is not thread safe and is expected to be guarded by the cache eviction lock.
+ * </p>
+ */
+final class FrequencySketch {
+
+  private static final long[] SEED = {
+    0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+
+  private static final long RESET_MASK = 0x7777777777777777L;
+
+  private static final long ONE_MASK = 0x1111111111111111L;
+
+  private final long[] table;
+
+  private final int tableMask;
+
+  private final int sampleSize;
+
+  private int size;
+
+  /**
+   * Create with a capacity that is typically the maximum size of the cache.
+   */
+  FrequencySketch(int maximumSize) {
+    int capacity = ceilingPowerOfTwo(Math.max(maximumSize, 16));
+    this.table = new long[capacity];
+    this.tableMask = capacity - 1;
+    this.sampleSize = 10 * Math.max(maximumSize, 16);
+  }
+
+  static int ceilingPowerOfTwo(int x) {
+    if (x >= (1 << 30)) {
+      return 1 << 30;
+    }
+    return 1 << -Integer.numberOfLeadingZeros(x - 1);
+  }
+
+  /**
+   * Return the estimated number of occurrences of the given hash (0 to 15).
+   */
+  int frequency(int hash) {
+    int start = (hash & 3) << 2;
+    int frequency = Integer.MAX_VALUE;
+    for (int i = 0; i < 4; i++) {
+      int index = indexOf(hash, i);
+      int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+      frequency = Math.min(frequency, count);
+    }
+    return frequency;
+  }
+
+  /**
+   * Increment the popularity of the given hash (if not already at the maximum of 15).
+   */
+  void increment(int hash) {
+    int start = (hash & 3) << 2;
+    boolean added = false;
+    for (int i = 0; i < 4; i++) {
+      added |= incrementAt(indexOf(hash, i), start + i);
+    }
+    if (added && ++size == sampleSize) {
+      reset();
+    }
+  }
+
+  /**
+   * Clear all the counters.
+   */
+  void clear() {
+    Arrays.fill(table, 0L);
+    size = 0;
+  }
+
+  private boolean incrementAt(int i, int j) {
+    int offset = j << 2;
+    long mask = (0xfL << offset);
+    if ((table[i] & mask) != mask) {
+      table[i] += (1L << offset);
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Halve all the counters (aging).
+   */
+  private void reset() {
+    int count = 0;
+    for (int i = 0; i < table.length; i++) {
+      count += Long.bitCount(table[i] & ONE_MASK);
+      table[i] = (table[i] >>> 1) & RESET_MASK;
+    }
+    size = (size >>> 1) - (count >>> 2);
+  }
+
+  private int indexOf(int item, int i) {
+    long hash = (item + SEED[i]) * SEED[i];
+    hash += (hash >>> 32);
+    return ((int) hash) & tableMask;
+  }
+}
@@ -0,0 +1,51 @@
+package io.ebeaninternal.server.cache;
+
+/**
+ * A query result held in the query cache.
+ * <p>
+ * Holds the generation at which the query was executed and the columns the query
+ * depends on such that the entry can be validated against later changes when it is read.
+ * </p>
+ */
+public final class QueryCacheEntry {
+
+  private final Object value;
+
+  private final String[] dependentColumns;
+
+  private final long generation;
+
+  /**
+   * Create with the query result, the columns it depends on and the generation at which the query executed.
+   *
+   * @param value            The query result
+   * @param dependentColumns The (lower case) columns the query depends on or null for all columns
+   * @param generation       The generation obtained prior to executing the query
+   */
+  public QueryCacheEntry(Object value, String[] dependentColumns, long generation) {
+    this.value = value;
+    this.dependentColumns = dependentColumns;
+    this.generation = generation;
+  }
+
+  /**
+   * Return the query result.
+   */
+  public Object getValue() {
+    return value;
+  }
+
+  /**
+   * Return the columns the query depends on (null means all columns).
+   */
+  public String[] getDependentColumns() {
+    return dependentColumns;
+  }
+
+  /**
+   * Return the generation obtained prior to executing the query.
+   */
+  public long getGeneration() {
+    return generation;
+  }
+}
@@ -0,0 +1,177 @@
+package io.ebeaninternal.server.cache;
+
+import io.ebean.cache.ServerCacheInvalidation;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records the generation of the last insert, delete and column updates for a bean type.
+ * <p>
+ * Rather than clearing the whole query cache of a bean type on every change, each
+ * {@link QueryCacheEntry} holds the generation obtained before its query executed
+ * and the columns its sql refers to. When an entry is read it is validated against
+ * these stamps such that an update only invalidates cached queries that refer to one
+ * of the updated columns (in the select, where or order by clause).
+ * </p>
+ * <p>
+ * With inheritance each bean type in the hierarchy has its own stamps and changes are
+ * also applied to the ancestors. A change to one subtype therefore does not invalidate
+ * cached queries on other subtypes (with a different discriminator value).
+ * </p>
+ */
+public final class QueryCacheStamps {
+
+  /**
+   * Column stamped on every update such that queries using select * are always invalidated.
+   */
+  private static final String ALL = "*";
+
+  private static final AtomicLong generation = new AtomicLong();
+
+  private final AtomicLong insertStamp = new AtomicLong();
+
+  private final AtomicLong deleteStamp = new AtomicLong();
+
+  /**
+   * Stamp of the last update (of any columns).
+   */
+  private final AtomicLong updateStamp = new AtomicLong();
+
+  /**
+   * Stamp of the last update where the updated columns are not known.
+   */
+  private final AtomicLong updateAllStamp = new AtomicLong();
+
+  private final ConcurrentHashMap<String, Long> columnStamps = new ConcurrentHashMap<>();
+
+  /**
+   * Return the current generation. This is obtained before executing a query that will be put into the cache.
+   */
+  public static long currentGeneration() {
+    return generation.get();
+  }
+
+  /**
+   * Return a new generation used to stamp a change.
+   */
+  public static long nextGeneration() {
+    return generation.incrementAndGet();
+  }
+
+  /**
+   * Stamp an insert.
+   */
+  public void inserted(long gen) {
+    insertStamp.accumulateAndGet(gen, Math::max);
+  }
+
+  /**
+   * Stamp a delete.
+   */
+  public void deleted(long gen) {
+    deleteStamp.accumulateAndGet(gen, Math::max);
+  }
+
+  /**
+   * Stamp an update of the given (lower case) columns. Null columns means the updated columns are not known.
+   */
+  public void updated(long gen, Set<String> columns) {
+    if (columns == null) {
+      updateAllStamp.accumulateAndGet(gen, Math::max);
+    } else {
+      for (String column : columns) {
+        columnStamps.merge(column, gen, Math::max);
+      }
+      columnStamps.merge(ALL, gen, Math::max);
+    }
+    updateStamp.accumulateAndGet(gen, Math::max);
+  }
+
+  /**
+   * Return the cause if the entry has been invalidated by a later change or null if it is still valid.
+   */
+  public ServerCacheInvalidation check(QueryCacheEntry entry) {
+
+    long gen = entry.getGeneration();
+    if (deleteStamp.get() > gen) {
+      return ServerCacheInvalidation.DELETE;
+    }
+    if (insertStamp.get() > gen) {
+      return ServerCacheInvalidation.INSERT;
+    }
+    if (updateStamp.get() > gen) {
+      String[] columns = entry.getDependentColumns();
+      if (columns == null || updateAllStamp.get() > gen) {
+        return ServerCacheInvalidation.UPDATE;
+      }
+      for (String column : columns) {
+        Long stamp = columnStamps.get(column);
+        if (stamp != null && stamp > gen) {
+          return ServerCacheInvalidation.UPDATE;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Return the (lower case) identifiers in the sql that potentially are columns the query depends on.
+   * <p>
+   * This is deliberately conservative in that any identifier (including table names, aliases
+   * and keywords) is included. A select * (outside of count(*)) is returned as "*" which is
+   * stamped on every update.
+   * </p>
+   */
+  public static String[] dependentColumns(String sql) {
+
+    Set<String> columns = new LinkedHashSet<>();
+    String lower = sql.toLowerCase();
+    if (lower.replace("count(*)", "").indexOf('*') > -1) {
+      columns.add(ALL);
+    }
+    int len = lower.length();
+    int start = -1;
+    for (int i = 0; i <= len; i++) {
+      char ch = (i < len) ? lower.charAt(i) : ' ';
+      if (isIdentifierChar(ch)) {
+        if (start == -1) {
+          start = i;
+        }
+      } else if (start > -1) {
+        if (!Character.isDigit(lower.charAt(start))) {
+          columns.add(lower.substring(start, i));
+        }
+        start = -1;
+      }
+    }
+    return columns.toArray(new String[columns.size()]);
+  }
+
+  /**
+   * Return the column name to stamp for the given db column or null if it can not be matched to the sql.
+   */
+  public static String column(String dbColumn) {
+
+    if (dbColumn == null) {
+      return null;
+    }
+    StringBuilder sb = new StringBuilder(dbColumn.length());
+    for (int i = 0; i < dbColumn.length(); i++) {
+      char ch = Character.toLowerCase(dbColumn.charAt(i));
+      if (isIdentifierChar(ch)) {
+        sb.append(ch);
+      } else if (ch != '"' && ch != '`' && ch != '[' && ch != ']') {
+        // not a simple identifier so can not match against the sql identifiers
+        return null;
+      }
+    }
+    return sb.length() == 0 ? null : sb.toString();
+  }
+
+  private static boolean isIdentifierChar(char ch) {
+    return ch == '_' || ch == '$' || Character.isLetterOrDigit(ch);
+  }
+}
@@ -0,0 +1,585 @@
+package io.ebeaninternal.server.cache;
+
+import io.ebean.cache.ServerCacheOptions;
+import io.ebean.config.CurrentTenantProvider;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Size bounded cache using the W-TinyLFU eviction policy.
+ * <p>
+ * Unlike DefaultServerCache (which only enforces maxSize when the periodic trim runs) this
+ * cache enforces maxSize on every put with amortized O(1) eviction. Entries are first added
+ * to a small LRU 'window' (1% of maxSize) and then compete for a place in the main segmented
+ * LRU (probation and protected). A candidate leaving the window is only admitted to the main
+ * space when its estimated frequency (from a {@link FrequencySketch}) is greater than the
+ * frequency of the probation victim it would replace.
+ * </p>
+ * <p>
+ * Reads record access using tryLock such that under heavy contention some access reordering is
+ * skipped rather than having readers block on each other.
+ * </p>
+ * <p>
+ * The maxIdleSecs and maxSecsToLive options are checked on get and also by the periodic trim.
+ * </p>
+ */
+public class TinyLfuServerCache extends DefaultServerCache {
+
+  static final byte NONE = 0;
+  static final byte WINDOW = 1;
+  static final byte PROBATION = 2;
+  static final byte PROTECTED = 3;
+
+  private final ReentrantLock evictionLock = new ReentrantLock();
+
+  private final FrequencySketch sketch;
+
+  private final AccessOrderDeque window = new AccessOrderDeque();
+
+  private final AccessOrderDeque probation = new AccessOrderDeque();
+
+  private final AccessOrderDeque protectedDeque = new AccessOrderDeque();
+
+  private final int windowMax;
+
+  private final int protectedMax;
+
+  /**
+   * Construct using a ConcurrentHashMap and cache options.
+   */
+  public TinyLfuServerCache(String name, CurrentTenantProvider tenantProvider, ServerCacheOptions options) {
+    super(name, new ConcurrentHashMap<>(), tenantProvider, options);
+    int max = Math.max(maxSize, 0);
+    this.sketch = new FrequencySketch(max);
+    this.windowMax = Math.max(1, max / 100);
+    this.protectedMax = (max - windowMax) * 80 / 100;
+  }
+
+  /**
+   * Return true if the cache is bounded by maxSize.
+   */
+  private boolean isBounded() {
+    return maxSize > 0;
+  }
+
+  /**
+   * Return the key hash spread for use with the frequency sketch.
+   */
+  private static int spread(Object key) {
+    int h = key.hashCode();
+    return (h ^ (h >>> 16)) * 0x45d9f3b;
+  }
+
+  @Override
+  public void clear() {
+    evictionLock.lock();
+    try {
+      clearCount.increment();
+      map.clear();
+      window.clear();
+      probation.clear();
+      protectedDeque.clear();
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  /**
+   * Return the number of entries in the window, probation and protected deques.
+   */
+  int policySize() {
+    evictionLock.lock();
+    try {
+      return window.size + probation.size + protectedDeque.size;
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  @Override
+  public Object get(Object id) {
+
+    Object key = key(id);
+    Node node = (Node) map.get(key);
+    if (node == null) {
+      missCount.increment();
+      if (isBounded() && evictionLock.tryLock()) {
+        try {
+          sketch.increment(spread(key));
+        } finally {
+          evictionLock.unlock();
+        }
+      }
+      return null;
+    }
+
+    if (isExpired(node, System.nanoTime())) {
+      missCount.increment();
+      return null;
+    }
+
+    hitCount.increment();
+    Object value = node.getValue();
+    if (isBounded() && evictionLock.tryLock()) {
+      // lossy, skip recording the access when the lock is contended
+      try {
+        onAccess(node);
+      } finally {
+        evictionLock.unlock();
+      }
+    }
+    return value;
+  }
+
+  @Override
+  public Object put(Object id, Object value) {
+
+    Object key = key(id);
+    Node node = new Node(key, value, spread(key));
+    Node old = (Node) map.put(key, node);
+    if (old == null) {
+      insertCount.increment();
+    } else {
+      updateCount.increment();
+    }
+
+    if (isBounded()) {
+      evictionLock.lock();
+      try {
+        onWrite(node, old);
+      } finally {
+        evictionLock.unlock();
+      }
+    }
+    return (old == null) ? null : old.getValue();
+  }
+
+  @Override
+  public Object remove(Object id) {
+
+    Node node = (Node) map.remove(key(id));
+    if (node == null) {
+      return null;
+    }
+    removeCount.increment();
+    if (isBounded()) {
+      evictionLock.lock();
+      try {
+        unlink(node);
+      } finally {
+        evictionLock.unlock();
+      }
+    }
+    return node.getValue();
+  }
+
+  /**
+   * Return the values for the given keys recording the accesses with a single lock acquisition.
+   */
+  @Override
+  public Map<Object, Object> getAll(Set<Object> keys) {
+
+    Map<Object, Object> values = new LinkedHashMap<>();
+    List<Object> missKeys = new ArrayList<>();
+    List<Node> hitNodes = new ArrayList<>(keys.size());
+    long now = System.nanoTime();
+
+    for (Object id : keys) {
+      Object key = key(id);
+      Node node = (Node) map.get(key);
+      if (node == null || isExpired(node, now)) {
+        missKeys.add(key);
+      } else {
+        values.put(id, node.getValue());
+        hitNodes.add(node);
+      }
+    }
+    hitCount.add(hitNodes.size());
+    missCount.add(missKeys.size());
+
+    if (isBounded() && evictionLock.tryLock()) {
+      try {
+        for (Node node : hitNodes) {
+          onAccess(node);
+        }
+        for (Object key : missKeys) {
+          sketch.increment(spread(key));
+        }
+      } finally {
+        evictionLock.unlock();
+      }
+    }
+    return values;
+  }
+
+  /**
+   * Put all the values applying the eviction policy with a single lock acquisition.
+   */
+  @Override
+  public void putAll(Map<Object, Object> keyValues) {
+
+    List<Node> nodes = new ArrayList<>(keyValues.size());
+    List<Node> olds = new ArrayList<>(keyValues.size());
+    long inserts = 0;
+    for (Map.Entry<Object, Object> entry : keyValues.entrySet()) {
+      Object key = key(entry.getKey());
+      Node node = new Node(key, entry.getValue(), spread(key));
+      Node old = (Node) map.put(key, node);
+      if (old == null) {
+        inserts++;
+      }
+      nodes.add(node);
+      olds.add(old);
+    }
+    insertCount.add(inserts);
+    updateCount.add(keyValues.size() - inserts);
+
+    if (isBounded()) {
+      evictionLock.lock();
+      try {
+        for (int i = 0; i < nodes.size(); i++) {
+          onWrite(nodes.get(i), olds.get(i));
+        }
+      } finally {
+        evictionLock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Remove the entries with a single lock acquisition.
+   */
+  @Override
+  public void removeAll(Set<Object> keys) {
+
+    List<Node> removed = new ArrayList<>(keys.size());
+    for (Object id : keys) {
+      Node node = (Node) map.remove(key(id));
+      if (node != null) {
+        removed.add(node);
+      }
+    }
+    removeCount.add(removed.size());
+
+    if (isBounded() && !removed.isEmpty()) {
+      evictionLock.lock();
+      try {
+        for (Node node : removed) {
+          unlink(node);
+        }
+      } finally {
+        evictionLock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Return true if the entry has expired by idle time or time to live in which case it is also removed.
+   */
+  private boolean isExpired(Node node, long nowNanos) {
+
+    if (maxIdleSecs > 0 && nowNanos - node.getLastAccessTime() > TimeUnit.SECONDS.toNanos(maxIdleSecs)) {
+      if (expire(node)) {
+        evictByIdle.increment();
+      }
+      return true;
+    }
+    if (maxSecsToLive > 0 && nowNanos - node.getCreateTime() > TimeUnit.SECONDS.toNanos(maxSecsToLive)) {
+      if (expire(node)) {
+        evictByTTL.increment();
+      }
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Remove the expired node returning true if it was removed by this call.
+   */
+  private boolean expire(Node node) {
+    if (!map.remove(node.getKey(), node)) {
+      return false;
+    }
+    if (isBounded()) {
+      evictionLock.lock();
+      try {
+        unlink(node);
+      } finally {
+        evictionLock.unlock();
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Periodic trim only needs to remove entries by idle time and time to live as maxSize
+   * is enforced on each put.
+   */
+  @Override
+  public void runEviction() {
+
+    if (maxIdleSecs == 0 && maxSecsToLive == 0) {
+      return;
+    }
+
+    long startNanos = System.nanoTime();
+    long idleCount = evictByIdle.sum();
+    long ttlCount = evictByTTL.sum();
+
+    List<CacheEntry> entries = new ArrayList<>(map.values());
+    for (CacheEntry entry : entries) {
+      isExpired((Node) entry, startNanos);
+    }
+
+    long exeMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+    evictMicros.add(exeMicros);
+    evictCount.increment();
+
+    if (logger.isTraceEnabled()) {
+      logger.trace("Executed trim of cache {} in [{}]micros idle[{}] timeToLive[{}]"
+        , name, exeMicros, evictByIdle.sum() - idleCount, evictByTTL.sum() - ttlCount);
+    }
+  }
+
+  /**
+   * Record a read access (guarded by the eviction lock).
+   */
+  private void onAccess(Node node) {
+
+    sketch.increment(node.hash);
+    switch (node.queue) {
+      case WINDOW:
+        window.moveToBack(node);
+        break;
+      case PROBATION:
+        // promote to protected
+        probation.remove(node);
+        protectedDeque.addLast(node);
+        node.queue = PROTECTED;
+        demoteProtected();
+        break;
+      case PROTECTED:
+        protectedDeque.moveToBack(node);
+        break;
+      default:
+        // removed or evicted concurrently
+    }
+  }
+
+  /**
+   * Record a put (guarded by the eviction lock).
+   */
+  private void onWrite(Node node, Node old) {
+
+    sketch.increment(node.hash);
+    boolean current = map.get(node.getKey()) == node;
+    if (old != null && old.queue != NONE) {
+      if (current) {
+        // replace in the same position
+        dequeFor(old.queue).replace(old, node);
+        node.queue = old.queue;
+        old.queue = NONE;
+      } else {
+        unlink(old);
+      }
+      return;
+    }
+    if (!current) {
+      // replaced or removed concurrently
+      return;
+    }
+    window.addLast(node);
+    node.queue = WINDOW;
+    evict();
+  }
+
+  /**
+   * Move entries from the window to probation and evict from the main space
+   * such that the cache size does not exceed maxSize.
+   */
+  private void evict() {
+
+    int candidates = 0;
+    while (window.size > windowMax) {
+      Node node = window.pollFirst();
+      probation.addLast(node);
+      node.queue = PROBATION;
+      candidates++;
+    }
+
+    while (window.size + probation.size + protectedDeque.size > maxSize) {
+      Node victim = probation.first;
+      Node candidate = (candidates > 0) ? probation.last : null;
+      if (victim == null) {
+        // everything in protected or window
+        victim = (protectedDeque.first != null) ? protectedDeque.first : window.first;
+        evictNode(victim);
+        continue;
+      }
+      if (candidate == null || candidate == victim) {
+        evictNode(victim);
+      } else if (sketch.frequency(candidate.hash) > sketch.frequency(victim.hash)) {
+        // admit the candidate
+        evictNode(victim);
+      } else {
+        // reject the candidate
+        evictNode(candidate);
+      }
+      if (candidates > 0) {
+        candidates--;
+      }
+    }
+  }
+
+  /**
+   * Demote the least recently used protected entries to probation when protected is over its max.
+   */
+  private void demoteProtected() {
+    while (protectedDeque.size > protectedMax) {
+      Node node = protectedDeque.pollFirst();
+      probation.addLast(node);
+      node.queue = PROBATION;
+    }
+  }
+
+  private void evictNode(Node node) {
+    unlink(node);
+    if (map.remove(node.getKey(), node)) {
+      evictByLRU.increment();
+    }
+  }
+
+  private void unlink(Node node) {
+    if (node.queue != NONE) {
+      dequeFor(node.queue).remove(node);
+      node.queue = NONE;
+    }
+  }
+
+  private AccessOrderDeque dequeFor(byte queue) {
+    switch (queue) {
+      case WINDOW:
+        return window;
+      case PROBATION:
+        return probation;
+      default:
+        return protectedDeque;
+    }
+  }
+
+  /**
+   * Cache entry that is also a node in one of the access order deques.
+   */
+  static final class Node extends CacheEntry {
+
+    final int hash;
+
+    byte queue;
+
+    Node prev;
+
+    Node next;
+
+    Node(Object key, Object value, int hash) {
+      super(key, value);
+      this.hash = hash;
+    }
+  }
+
+  /**
+   * Doubly linked list of nodes in access order (least recently used first).
+   */
+  static final class AccessOrderDeque {
+
+    Node first;
+
+    Node last;
+
+    int size;
+
+    /**
+     * Clear unlinking each node such that a node still referenced by a concurrent
+     * get or put is seen as no longer in any deque.
+     */
+    void clear() {
+      Node node = first;
+      while (node != null) {
+        Node next = node.next;
+        node.prev = null;
+        node.next = null;
+        node.queue = NONE;
+        node = next;
+      }
+      first = null;
+      last = null;
+      size = 0;
+    }
+
+    void addLast(Node node) {
+      node.prev = last;
+      node.next = null;
+      if (last == null) {
+        first = node;
+      } else {
+        last.next = node;
+      }
+      last = node;
+      size++;
+    }
+
+    Node pollFirst() {
+      Node node = first;
+      if (node != null) {
+        remove(node);
+      }
+      return node;
+    }
+
+    void remove(Node node) {
+      if (node.prev == null) {
+        first = node.next;
+      } else {
+        node.prev.next = node.next;
+      }
+      if (node.next == null) {
+        last = node.prev;
+      } else {
+        node.next.prev = node.prev;
+      }
+      node.prev = null;
+      node.next = null;
+      size--;
+    }
+
+    void moveToBack(Node node) {
+      if (node != last) {
+        remove(node);
+        addLast(node);
+      }
+    }
+
+    void replace(Node old, Node node) {
+      node.prev = old.prev;
+      node.next = old.next;
+      if (old.prev == null) {
+        first = node;
+      } else {
+        old.prev.next = node;
+      }
+      if (old.next == null) {
+        last = node;
+      } else {
+        old.next.prev = node;
+      }
+      old.prev = null;
+      old.next = null;
+    }
+  }
+}
@@ -2,13 +2,21 @@ package io.ebeaninternal.server.cluster;
 
 import io.ebean.EbeanServer;
 import io.ebean.config.ContainerConfig;
+import io.ebeaninternal.api.SpiEbeanServer;
 import io.ebeaninternal.server.transaction.RemoteTransactionEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
 import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Manages the cluster service.
@@ -25,21 +33,56 @@ public class ClusterManager {
 
   private final ClusterBroadcast broadcast;
 
+  private final ClusterMessageCodec codec;
+
+  private final int coalesceMillis;
+
+  /**
+   * Events waiting to be broadcast keyed by server name (when coalescing).
+   */
+  private final Map<String, RemoteTransactionEvent> pending = new LinkedHashMap<>();
+
+  private final ScheduledExecutorService coalesceExecutor;
+
+  private boolean flushScheduled;
+
   private boolean started;
 
+  private volatile boolean shutdown;
+
   public ClusterManager(ContainerConfig config) {
-    if (!config.isClusterActive()) {
-      broadcast = null;
+    this(config, config.isClusterActive() ? createFactory(config.getProperties()) : null);
+  }
+
+  ClusterManager(ContainerConfig config, ClusterBroadcastFactory factory) {
+    this.codec = new ClusterMessageCodec(config.getClusterCompressThreshold());
+    if (factory == null) {
+      this.broadcast = null;
+      this.coalesceMillis = 0;
+      this.coalesceExecutor = null;
     } else {
-      ClusterBroadcastFactory factory = createFactory();
-      broadcast = factory.create(this, config.getProperties());
+      this.broadcast = factory.create(this, config.getProperties());
+      this.coalesceMillis = config.getClusterCoalesceMillis();
+      this.coalesceExecutor = (coalesceMillis <= 0) ? null : Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "ebean-cluster-coalesce");
+        thread.setDaemon(true);
+        return thread;
+      });
     }
   }
 
   /**
    * Return the ClusterTransportFactory via ServiceLoader.
+   * <p>
+   * With <code>ebean.cluster.type=loopback</code> the built in LoopbackClusterBroadcast is used
+   * which connects the cluster members in the same JVM (for testing).
+   * </p>
    */
-  private ClusterBroadcastFactory createFactory() {
+  private static ClusterBroadcastFactory createFactory(Properties properties) {
+
+    if (properties != null && "loopback".equalsIgnoreCase(properties.getProperty("ebean.cluster.type"))) {
+      return new LoopbackClusterBroadcastFactory();
+    }
 
     ServiceLoader<ClusterBroadcastFactory> load = ServiceLoader.load(ClusterBroadcastFactory.class);
     ClusterBroadcastFactory factory = null;
@@ -49,7 +92,8 @@ public class ClusterManager {
     }
     if (factory == null) {
       throw new IllegalStateException("No ClusterTransportFactory found in classpath. "
-        + " Probably need to add the avaje-ebeanorm-cluster dependency");
+        + " Probably need to add the avaje-ebeanorm-cluster dependency"
+        + " (or use ebean.cluster.type=loopback for cluster members in the same JVM)");
     }
     return factory;
   }
@@ -83,24 +127,104 @@ public class ClusterManager {
     return broadcast != null;
   }
 
+  /**
+   * Encode the event in compact form (for sending to the other cluster members).
+   */
+  public byte[] encode(RemoteTransactionEvent event) throws IOException {
+    return codec.encode(event);
+  }
+
+  /**
+   * Decode a compact message sent by another cluster member.
+   * <p>
+   * Returns null if the server the event is for is not registered with this instance.
+   * Otherwise the returned event has its server set and is typically then executed via run().
+   * </p>
+   */
+  public RemoteTransactionEvent decode(byte[] message) throws IOException {
+    return codec.decode(message, name -> (SpiEbeanServer) getServer(name));
+  }
+
   /**
    * Send the message headers and payload to every server in the cluster.
+   * <p>
+   * When coalescing is on the event is merged with other events for the same server
+   * and broadcast at the end of the coalescing window.
+   * </p>
    */
   public void broadcast(RemoteTransactionEvent event) {
     if (broadcast != null) {
-      if (clusterLogger.isDebugEnabled()) {
-        clusterLogger.debug("sending: {}", event);
+      if (coalesceExecutor == null) {
+        if (shutdown) {
+          dropAfterShutdown(event);
+        } else {
+          send(event);
+        }
+      } else {
+        synchronized (pending) {
+          if (shutdown) {
+            dropAfterShutdown(event);
+            return;
+          }
+          pending.computeIfAbsent(event.getServerName(), RemoteTransactionEvent::new).merge(event);
+          if (!flushScheduled) {
+            coalesceExecutor.schedule(this::flush, coalesceMillis, TimeUnit.MILLISECONDS);
+            flushScheduled = true;
+          }
+        }
+      }
+    }
+  }
+
+  private void dropAfterShutdown(RemoteTransactionEvent event) {
+    logger.warn("ClusterManager shutdown - not broadcasting {}", event);
+  }
+
+  /**
+   * Broadcast the pending (coalesced) events.
+   */
+  void flush() {
+    RemoteTransactionEvent[] events;
+    synchronized (pending) {
+      flushScheduled = false;
+      events = pending.values().toArray(new RemoteTransactionEvent[0]);
+      pending.clear();
+    }
+    for (RemoteTransactionEvent event : events) {
+      try {
+        send(event);
+      } catch (Exception e) {
+        logger.error("Error broadcasting cluster event", e);
       }
-      broadcast.broadcast(event);
     }
   }
 
+  private void send(RemoteTransactionEvent event) {
+    if (clusterLogger.isDebugEnabled()) {
+      clusterLogger.debug("sending: {}", event);
+    }
+    broadcast.broadcast(event);
+  }
+
   /**
    * Shutdown the service and Deregister from the cluster.
    */
   public void shutdown() {
+    synchronized (monitor) {
+      if (shutdown) {
+        return;
+      }
+      shutdown = true;
+    }
     if (broadcast != null) {
       logger.info("ClusterManager shutdown ");
+      if (coalesceExecutor != null) {
+        synchronized (pending) {
+          // with the shutdown flag set no further flush is scheduled
+          coalesceExecutor.shutdownNow();
+        }
+        flush();
+      }
       broadcast.shutdown();
     }
   }
@@ -0,0 +1,110 @@
+package io.ebeaninternal.server.cluster;
+
+import io.ebeaninternal.api.SpiEbeanServer;
+import io.ebeaninternal.server.transaction.RemoteTransactionEvent;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Function;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Encodes and decodes RemoteTransactionEvent in the compact form.
+ * <p>
+ * A message has a small header (format version, flags and server name) followed by
+ * the compact event body. The body is deflate compressed when it is larger than the
+ * compression threshold.
+ * </p>
+ */
+public class ClusterMessageCodec {
+
+  /**
+   * The version of the compact message format (2 adds the length of the ids of each bean type).
+   */
+  static final int VERSION = 2;
+
+  /**
+   * Flag indicating the body is deflate compressed.
+   */
+  static final int FLAG_COMPRESSED = 1;
+
+  private final int compressThreshold;
+
+  /**
+   * Create with the body size (in bytes) above which the body is compressed (0 to disable compression).
+   */
+  public ClusterMessageCodec(int compressThreshold) {
+    this.compressThreshold = compressThreshold;
+  }
+
+  /**
+   * Encode the event.
+   */
+  public byte[] encode(RemoteTransactionEvent event) throws IOException {
+
+    ByteArrayOutputStream body = new ByteArrayOutputStream(256);
+    DataOutputStream bodyOut = new DataOutputStream(body);
+    event.writeCompact(bodyOut);
+    bodyOut.flush();
+
+    boolean compress = compressThreshold > 0 && body.size() > compressThreshold;
+
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.size() + 32);
+    DataOutputStream os = new DataOutputStream(buffer);
+    os.writeByte(VERSION);
+    os.writeByte(compress ? FLAG_COMPRESSED : 0);
+    os.writeUTF(event.getServerName());
+    os.flush();
+
+    if (compress) {
+      Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+      try (DeflaterOutputStream deflateOut = new DeflaterOutputStream(buffer, deflater)) {
+        body.writeTo(deflateOut);
+      } finally {
+        deflater.end();
+      }
+    } else {
+      body.writeTo(buffer);
+    }
+    return buffer.toByteArray();
+  }
+
+  /**
+   * Decode the message returning the event with the server set.
+   * <p>
+   * Returns null if the server the event is for is not registered with this instance.
+   * </p>
+   *
+   * @param bytes        The message content
+   * @param serverLookup Function to return the server given its name
+   */
+  public RemoteTransactionEvent decode(byte[] bytes, Function<String, SpiEbeanServer> serverLookup) throws IOException {
+
+    DataInputStream header = new DataInputStream(new ByteArrayInputStream(bytes));
+    int version = header.readByte();
+    if (version != VERSION) {
+      throw new IOException("Unsupported cluster message version " + version);
+    }
+    int flags = header.readByte();
+    String serverName = header.readUTF();
+
+    SpiEbeanServer server = serverLookup.apply(serverName);
+    if (server == null) {
+      return null;
+    }
+
+    InputStream body = header;
+    if ((flags & FLAG_COMPRESSED) != 0) {
+      body = new InflaterInputStream(header);
+    }
+    try (DataInputStream bodyIn = new DataInputStream(body)) {
+      return RemoteTransactionEvent.readCompact(server, bodyIn);
+    }
+  }
+}
@@ -0,0 +1,155 @@
+package io.ebeaninternal.server.cluster;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A named cluster of members in the same JVM connected by LoopbackClusterBroadcast.
+ * <p>
+ * Collects statistics on the messages sent and the latency from commit (creation of
+ * the RemoteTransactionEvent) to the event being processed by a remote member. This
+ * is used to measure the cost of cluster invalidation as the number of members grows.
+ * </p>
+ * <pre>{@code
+ *
+ *   LoopbackCluster cluster = LoopbackCluster.get("myCluster");
+ *   ...
+ *   long meanMicros = cluster.getMeanLatencyMicros();
+ *
+ * }</pre>
+ */
+public class LoopbackCluster {
+
+  private static final Map<String, LoopbackCluster> clusters = new ConcurrentHashMap<>();
+
+  private final String name;
+
+  private final List<LoopbackClusterBroadcast> members = new CopyOnWriteArrayList<>();
+
+  private final LongAdder messageCount = new LongAdder();
+
+  private final LongAdder byteCount = new LongAdder();
+
+  private final LongAdder deliveryCount = new LongAdder();
+
+  private final LongAdder latencyNanos = new LongAdder();
+
+  private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0);
+
+  private LoopbackCluster(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Return the cluster with the given name (creating it if required).
+   */
+  public static LoopbackCluster get(String name) {
+    return clusters.computeIfAbsent(name, LoopbackCluster::new);
+  }
+
+  /**
+   * Return the name of the cluster.
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Return the current number of members.
+   */
+  public int getMemberCount() {
+    return members.size();
+  }
+
+  /**
+   * Return the number of messages broadcast.
+   */
+  public long getMessageCount() {
+    return messageCount.sum();
+  }
+
+  /**
+   * Return the total size in bytes of the messages broadcast.
+   */
+  public long getByteCount() {
+    return byteCount.sum();
+  }
+
+  /**
+   * Return the number of messages processed by remote members (messages times remote members).
+   */
+  public long getDeliveryCount() {
+    return deliveryCount.sum();
+  }
+
+  /**
+   * Return the mean latency in micros from commit to the event being processed by a remote member.
+   */
+  public long getMeanLatencyMicros() {
+    long count = deliveryCount.sum();
+    return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(latencyNanos.sum() / count);
+  }
+
+  /**
+   * Return the max latency in micros from commit to the event being processed by a remote member.
+   */
+  public long getMaxLatencyMicros() {
+    return TimeUnit.NANOSECONDS.toMicros(maxLatencyNanos.get());
+  }
+
+  /**
+   * Reset the statistics.
+   */
+  public void resetStatistics() {
+    messageCount.reset();
+    byteCount.reset();
+    deliveryCount.reset();
+    latencyNanos.reset();
+    maxLatencyNanos.reset();
+  }
+
+  /**
+   * Shutdown all the members of this cluster.
+   */
+  public void shutdown() {
+    for (LoopbackClusterBroadcast member : members) {
+      member.shutdownMember();
+    }
+    clusters.remove(name, this);
+  }
+
+  @Override
+  public String toString() {
+    return "cluster:" + name + " members:" + members.size() + " messages:" + messageCount + " bytes:" + byteCount
+      + " deliveries:" + deliveryCount + " meanLatencyMicros:" + getMeanLatencyMicros() + " maxLatencyMicros:" + getMaxLatencyMicros();
+  }
+
+  void join(LoopbackClusterBroadcast member) {
+    members.add(member);
+  }
+
+  void leave(LoopbackClusterBroadcast member) {
+    members.remove(member);
+  }
+
+  /**
+   * Send the message to all the members other than the sender.
+   */
+  void send(LoopbackClusterBroadcast sender, byte[] message, long createdNanos) {
+    messageCount.increment();
+    byteCount.add(message.length);
+    for (LoopbackClusterBroadcast member : members) {
+      if (member != sender && member.receive(message)) {
+        long latency = System.nanoTime() - createdNanos;
+        deliveryCount.increment();
+        latencyNanos.add(latency);
+        maxLatencyNanos.accumulate(latency);
+      }
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package io.ebeaninternal.server.cluster;
+
+import io.ebeaninternal.server.transaction.RemoteTransactionEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Properties;
+
+/**
+ * Cluster broadcast that sends the events to the other members of a cluster in the same JVM.
+ * <p>
+ * The members join a named {@link LoopbackCluster} on startup (property <code>ebean.cluster.loopback.name</code>
+ * with default <code>loopback</code>). The events are encoded and decoded in the compact form
+ * such that this is useful for testing the cluster messages without a network transport.
+ * </p>
+ * <p>
+ * Use with <code>ebean.cluster.type=loopback</code> and a separate container (ContainerConfig) per member.
+ * </p>
+ */
+public class LoopbackClusterBroadcast implements ClusterBroadcast {
+
+  private static final Logger logger = LoggerFactory.getLogger(LoopbackClusterBroadcast.class);
+
+  private final ClusterManager manager;
+
+  private final LoopbackCluster cluster;
+
+  LoopbackClusterBroadcast(ClusterManager manager, Properties properties) {
+    this.manager = manager;
+    String clusterName = (properties == null) ? null : properties.getProperty("ebean.cluster.loopback.name");
+    this.cluster = LoopbackCluster.get(clusterName == null ? "loopback" : clusterName);
+  }
+
+  @Override
+  public void startup() {
+    cluster.join(this);
+  }
+
+  @Override
+  public void shutdown() {
+    cluster.leave(this);
+  }
+
+  @Override
+  public void broadcast(RemoteTransactionEvent event) {
+    try {
+      cluster.send(this, manager.encode(event), event.getCreatedNanos());
+    } catch (Exception e) {
+      logger.error("Error sending loopback cluster message", e);
+    }
+  }
+
+  /**
+   * Shutdown the ClusterManager of this member.
+   */
+  void shutdownMember() {
+    manager.shutdown();
+  }
+
+  /**
+   * Process a message sent by another member of the cluster returning true if it was processed.
+   */
+  boolean receive(byte[] message) {
+    try {
+      RemoteTransactionEvent event = manager.decode(message);
+      if (event != null) {
+        event.run();
+        return true;
+      }
+    } catch (Exception e) {
+      logger.error("Error processing loopback cluster message", e);
+    }
+    return false;
+  }
+}
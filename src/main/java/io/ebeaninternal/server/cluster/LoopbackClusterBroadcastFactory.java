@@ -0,0 +1,14 @@
+package io.ebeaninternal.server.cluster;
+
+import java.util.Properties;
+
+/**
+ * Creates the LoopbackClusterBroadcast connecting cluster members in the same JVM.
+ */
+public class LoopbackClusterBroadcastFactory implements ClusterBroadcastFactory {
+
+  @Override
+  public ClusterBroadcast create(ClusterManager manager, Properties properties) {
+    return new LoopbackClusterBroadcast(manager, properties);
+  }
+}
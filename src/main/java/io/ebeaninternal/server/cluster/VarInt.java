@@ -0,0 +1,77 @@
+package io.ebeaninternal.server.cluster;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Variable length encoding of integer values used in compact cluster messages.
+ * <p>
+ * Values are written 7 bits per byte with the high bit set when more bytes follow.
+ * Signed values use zigzag encoding such that small negative values are also compact.
+ * </p>
+ */
+public final class VarInt {
+
+  private VarInt() {
+  }
+
+  /**
+   * Write a non-negative value.
+   */
+  public static void writeUnsigned(DataOutput out, long value) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      out.writeByte((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.writeByte((int) value);
+  }
+
+  /**
+   * Read a non-negative value.
+   */
+  public static long readUnsigned(DataInput in) throws IOException {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      int b = in.readByte();
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("Malformed varint");
+  }
+
+  /**
+   * Write a signed value using zigzag encoding.
+   */
+  public static void writeSigned(DataOutput out, long value) throws IOException {
+    writeUnsigned(out, (value << 1) ^ (value >> 63));
+  }
+
+  /**
+   * Read a signed value using zigzag encoding.
+   */
+  public static long readSigned(DataInput in) throws IOException {
+    long raw = readUnsigned(in);
+    return (raw >>> 1) ^ -(raw & 1);
+  }
+
+  /**
+   * Write a non-negative int value (typically a count or ordinal).
+   */
+  public static void writeInt(DataOutput out, int value) throws IOException {
+    writeUnsigned(out, value);
+  }
+
+  /**
+   * Read a non-negative int value (typically a count or ordinal).
+   */
+  public static int readInt(DataInput in) throws IOException {
+    long value = readUnsigned(in);
+    if (value > Integer.MAX_VALUE) {
+      throw new IOException("Invalid varint count " + value);
+    }
+    return (int) value;
+  }
+}
@@ -147,6 +147,8 @@ public class DefaultBeanLoader {
       BeanCollection<?> emptyCollection = many.createEmpty(parentBean);
       many.setValue(parentBean, emptyCollection);
       query.setLoadDescription("+refresh", null);
+      // refresh reads from the primary DataSource
+      query.setUseReadOnlyDataSource(false);
     } else {
       query.setLoadDescription("+lazy", null);
     }
@@ -304,6 +306,10 @@ public class DefaultBeanLoader {
       // make sure the query doesn't use the cache
       query.setUseCache(false);
     }
+    if (SpiQuery.Mode.REFRESH_BEAN.equals(mode)) {
+      // refresh reads from the primary DataSource
+      query.setUseReadOnlyDataSource(false);
+    }
 
     if (ebi.isReadOnly()) {
       query.setReadOnly(true);
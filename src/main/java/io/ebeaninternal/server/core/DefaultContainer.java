@@ -71,9 +71,22 @@ public class DefaultContainer implements SpiContainer {
 
   @Override
   public void shutdown() {
+    shutdownContainer();
     ShutdownManager.shutdown();
   }
 
+  /**
+   * Shutdown the cluster networking of this container and deregister it from the ShutdownManager.
+   * <p>
+   * Unlike {@link #shutdown()} this does not shutdown the other containers and servers. Use this
+   * when containers are created and discarded in the same JVM (e.g. multiple cluster members).
+   * </p>
+   */
+  public void shutdownContainer() {
+    clusterManager.shutdown();
+    ShutdownManager.deregisterContainer(this);
+  }
+
   /**
    * Create the server reading configuration information from ebean.properties.
    */
@@ -116,6 +129,7 @@ public class DefaultContainer implements SpiContainer {
         TenantMode tenantMode = serverConfig.getTenantMode();
         if (!TenantMode.DB.equals(tenantMode)) {
           setDataSource(serverConfig);
+          setReadOnlyDataSource(serverConfig);
           if (!tenantMode.isDynamicDataSource()) {
             // check the autoCommit and Transaction Isolation
             online = checkDataSource(serverConfig);
@@ -276,6 +290,18 @@ public class DefaultContainer implements SpiContainer {
     }
   }
 
+  /**
+   * Set the read only DataSource if it has not already been set and it has been configured.
+   */
+  private void setReadOnlyDataSource(ServerConfig config) {
+    if (config.getReadOnlyDataSource() == null && !config.getTenantMode().isDynamicDataSource()) {
+      DataSourceConfig roConfig = config.getReadOnlyDataSourceConfig();
+      if (roConfig != null && roConfig.getUrl() != null && !roConfig.isOffline() && !isOfflineMode(config)) {
+        config.setReadOnlyDataSource(createPool(config, config.getName() + "-readonly", roConfig));
+      }
+    }
+  }
+
   private DataSource getDataSourceFromConfig(ServerConfig config) {
 
     if (isOfflineMode(config)) {
@@ -304,6 +330,14 @@ public class DefaultContainer implements SpiContainer {
       return null;
     }
 
+    return createPool(config, config.getName(), dsConfig);
+  }
+
+  /**
+   * Create the DataSource pool given the configuration.
+   */
+  private DataSource createPool(ServerConfig config, String poolName, DataSourceConfig dsConfig) {
+
     DataSourceFactory factory = config.service(DataSourceFactory.class);
     if (factory == null) {
       throw new IllegalStateException("No DataSourceFactory service implementation found in class path."
@@ -317,7 +351,7 @@ public class DefaultContainer implements SpiContainer {
 
     attachListener(config, dsConfig);
 
-    return factory.createPool(config.getName(), dsConfig);
+    return factory.createPool(poolName, dsConfig);
   }
 
   /**
@@ -1,12 +1,19 @@
 package io.ebeaninternal.server.core;
 
 import io.ebean.meta.MetaBeanInfo;
+import io.ebean.meta.MetaCacheMissCoalesceStatistic;
+import io.ebean.meta.MetaDataSourceRoutingStatistic;
+import io.ebean.meta.MetaEqlCacheStatistic;
 import io.ebean.meta.MetaInfoManager;
 import io.ebean.meta.MetaObjectGraphNodeStats;
+import io.ebean.meta.MetaQueryPlanCacheStatistic;
 import io.ebean.meta.MetaQueryPlanStatistic;
+import io.ebeaninternal.server.deploy.BeanDescriptor;
+import io.ebeaninternal.server.query.CQueryPlan;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * DefaultServer based implementation of MetaInfoManager.
@@ -33,13 +40,28 @@ public class DefaultMetaInfoManager implements MetaInfoManager {
   @Override
   public List<MetaQueryPlanStatistic> collectQueryPlanStatistics(boolean reset) {
 
+    // group the plans by bean type once rather than scanning the cache per bean type
+    Map<Class<?>, List<CQueryPlan>> plansByType = server.getQueryPlanCache().plansByType();
     List<MetaQueryPlanStatistic> list = new ArrayList<>();
-    for (MetaBeanInfo metaBeanInfo : getMetaBeanInfoList()) {
-      list.addAll(metaBeanInfo.collectQueryPlanStatistics(reset));
+    for (BeanDescriptor<?> desc : server.getBeanDescriptors()) {
+      List<CQueryPlan> plans = plansByType.get(desc.getBeanType());
+      if (plans != null) {
+        list.addAll(desc.collectQueryPlanStatistics(plans, reset, false));
+      }
     }
     return list;
   }
 
+  @Override
+  public MetaQueryPlanCacheStatistic getQueryPlanCacheStatistic(boolean reset) {
+    return server.getQueryPlanCache().getStatistic(reset);
+  }
+
+  @Override
+  public MetaDataSourceRoutingStatistic getDataSourceRoutingStatistic(boolean reset) {
+    return server.getDataSourceRoutingStatistic(reset);
+  }
+
   @Override
   public List<MetaObjectGraphNodeStats> collectNodeStatistics(boolean reset) {
 
@@ -55,4 +77,30 @@ public class DefaultMetaInfoManager implements MetaInfoManager {
     return list;
   }
 
+  @Override
+  public List<MetaEqlCacheStatistic> collectEqlCacheStatistics(boolean reset) {
+
+    List<MetaEqlCacheStatistic> list = new ArrayList<>();
+    for (MetaBeanInfo metaBeanInfo : getMetaBeanInfoList()) {
+      MetaEqlCacheStatistic statistic = metaBeanInfo.getEqlCacheStatistic(reset);
+      if (statistic.getHitCount() > 0 || statistic.getMissCount() > 0) {
+        list.add(statistic);
+      }
+    }
+    return list;
+  }
+
+  @Override
+  public List<MetaCacheMissCoalesceStatistic> collectCacheMissCoalesceStatistics(boolean reset) {
+
+    List<MetaCacheMissCoalesceStatistic> list = new ArrayList<>();
+    for (MetaBeanInfo metaBeanInfo : getMetaBeanInfoList()) {
+      MetaCacheMissCoalesceStatistic statistic = metaBeanInfo.getCacheMissCoalesceStatistic(reset);
+      if (statistic.getQueryCacheLoadCount() > 0 || statistic.getBeanCacheLoadCount() > 0) {
+        list.add(statistic);
+      }
+    }
+    return list;
+  }
+
 }
@@ -1,5 +1,6 @@
 package io.ebeaninternal.server.core;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.ebean.*;
 import io.ebean.annotation.TxIsolation;
 import io.ebean.annotation.TxType;
@@ -22,6 +23,7 @@ import io.ebean.config.dbplatform.DatabasePlatform;
 import io.ebean.event.BeanPersistController;
 import io.ebean.event.readaudit.ReadAuditLogger;
 import io.ebean.event.readaudit.ReadAuditPrepare;
+import io.ebean.meta.MetaDataSourceRoutingStatistic;
 import io.ebean.meta.MetaInfoManager;
 import io.ebean.plugin.BeanType;
 import io.ebean.plugin.Plugin;
@@ -39,10 +41,11 @@ import io.ebeaninternal.server.deploy.BeanDescriptorManager;
 import io.ebeaninternal.server.deploy.BeanProperty;
 import io.ebeaninternal.server.deploy.InheritInfo;
 import io.ebeaninternal.server.el.ElFilter;
-import io.ebeaninternal.server.grammer.EqlParser;
 import io.ebeaninternal.server.lib.ShutdownManager;
+import io.ebeaninternal.server.persist.BulkInsert;
 import io.ebeaninternal.server.query.CQuery;
 import io.ebeaninternal.server.query.CQueryEngine;
+import io.ebeaninternal.server.query.CQueryPlanCache;
 import io.ebeaninternal.server.query.CallableQueryCount;
 import io.ebeaninternal.server.query.CallableQueryIds;
 import io.ebeaninternal.server.query.CallableQueryList;
@@ -81,6 +84,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * The default server side implementation of EbeanServer.
@@ -161,6 +165,8 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
    */
   private final PersistenceContextScope defaultPersistenceContextScope;
 
+  private final boolean cacheMissCoalescing;
+
   /**
    * Flag set when the server has shutdown.
    */
@@ -210,6 +216,7 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
     this.expressionFactory = config.getExpressionFactory();
     this.encryptKeyManager = serverConfig.getEncryptKeyManager();
     this.defaultPersistenceContextScope = serverConfig.getPersistenceContextScope();
+    this.cacheMissCoalescing = serverConfig.isCacheMissCoalescing();
     this.currentTenantProvider = serverConfig.getCurrentTenantProvider();
     this.slowQueryMicros = config.getSlowQueryMicros();
     this.slowQueryListener = config.getSlowQueryListener();
@@ -546,9 +553,7 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
    */
   @Override
   public void clearQueryStatistics() {
-    for (BeanDescriptor<?> desc : getBeanDescriptors()) {
-      desc.clearQueryStatistics();
-    }
+    getQueryPlanCache().resetStatistics();
   }
 
   /**
@@ -762,7 +767,11 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
         if (isolation != null) {
           isoLevel = isolation.getLevel();
         }
-        t = transactionManager.createTransaction(true, isoLevel);
+        if (txScope.isReadonly()) {
+          t = transactionManager.createReadOnlyTransaction(true, isoLevel);
+        } else {
+          t = transactionManager.createTransaction(true, isoLevel);
+        }
       }
     }
 
@@ -991,7 +1000,7 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
   @Override
   public <T> Query<T> createQuery(Class<T> beanType, String eql) {
     DefaultOrmQuery<T> query = createQuery(beanType);
-    EqlParser.parse(eql, query);
+    query.getBeanDescriptor().getEqlStatement(eql).apply(query);
     return query;
   }
 
@@ -1135,11 +1144,26 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
     return (scope != null) ? scope : defaultPersistenceContextScope;
   }
 
+  /**
+   * Return true if concurrent cache misses should be coalesced defined at query or server level.
+   */
+  @Override
+  public boolean isCacheMissCoalescing(SpiQuery<?> query) {
+    Boolean coalescing = query.getCacheMissCoalescing();
+    return (coalescing != null) ? coalescing : cacheMissCoalescing;
+  }
+
+  @Override
+  public BulkInsert createBulkInsert(Class<?> beanType, Transaction transaction) {
+    return persister.createBulkInsert(beanType, transaction);
+  }
+
   @SuppressWarnings("unchecked")
   private <T> T findId(Query<T> query, Transaction t) {
 
     SpiQuery<T> spiQuery = (SpiQuery<T>) query;
     spiQuery.setType(Type.BEAN);
+    Object loadId = null;
     if (SpiQuery.Mode.NORMAL.equals(spiQuery.getMode()) && !spiQuery.isLoadBeanCache()) {
       // See if we can skip doing the fetch completely by getting the bean from the
       // persistence context or the bean cache
@@ -1147,18 +1171,37 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
       if (bean != null) {
         return bean;
       }
+      if (spiQuery.isUseBeanCache() && !spiQuery.isUseDocStore() && isCacheMissCoalescing(spiQuery)) {
+        // only one of the concurrent bean cache misses for this id executes the query
+        BeanDescriptor<T> desc = spiQuery.getBeanDescriptor();
+        Object id = desc.convertId(spiQuery.getId());
+        if (desc.cacheBeanLoadAcquire(id)) {
+          loadId = id;
+        } else {
+          bean = findIdCheckPersistenceContextAndCache(t, spiQuery, id);
+          if (bean != null) {
+            return bean;
+          }
+        }
+      }
     }
 
-    SpiOrmQueryRequest<T> request = createQueryRequest(spiQuery, t);
-    if (request.isUseDocStore()) {
-      return docStore().find(request);
-    }
     try {
-      request.initTransIfRequired();
-      return (T) request.findId();
+      SpiOrmQueryRequest<T> request = createQueryRequest(spiQuery, t);
+      if (request.isUseDocStore()) {
+        return docStore().find(request);
+      }
+      try {
+        request.initTransIfRequired();
+        return (T) request.findId();
 
+      } finally {
+        request.endTransIfRequired();
+      }
     } finally {
-      request.endTransIfRequired();
+      if (loadId != null) {
+        spiQuery.getBeanDescriptor().cacheBeanLoadRelease(loadId);
+      }
     }
   }
 
@@ -1351,7 +1394,7 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
     SpiQuery<T> copy = ((SpiQuery<T>) q).copy();
     copy.setFutureFetch(true);
 
-    Transaction newTxn = createTransaction();
+    Transaction newTxn = createFutureTransaction(copy);
 
     CallableQueryCount<T> call = new CallableQueryCount<>(this, copy, newTxn);
 
@@ -1371,7 +1414,7 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
     SpiQuery<T> copy = ((SpiQuery<T>) query).copy();
     copy.setFutureFetch(true);
 
-    Transaction newTxn = createTransaction();
+    Transaction newTxn = createFutureTransaction(copy);
 
     CallableQueryIds<T> call = new CallableQueryIds<>(this, copy, newTxn);
     QueryFutureIds<T> queryFuture = new QueryFutureIds<>(call);
@@ -1396,7 +1439,7 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
     }
 
     // Create a new transaction solely to execute the findList() at some future time
-    Transaction newTxn = createTransaction();
+    Transaction newTxn = createFutureTransaction(spiQuery);
     CallableQueryList<T> call = new CallableQueryList<>(this, spiQuery, newTxn);
     QueryFutureList<T> queryFuture = new QueryFutureList<>(call);
     backgroundExecutor.execute(queryFuture.getFutureTask());
@@ -1433,6 +1476,47 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
     }
   }
 
+  @Override
+  public <T> Stream<T> findStream(Query<T> query, Transaction t) {
+
+    SpiOrmQueryRequest<T> request = createQueryRequest(Type.ITERATE, query, t);
+    try {
+      request.initTransIfRequired();
+      return request.findStream();
+
+    } catch (RuntimeException ex) {
+      request.endTransIfRequired();
+      throw ex;
+    }
+  }
+
+  @Override
+  public <T> Stream<T> findLargeStream(Query<T> query, Transaction t) {
+
+    SpiOrmQueryRequest<T> request = createQueryRequest(Type.ITERATE, query, t);
+    try {
+      request.initTransIfRequired();
+      return request.findLargeStream();
+
+    } catch (RuntimeException ex) {
+      request.endTransIfRequired();
+      throw ex;
+    }
+  }
+
+  @Override
+  public <T> void findJson(Query<T> query, JsonGenerator generator, Transaction t) {
+
+    SpiOrmQueryRequest<T> request = createQueryRequest(Type.ITERATE, query, t);
+    try {
+      request.initTransIfRequired();
+      request.findJson(jsonContext.createJsonWriter(generator, null));
+
+    } finally {
+      request.endTransIfRequired();
+    }
+  }
+
   @Override
   public <T> void findEach(Query<T> query, Consumer<T> consumer, Transaction t) {
 
@@ -1518,6 +1602,26 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
     }
   }
 
+  @Override
+  public Stream<SqlRow> findStream(SqlQuery query, Transaction transaction) {
+
+    RelationalQueryRequest request = new RelationalQueryRequest(this, relationalQueryEngine, query, transaction);
+    try {
+      request.initTransIfRequired();
+      return request.findStream();
+
+    } catch (RuntimeException ex) {
+      request.endTransIfRequired();
+      throw ex;
+    }
+  }
+
+  @Override
+  public Stream<SqlRow> findLargeStream(SqlQuery query, Transaction transaction) {
+    // no persistence context for SqlRow so same as findStream
+    return findStream(query, transaction);
+  }
+
   @Override
   public void findEachWhile(SqlQuery query, Predicate<SqlRow> consumer, Transaction transaction) {
 
@@ -1658,6 +1762,14 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
       return;
     }
 
+    if (beans.size() > 1) {
+      // pre-allocate the sequence Id's for the inserts (when using a db sequence)
+      BeanDescriptor<?> desc = getBeanDescriptor(beans.iterator().next().getClass());
+      if (desc != null) {
+        desc.preAllocateIds(beans.size());
+      }
+    }
+
     TransWrapper wrap = initTransIfRequired(t);
     try {
       SpiTransaction trans = wrap.transaction;
@@ -1672,6 +1784,99 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
     }
   }
 
+  @Override
+  public void upsert(Object bean) {
+    upsert(bean, null);
+  }
+
+  @Override
+  public void upsert(Object bean, Transaction t) {
+    persister.upsert(checkEntityBean(bean), t);
+  }
+
+  @Override
+  public void upsertAll(Collection<?> beans) {
+    upsertAll(beans, null);
+  }
+
+  @Override
+  public void upsertAll(Collection<?> beans, Transaction t) {
+
+    if (beans == null || beans.isEmpty()) {
+      return;
+    }
+
+    if (beans.size() > 1) {
+      // pre-allocate the sequence Id's for beans without an id
+      BeanDescriptor<?> desc = getBeanDescriptor(beans.iterator().next().getClass());
+      if (desc != null) {
+        desc.preAllocateIds(beans.size());
+      }
+    }
+
+    TransWrapper wrap = initTransIfRequired(t);
+    try {
+      wrap.batchEscalateOnCollection();
+      SpiTransaction trans = wrap.transaction;
+      for (Object bean : beans) {
+        persister.upsert(checkEntityBean(bean), trans);
+      }
+      wrap.commitIfCreated();
+      wrap.flushBatchOnCollection();
+
+    } catch (RuntimeException e) {
+      wrap.rollbackIfCreated();
+      throw e;
+    }
+  }
+
+  @Override
+  public int bulkInsert(Collection<?> beans) {
+    return bulkInsert(beans, null);
+  }
+
+  @Override
+  public int bulkInsert(Collection<?> beans, Transaction t) {
+
+    if (beans == null || beans.isEmpty()) {
+      return 0;
+    }
+
+    TransWrapper wrap = initTransIfRequired(t);
+    BulkInsert bulkInsert = null;
+    try {
+      SpiTransaction trans = wrap.transaction;
+      int rowCount = 0;
+      Class<?> beanType = null;
+      for (Object bean : beans) {
+        EntityBean entityBean = checkEntityBean(bean);
+        if (bean.getClass() != beanType) {
+          // start a bulk insert per bean type
+          if (bulkInsert != null) {
+            rowCount += bulkInsert.end();
+          }
+          beanType = bean.getClass();
+          BeanDescriptor<?> desc = getBeanDescriptor(beanType);
+          if (desc != null) {
+            desc.preAllocateIds(beans.size());
+          }
+          bulkInsert = persister.createBulkInsert(beanType, trans);
+        }
+        bulkInsert.add(entityBean);
+      }
+      rowCount += bulkInsert.end();
+      wrap.commitIfCreated();
+      return rowCount;
+
+    } catch (RuntimeException e) {
+      if (bulkInsert != null) {
+        bulkInsert.cancel();
+      }
+      wrap.rollbackIfCreated();
+      throw e;
+    }
+  }
+
   @Override
   public <T> List<T> publish(Query<T> query, Transaction transaction) {
 
@@ -2035,6 +2240,13 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
     return desc.getId(eb);
   }
 
+  /**
+   * Return the query plan cache.
+   */
+  CQueryPlanCache getQueryPlanCache() {
+    return beanDescriptorManager.getQueryPlanCache();
+  }
+
   /**
    * Return the BeanDescriptor for a given type of bean.
    */
@@ -2138,6 +2350,28 @@ public final class DefaultServer implements SpiServer, SpiEbeanServer {
     return transactionManager.createQueryTransaction(tenantId);
   }
 
+  @Override
+  public SpiTransaction createReadOnlyTransaction(Object tenantId) {
+    return transactionManager.createReadOnlyTransaction(tenantId);
+  }
+
+  /**
+   * Return the counts of transactions using the read only and primary DataSource.
+   */
+  MetaDataSourceRoutingStatistic getDataSourceRoutingStatistic(boolean reset) {
+    return transactionManager.getRoutingStatistic(reset);
+  }
+
+  /**
+   * Create the transaction used to execute a findFuture query in the background.
+   */
+  private Transaction createFutureTransaction(SpiQuery<?> query) {
+    if (query.isUseReadOnlyDataSource()) {
+      return transactionManager.createReadOnlyTransaction(true, -1);
+    }
+    return createTransaction();
+  }
+
   /**
    * Create a CallStack object.
    * <p>
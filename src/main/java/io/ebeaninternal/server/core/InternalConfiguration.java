@@ -378,7 +378,7 @@ public class InternalConfiguration {
       case CATALOG:
         return new MultiTenantDbCatalogSupplier(serverConfig.getCurrentTenantProvider(), serverConfig.getDataSource(), serverConfig.getTenantCatalogProvider());
       default:
-        return new SimpleDataSourceProvider(serverConfig.getDataSource());
+        return new SimpleDataSourceProvider(serverConfig.getDataSource(), serverConfig.getReadOnlyDataSource());
     }
   }
 
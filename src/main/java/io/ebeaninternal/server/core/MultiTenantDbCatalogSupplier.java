@@ -37,6 +37,12 @@ public class MultiTenantDbCatalogSupplier implements DataSourceSupplier {
     return catalogDataSource;
   }
 
+  @Override
+  public DataSource getReadOnlyDataSource() {
+    // not supported with multi-tenancy
+    return null;
+  }
+
   @Override
   public Connection getConnection(Object tenantId) throws SQLException {
     return catalogDataSource.getConnectionForTenant(tenantId);
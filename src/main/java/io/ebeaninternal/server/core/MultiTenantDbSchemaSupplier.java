@@ -37,6 +37,12 @@ class MultiTenantDbSchemaSupplier implements DataSourceSupplier {
     return schemaDataSource;
   }
 
+  @Override
+  public DataSource getReadOnlyDataSource() {
+    // not supported with multi-tenancy
+    return null;
+  }
+
   @Override
   public Connection getConnection(Object tenantId) throws SQLException {
     return schemaDataSource.getConnectionForTenant(tenantId);
@@ -27,6 +27,12 @@ class MultiTenantDbSupplier implements DataSourceSupplier {
     return dataSourceProvider.dataSource(tenantProvider.currentId());
   }
 
+  @Override
+  public DataSource getReadOnlyDataSource() {
+    // not supported with multi-tenancy
+    return null;
+  }
+
   @Override
   public Connection getConnection(Object tenantId) throws SQLException {
     return dataSourceProvider.dataSource(tenantId).getConnection();
@@ -3,6 +3,7 @@ package io.ebeaninternal.server.core;
 import io.ebean.QueryIterator;
 import io.ebean.Version;
 import io.ebean.bean.BeanCollection;
+import io.ebeaninternal.server.text.json.SpiJsonWriter;
 
 import javax.persistence.PersistenceException;
 import java.sql.SQLException;
@@ -38,6 +39,11 @@ public interface OrmQueryEngine {
    */
   <T> QueryIterator<T> findIterate(OrmQueryRequest<T> request);
 
+  /**
+   * Execute the query writing the rows as JSON.
+   */
+  <T> void findJson(OrmQueryRequest<T> request, SpiJsonWriter writeJson);
+
   /**
    * Execute the row count query.
    */
@@ -20,6 +20,7 @@ import io.ebeaninternal.api.SpiQuery;
 import io.ebeaninternal.api.SpiQuery.Type;
 import io.ebeaninternal.api.SpiQuerySecondary;
 import io.ebeaninternal.api.SpiTransaction;
+import io.ebeaninternal.server.cache.QueryCacheStamps;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
 import io.ebeaninternal.server.deploy.BeanProperty;
 import io.ebeaninternal.server.deploy.BeanPropertyAssocMany;
@@ -28,6 +29,9 @@ import io.ebeaninternal.server.deploy.DeployPropertyParserMap;
 import io.ebeaninternal.server.loadcontext.DLoadContext;
 import io.ebeaninternal.server.query.CQueryPlan;
 import io.ebeaninternal.server.query.CancelableQuery;
+import io.ebeaninternal.server.querydefn.OrmQueryProperties;
+import io.ebeaninternal.server.text.json.SpiJsonWriter;
+import io.ebeaninternal.server.transaction.ConcurrentPersistenceContext;
 import io.ebeaninternal.server.transaction.DefaultPersistenceContext;
 
 import javax.persistence.PersistenceException;
@@ -39,8 +43,12 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Wraps the objects involved in executing a Query.
@@ -65,10 +73,30 @@ public final class OrmQueryRequest<T> extends BeanRequest implements BeanQueryRe
 
   private HashQuery cacheKey;
 
+  /**
+   * True when this request acquired the (coalesced) query cache load for cacheKey.
+   */
+  private boolean queryCacheLoader;
+
+  /**
+   * The query cache generation obtained prior to executing the query.
+   */
+  private long queryCacheGeneration;
+
   private CQueryPlanKey queryPlanKey;
 
   private SpiQuerySecondary secondaryQueries;
 
+  /**
+   * Set for findStream() such that the persistence context is retained while iterating.
+   */
+  private boolean retainPersistenceContext;
+
+  /**
+   * Set when the QUERY_CONCURRENT persistence context scope is used.
+   */
+  private boolean concurrentPersistenceContext;
+
   /**
    * Create the InternalQueryRequest.
    */
@@ -109,6 +137,13 @@ public final class OrmQueryRequest<T> extends BeanRequest implements BeanQueryRe
     return ebeanServer.getDatabasePlatform().escapeLikeString(value);
   }
 
+  /**
+   * Return true if the transaction was created for this query (rather than explicit or current).
+   */
+  public boolean isCreatedTransaction() {
+    return createdTransaction;
+  }
+
   @Override
   public void executeSecondaryQueries(boolean forEach) {
     // disable lazy loading leaves loadContext null
@@ -223,8 +258,12 @@ public final class OrmQueryRequest<T> extends BeanRequest implements BeanQueryRe
       // maybe a current one
       transaction = ebeanServer.getCurrentServerTransaction();
       if (transaction == null) {
-        // create an implicit transaction to execute this query
-        transaction = ebeanServer.createQueryTransaction(query.getTenantId());
+        // create an implicit transaction to execute this query (using the read only DataSource by default)
+        if (query.isUseReadOnlyDataSource()) {
+          transaction = ebeanServer.createReadOnlyTransaction(query.getTenantId());
+        } else {
+          transaction = ebeanServer.createQueryTransaction(query.getTenantId());
+        }
         createdTransaction = true;
       }
     }
@@ -256,7 +295,10 @@ public final class OrmQueryRequest<T> extends BeanRequest implements BeanQueryRe
    * For iterate queries reset the persistenceContext and loadContext.
    */
   public void flushPersistenceContextOnIterate() {
-    persistenceContext = new DefaultPersistenceContext();
+    if (retainPersistenceContext) {
+      return;
+    }
+    persistenceContext = concurrentPersistenceContext ? new ConcurrentPersistenceContext() : new DefaultPersistenceContext();
     loadContext.resetPersistenceContext(persistenceContext);
     if (jsonRead != null) {
       jsonRead.setPersistenceContext(persistenceContext);
@@ -277,6 +319,10 @@ public final class OrmQueryRequest<T> extends BeanRequest implements BeanQueryRe
 
     // determine the scope (from the query and then server)
     PersistenceContextScope scope = ebeanServer.getPersistenceContextScope(query);
+    if (scope == PersistenceContextScope.QUERY_CONCURRENT) {
+      concurrentPersistenceContext = true;
+      return new ConcurrentPersistenceContext();
+    }
     return (scope == PersistenceContextScope.QUERY || t == null) ? new DefaultPersistenceContext() : t.getPersistenceContext();
   }
 
@@ -288,6 +334,7 @@ public final class OrmQueryRequest<T> extends BeanRequest implements BeanQueryRe
    */
   @Override
   public void endTransIfRequired() {
+    releaseQueryCacheLoad();
     if (createdTransaction && transaction.isActive()) {
       transaction.commit();
     }
@@ -366,6 +413,39 @@ public final class OrmQueryRequest<T> extends BeanRequest implements BeanQueryRe
     return queryEngine.findIterate(this);
   }
 
+  @Override
+  public void findJson(SpiJsonWriter writeJson) {
+    List<OrmQueryProperties> queryJoins = secondaryQueries.getQueryJoins();
+    if (queryJoins != null && !queryJoins.isEmpty()) {
+      throw new PersistenceException("findJson() does not support query joins " + queryJoins.get(0).getPath()
+        + " (for ToMany fetch paths or fetchQuery)");
+    }
+    queryEngine.findJson(this, writeJson);
+  }
+
+  @Override
+  public Stream<T> findStream() {
+    retainPersistenceContext = true;
+    return toStream(queryEngine.findIterate(this));
+  }
+
+  @Override
+  public Stream<T> findLargeStream() {
+    return toStream(queryEngine.findIterate(this));
+  }
+
+  /**
+   * Return the QueryIterator as a Stream that closes the iterator on close.
+   */
+  private Stream<T> toStream(QueryIterator<T> it) {
+    if (it == null) {
+      // query was cancelled
+      return Stream.empty();
+    }
+    Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(it, Spliterator.ORDERED | Spliterator.NONNULL);
+    return StreamSupport.stream(spliterator, false).onClose(it::close);
+  }
+
   /**
    * Execute the query as findList.
    */
@@ -459,10 +539,10 @@ public final class OrmQueryRequest<T> extends BeanRequest implements BeanQueryRe
   }
 
   /**
-   * Put the QueryPlan into the cache.
+   * Put the QueryPlan into the cache (given the time building the plan started).
    */
-  public void putQueryPlan(CQueryPlan queryPlan) {
-    beanDescriptor.putQueryPlan(queryPlanKey, queryPlan);
+  public void putQueryPlan(CQueryPlan queryPlan, long buildStartNanos) {
+    beanDescriptor.putQueryPlan(queryPlanKey, queryPlan, buildStartNanos);
   }
 
   public boolean isUseBeanCache() {
@@ -480,6 +560,8 @@ public final class OrmQueryRequest<T> extends BeanRequest implements BeanQueryRe
       return null;
     } else {
       cacheKey = query.queryHash();
+      // obtained before executing the query such that concurrent changes invalidate the result
+      queryCacheGeneration = QueryCacheStamps.currentGeneration();
     }
 
     if (!query.getUseQueryCache().isGet()) {
@@ -487,6 +569,15 @@ public final class OrmQueryRequest<T> extends BeanRequest implements BeanQueryRe
     }
 
     Object cached = beanDescriptor.queryCacheGet(cacheKey);
+    if (cached == null && !query.isUseDocStore() && ebeanServer.isCacheMissCoalescing(query)) {
+      if (beanDescriptor.queryCacheLoadAcquire(cacheKey)) {
+        // this request executes the query, released after the put or at the end of the request
+        queryCacheLoader = true;
+        return null;
+      }
+      // waited on a concurrent execution of the same query
+      cached = beanDescriptor.queryCacheGet(cacheKey);
+    }
 
     if (cached != null && isAuditReads() && readAuditQueryType()) {
       if (cached instanceof BeanCollection) {
@@ -534,7 +625,20 @@ public final class OrmQueryRequest<T> extends BeanRequest implements BeanQueryRe
   }
 
   public void putToQueryCache(Object queryResult) {
-    beanDescriptor.queryCachePut(cacheKey, queryResult);
+    CQueryPlan queryPlan = getQueryPlan();
+    String[] dependentColumns = (queryPlan == null) ? null : queryPlan.getDependentColumns();
+    beanDescriptor.queryCachePut(cacheKey, queryResult, dependentColumns, queryCacheGeneration);
+    releaseQueryCacheLoad();
+  }
+
+  /**
+   * Release the query cache load if this request acquired it (waking up waiting requests).
+   */
+  private void releaseQueryCacheLoad() {
+    if (queryCacheLoader) {
+      queryCacheLoader = false;
+      beanDescriptor.queryCacheLoadRelease(cacheKey);
+    }
   }
 
   /**
@@ -93,6 +93,11 @@ public final class PersistRequestBean<T> extends PersistRequest implements BeanP
    */
   private boolean statelessUpdate;
 
+  /**
+   * Flag set if this insert is executed as an insert or update (upsert).
+   */
+  private boolean upsert;
+
   private boolean notifyCache;
 
   private boolean deleteMissingChildren;
@@ -334,6 +339,20 @@ public final class PersistRequestBean<T> extends PersistRequest implements BeanP
     return Type.INSERT == type;
   }
 
+  /**
+   * Set this insert request to be executed as an insert or update (upsert).
+   */
+  public void setUpsert() {
+    this.upsert = true;
+  }
+
+  /**
+   * Return true if this insert request is executed as an insert or update (upsert).
+   */
+  public boolean isUpsert() {
+    return upsert;
+  }
+
   @Override
   public Set<String> getLoadedProperties() {
     return intercept.getLoadedPropertyNames();
@@ -409,7 +428,11 @@ public final class PersistRequestBean<T> extends PersistRequest implements BeanP
     if (notifyCache) {
       switch (type) {
         case INSERT:
-          beanDescriptor.cacheHandleInsert(this, changeSet);
+          if (upsert) {
+            beanDescriptor.cacheHandleUpsert(idValue, this, changeSet);
+          } else {
+            beanDescriptor.cacheHandleInsert(this, changeSet);
+          }
           break;
         case UPDATE:
           beanDescriptor.cacheHandleUpdate(idValue, this, changeSet);
@@ -784,6 +807,11 @@ public final class PersistRequestBean<T> extends PersistRequest implements BeanP
    */
   @Override
   public final void checkRowCount(int rowCount) {
+    if (upsert) {
+      // row count is platform specific for an upsert (with no optimistic concurrency check)
+      postUpsert();
+      return;
+    }
     if (ConcurrencyMode.VERSION == concurrencyMode && rowCount != 1) {
       // fix for oracle.
       // see: https://stackoverflow.com/questions/19022175/executebatch-method-return-array-of-value-2-in-java
@@ -813,6 +841,13 @@ public final class PersistRequestBean<T> extends PersistRequest implements BeanP
     }
   }
 
+  /**
+   * Clear the bean from the PersistenceContext (L1 cache) as the upsert may have updated an existing row.
+   */
+  private void postUpsert() {
+    beanDescriptor.contextClear(transaction.getPersistenceContext(), idValue);
+  }
+
   /**
    * Aggressive L1 and L2 cache cleanup for deletes.
    */
@@ -885,7 +920,7 @@ public final class PersistRequestBean<T> extends PersistRequest implements BeanP
     String name = beanDescriptor.getName();
     switch (type) {
       case INSERT:
-        transaction.logSummary("Inserted [" + name + "] [" + idValue + "]" + draft);
+        transaction.logSummary((upsert ? "Upserted [" : "Inserted [") + name + "] [" + idValue + "]" + draft);
         break;
       case UPDATE:
         transaction.logSummary("Updated [" + name + "] [" + idValue + "]" + draft);
@@ -944,6 +979,13 @@ public final class PersistRequestBean<T> extends PersistRequest implements BeanP
   private void postInsert() {
     // mark all properties as loaded after an insert to support immediate update
     beanDescriptor.setAllLoaded(entityBean);
+    if (upsert) {
+      // the upsert may have updated an existing row incrementing its version
+      BeanProperty versionProperty = beanDescriptor.getVersionProperty();
+      if (versionProperty != null) {
+        intercept.setPropertyUnloaded(versionProperty.getPropertyIndex());
+      }
+    }
     if (!publish) {
       beanDescriptor.setDraft(entityBean);
     }
@@ -6,6 +6,7 @@ import io.ebean.SqlUpdate;
 import io.ebean.Transaction;
 import io.ebean.Update;
 import io.ebean.bean.EntityBean;
+import io.ebeaninternal.server.persist.BulkInsert;
 
 import java.util.Collection;
 import java.util.List;
@@ -30,6 +31,11 @@ public interface Persister {
    */
   void insert(EntityBean entityBean, Transaction t);
 
+  /**
+   * Insert or update the bean based on its id value (upsert).
+   */
+  void upsert(EntityBean entityBean, Transaction t);
+
   /**
    * Insert or update the bean depending on its state.
    */
@@ -78,4 +84,9 @@ public interface Persister {
    */
   <T> List<T> draftRestore(Query<T> query, Transaction transaction);
 
+  /**
+   * Create a bulk insert for beans of the given type.
+   */
+  BulkInsert createBulkInsert(Class<?> beanType, Transaction transaction);
+
 }
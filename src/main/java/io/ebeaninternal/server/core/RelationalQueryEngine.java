@@ -6,6 +6,7 @@ import io.ebean.SqlRow;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 public interface RelationalQueryEngine {
 
@@ -24,4 +25,9 @@ public interface RelationalQueryEngine {
    */
   void findEach(RelationalQueryRequest request, Predicate<SqlRow> consumer);
 
+  /**
+   * Find returning a Stream (that must be closed) using relational query.
+   */
+  Stream<SqlRow> findStream(RelationalQueryRequest request);
+
 }
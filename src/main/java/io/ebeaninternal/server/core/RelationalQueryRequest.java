@@ -11,7 +11,8 @@ import io.ebeaninternal.api.SpiTransaction;
 import io.ebeaninternal.server.lib.util.Str;
 import io.ebeaninternal.server.persist.Binder;
 import io.ebeaninternal.server.persist.TrimLogSql;
-import io.ebeaninternal.server.query.DefaultSqlRow;
+import io.ebeaninternal.server.query.ArraySqlRow;
+import io.ebeaninternal.server.query.SqlRowColumns;
 import io.ebeaninternal.server.transaction.TransactionManager;
 import io.ebeaninternal.server.util.BindParamsParser;
 import org.slf4j.Logger;
@@ -26,6 +27,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Wraps the objects involved in executing a SqlQuery.
@@ -52,9 +54,7 @@ public final class RelationalQueryRequest {
 
   private String bindLog = "";
 
-  private String[] propertyNames;
-
-  private int estimateCapacity;
+  private SqlRowColumns columns;
 
   private PreparedStatement pstmt;
 
@@ -103,6 +103,10 @@ public final class RelationalQueryRequest {
     return queryEngine.findList(this);
   }
 
+  public Stream<SqlRow> findStream() {
+    return queryEngine.findStream(this);
+  }
+
   /**
    * Return the find that is to be performed.
    */
@@ -128,10 +132,8 @@ public final class RelationalQueryRequest {
 
   private void setResultSet(ResultSet resultSet) throws SQLException {
     this.resultSet = resultSet;
-    this.propertyNames = getPropertyNames();
-    // calculate the initialCapacity of the Map to reduce rehashing
-    float initCap = (propertyNames.length) / 0.7f;
-    this.estimateCapacity = (int) initCap + 1;
+    // column index shared by all the rows of this result set
+    this.columns = new SqlRowColumns(getPropertyNames());
   }
 
   /**
@@ -189,15 +191,12 @@ public final class RelationalQueryRequest {
    */
   public SqlRow createNewRow(String dbTrueValue) throws SQLException {
 
-    SqlRow sqlRow = new DefaultSqlRow(estimateCapacity, 0.75f, dbTrueValue);
-
-    int index = 0;
-    for (String propertyName : propertyNames) {
-      index++;
-      Object value = resultSet.getObject(index);
-      sqlRow.set(propertyName, value);
+    Object[] values = new Object[columns.size()];
+    int columnCount = columns.columnCount();
+    for (int i = 0; i < columnCount; i++) {
+      values[columns.position(i)] = resultSet.getObject(i + 1);
     }
-    return sqlRow;
+    return new ArraySqlRow(columns, values, dbTrueValue);
   }
 
   /**
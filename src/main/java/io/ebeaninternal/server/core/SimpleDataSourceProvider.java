@@ -14,8 +14,11 @@ class SimpleDataSourceProvider implements DataSourceSupplier {
 
   private final DataSource dataSource;
 
-  SimpleDataSourceProvider(DataSource dataSource) {
+  private final DataSource readOnlyDataSource;
+
+  SimpleDataSourceProvider(DataSource dataSource, DataSource readOnlyDataSource) {
     this.dataSource = dataSource;
+    this.readOnlyDataSource = readOnlyDataSource;
   }
 
   @Override
@@ -23,6 +26,11 @@ class SimpleDataSourceProvider implements DataSourceSupplier {
     return dataSource;
   }
 
+  @Override
+  public DataSource getReadOnlyDataSource() {
+    return readOnlyDataSource;
+  }
+
   @Override
   public Connection getConnection(Object tenantId) throws SQLException {
     return dataSource.getConnection();
@@ -33,5 +41,8 @@ class SimpleDataSourceProvider implements DataSourceSupplier {
     if (dataSource instanceof DataSourcePool){
       ((DataSourcePool) dataSource).shutdown(deregisterDriver);
     }
+    if (readOnlyDataSource instanceof DataSourcePool) {
+      ((DataSourcePool) readOnlyDataSource).shutdown(deregisterDriver);
+    }
   }
 }
@@ -4,6 +4,7 @@ import io.ebean.QueryIterator;
 import io.ebean.Version;
 import io.ebeaninternal.api.SpiQuery;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
+import io.ebeaninternal.server.text.json.SpiJsonWriter;
 import io.ebeanservice.docstore.api.DocQueryRequest;
 
 import java.util.List;
@@ -11,6 +12,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Defines the ORM query request api.
@@ -88,6 +90,21 @@ public interface SpiOrmQueryRequest<T> extends DocQueryRequest<T> {
    */
   QueryIterator<T> findIterate();
 
+  /**
+   * Execute the find writing the rows as JSON.
+   */
+  void findJson(SpiJsonWriter writeJson);
+
+  /**
+   * Execute the find returning a Stream retaining the persistence context.
+   */
+  Stream<T> findStream();
+
+  /**
+   * Execute the find returning a Stream periodically clearing the persistence context.
+   */
+  Stream<T> findLargeStream();
+
   /**
    * Execute the finVersions() query.
    */
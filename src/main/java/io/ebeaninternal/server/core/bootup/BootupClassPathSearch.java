@@ -6,11 +6,17 @@ import org.avaje.classpath.scanner.ClassPathScanner;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
 /**
  * Searches for interesting classes such as Entities, Embedded and ScalarTypes.
+ * <p>
+ * When META-INF/ebean-entities.idx resources are present the classes listed in them
+ * are loaded directly and only the packages that contain no class listed in the index
+ * are scanned.
+ * </p>
  */
 public class BootupClassPathSearch {
 
@@ -18,6 +24,10 @@ public class BootupClassPathSearch {
 
   private static final String EBEAN_MF = "META-INF/ebean.mf";
 
+  static final String EBEAN_INDEX = "META-INF/ebean-entities.idx";
+
+  private final ClassLoader classLoader;
+
   private final List<String> packages;
 
   private final List<ClassPathScanner> scanners;
@@ -33,8 +43,10 @@ public class BootupClassPathSearch {
 
   private BootupClassPathSearch(ServerConfig serverConfig) {
 
+    this.classLoader = serverConfig.getClassLoadConfig().getClassLoader();
+
     // find packages defined in META-INF/ebean.mf resources
-    Set<String> mfPackages = ManifestReader.readManifests(serverConfig.getClassLoadConfig().getClassLoader(), EBEAN_MF);
+    Set<String> mfPackages = ManifestReader.readManifests(classLoader, EBEAN_MF);
 
     this.packages = DistillPackages.distill(serverConfig.getPackages(), mfPackages);
     this.scanners = ClassPathScanners.find(serverConfig);
@@ -45,13 +57,45 @@ public class BootupClassPathSearch {
    */
   private BootupClasses getBootupClasses() {
 
-    try {
+    long start = System.currentTimeMillis();
+    List<String> classNames = EntityIndexReader.readIndex(classLoader, EBEAN_INDEX);
+    if (classNames.isEmpty()) {
       BootupClasses bc = new BootupClasses();
+      scan(bc, packages);
+      long searchTime = System.currentTimeMillis() - start;
+      logger.debug("Classpath search entities[{}] searchTime[{}] in packages[{}]", bc.getEntities().size(), searchTime, packages);
+      return bc;
+    }
+
+    BootupClasses bc = fromIndex(classLoader, classNames, packages);
+    long loadTime = System.currentTimeMillis() - start;
+
+    if (packages == null || packages.isEmpty()) {
+      logger.warn("Using {} with no packages defined (ServerConfig packages or ebean.mf) - entities in jars without an index are not found", EBEAN_INDEX);
+    }
+    List<String> uncovered = uncoveredPackages(classNames, packages);
+    long scanStart = System.currentTimeMillis();
+    if (!uncovered.isEmpty()) {
+      scan(bc, uncovered);
+    }
+    long scanTime = System.currentTimeMillis() - scanStart;
+    logger.info("Loaded entities[{}] from {} in [{}] millis and searched packages{} not in the index in [{}] millis", bc.getEntities().size(), EBEAN_INDEX, loadTime, uncovered, scanTime);
 
-      long st = System.currentTimeMillis();
+    if (logger.isDebugEnabled()) {
+      int packageCount = (packages == null) ? 0 : packages.size();
+      logger.debug("Index {} covers [{}] of packages[{}] leaving [{}] packages to search", EBEAN_INDEX, packageCount - uncovered.size(), packageCount, uncovered.size());
+    }
+    return bc;
+  }
+
+  /**
+   * Scan the packages (or all the classpath when no packages are defined) adding the matching classes.
+   */
+  private void scan(BootupClasses bc, List<String> packageNames) {
+    try {
       for (ClassPathScanner finder : this.scanners) {
-        if (packages != null && !packages.isEmpty()) {
-          for (String packageName : packages) {
+        if (packageNames != null && !packageNames.isEmpty()) {
+          for (String packageName : packageNames) {
             finder.scanForClasses(packageName, bc);
           }
         } else {
@@ -59,14 +103,64 @@ public class BootupClassPathSearch {
           finder.scanForClasses("", bc);
         }
       }
-
-      long searchTime = System.currentTimeMillis() - st;
-      logger.debug("Classpath search entities[{}] searchTime[{}] in packages[{}]", bc.getEntities().size(), searchTime, packages);
-      return bc;
-
     } catch (Exception ex) {
       throw new RuntimeException("Error in classpath search (looking for entities etc)", ex);
     }
   }
 
+  /**
+   * Return the packages that contain none of the classes listed in the index (and need to be searched).
+   */
+  static List<String> uncoveredPackages(List<String> classNames, List<String> packages) {
+
+    List<String> uncovered = new ArrayList<>();
+    if (packages != null) {
+      for (String packageName : packages) {
+        if (!containsClass(packageName, classNames)) {
+          uncovered.add(packageName);
+        }
+      }
+    }
+    return uncovered;
+  }
+
+  private static boolean containsClass(String packageName, List<String> classNames) {
+    for (String className : classNames) {
+      if (className.startsWith(packageName + ".")) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Return the BootupClasses loading the classes listed in the index (limited to the packages if defined).
+   */
+  static BootupClasses fromIndex(ClassLoader classLoader, List<String> classNames, List<String> packages) {
+
+    BootupClasses bc = new BootupClasses();
+    for (String className : classNames) {
+      if (inPackages(className, packages)) {
+        try {
+          bc.isMatch(Class.forName(className, false, classLoader));
+        } catch (ClassNotFoundException | LinkageError e) {
+          logger.warn("Class " + className + " listed in " + EBEAN_INDEX + " could not be loaded - index out of date?", e);
+        }
+      }
+    }
+    return bc;
+  }
+
+  private static boolean inPackages(String className, List<String> packages) {
+    if (packages == null || packages.isEmpty()) {
+      return true;
+    }
+    for (String packageName : packages) {
+      if (className.startsWith(packageName + ".")) {
+        return true;
+      }
+    }
+    return false;
+  }
+
 }
@@ -0,0 +1,68 @@
+package io.ebeaninternal.server.core.bootup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reads all the META-INF/ebean-entities.idx resources with the class names of the
+ * entities, embeddables, listeners, controllers etc (typically generated at build time).
+ * <p>
+ * The index contains one fully qualified class name per line. Blank lines and lines
+ * starting with <code>#</code> are ignored.
+ * </p>
+ */
+class EntityIndexReader {
+
+  private static final Logger logger = LoggerFactory.getLogger(EntityIndexReader.class);
+
+  private final Set<String> classNames = new LinkedHashSet<>();
+
+  /**
+   * Read the class names from the index files found as resources.
+   */
+  static List<String> readIndex(ClassLoader classLoader, String resourcePath) {
+    return new EntityIndexReader().read(classLoader, resourcePath);
+  }
+
+  /**
+   * Read all the index files and return the (distinct) class names in order.
+   */
+  private List<String> read(ClassLoader classLoader, String resourcePath) {
+
+    try {
+      Enumeration<URL> resources = classLoader.getResources(resourcePath);
+      while (resources.hasMoreElements()) {
+        try (InputStream is = resources.nextElement().openStream()) {
+          read(is);
+        }
+      }
+    } catch (IOException e) {
+      logger.warn("Error reading " + resourcePath + " resources", e);
+    }
+    return new ArrayList<>(classNames);
+  }
+
+  private void read(InputStream is) throws IOException {
+
+    BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
+    String line;
+    while ((line = reader.readLine()) != null) {
+      line = line.trim();
+      if (!line.isEmpty() && !line.startsWith("#")) {
+        classNames.add(line);
+      }
+    }
+  }
+}
@@ -3,7 +3,9 @@ package io.ebeaninternal.server.deploy;
 import io.ebean.bean.EntityBean;
 import io.ebean.bean.PersistenceContext;
 import io.ebeaninternal.server.query.SqlJoinType;
+import io.ebeaninternal.server.text.json.SpiJsonWriter;
 
+import java.io.IOException;
 import java.sql.SQLException;
 
 /**
@@ -54,6 +56,30 @@ abstract class AssocOneHelp {
   }
 
 
+  /**
+   * Read the id and JSON write it (without creating a reference bean).
+   */
+  void jsonWriteRead(DbReadContext ctx, SpiJsonWriter writeJson) throws SQLException, IOException {
+    jsonWriteId(writeJson, property.targetIdBinder.read(ctx));
+  }
+
+  /**
+   * JSON write the id of the associated bean.
+   */
+  void jsonWriteId(SpiJsonWriter writeJson, Object id) throws IOException {
+    if (!property.isJsonSerialize()) {
+      return;
+    }
+    if (id == null) {
+      writeJson.writeNullField(property.getJsonKey());
+    } else {
+      writeJson.writeFieldName(property.getJsonKey());
+      writeJson.writeStartObject();
+      target.getIdProperty().jsonWriteValue(writeJson, id);
+      writeJson.writeEndObject();
+    }
+  }
+
   /**
    * Read setting values into the bean.
    */
@@ -1,7 +1,9 @@
 package io.ebeaninternal.server.deploy;
 
 import io.ebean.bean.EntityBean;
+import io.ebeaninternal.server.text.json.SpiJsonWriter;
 
+import java.io.IOException;
 import java.sql.SQLException;
 
 /**
@@ -53,6 +55,18 @@ final class AssocOneHelpEmbedded extends AssocOneHelp {
     }
   }
 
+  @Override
+  void jsonWriteRead(DbReadContext ctx, SpiJsonWriter writeJson) throws SQLException, IOException {
+    Object value = read(ctx);
+    if (value == null) {
+      if (property.isJsonSerialize()) {
+        writeJson.writeNullField(property.getJsonKey());
+      }
+    } else {
+      property.jsonWriteValue(writeJson, value);
+    }
+  }
+
   @Override
   void appendSelect(DbSqlContext ctx, boolean subQuery) {
     for (int i = 0; i < property.embeddedProps.length; i++) {
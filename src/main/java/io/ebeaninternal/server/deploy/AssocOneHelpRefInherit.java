@@ -3,7 +3,9 @@ package io.ebeaninternal.server.deploy;
 import io.ebean.bean.EntityBean;
 import io.ebean.bean.PersistenceContext;
 import io.ebeaninternal.server.query.SqlJoinType;
+import io.ebeaninternal.server.text.json.SpiJsonWriter;
 
+import java.io.IOException;
 import java.sql.SQLException;
 
 /**
@@ -24,6 +26,16 @@ class AssocOneHelpRefInherit extends AssocOneHelp {
     ctx.getDataReader().incrementPos(1);
   }
 
+  @Override
+  void jsonWriteRead(DbReadContext ctx, SpiJsonWriter writeJson) throws SQLException, IOException {
+    if (inherit.readType(ctx) == null) {
+      property.targetIdBinder.loadIgnore(ctx);
+      jsonWriteId(writeJson, null);
+    } else {
+      jsonWriteId(writeJson, property.targetIdBinder.read(ctx));
+    }
+  }
+
   /**
    * Read and set a Reference bean.
    */
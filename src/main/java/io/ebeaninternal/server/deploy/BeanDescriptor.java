@@ -28,6 +28,8 @@ import io.ebean.event.readaudit.ReadAuditLogger;
 import io.ebean.event.readaudit.ReadAuditPrepare;
 import io.ebean.event.readaudit.ReadEvent;
 import io.ebean.meta.MetaBeanInfo;
+import io.ebean.meta.MetaEqlCacheStatistic;
+import io.ebean.meta.MetaCacheMissCoalesceStatistic;
 import io.ebean.meta.MetaQueryPlanStatistic;
 import io.ebean.plugin.BeanDocType;
 import io.ebean.plugin.BeanType;
@@ -55,11 +57,16 @@ import io.ebeaninternal.server.deploy.meta.DeployBeanPropertyLists;
 import io.ebeaninternal.server.el.ElComparator;
 import io.ebeaninternal.server.el.ElComparatorCompound;
 import io.ebeaninternal.server.el.ElComparatorProperty;
+import io.ebeaninternal.server.el.ElFilterPlan;
+import io.ebeaninternal.server.el.ElKeySort;
 import io.ebeaninternal.server.el.ElPropertyChainBuilder;
 import io.ebeaninternal.server.el.ElPropertyDeploy;
 import io.ebeaninternal.server.el.ElPropertyValue;
+import io.ebeaninternal.server.grammer.EqlStatement;
+import io.ebeaninternal.server.grammer.EqlStatementCache;
 import io.ebeaninternal.server.persist.DmlUtil;
 import io.ebeaninternal.server.query.CQueryPlan;
+import io.ebeaninternal.server.query.CQueryPlanCache;
 import io.ebeaninternal.server.query.CQueryPlanStats.Snapshot;
 import io.ebean.util.SplitName;
 import io.ebeaninternal.server.querydefn.OrmQueryDetail;
@@ -91,7 +98,9 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * Describes Beans including their deployment information.
@@ -102,7 +111,15 @@ public class BeanDescriptor<T> implements MetaBeanInfo, BeanType<T> {
 
   private final ConcurrentHashMap<String, SpiUpdatePlan> updatePlanCache = new ConcurrentHashMap<>();
 
-  private final ConcurrentHashMap<CQueryPlanKey, CQueryPlan> queryPlanCache = new ConcurrentHashMap<>();
+  /**
+   * The query plan cache (shared by all bean types of the server).
+   */
+  private final CQueryPlanCache queryPlanCache;
+
+  /**
+   * Cache of parsed EQL statements.
+   */
+  private final EqlStatementCache eqlCache;
 
   private final ConcurrentHashMap<String, ElPropertyValue> elCache = new ConcurrentHashMap<>();
 
@@ -110,6 +127,8 @@ public class BeanDescriptor<T> implements MetaBeanInfo, BeanType<T> {
 
   private final ConcurrentHashMap<String, ElComparator<T>> comparatorCache = new ConcurrentHashMap<>();
 
+  private final ConcurrentHashMap<String, ElFilterPlan<T>> filterPlanCache = new ConcurrentHashMap<>();
+
   private final Map<String, SpiRawSql> namedRawSql;
 
   private final Map<String, String> namedQuery;
@@ -401,6 +420,7 @@ public class BeanDescriptor<T> implements MetaBeanInfo, BeanType<T> {
 
     this.owner = owner;
     this.serverName = owner.getServerName();
+    this.queryPlanCache = owner.getQueryPlanCache();
     this.entityType = deploy.getEntityType();
     this.properties = deploy.getProperties();
     this.name = InternString.intern(deploy.getName());
@@ -408,6 +428,7 @@ public class BeanDescriptor<T> implements MetaBeanInfo, BeanType<T> {
     this.fullName = InternString.intern(deploy.getFullName());
 
     this.beanType = deploy.getBeanType();
+    this.eqlCache = new EqlStatementCache(beanType);
     this.rootBeanType = PersistenceContextUtil.root(beanType);
     this.prototypeEntityBean = createPrototypeEntityBean(beanType);
 
@@ -1236,16 +1257,65 @@ public class BeanDescriptor<T> implements MetaBeanInfo, BeanType<T> {
 
   /**
    * Put a query result into the query cache.
+   *
+   * @param dependentColumns The columns the query depends on (null for all columns)
+   * @param generation       The generation obtained before the query was executed
+   */
+  public void queryCachePut(Object id, Object queryResult, String[] dependentColumns, long generation) {
+    cacheHelp.queryCachePut(id, queryResult, dependentColumns, generation);
+  }
+
+  /**
+   * Acquire the query cache load for the key. Returns true if the caller should execute the
+   * query and load the cache or false after waiting on a concurrent load of the same key.
+   */
+  public boolean queryCacheLoadAcquire(Object key) {
+    return cacheHelp.queryCacheLoadAcquire(key);
+  }
+
+  /**
+   * Release the query cache load for the key.
+   */
+  public void queryCacheLoadRelease(Object key) {
+    cacheHelp.queryCacheLoadRelease(key);
+  }
+
+  /**
+   * Acquire the bean cache load for the id. Returns true if the caller should execute the
+   * query and load the cache or false after waiting on a concurrent load of the same id.
+   */
+  public boolean cacheBeanLoadAcquire(Object id) {
+    return cacheHelp.beanCacheLoadAcquire(id);
+  }
+
+  /**
+   * Release the bean cache load for the id.
    */
-  public void queryCachePut(Object id, Object queryResult) {
-    cacheHelp.queryCachePut(id, queryResult);
+  public void cacheBeanLoadRelease(Object id) {
+    cacheHelp.beanCacheLoadRelease(id);
   }
 
   /**
-   * Add a query cache clear into the changeSet.
+   * Add a query cache invalidation due to delete into the changeSet.
    */
-  public void queryCacheClear(CacheChangeSet changeSet) {
-    cacheHelp.queryCacheClear(changeSet);
+  public void queryCacheDelete(CacheChangeSet changeSet) {
+    cacheHelp.queryCacheDelete(changeSet);
+  }
+
+  /**
+   * Invalidate query cache entries of this bean type (and its ancestors when using inheritance).
+   * <p>
+   * Rather than clearing the query cache the changes are stamped with the generation and
+   * cached query results are validated against these stamps when they are read.
+   * </p>
+   */
+  public void queryCacheInvalidate(long generation, boolean insert, boolean delete, boolean update, Set<String> updateColumns) {
+    cacheHelp.queryCacheStamp(generation, insert, delete, update, updateColumns);
+    if (inheritInfo != null) {
+      for (InheritInfo parent = inheritInfo.getParent(); parent != null; parent = parent.getParent()) {
+        parent.desc().cacheHelp.queryCacheStamp(generation, insert, delete, update, updateColumns);
+      }
+    }
   }
 
   /**
@@ -1255,6 +1325,13 @@ public class BeanDescriptor<T> implements MetaBeanInfo, BeanType<T> {
     return cacheHelp.manyPropLoad(many, bc, parentId, readOnly);
   }
 
+  /**
+   * Try to load the beanCollections from cache (with a single bulk cache lookup) returning those that were loaded.
+   */
+  public Set<BeanCollection<?>> cacheManyPropLoadAll(BeanPropertyAssocMany<?> many, List<BeanCollection<?>> bcs, Boolean readOnly) {
+    return cacheHelp.manyPropLoadAll(many, bcs, readOnly);
+  }
+
   /**
    * Put the beanCollection into the cache.
    */
@@ -1262,6 +1339,24 @@ public class BeanDescriptor<T> implements MetaBeanInfo, BeanType<T> {
     cacheHelp.manyPropPut(many, bc, parentId);
   }
 
+  /**
+   * Put the beanCollections (keyed by parent id) into the cache.
+   */
+  public void cacheManyPropPutAll(BeanPropertyAssocMany<?> many, Map<Object, BeanCollection<?>> parentCollections) {
+    cacheHelp.manyPropPutAll(many, parentCollections);
+  }
+
+  /**
+   * Update the bean collection entries in the cache.
+   */
+  public void cacheManyPropPutAll(String name, Map<Object, Object> entries) {
+    cacheHelp.cachePutManyIdsAll(name, entries);
+  }
+
+  public void cacheManyPropRemoveAll(String propertyName, Set<Object> parentIds) {
+    cacheHelp.manyPropRemoveAll(propertyName, parentIds);
+  }
+
   /**
    * Update the bean collection entry in the cache.
    */
@@ -1326,6 +1421,20 @@ public class BeanDescriptor<T> implements MetaBeanInfo, BeanType<T> {
     cacheHelp.beanCachePutDirect(bean);
   }
 
+  /**
+   * Put all the beans into the bean cache (taking into account inheritance).
+   */
+  public void cacheBeanPutAll(Collection<?> beans) {
+    cacheHelp.beanCachePutAll(beans);
+  }
+
+  /**
+   * Put all the beans into the cache as the correct type.
+   */
+  void cacheBeanPutAllDirect(Collection<?> beans) {
+    cacheHelp.beanCachePutAllDirect(beans);
+  }
+
   /**
    * Return a bean from the bean cache (or null).
    */
@@ -1340,6 +1449,13 @@ public class BeanDescriptor<T> implements MetaBeanInfo, BeanType<T> {
     cacheHelp.beanCacheRemove(id);
   }
 
+  /**
+   * Remove the beans from the cache given their Ids.
+   */
+  public void cacheHandleDeleteByIds(Set<Object> ids) {
+    cacheHelp.beanCacheRemoveAll(ids);
+  }
+
   /**
    * Returns true if it managed to populate/load the bean from the cache.
    */
@@ -1356,6 +1472,13 @@ public class BeanDescriptor<T> implements MetaBeanInfo, BeanType<T> {
     return cacheBeanLoad(bean, ebi, id, context);
   }
 
+  /**
+   * Load the beans from the cache (with a single bulk cache lookup) returning the ones that were loaded.
+   */
+  public Set<EntityBeanIntercept> cacheBeanLoadAll(List<EntityBeanIntercept> list, PersistenceContext context, String lazyLoadProperty) {
+    return cacheHelp.beanCacheLoadAll(list, context, lazyLoadProperty);
+  }
+
   /**
    * Try to hit the cache using the natural key.
    */
@@ -1395,6 +1518,13 @@ public class BeanDescriptor<T> implements MetaBeanInfo, BeanType<T> {
     cacheHelp.handleInsert(insertRequest, changeSet);
   }
 
+  /**
+   * Add the insert or update (upsert) changes to the changeSet.
+   */
+  public void cacheHandleUpsert(Object id, PersistRequestBean<T> upsertRequest, CacheChangeSet changeSet) {
+    cacheHelp.handleUpsert(id, upsertRequest, changeSet);
+  }
+
   /**
    * Add the update to the changeSet.
    */
@@ -1499,8 +1629,15 @@ public class BeanDescriptor<T> implements MetaBeanInfo, BeanType<T> {
   }
 
   public List<MetaQueryPlanStatistic> collectQueryPlanStatisticsInternal(boolean reset, boolean collectAll) {
-    List<MetaQueryPlanStatistic> list = new ArrayList<>(queryPlanCache.size());
-    for (CQueryPlan queryPlan : queryPlanCache.values()) {
+    return collectQueryPlanStatistics(queryPlanCache.plans(beanType), reset, collectAll);
+  }
+
+  /**
+   * Return the statistics for the given query plans (that belong to this bean type).
+   */
+  public List<MetaQueryPlanStatistic> collectQueryPlanStatistics(List<CQueryPlan> plans, boolean reset, boolean collectAll) {
+    List<MetaQueryPlanStatistic> list = new ArrayList<>(plans.size());
+    for (CQueryPlan queryPlan : plans) {
       Snapshot snapshot = queryPlan.getSnapshot(reset);
       if (collectAll || snapshot.getExecutionCount() > 0) {
         list.add(snapshot);
@@ -1509,11 +1646,28 @@ public class BeanDescriptor<T> implements MetaBeanInfo, BeanType<T> {
     return list;
   }
 
+  @Override
+  public MetaEqlCacheStatistic getEqlCacheStatistic(boolean reset) {
+    return eqlCache.getStatistic(reset);
+  }
+
+  @Override
+  public MetaCacheMissCoalesceStatistic getCacheMissCoalesceStatistic(boolean reset) {
+    return cacheHelp.getCacheMissCoalesceStatistic(reset);
+  }
+
+  /**
+   * Return the parsed EQL statement (from cache or by parsing it).
+   */
+  public EqlStatement getEqlStatement(String eql) {
+    return eqlCache.get(eql);
+  }
+
   /**
    * Reset the statistics on all the query plans.
    */
   public void clearQueryStatistics() {
-    for (CQueryPlan queryPlan : queryPlanCache.values()) {
+    for (CQueryPlan queryPlan : queryPlanCache.plans(beanType)) {
       queryPlan.resetStatistics();
     }
   }
@@ -1528,11 +1682,14 @@ public class BeanDescriptor<T> implements MetaBeanInfo, BeanType<T> {
   }
 
   public CQueryPlan getQueryPlan(CQueryPlanKey key) {
-    return queryPlanCache.get(key);
+    return queryPlanCache.get(beanType, key);
   }
 
-  public void putQueryPlan(CQueryPlanKey key, CQueryPlan plan) {
-    queryPlanCache.put(key, plan);
+  /**
+   * Put the query plan into the cache given the time the plan build started.
+   */
+  public void putQueryPlan(CQueryPlanKey key, CQueryPlan plan, long buildStartNanos) {
+    queryPlanCache.put(beanType, key, plan, buildStartNanos);
   }
 
   /**
@@ -2069,15 +2226,29 @@ public class BeanDescriptor<T> implements MetaBeanInfo, BeanType<T> {
   }
 
   public void sort(List<T> list, String sortByClause) {
+    sort(list, sortByClause, false);
+  }
+
+  /**
+   * Sort the list reading the sort key of each bean once (optionally sorting in parallel).
+   */
+  public void sort(List<T> list, String sortByClause, boolean parallel) {
 
     ElComparator<T> comparator = getElComparator(sortByClause);
-    list.sort(comparator);
+    ElKeySort.sort(list, comparator, parallel);
   }
 
   public ElComparator<T> getElComparator(String propNameOrSortBy) {
     return comparatorCache.computeIfAbsent(propNameOrSortBy, this::createComparator);
   }
 
+  /**
+   * Return the compiled filter plan for the given key (operators and property paths) compiling it if required.
+   */
+  public ElFilterPlan<T> getElFilterPlan(String key, Function<String, ElFilterPlan<T>> compile) {
+    return filterPlanCache.computeIfAbsent(key, compile);
+  }
+
   /**
    * Register all the assoc many properties on this bean that are not populated with the load context.
    * <p>
@@ -3070,6 +3241,13 @@ public class BeanDescriptor<T> implements MetaBeanInfo, BeanType<T> {
     return propertiesGenUpdate;
   }
 
+  /**
+   * Return the JSON write plan for the given include properties.
+   */
+  public BeanJsonWritePlan jsonWritePlan(boolean explicitAllProps, Set<String> includeProps) {
+    return jsonHelp.jsonWritePlan(explicitAllProps, includeProps);
+  }
+
   public void jsonWriteDirty(SpiJsonWriter writeJson, EntityBean bean, boolean[] dirtyProps) throws IOException {
     jsonHelp.jsonWriteDirty(writeJson, bean, dirtyProps);
   }
@@ -5,13 +5,18 @@ import io.ebean.bean.EntityBean;
 import io.ebean.bean.EntityBeanIntercept;
 import io.ebean.bean.PersistenceContext;
 import io.ebean.cache.ServerCache;
+import io.ebean.cache.ServerCacheInvalidation;
+import io.ebean.meta.MetaCacheMissCoalesceStatistic;
 import io.ebeaninternal.api.SpiQuery;
 import io.ebeaninternal.api.TransactionEventTable.TableIUD;
 import io.ebeaninternal.server.cache.CacheChangeSet;
+import io.ebeaninternal.server.cache.CacheMissCoalescer;
 import io.ebeaninternal.server.cache.CachedBeanData;
 import io.ebeaninternal.server.cache.CachedBeanDataFromBean;
 import io.ebeaninternal.server.cache.CachedBeanDataToBean;
 import io.ebeaninternal.server.cache.CachedManyIds;
+import io.ebeaninternal.server.cache.QueryCacheEntry;
+import io.ebeaninternal.server.cache.QueryCacheStamps;
 import io.ebeaninternal.server.cache.SpiCacheManager;
 import io.ebeaninternal.server.core.CacheOptions;
 import io.ebeaninternal.server.core.PersistRequest;
@@ -23,9 +28,13 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Helper for BeanDescriptor that manages the bean, query and collection caches.
@@ -63,6 +72,21 @@ final class BeanDescriptorCacheHelp<T> {
   private final ServerCache naturalKeyCache;
   private final ServerCache queryCache;
 
+  /**
+   * Generation of the last insert, delete and column updates used to validate query cache entries.
+   */
+  private final QueryCacheStamps queryCacheStamps = new QueryCacheStamps();
+
+  /**
+   * Coalesces concurrent query cache misses for the same query hash.
+   */
+  private final CacheMissCoalescer queryCacheLoads = new CacheMissCoalescer();
+
+  /**
+   * Coalesces concurrent bean cache misses (find by id) for the same id.
+   */
+  private final CacheMissCoalescer beanCacheLoads = new CacheMissCoalescer();
+
   /**
    * Set to true if all persist changes need to notify the cache.
    */
@@ -179,12 +203,65 @@ final class BeanDescriptorCacheHelp<T> {
   }
 
   /**
-   * Add query cache clear to the changeSet.
+   * Add query cache invalidation due to delete to the changeSet.
    */
-  void queryCacheClear(CacheChangeSet changeSet) {
+  void queryCacheDelete(CacheChangeSet changeSet) {
     if (queryCache != null) {
-      changeSet.addClearQuery(desc);
+      changeSet.addQueryDelete(desc);
+    }
+  }
+
+  /**
+   * Stamp the changes used to validate query cache entries of this bean type.
+   */
+  void queryCacheStamp(long generation, boolean insert, boolean delete, boolean update, Set<String> updateColumns) {
+    if (insert) {
+      queryCacheStamps.inserted(generation);
+    }
+    if (delete) {
+      queryCacheStamps.deleted(generation);
     }
+    if (update) {
+      queryCacheStamps.updated(generation, updateColumns);
+    }
+  }
+
+  /**
+   * Acquire the query cache load for the given key returning true if the caller should execute the query.
+   */
+  boolean queryCacheLoadAcquire(Object key) {
+    return queryCacheLoads.acquire(key);
+  }
+
+  /**
+   * Release the query cache load for the given key.
+   */
+  void queryCacheLoadRelease(Object key) {
+    queryCacheLoads.release(key);
+  }
+
+  /**
+   * Acquire the bean cache load for the given id returning true if the caller should execute the query.
+   */
+  boolean beanCacheLoadAcquire(Object id) {
+    return beanCacheLoads.acquire(id);
+  }
+
+  /**
+   * Release the bean cache load for the given id.
+   */
+  void beanCacheLoadRelease(Object id) {
+    beanCacheLoads.release(id);
+  }
+
+  /**
+   * Return the cache miss coalescing statistics.
+   */
+  MetaCacheMissCoalesceStatistic getCacheMissCoalesceStatistic(boolean reset) {
+    long timeouts = queryCacheLoads.getTimeoutCount(reset) + beanCacheLoads.getTimeoutCount(reset);
+    return new CoalesceStatistic(beanType,
+      queryCacheLoads.getLoadCount(reset), queryCacheLoads.getWaitCount(reset),
+      beanCacheLoads.getLoadCount(reset), beanCacheLoads.getWaitCount(reset), timeouts);
   }
 
   /**
@@ -195,6 +272,18 @@ final class BeanDescriptorCacheHelp<T> {
       throw new IllegalStateException("No query cache enabled on " + desc + ". Need explicit @Cache(enableQueryCache=true)");
     }
     Object queryResult = queryCache.get(id);
+    if (queryResult instanceof QueryCacheEntry) {
+      QueryCacheEntry entry = (QueryCacheEntry) queryResult;
+      ServerCacheInvalidation cause = queryCacheStamps.check(entry);
+      if (cause != null) {
+        if (queryLog.isDebugEnabled()) {
+          queryLog.debug("   GET {}({}) - invalidated by {}", cacheName, id, cause);
+        }
+        queryCache.invalidate(id, cause);
+        return null;
+      }
+      queryResult = entry.getValue();
+    }
     if (queryLog.isDebugEnabled()) {
       if (queryResult == null) {
         queryLog.debug("   GET {}({}) - cache miss", cacheName, id);
@@ -207,15 +296,18 @@ final class BeanDescriptorCacheHelp<T> {
 
   /**
    * Put a query result into the query cache.
+   *
+   * @param dependentColumns The columns the query depends on (null for all columns)
+   * @param generation       The generation obtained before the query was executed
    */
-  void queryCachePut(Object id, Object queryResult) {
+  void queryCachePut(Object id, Object queryResult, String[] dependentColumns, long generation) {
     if (queryCache == null) {
       throw new IllegalStateException("No query cache enabled on " + desc + ". Need explicit @Cache(enableQueryCache=true)");
     }
     if (queryLog.isDebugEnabled()) {
       queryLog.debug("   PUT {}({})", cacheName, id);
     }
-    queryCache.put(id, queryResult);
+    queryCache.put(id, new QueryCacheEntry(queryResult, dependentColumns, generation));
   }
 
 
@@ -227,6 +319,14 @@ final class BeanDescriptorCacheHelp<T> {
     collectionIdsCache.remove(parentId);
   }
 
+  void manyPropRemoveAll(String propertyName, Set<Object> parentIds) {
+    ServerCache collectionIdsCache = cacheManager.getCollectionIdsCache(beanType, propertyName);
+    if (manyLog.isTraceEnabled()) {
+      manyLog.trace("   REMOVE {}({}).{}", cacheName, parentIds, propertyName);
+    }
+    collectionIdsCache.removeAll(parentIds);
+  }
+
   void manyPropClear(String propertyName) {
     ServerCache collectionIdsCache = cacheManager.getCollectionIdsCache(beanType, propertyName);
     if (manyLog.isDebugEnabled()) {
@@ -262,6 +362,43 @@ final class BeanDescriptorCacheHelp<T> {
       return false;
     }
 
+    manyPropHydrate(many, bc, entry, readOnly);
+    return true;
+  }
+
+  /**
+   * Try to load the bean collections from cache using a single bulk cache lookup.
+   * <p>
+   * Returns the bean collections that were successfully loaded from the cache.
+   * </p>
+   */
+  Set<BeanCollection<?>> manyPropLoadAll(BeanPropertyAssocMany<?> many, List<BeanCollection<?>> bcs, Boolean readOnly) {
+
+    Map<Object, BeanCollection<?>> parentIds = new LinkedHashMap<>();
+    for (BeanCollection<?> bc : bcs) {
+      parentIds.put(desc.getId(bc.getOwnerBean()), bc);
+    }
+
+    ServerCache collectionIdsCache = cacheManager.getCollectionIdsCache(beanType, many.getName());
+    Map<Object, Object> hits = collectionIdsCache.getAll(parentIds.keySet());
+    if (manyLog.isDebugEnabled()) {
+      manyLog.debug("   GET ALL {}({}).{} - hits:{}", cacheName, parentIds.keySet(), many.getName(), hits.keySet());
+    }
+
+    Set<BeanCollection<?>> loaded = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (Map.Entry<Object, Object> hit : hits.entrySet()) {
+      BeanCollection<?> bc = parentIds.get(hit.getKey());
+      manyPropHydrate(many, bc, (CachedManyIds) hit.getValue(), readOnly);
+      loaded.add(bc);
+    }
+    return loaded;
+  }
+
+  /**
+   * Populate the bean collection with references using the cached ids.
+   */
+  private void manyPropHydrate(BeanPropertyAssocMany<?> many, BeanCollection<?> bc, CachedManyIds entry, Boolean readOnly) {
+
     Object ownerBean = bc.getOwnerBean();
     EntityBeanIntercept ebi = ((EntityBean) ownerBean)._ebean_getIntercept();
     PersistenceContext persistenceContext = ebi.getPersistenceContext();
@@ -274,7 +411,6 @@ final class BeanDescriptorCacheHelp<T> {
       Object refBean = targetDescriptor.createReference(readOnly, false, id, persistenceContext);
       many.add(bc, (EntityBean) refBean);
     }
-    return true;
   }
 
   /**
@@ -288,6 +424,32 @@ final class BeanDescriptorCacheHelp<T> {
     }
   }
 
+  /**
+   * Put the bean collections into the cache keyed by their parent ids.
+   */
+  void manyPropPutAll(BeanPropertyAssocMany<?> many, Map<Object, BeanCollection<?>> parentCollections) {
+
+    Map<Object, Object> entries = new LinkedHashMap<>();
+    for (Map.Entry<Object, BeanCollection<?>> entry : parentCollections.entrySet()) {
+      CachedManyIds manyIds = createManyIds(many, entry.getValue());
+      if (manyIds != null) {
+        entries.put(entry.getKey(), manyIds);
+      }
+    }
+    if (!entries.isEmpty()) {
+      cachePutManyIdsAll(many.getName(), entries);
+    }
+  }
+
+  void cachePutManyIdsAll(String manyName, Map<Object, Object> entries) {
+
+    ServerCache collectionIdsCache = cacheManager.getCollectionIdsCache(beanType, manyName);
+    if (manyLog.isDebugEnabled()) {
+      manyLog.debug("   PUT ALL {}.{} - entries:{}", cacheName, manyName, entries);
+    }
+    collectionIdsCache.putAll(entries);
+  }
+
   void cachePutManyIds(Object parentId, String manyName, CachedManyIds entry) {
 
     ServerCache collectionIdsCache = cacheManager.getCollectionIdsCache(beanType, manyName);
@@ -425,6 +587,60 @@ final class BeanDescriptorCacheHelp<T> {
     }
   }
 
+  /**
+   * Put all the beans into the bean cache (taking into account inheritance).
+   */
+  void beanCachePutAll(Collection<?> beans) {
+
+    if (desc.inheritInfo == null) {
+      beanCachePutAllDirect(beans);
+      return;
+    }
+    // group by the actual bean type
+    Map<BeanDescriptor<?>, List<Object>> byType = new LinkedHashMap<>();
+    for (Object bean : beans) {
+      byType.computeIfAbsent(desc.descOf(bean.getClass()), d -> new ArrayList<>()).add(bean);
+    }
+    for (Map.Entry<BeanDescriptor<?>, List<Object>> entry : byType.entrySet()) {
+      entry.getKey().cacheBeanPutAllDirect(entry.getValue());
+    }
+  }
+
+  /**
+   * Put all the beans into the bean cache (and natural key cache) using bulk puts.
+   */
+  void beanCachePutAllDirect(Collection<?> beans) {
+
+    Map<Object, Object> beanDataMap = new LinkedHashMap<>();
+    Map<Object, Object> naturalKeys = (naturalKeyProperty == null) ? null : new LinkedHashMap<>();
+
+    for (Object bean : beans) {
+      EntityBean entityBean = (EntityBean) bean;
+      CachedBeanData beanData = beanExtractData(desc, entityBean);
+      Object id = desc.getId(entityBean);
+      if (beanLog.isDebugEnabled()) {
+        beanLog.debug("   PUT {}({}) data:{}", cacheName, id, beanData);
+      }
+      beanDataMap.put(id, beanData);
+      if (naturalKeys != null) {
+        Object naturalKey = beanData.getData(naturalKeyProperty);
+        if (naturalKey != null) {
+          if (natLog.isDebugEnabled()) {
+            natLog.debug(" PUT {}({}, {})", cacheName, naturalKey, id);
+          }
+          naturalKeys.put(naturalKey, id);
+        }
+      }
+    }
+
+    if (!beanDataMap.isEmpty()) {
+      getBeanCache().putAll(beanDataMap);
+    }
+    if (naturalKeys != null && !naturalKeys.isEmpty()) {
+      naturalKeyCache.putAll(naturalKeys);
+    }
+  }
+
   CachedBeanData beanCacheGetData(Object id) {
     return (CachedBeanData) getBeanCache().get(id);
   }
@@ -556,22 +772,72 @@ final class BeanDescriptorCacheHelp<T> {
     }
   }
 
+  /**
+   * Remove the beans from the cache given their Ids.
+   */
+  void beanCacheRemoveAll(Set<Object> ids) {
+    if (beanCache != null) {
+      if (beanLog.isDebugEnabled()) {
+        beanLog.debug("   REMOVE {}({})", cacheName, ids);
+      }
+      beanCache.removeAll(ids);
+    }
+    for (BeanPropertyAssocOne<?> aPropertiesOneImported : propertiesOneImported) {
+      aPropertiesOneImported.cacheClear();
+    }
+  }
+
   /**
    * Returns true if it managed to populate/load the bean from the cache.
    */
   boolean beanCacheLoad(EntityBean bean, EntityBeanIntercept ebi, Object id, PersistenceContext context) {
 
     CachedBeanData cacheData = (CachedBeanData) getBeanCache().get(id);
+    String lazyLoadProperty = (ebi.getLazyLoadPropertyIndex() > -1) ? ebi.getLazyLoadProperty() : null;
+    return beanCacheLoad(bean, id, cacheData, lazyLoadProperty, context);
+  }
+
+  /**
+   * Load the beans from the cache using a single bulk cache lookup.
+   * <p>
+   * Returns the bean intercepts of the beans that were successfully loaded from the cache.
+   * Cache entries are only treated as a hit when they contain the lazy load property (if specified).
+   * </p>
+   */
+  Set<EntityBeanIntercept> beanCacheLoadAll(List<EntityBeanIntercept> list, PersistenceContext context, String lazyLoadProperty) {
+
+    Map<Object, EntityBeanIntercept> ebis = new LinkedHashMap<>();
+    for (EntityBeanIntercept ebi : list) {
+      ebis.put(desc.getId(ebi.getOwner()), ebi);
+    }
+
+    Map<Object, Object> hits = getBeanCache().getAll(ebis.keySet());
+
+    Set<EntityBeanIntercept> loaded = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (Map.Entry<Object, EntityBeanIntercept> entry : ebis.entrySet()) {
+      Object id = entry.getKey();
+      EntityBeanIntercept ebi = entry.getValue();
+      if (beanCacheLoad(ebi.getOwner(), id, (CachedBeanData) hits.get(id), lazyLoadProperty, context)) {
+        loaded.add(ebi);
+      }
+    }
+    return loaded;
+  }
+
+  /**
+   * Load the bean from the cache data returning true if successful.
+   */
+  private boolean beanCacheLoad(EntityBean bean, Object id, CachedBeanData cacheData, String lazyLoadProperty, PersistenceContext context) {
+
     if (cacheData == null) {
       if (beanLog.isTraceEnabled()) {
         beanLog.trace("   LOAD {}({}) - cache miss", cacheName, id);
       }
       return false;
     }
-    int lazyLoadProperty = ebi.getLazyLoadPropertyIndex();
-    if (lazyLoadProperty > -1 && !cacheData.isLoaded(ebi.getLazyLoadProperty())) {
+    if (lazyLoadProperty != null && !cacheData.isLoaded(lazyLoadProperty)) {
       if (beanLog.isTraceEnabled()) {
-        beanLog.trace("   LOAD {}({}) - cache miss on property({})", cacheName, id, ebi.getLazyLoadProperty());
+        beanLog.trace("   LOAD {}({}) - cache miss on property({})", cacheName, id, lazyLoadProperty);
       }
       return false;
     }
@@ -597,7 +863,7 @@ final class BeanDescriptorCacheHelp<T> {
    * Add appropriate cache changes to support delete bean.
    */
   void handleDelete(Object id, PersistRequestBean<T> deleteRequest, CacheChangeSet changeSet) {
-    queryCacheClear(changeSet);
+    queryCacheDelete(changeSet);
     if (beanCache != null) {
       changeSet.addBeanRemove(desc, id);
     }
@@ -608,11 +874,32 @@ final class BeanDescriptorCacheHelp<T> {
    * Add appropriate cache changes to support insert.
    */
   void handleInsert(PersistRequestBean<T> insertRequest, CacheChangeSet changeSet) {
-    queryCacheClear(changeSet);
+    if (queryCache != null) {
+      changeSet.addQueryInsert(desc);
+    }
     cacheDeleteImported(false, insertRequest.getEntityBean(), changeSet);
     changeSet.addBeanInsert(desc.getBaseTable());
   }
 
+  /**
+   * Add appropriate cache changes to support an insert or update (upsert).
+   * <p>
+   * It is not known if the row was inserted or updated (or which columns changed)
+   * so this is treated as both an insert and an update of all columns.
+   * </p>
+   */
+  void handleUpsert(Object id, PersistRequestBean<T> upsertRequest, CacheChangeSet changeSet) {
+    if (queryCache != null) {
+      changeSet.addQueryInsert(desc);
+      changeSet.addQueryUpdate(desc, null);
+    }
+    if (beanCache != null) {
+      changeSet.addBeanRemove(desc, id);
+    }
+    cacheDeleteImported(true, upsertRequest.getEntityBean(), changeSet);
+    changeSet.addBeanInsert(desc.getBaseTable());
+  }
+
   private void cacheDeleteImported(boolean clear, EntityBean entityBean, CacheChangeSet changeSet) {
     for (BeanPropertyAssocOne<?> aPropertiesOneImported : propertiesOneImported) {
       aPropertiesOneImported.cacheDelete(clear, entityBean, changeSet);
@@ -624,7 +911,9 @@ final class BeanDescriptorCacheHelp<T> {
    */
   void handleUpdate(Object id, PersistRequestBean<T> updateRequest, CacheChangeSet changeSet) {
 
-    queryCacheClear(changeSet);
+    if (queryCache != null) {
+      changeSet.addQueryUpdate(desc, updatedColumns(updateRequest));
+    }
 
     if (beanCache == null) {
       // query caching only
@@ -668,6 +957,59 @@ final class BeanDescriptorCacheHelp<T> {
     }
   }
 
+  /**
+   * Return the (lower case) columns updated by the request or null if they are not known.
+   * <p>
+   * Generated properties (like when modified) and the version column are included as they
+   * are updated without being dirty.
+   * </p>
+   */
+  private Set<String> updatedColumns(PersistRequestBean<T> updateRequest) {
+
+    if (updateRequest.isUpdatedManysOnly()) {
+      // the intersection table changed which could affect queries with joins
+      return null;
+    }
+    Set<String> columns = new HashSet<>();
+    boolean[] dirtyProperties = updateRequest.getDirtyProperties();
+    for (int i = 0; i < dirtyProperties.length; i++) {
+      if (dirtyProperties[i] && !addColumn(columns, desc.propertiesIndex[i])) {
+        return null;
+      }
+    }
+    for (BeanProperty property : desc.propertiesGenUpdate()) {
+      if (!addColumn(columns, property)) {
+        return null;
+      }
+    }
+    BeanProperty version = desc.getVersionProperty();
+    if (version != null && !addColumn(columns, version)) {
+      return null;
+    }
+    return columns;
+  }
+
+  /**
+   * Add the column of the property returning false if the property does not map to a single column.
+   */
+  private boolean addColumn(Set<String> columns, BeanProperty property) {
+    if (property.isTransient()) {
+      return true;
+    }
+    if (property.isEmbedded() || property instanceof BeanPropertyAssocMany) {
+      return false;
+    }
+    if (property instanceof BeanPropertyAssocOne && ((BeanPropertyAssocOne<?>) property).isOneToOneExported()) {
+      return false;
+    }
+    String column = QueryCacheStamps.column(property.getDbColumn());
+    if (column == null) {
+      return false;
+    }
+    columns.add(column);
+    return true;
+  }
+
   /**
    * Invalidate parts of cache due to SqlUpdate or external modification etc.
    */
@@ -723,4 +1065,60 @@ final class BeanDescriptorCacheHelp<T> {
     }
   }
 
+
+  private static final class CoalesceStatistic implements MetaCacheMissCoalesceStatistic {
+
+    private final Class<?> beanType;
+    private final long queryCacheLoadCount;
+    private final long queryCacheWaitCount;
+    private final long beanCacheLoadCount;
+    private final long beanCacheWaitCount;
+    private final long timeoutCount;
+
+    CoalesceStatistic(Class<?> beanType, long queryCacheLoadCount, long queryCacheWaitCount,
+                      long beanCacheLoadCount, long beanCacheWaitCount, long timeoutCount) {
+      this.beanType = beanType;
+      this.queryCacheLoadCount = queryCacheLoadCount;
+      this.queryCacheWaitCount = queryCacheWaitCount;
+      this.beanCacheLoadCount = beanCacheLoadCount;
+      this.beanCacheWaitCount = beanCacheWaitCount;
+      this.timeoutCount = timeoutCount;
+    }
+
+    @Override
+    public String toString() {
+      return "beanType:" + beanType.getName() + " queryLoad:" + queryCacheLoadCount + " queryWait:" + queryCacheWaitCount
+        + " beanLoad:" + beanCacheLoadCount + " beanWait:" + beanCacheWaitCount + " timeout:" + timeoutCount;
+    }
+
+    @Override
+    public Class<?> getBeanType() {
+      return beanType;
+    }
+
+    @Override
+    public long getQueryCacheLoadCount() {
+      return queryCacheLoadCount;
+    }
+
+    @Override
+    public long getQueryCacheWaitCount() {
+      return queryCacheWaitCount;
+    }
+
+    @Override
+    public long getBeanCacheLoadCount() {
+      return beanCacheLoadCount;
+    }
+
+    @Override
+    public long getBeanCacheWaitCount() {
+      return beanCacheWaitCount;
+    }
+
+    @Override
+    public long getTimeoutCount() {
+      return timeoutCount;
+    }
+  }
 }
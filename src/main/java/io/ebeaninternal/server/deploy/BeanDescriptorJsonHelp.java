@@ -9,20 +9,69 @@ import io.ebeaninternal.server.text.json.ReadJson;
 import io.ebeaninternal.server.text.json.SpiJsonWriter;
 
 import java.io.IOException;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class BeanDescriptorJsonHelp<T> {
 
   private final BeanDescriptor<T> desc;
 
+  /**
+   * Maximum number of write plans cached for explicit include properties.
+   */
+  private static final int MAX_INCLUDE_PLANS = 1000;
+
   private final InheritInfo inheritInfo;
 
+  private final ConcurrentHashMap<Set<String>, BeanJsonWritePlan> includePlans = new ConcurrentHashMap<>();
+
+  private BeanJsonWritePlan loadedPlan;
+
+  private BeanJsonWritePlan allPlan;
+
   public BeanDescriptorJsonHelp(BeanDescriptor<T> desc) {
     this.desc = desc;
     this.inheritInfo = desc.inheritInfo;
   }
 
+  /**
+   * Return the write plan for the given include properties.
+   *
+   * @param explicitAllProps True when all properties are explicitly included
+   * @param includeProps     The properties to include or null to include the loaded properties
+   */
+  public BeanJsonWritePlan jsonWritePlan(boolean explicitAllProps, Set<String> includeProps) {
+
+    if (explicitAllProps) {
+      BeanJsonWritePlan plan = allPlan;
+      if (plan == null) {
+        plan = BeanJsonWritePlan.include(desc, null);
+        allPlan = plan;
+      }
+      return plan;
+    }
+    if (includeProps == null) {
+      BeanJsonWritePlan plan = loadedPlan;
+      if (plan == null) {
+        plan = BeanJsonWritePlan.loaded(desc);
+        loadedPlan = plan;
+      }
+      return plan;
+    }
+    BeanJsonWritePlan plan = includePlans.get(includeProps);
+    if (plan == null) {
+      plan = BeanJsonWritePlan.include(desc, includeProps);
+      if (includePlans.size() < MAX_INCLUDE_PLANS) {
+        // copy as the include properties could be subsequently mutated
+        includePlans.put(new HashSet<>(includeProps), plan);
+      }
+    }
+    return plan;
+  }
+
   public void jsonWrite(SpiJsonWriter writeJson, EntityBean bean, String key) throws IOException {
 
     writeJson.writeStartObject(key);
@@ -48,6 +48,7 @@ import io.ebeaninternal.server.deploy.parse.TransientProperties;
 import io.ebeaninternal.server.properties.BeanPropertiesReader;
 import io.ebeaninternal.server.properties.BeanPropertyAccess;
 import io.ebeaninternal.server.properties.EnhanceBeanPropertyAccess;
+import io.ebeaninternal.server.query.CQueryPlanCache;
 import io.ebeaninternal.xmlmapping.XmlMappingReader;
 import io.ebeaninternal.xmlmapping.model.XmAliasMapping;
 import io.ebeaninternal.xmlmapping.model.XmColumnMapping;
@@ -79,6 +80,11 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Function;
 
 /**
  * Creates BeanDescriptors.
@@ -138,6 +144,16 @@ public class BeanDescriptorManager implements BeanDescriptorMap {
 
   private final String serverName;
 
+  /**
+   * The number of threads used for the independent deployment phases.
+   */
+  private final int deployParallelism;
+
+  /**
+   * Pool executing the independent deployment phases (null when deploying on the calling thread).
+   */
+  private ForkJoinPool deployPool;
+
   private Map<Class<?>, DeployBeanInfo<?>> deployInfoMap = new HashMap<>();
 
   private final Map<Class<?>, BeanTable> beanTableMap = new HashMap<>();
@@ -162,6 +178,8 @@ public class BeanDescriptorManager implements BeanDescriptorMap {
 
   private final SpiCacheManager cacheManager;
 
+  private final CQueryPlanCache queryPlanCache;
+
   private final BackgroundExecutor backgroundExecutor;
 
   private final int dbSequenceBatchSize;
@@ -194,6 +212,7 @@ public class BeanDescriptorManager implements BeanDescriptorMap {
     this.serverConfig = config.getServerConfig();
     this.serverName = InternString.intern(serverConfig.getName());
     this.cacheManager = config.getCacheManager();
+    this.queryPlanCache = new CQueryPlanCache(serverConfig.getQueryPlanCacheMaxSize());
     this.docStoreFactory = config.getDocStoreFactory();
     this.dbSequenceBatchSize = serverConfig.getDatabaseSequenceBatchSize();
     this.backgroundExecutor = config.getBackgroundExecutor();
@@ -202,6 +221,7 @@ public class BeanDescriptorManager implements BeanDescriptorMap {
     this.databasePlatform = serverConfig.getDatabasePlatform();
     this.idBinderFactory = new IdBinderFactory(databasePlatform.isIdInExpandedForm());
     this.eagerFetchLobs = serverConfig.isEagerFetchLobs();
+    this.deployParallelism = serverConfig.getDeployParallelism();
 
     this.asOfViewSuffix = getAsOfViewSuffix(databasePlatform, serverConfig);
     String versionsBetweenSuffix = getVersionsBetweenSuffix(databasePlatform, serverConfig);
@@ -213,7 +233,7 @@ public class BeanDescriptorManager implements BeanDescriptorMap {
     this.deplyInherit = config.getDeployInherit();
     this.deployUtil = config.getDeployUtil();
 
-    this.beanManagerFactory = new BeanManagerFactory(config.getDatabasePlatform());
+    this.beanManagerFactory = new BeanManagerFactory(config.getDatabasePlatform(), serverConfig.isPersistBatchMultiRowInsert());
 
     this.updateChangesOnly = serverConfig.isUpdateChangesOnly();
 
@@ -286,6 +306,11 @@ public class BeanDescriptorManager implements BeanDescriptorMap {
     return cacheManager;
   }
 
+  @Override
+  public CQueryPlanCache getQueryPlanCache() {
+    return queryPlanCache;
+  }
+
   @Override
   public NamingConvention getNamingConvention() {
     return namingConvention;
@@ -318,8 +343,11 @@ public class BeanDescriptorManager implements BeanDescriptorMap {
   public Map<String, String> deploy() {
 
     try {
+      deployPool = createDeployPool();
+      long start = System.currentTimeMillis();
       createListeners();
       readEntityDeploymentInitial();
+      long readInitial = System.currentTimeMillis();
       readXmlMapping();
       readEmbeddedDeployment();
       readEntityBeanTable();
@@ -331,13 +359,20 @@ public class BeanDescriptorManager implements BeanDescriptorMap {
       List<BeanDescriptor<?>> list = new ArrayList<>(descMap.values());
       list.sort(beanDescComparator);
       immutableDescriptorList = Collections.unmodifiableList(list);
+      long readRelationships = System.currentTimeMillis();
 
       initialiseAll();
+      long initialise = System.currentTimeMillis();
+      createBeanManagers();
+      long beanManagers = System.currentTimeMillis();
       readForeignKeys();
 
       readTableToDescriptor();
 
       logStatus();
+      logger.debug("Deploy timing readAnnotations[{}] relationships[{}] initialise[{}] beanManagers[{}] total[{}] millis parallelism[{}]",
+        readInitial - start, readRelationships - readInitial, initialise - readRelationships, beanManagers - initialise,
+        System.currentTimeMillis() - start, deployPool == null ? 1 : deployParallelism);
 
       deployInfoMap.clear();
       deployInfoMap = null;
@@ -347,9 +382,77 @@ public class BeanDescriptorManager implements BeanDescriptorMap {
     } catch (RuntimeException e) {
       logger.error("Error in deployment", e);
       throw e;
+
+    } finally {
+      if (deployPool != null) {
+        deployPool.shutdown();
+        deployPool = null;
+      }
     }
   }
 
+  /**
+   * Create the pool used for the independent deployment phases (null when not deploying in parallel).
+   * <p>
+   * The worker threads use the context class loader of the deploying thread.
+   * </p>
+   */
+  private ForkJoinPool createDeployPool() {
+
+    if (deployParallelism <= 1) {
+      return null;
+    }
+    ClassLoader contextLoader = Thread.currentThread().getContextClassLoader();
+    return new ForkJoinPool(deployParallelism, pool -> {
+      ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+      thread.setName("ebean-deploy-" + serverName + "-" + thread.getPoolIndex());
+      thread.setContextClassLoader(contextLoader);
+      return thread;
+    }, null, false);
+  }
+
+  /**
+   * Apply the function to each of the sources returning the results in the same order.
+   * <p>
+   * The function is applied in parallel using the deploy pool when available and as such
+   * must only use the source and thread safe deployment state.
+   * </p>
+   */
+  private <S, R> List<R> deployEach(List<S> sources, Function<S, R> function) {
+
+    List<R> results = new ArrayList<>(sources.size());
+    if (deployPool == null || sources.size() < 2) {
+      for (S source : sources) {
+        results.add(function.apply(source));
+      }
+      return results;
+    }
+
+    List<ForkJoinTask<R>> tasks = new ArrayList<>(sources.size());
+    for (S source : sources) {
+      tasks.add(deployPool.submit(() -> function.apply(source)));
+    }
+    for (ForkJoinTask<R> task : tasks) {
+      try {
+        results.add(task.get());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new PersistenceException("Interrupted during deployment", e);
+      } catch (ExecutionException e) {
+        // rethrow the original deployment error
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+          throw (Error) cause;
+        }
+        throw new PersistenceException(cause);
+      }
+    }
+    return results;
+  }
+
   private void readXmlMapping() {
 
     try {
@@ -553,15 +656,32 @@ public class BeanDescriptorManager implements BeanDescriptorMap {
       d.initialiseDocMapping();
     }
 
-    // create BeanManager for each non-embedded entity bean
     for (BeanDescriptor<?> d : descMap.values()) {
       d.initLast();
+    }
+  }
+
+  /**
+   * Create the BeanManager for each non-embedded entity bean.
+   * <p>
+   * The DML (insert, update and delete meta data) for each bean type only depends on its
+   * own initialised BeanDescriptor and is created in parallel.
+   * </p>
+   */
+  private void createBeanManagers() {
+
+    List<BeanDescriptor<?>> entities = new ArrayList<>();
+    for (BeanDescriptor<?> d : descMap.values()) {
       if (!d.isEmbedded()) {
-        BeanManager<?> m = beanManagerFactory.create(d);
-        beanManagerMap.put(d.getFullName(), m);
-        checkForValidEmbeddedId(d);
+        entities.add(d);
       }
     }
+    List<BeanManager<?>> managers = deployEach(entities, beanManagerFactory::create);
+    for (int i = 0; i < entities.size(); i++) {
+      BeanDescriptor<?> d = entities.get(i);
+      beanManagerMap.put(d.getFullName(), managers.get(i));
+      checkForValidEmbeddedId(d);
+    }
   }
 
   private void checkForValidEmbeddedId(BeanDescriptor<?> d) {
@@ -674,14 +794,19 @@ public class BeanDescriptorManager implements BeanDescriptorMap {
    */
   private void readEntityDeploymentInitial() {
 
-    for (Class<?> entityClass : bootupClasses.getEntities()) {
-      DeployBeanInfo<?> info = createDeployBeanInfo(entityClass);
-      deployInfoMap.put(entityClass, info);
-    }
-    for (Class<?> entityClass : bootupClasses.getEmbeddables()) {
-      DeployBeanInfo<?> info = createDeployBeanInfo(entityClass);
-      readDeployAssociations(info);
-      deployInfoMap.put(entityClass, info);
+    // reading the annotations of each bean type is independent so done in parallel
+    List<Class<?>> entities = bootupClasses.getEntities();
+    List<Class<?>> beanClasses = new ArrayList<>(entities);
+    beanClasses.addAll(bootupClasses.getEmbeddables());
+    List<DeployBeanInfo<?>> infos = deployEach(beanClasses, this::createDeployBeanInfo);
+
+    for (int i = 0; i < beanClasses.size(); i++) {
+      DeployBeanInfo<?> info = infos.get(i);
+      if (i >= entities.size()) {
+        // embeddable
+        readDeployAssociations(info);
+      }
+      deployInfoMap.put(beanClasses.get(i), info);
     }
   }
 
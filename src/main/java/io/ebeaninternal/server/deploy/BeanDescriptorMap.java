@@ -6,6 +6,7 @@ import io.ebean.config.ServerConfig;
 import io.ebeaninternal.server.cache.SpiCacheManager;
 import io.ebeaninternal.server.deploy.id.IdBinder;
 import io.ebeaninternal.server.deploy.meta.DeployBeanDescriptor;
+import io.ebeaninternal.server.query.CQueryPlanCache;
 import io.ebeanservice.docstore.api.DocStoreBeanAdapter;
 
 /**
@@ -31,6 +32,11 @@ public interface BeanDescriptorMap {
    */
   SpiCacheManager getCacheManager();
 
+  /**
+   * Return the query plan cache.
+   */
+  CQueryPlanCache getQueryPlanCache();
+
   /**
    * Return the naming convention.
    */
@@ -0,0 +1,120 @@
+package io.ebeaninternal.server.deploy;
+
+import io.ebean.bean.EntityBean;
+import io.ebean.bean.EntityBeanIntercept;
+import io.ebeaninternal.server.text.json.SpiJsonWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The ordered properties to write to JSON for a bean type given the included properties.
+ * <p>
+ * The properties are determined once per bean type and include properties (typically from a
+ * FetchPath) such that writing each bean does not need to check each property against the
+ * include properties. When there are no explicit include properties the plan writes only the
+ * loaded properties.
+ * </p>
+ */
+public final class BeanJsonWritePlan {
+
+  /**
+   * True when only loaded properties are written (no explicit include properties).
+   */
+  private final boolean loadedOnly;
+
+  private final BeanProperty idProperty;
+
+  /**
+   * Properties written when they are loaded (loadedOnly mode).
+   */
+  private final BeanProperty[] loadedProps;
+
+  /**
+   * Properties always written (after the loadedProps).
+   */
+  private final BeanProperty[] props;
+
+  private BeanJsonWritePlan(boolean loadedOnly, BeanProperty idProperty, List<BeanProperty> loadedProps, List<BeanProperty> props) {
+    this.loadedOnly = loadedOnly;
+    this.idProperty = idProperty;
+    this.loadedProps = loadedProps.toArray(new BeanProperty[loadedProps.size()]);
+    this.props = props.toArray(new BeanProperty[props.size()]);
+  }
+
+  /**
+   * Create the plan that writes the loaded properties (and transient properties).
+   */
+  static BeanJsonWritePlan loaded(BeanDescriptor<?> desc) {
+
+    List<BeanProperty> loadedProps = new ArrayList<>();
+    addSerialize(loadedProps, desc.getIdProperty());
+    for (BeanProperty prop : desc.propertiesNonTransient()) {
+      addSerialize(loadedProps, prop);
+    }
+    List<BeanProperty> props = new ArrayList<>();
+    addTransient(props, desc, null);
+    return new BeanJsonWritePlan(true, desc.getIdProperty(), loadedProps, props);
+  }
+
+  /**
+   * Create the plan that writes all the properties or just the include properties when not null.
+   */
+  static BeanJsonWritePlan include(BeanDescriptor<?> desc, Set<String> includeProps) {
+
+    List<BeanProperty> props = new ArrayList<>();
+    addInclude(props, desc.getIdProperty(), includeProps);
+    for (BeanProperty prop : desc.propertiesNonTransient()) {
+      addInclude(props, prop, includeProps);
+    }
+    addTransient(props, desc, includeProps);
+    return new BeanJsonWritePlan(false, null, new ArrayList<>(), props);
+  }
+
+  private static void addTransient(List<BeanProperty> props, BeanDescriptor<?> desc, Set<String> includeProps) {
+    for (BeanProperty prop : desc.propertiesTransient()) {
+      if (!prop.isUnmappedJson()) {
+        addInclude(props, prop, includeProps);
+      }
+    }
+  }
+
+  private static void addInclude(List<BeanProperty> props, BeanProperty prop, Set<String> includeProps) {
+    if (prop != null && (includeProps == null || includeProps.contains(prop.getName()))) {
+      addSerialize(props, prop);
+    }
+  }
+
+  private static void addSerialize(List<BeanProperty> props, BeanProperty prop) {
+    if (prop != null && prop.isJsonSerialize()) {
+      props.add(prop);
+    }
+  }
+
+  /**
+   * Write the properties of the bean.
+   */
+  public void write(SpiJsonWriter writeJson, EntityBean bean) throws IOException {
+
+    if (loadedOnly) {
+      EntityBeanIntercept ebi = bean._ebean_getIntercept();
+      if (ebi.isReference()) {
+        // only write the id of a reference bean
+        if (idProperty != null && idProperty.isJsonSerialize() && ebi.isLoadedProperty(idProperty.getPropertyIndex())) {
+          idProperty.jsonWrite(writeJson, bean);
+        }
+        return;
+      }
+      for (BeanProperty prop : loadedProps) {
+        if (ebi.isLoadedProperty(prop.getPropertyIndex())) {
+          prop.jsonWrite(writeJson, bean);
+        }
+      }
+    }
+    for (BeanProperty prop : props) {
+      prop.jsonWrite(writeJson, bean);
+    }
+  }
+}
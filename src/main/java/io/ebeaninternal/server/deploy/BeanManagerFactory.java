@@ -11,8 +11,8 @@ public class BeanManagerFactory {
 
   final BeanPersisterFactory persisterFactory;
 
-  public BeanManagerFactory(DatabasePlatform dbPlatform) {
-    persisterFactory = new DmlBeanPersisterFactory(dbPlatform);
+  public BeanManagerFactory(DatabasePlatform dbPlatform, boolean multiRowInsert) {
+    persisterFactory = new DmlBeanPersisterFactory(dbPlatform, multiRowInsert);
   }
 
   public <T> BeanManager<T> create(BeanDescriptor<T> desc) {
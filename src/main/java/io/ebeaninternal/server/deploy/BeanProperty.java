@@ -1,6 +1,8 @@
 package io.ebeaninternal.server.deploy;
 
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
 import io.ebean.ValuePair;
 import io.ebean.bean.EntityBean;
 import io.ebean.bean.PersistenceContext;
@@ -140,6 +142,11 @@ public class BeanProperty implements ElPropertyValue, Property {
    */
   final String name;
 
+  /**
+   * The property name precomputed (quoted and encoded) for JSON output.
+   */
+  final SerializableString jsonKey;
+
   final int propertyIndex;
 
   /**
@@ -270,6 +277,7 @@ public class BeanProperty implements ElPropertyValue, Property {
 
     this.descriptor = descriptor;
     this.name = InternString.intern(deploy.getName());
+    this.jsonKey = new SerializedString(name);
     this.propertyIndex = deploy.getPropertyIndex();
     this.unidirectionalShadow = deploy.isUndirectionalShadow();
     this.discriminator = deploy.isDiscriminator();
@@ -375,6 +383,7 @@ public class BeanProperty implements ElPropertyValue, Property {
 
     this.descriptor = source.descriptor;
     this.name = InternString.intern(source.getName());
+    this.jsonKey = source.jsonKey;
     this.propertyIndex = source.propertyIndex;
     this.dbColumn = InternString.intern(override.getDbColumn());
     // override with sqlFormula not currently supported
@@ -857,6 +866,13 @@ public class BeanProperty implements ElPropertyValue, Property {
     return name;
   }
 
+  /**
+   * Return the property name precomputed for JSON output.
+   */
+  public SerializableString getJsonKey() {
+    return jsonKey;
+  }
+
   /**
    * Return the position of this property in the enhanced bean.
    */
@@ -1384,6 +1400,13 @@ public class BeanProperty implements ElPropertyValue, Property {
     jsonWriteVal(writeJson, value);
   }
 
+  /**
+   * Read the value from the resultSet and JSON write it (rather than setting it to a bean).
+   */
+  public void jsonWriteRead(DbReadContext ctx, SpiJsonWriter writeJson) throws SQLException, IOException {
+    jsonWriteValue(writeJson, read(ctx));
+  }
+
   /**
    * JSON write the bean property.
    */
@@ -1397,7 +1420,7 @@ public class BeanProperty implements ElPropertyValue, Property {
   @SuppressWarnings("unchecked")
   private void jsonWriteVal(SpiJsonWriter writeJson, Object value) throws IOException {
     if (value == null) {
-      writeJson.writeNullField(name);
+      writeJson.writeNullField(jsonKey);
     } else {
       jsonWriteScalar(writeJson, value);
     }
@@ -1405,7 +1428,7 @@ public class BeanProperty implements ElPropertyValue, Property {
 
   private void jsonWriteScalar(SpiJsonWriter writeJson, Object value) throws IOException {
     if (scalarType != null) {
-      writeJson.writeFieldName(name);
+      writeJson.writeFieldName(jsonKey);
       scalarType.jsonWrite(writeJson.gen(), value);
     } else {
       writeJson.writeValueUsingObjectMapper(name, value);
@@ -600,6 +600,14 @@ public class BeanPropertyAssocOne<T> extends BeanPropertyAssoc<T> {
     return localHelp.read(ctx);
   }
 
+  /**
+   * Read and JSON write the embedded bean or the id of the associated bean.
+   */
+  @Override
+  public void jsonWriteRead(DbReadContext ctx, SpiJsonWriter writeJson) throws SQLException, IOException {
+    localHelp.jsonWriteRead(ctx, writeJson);
+  }
+
   @Override
   public void setValue(EntityBean bean, Object value) {
     super.setValue(bean, value);
@@ -719,7 +727,7 @@ public class BeanPropertyAssocOne<T> extends BeanPropertyAssoc<T> {
 
     Object value = getValueIntercept(bean);
     if (value == null) {
-      writeJson.writeNullField(name);
+      writeJson.writeNullField(jsonKey);
 
     } else {
       if (writeJson.isParentBean(value)) {
@@ -730,7 +738,8 @@ public class BeanPropertyAssocOne<T> extends BeanPropertyAssoc<T> {
         if (value instanceof EntityBean) {
           writeJson.beginAssocOne(name, bean);
           BeanDescriptor<?> refDesc = descriptor.getBeanDescriptor(value.getClass());
-          refDesc.jsonWrite(writeJson, (EntityBean) value, name);
+          writeJson.writeFieldName(jsonKey);
+          refDesc.jsonWrite(writeJson, (EntityBean) value);
           writeJson.endAssocOne();
         }
       }
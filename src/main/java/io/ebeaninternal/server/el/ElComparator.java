@@ -19,4 +19,17 @@ public interface ElComparator<T> extends Comparator<T>, Serializable {
    */
   int compareValue(Object value, T o2);
 
+  /**
+   * Return the sort key for the bean (the value or values this comparator compares).
+   * <p>
+   * The sort keys are read once per bean and compared using {@link #compareKeys(Object, Object)}.
+   * </p>
+   */
+  Object sortKey(T bean);
+
+  /**
+   * Compare the sort keys of 2 beans.
+   */
+  int compareKeys(Object key1, Object key2);
+
 }
@@ -44,5 +44,29 @@ public final class ElComparatorCompound<T> implements Comparator<T>, ElComparato
     return 0;
   }
 
+  @Override
+  public Object sortKey(T bean) {
+
+    Object[] keys = new Object[array.length];
+    for (int i = 0; i < array.length; i++) {
+      keys[i] = array[i].sortKey(bean);
+    }
+    return keys;
+  }
+
+  @Override
+  public int compareKeys(Object key1, Object key2) {
+
+    Object[] keys1 = (Object[]) key1;
+    Object[] keys2 = (Object[]) key2;
+    for (int i = 0; i < array.length; i++) {
+      int ret = array[i].compareKeys(keys1[i], keys2[i]);
+      if (ret != 0) {
+        return ret;
+      }
+    }
+
+    return 0;
+  }
 
 }
@@ -36,6 +36,16 @@ public final class ElComparatorProperty<T> implements Comparator<T>, ElComparato
     return compareValues(value, val2);
   }
 
+  @Override
+  public Object sortKey(T bean) {
+    return elGetValue.pathGet(bean);
+  }
+
+  @Override
+  public int compareKeys(Object key1, Object key2) {
+    return compareValues(key1, key2);
+  }
+
   @SuppressWarnings({"unchecked", "rawtypes"})
   public int compareValues(Object val1, Object val2) {
 
@@ -7,38 +7,54 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Default implementation of the Filter interface.
  */
 public final class ElFilter<T> implements Filter<T> {
 
+  /**
+   * Lists smaller than this are filtered sequentially (even with parallel on).
+   */
+  static final int PARALLEL_MIN_SIZE = 1000;
+
   private final BeanDescriptor<T> beanDescriptor;
 
-  private final ArrayList<ElMatcher<T>> matches = new ArrayList<>();
+  private final ArrayList<ElFilterPlan.Expr> expressions = new ArrayList<>();
+
+  /**
+   * The matcher bound to the compiled plan (reset when an expression is added).
+   */
+  private ElMatcher<T> matcher;
 
   private int maxRows;
 
   private String sortByClause;
 
+  private boolean parallel;
+
   public ElFilter(BeanDescriptor<T> beanDescriptor) {
     this.beanDescriptor = beanDescriptor;
   }
 
-  private Object convertValue(String propertyName, Object value) {
-    // convert type of value to match expected type
-    ElPropertyValue elGetValue = beanDescriptor.getElGetValue(propertyName);
-    return elGetValue.convert(value);
-  }
-
-  private ElComparator<T> getElComparator(String propertyName) {
-
-    return beanDescriptor.getElComparator(propertyName);
+  private Filter<T> add(ElFilterPlan.Op op, String propertyName, Object... values) {
+    expressions.add(new ElFilterPlan.Expr(op, propertyName, values));
+    matcher = null;
+    return this;
   }
 
-  private ElPropertyValue getElGetValue(String propertyName) {
-
-    return beanDescriptor.getElGetValue(propertyName);
+  /**
+   * Return the matcher binding the values to the compiled plan (cached per bean type and expression).
+   */
+  private ElMatcher<T> matcher() {
+    if (matcher == null) {
+      String key = ElFilterPlan.key(expressions);
+      ElFilterPlan<T> plan = beanDescriptor.getElFilterPlan(key, k -> new ElFilterPlan<>(beanDescriptor, expressions));
+      matcher = plan.bind(expressions);
+    }
+    return matcher;
   }
 
   @Override
@@ -47,129 +63,70 @@ public final class ElFilter<T> implements Filter<T> {
     return this;
   }
 
+  @Override
+  public Filter<T> parallel() {
+    this.parallel = true;
+    return this;
+  }
+
   protected boolean isMatch(T bean) {
-    for (ElMatcher<T> matcher : matches) {
-      if (!matcher.isMatch(bean)) {
-        return false;
-      }
-    }
-    return true;
+    return matcher().isMatch(bean);
   }
 
 
   @Override
   public Filter<T> in(String propertyName, Set<?> matchingValues) {
-
-    ElPropertyValue elGetValue = getElGetValue(propertyName);
-
-    matches.add(new ElMatchBuilder.InSet<>(matchingValues, elGetValue));
-    return this;
+    return add(ElFilterPlan.Op.IN, propertyName, matchingValues);
   }
 
   @Override
   public Filter<T> eq(String propertyName, Object value) {
-
-    value = convertValue(propertyName, value);
-    ElComparator<T> comparator = getElComparator(propertyName);
-
-    matches.add(new ElMatchBuilder.Eq<>(value, comparator));
-    return this;
+    return add(ElFilterPlan.Op.EQ, propertyName, value);
   }
 
-
   @Override
   public Filter<T> ne(String propertyName, Object value) {
-
-    value = convertValue(propertyName, value);
-    ElComparator<T> comparator = getElComparator(propertyName);
-
-    matches.add(new ElMatchBuilder.Ne<>(value, comparator));
-    return this;
+    return add(ElFilterPlan.Op.NE, propertyName, value);
   }
 
   @Override
   public Filter<T> between(String propertyName, Object min, Object max) {
-
-    ElPropertyValue elGetValue = getElGetValue(propertyName);
-    min = elGetValue.convert(min);
-    max = elGetValue.convert(max);
-
-    ElComparator<T> elComparator = getElComparator(propertyName);
-
-    matches.add(new ElMatchBuilder.Between<>(min, max, elComparator));
-    return this;
+    return add(ElFilterPlan.Op.BETWEEN, propertyName, min, max);
   }
 
-
   @Override
   public Filter<T> gt(String propertyName, Object value) {
-
-    value = convertValue(propertyName, value);
-    ElComparator<T> comparator = getElComparator(propertyName);
-
-    matches.add(new ElMatchBuilder.Gt<>(value, comparator));
-    return this;
+    return add(ElFilterPlan.Op.GT, propertyName, value);
   }
 
   @Override
   public Filter<T> ge(String propertyName, Object value) {
-
-    value = convertValue(propertyName, value);
-    ElComparator<T> comparator = getElComparator(propertyName);
-
-    matches.add(new ElMatchBuilder.Ge<>(value, comparator));
-    return this;
+    return add(ElFilterPlan.Op.GE, propertyName, value);
   }
 
   @Override
   public Filter<T> ieq(String propertyName, String value) {
-
-    ElPropertyValue elGetValue = getElGetValue(propertyName);
-
-    matches.add(new ElMatchBuilder.Ieq<>(elGetValue, value));
-    return this;
+    return add(ElFilterPlan.Op.IEQ, propertyName, value);
   }
 
-
   @Override
   public Filter<T> isNotNull(String propertyName) {
-
-    ElPropertyValue elGetValue = getElGetValue(propertyName);
-
-    matches.add(new ElMatchBuilder.IsNotNull<>(elGetValue));
-    return this;
+    return add(ElFilterPlan.Op.IS_NOT_NULL, propertyName);
   }
 
-
   @Override
   public Filter<T> isNull(String propertyName) {
-
-    ElPropertyValue elGetValue = getElGetValue(propertyName);
-
-    matches.add(new ElMatchBuilder.IsNull<>(elGetValue));
-    return this;
+    return add(ElFilterPlan.Op.IS_NULL, propertyName);
   }
 
-
   @Override
   public Filter<T> le(String propertyName, Object value) {
-
-    value = convertValue(propertyName, value);
-    ElComparator<T> comparator = getElComparator(propertyName);
-
-    matches.add(new ElMatchBuilder.Le<>(value, comparator));
-    return this;
+    return add(ElFilterPlan.Op.LE, propertyName, value);
   }
 
-
   @Override
   public Filter<T> lt(String propertyName, Object value) {
-
-    value = convertValue(propertyName, value);
-    ElComparator<T> comparator = getElComparator(propertyName);
-
-    matches.add(new ElMatchBuilder.Lt<>(value, comparator));
-    return this;
+    return add(ElFilterPlan.Op.LT, propertyName, value);
   }
 
   public Filter<T> regex(String propertyName, String regEx) {
@@ -177,64 +134,41 @@ public final class ElFilter<T> implements Filter<T> {
   }
 
   public Filter<T> regex(String propertyName, String regEx, int options) {
-
-    ElPropertyValue elGetValue = getElGetValue(propertyName);
-
-    matches.add(new ElMatchBuilder.RegularExpr<>(elGetValue, regEx, options));
-    return this;
+    return add(ElFilterPlan.Op.REGEX, propertyName, regEx, options);
   }
 
   @Override
   public Filter<T> contains(String propertyName, String value) {
 
     String quote = ".*" + Pattern.quote(value) + ".*";
-
-    ElPropertyValue elGetValue = getElGetValue(propertyName);
-    matches.add(new ElMatchBuilder.RegularExpr<>(elGetValue, quote, 0));
-    return this;
+    return regex(propertyName, quote, 0);
   }
 
   @Override
   public Filter<T> icontains(String propertyName, String value) {
 
     String quote = ".*" + Pattern.quote(value) + ".*";
-
-    ElPropertyValue elGetValue = getElGetValue(propertyName);
-    matches.add(new ElMatchBuilder.RegularExpr<>(elGetValue, quote, Pattern.CASE_INSENSITIVE));
-    return this;
+    return regex(propertyName, quote, Pattern.CASE_INSENSITIVE);
   }
 
-
   @Override
   public Filter<T> endsWith(String propertyName, String value) {
-
-    ElPropertyValue elGetValue = getElGetValue(propertyName);
-    matches.add(new ElMatchBuilder.EndsWith<>(elGetValue, value));
-    return this;
+    return add(ElFilterPlan.Op.ENDS_WITH, propertyName, value);
   }
 
   @Override
   public Filter<T> startsWith(String propertyName, String value) {
-
-    ElPropertyValue elGetValue = getElGetValue(propertyName);
-    matches.add(new ElMatchBuilder.StartsWith<>(elGetValue, value));
-    return this;
+    return add(ElFilterPlan.Op.STARTS_WITH, propertyName, value);
   }
 
   @Override
   public Filter<T> iendsWith(String propertyName, String value) {
-
-    ElPropertyValue elGetValue = getElGetValue(propertyName);
-    matches.add(new ElMatchBuilder.IEndsWith<>(elGetValue, value));
-    return this;
+    return add(ElFilterPlan.Op.IENDS_WITH, propertyName, value);
   }
 
   @Override
   public Filter<T> istartsWith(String propertyName, String value) {
-
-    ElPropertyValue elGetValue = getElGetValue(propertyName);
-    matches.add(new ElMatchBuilder.IStartsWith<>(elGetValue, value));
-    return this;
+    return add(ElFilterPlan.Op.ISTARTS_WITH, propertyName, value);
   }
 
   @Override
@@ -246,16 +180,26 @@ public final class ElFilter<T> implements Filter<T> {
   @Override
   public List<T> filter(List<T> list) {
 
+    ElMatcher<T> matcher = matcher();
+    boolean inParallel = parallel && list.size() >= PARALLEL_MIN_SIZE;
     if (sortByClause != null) {
       // create shallow copy and sort
       list = new ArrayList<>(list);
-      beanDescriptor.sort(list, sortByClause);
+      beanDescriptor.sort(list, sortByClause, inParallel);
+    }
+
+    if (inParallel) {
+      Stream<T> stream = list.parallelStream().filter(matcher::isMatch);
+      if (maxRows > 0) {
+        stream = stream.limit(maxRows);
+      }
+      return stream.collect(Collectors.toCollection(ArrayList::new));
     }
 
     ArrayList<T> filterList = new ArrayList<>();
 
     for (T t : list) {
-      if (isMatch(t)) {
+      if (matcher.isMatch(t)) {
         filterList.add(t);
         if (maxRows > 0 && filterList.size() >= maxRows) {
           break;
@@ -0,0 +1,203 @@
+package io.ebeaninternal.server.el;
+
+import io.ebeaninternal.server.deploy.BeanDescriptor;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The compiled predicate tree of a filter expression.
+ * <p>
+ * The property paths and comparators of the expression are resolved once per bean type and
+ * expression (the plan is cached on the BeanDescriptor keyed by the operators and property
+ * paths) and the values of each filter are bound to the plan to create its matcher.
+ * </p>
+ */
+public final class ElFilterPlan<T> {
+
+  /**
+   * The filter operators.
+   */
+  enum Op {
+
+    EQ {
+      @Override
+      <T> ElMatcher<T> matcher(ElPropertyValue property, ElComparator<T> comparator, Object[] values) {
+        return new ElMatchBuilder.Eq<>(property.convert(values[0]), comparator);
+      }
+    },
+    NE {
+      @Override
+      <T> ElMatcher<T> matcher(ElPropertyValue property, ElComparator<T> comparator, Object[] values) {
+        return new ElMatchBuilder.Ne<>(property.convert(values[0]), comparator);
+      }
+    },
+    GT {
+      @Override
+      <T> ElMatcher<T> matcher(ElPropertyValue property, ElComparator<T> comparator, Object[] values) {
+        return new ElMatchBuilder.Gt<>(property.convert(values[0]), comparator);
+      }
+    },
+    GE {
+      @Override
+      <T> ElMatcher<T> matcher(ElPropertyValue property, ElComparator<T> comparator, Object[] values) {
+        return new ElMatchBuilder.Ge<>(property.convert(values[0]), comparator);
+      }
+    },
+    LT {
+      @Override
+      <T> ElMatcher<T> matcher(ElPropertyValue property, ElComparator<T> comparator, Object[] values) {
+        return new ElMatchBuilder.Lt<>(property.convert(values[0]), comparator);
+      }
+    },
+    LE {
+      @Override
+      <T> ElMatcher<T> matcher(ElPropertyValue property, ElComparator<T> comparator, Object[] values) {
+        return new ElMatchBuilder.Le<>(property.convert(values[0]), comparator);
+      }
+    },
+    BETWEEN {
+      @Override
+      <T> ElMatcher<T> matcher(ElPropertyValue property, ElComparator<T> comparator, Object[] values) {
+        return new ElMatchBuilder.Between<>(property.convert(values[0]), property.convert(values[1]), comparator);
+      }
+    },
+    IN(false) {
+      @Override
+      <T> ElMatcher<T> matcher(ElPropertyValue property, ElComparator<T> comparator, Object[] values) {
+        return new ElMatchBuilder.InSet<>((Set<?>) values[0], property);
+      }
+    },
+    IEQ(false) {
+      @Override
+      <T> ElMatcher<T> matcher(ElPropertyValue property, ElComparator<T> comparator, Object[] values) {
+        return new ElMatchBuilder.Ieq<>(property, (String) values[0]);
+      }
+    },
+    IS_NULL(false) {
+      @Override
+      <T> ElMatcher<T> matcher(ElPropertyValue property, ElComparator<T> comparator, Object[] values) {
+        return new ElMatchBuilder.IsNull<>(property);
+      }
+    },
+    IS_NOT_NULL(false) {
+      @Override
+      <T> ElMatcher<T> matcher(ElPropertyValue property, ElComparator<T> comparator, Object[] values) {
+        return new ElMatchBuilder.IsNotNull<>(property);
+      }
+    },
+    STARTS_WITH(false) {
+      @Override
+      <T> ElMatcher<T> matcher(ElPropertyValue property, ElComparator<T> comparator, Object[] values) {
+        return new ElMatchBuilder.StartsWith<>(property, (String) values[0]);
+      }
+    },
+    ENDS_WITH(false) {
+      @Override
+      <T> ElMatcher<T> matcher(ElPropertyValue property, ElComparator<T> comparator, Object[] values) {
+        return new ElMatchBuilder.EndsWith<>(property, (String) values[0]);
+      }
+    },
+    ISTARTS_WITH(false) {
+      @Override
+      <T> ElMatcher<T> matcher(ElPropertyValue property, ElComparator<T> comparator, Object[] values) {
+        return new ElMatchBuilder.IStartsWith<>(property, (String) values[0]);
+      }
+    },
+    IENDS_WITH(false) {
+      @Override
+      <T> ElMatcher<T> matcher(ElPropertyValue property, ElComparator<T> comparator, Object[] values) {
+        return new ElMatchBuilder.IEndsWith<>(property, (String) values[0]);
+      }
+    },
+    REGEX(false) {
+      @Override
+      <T> ElMatcher<T> matcher(ElPropertyValue property, ElComparator<T> comparator, Object[] values) {
+        return new ElMatchBuilder.RegularExpr<>(property, (String) values[0], (Integer) values[1]);
+      }
+    };
+
+    private final boolean comparator;
+
+    Op() {
+      this(true);
+    }
+
+    Op(boolean comparator) {
+      this.comparator = comparator;
+    }
+
+    /**
+     * Create the matcher for the resolved property (and comparator) binding the filter values.
+     */
+    abstract <T> ElMatcher<T> matcher(ElPropertyValue property, ElComparator<T> comparator, Object[] values);
+  }
+
+  /**
+   * An expression of the filter (operator, property path and filter values).
+   */
+  static final class Expr {
+
+    final Op op;
+    final String propertyName;
+    final Object[] values;
+
+    Expr(Op op, String propertyName, Object[] values) {
+      this.op = op;
+      this.propertyName = propertyName;
+      this.values = values;
+    }
+  }
+
+  private final Op[] ops;
+
+  private final ElPropertyValue[] properties;
+
+  private final ElComparator<T>[] comparators;
+
+  /**
+   * Compile the plan resolving the property paths and comparators of the expressions.
+   */
+  @SuppressWarnings("unchecked")
+  ElFilterPlan(BeanDescriptor<T> descriptor, List<Expr> expressions) {
+    int size = expressions.size();
+    this.ops = new Op[size];
+    this.properties = new ElPropertyValue[size];
+    this.comparators = new ElComparator[size];
+    for (int i = 0; i < size; i++) {
+      Expr expr = expressions.get(i);
+      ElPropertyValue property = descriptor.getElGetValue(expr.propertyName);
+      if (property == null) {
+        throw new IllegalArgumentException("Property [" + expr.propertyName + "] not found on " + descriptor);
+      }
+      ops[i] = expr.op;
+      properties[i] = property;
+      if (expr.op.comparator) {
+        comparators[i] = descriptor.getElComparator(expr.propertyName);
+      }
+    }
+  }
+
+  /**
+   * Return the key of the plan for the given expressions (the operators and property paths).
+   */
+  static String key(List<Expr> expressions) {
+    StringBuilder key = new StringBuilder(20 * expressions.size());
+    for (Expr expr : expressions) {
+      key.append(expr.op.name()).append(':').append(expr.propertyName).append(',');
+    }
+    return key.toString();
+  }
+
+  /**
+   * Bind the values of the expressions (in the same order as the plan) returning the matcher.
+   */
+  @SuppressWarnings("unchecked")
+  ElMatcher<T> bind(List<Expr> expressions) {
+    ElMatcher<T>[] matchers = new ElMatcher[ops.length];
+    for (int i = 0; i < ops.length; i++) {
+      matchers[i] = ops[i].matcher(properties[i], comparators[i], expressions.get(i).values);
+    }
+    return matchers.length == 1 ? matchers[0] : new ElMatchBuilder.And<>(matchers);
+  }
+}
@@ -0,0 +1,71 @@
+package io.ebeaninternal.server.el;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * Sorts a list of beans reading the sort key of each bean once.
+ * <p>
+ * Comparing beans directly reads the property values (traversing the object graph for
+ * paths like <code>customer.name</code>) for every comparison. Instead the sort keys are
+ * read once per bean and the sort compares the keys.
+ * </p>
+ */
+public final class ElKeySort {
+
+  /**
+   * A bean paired with its sort key.
+   */
+  private static final class Entry<T> {
+
+    final Object key;
+    final T bean;
+
+    Entry(Object key, T bean) {
+      this.key = key;
+      this.bean = bean;
+    }
+  }
+
+  private ElKeySort() {
+  }
+
+  /**
+   * Sort the list using the comparator (stable as per List.sort()).
+   */
+  public static <T> void sort(List<T> list, ElComparator<T> comparator) {
+    sort(list, comparator, false);
+  }
+
+  /**
+   * Sort the list using the comparator with the option of sorting in parallel for large lists.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> void sort(List<T> list, ElComparator<T> comparator, boolean parallel) {
+
+    int size = list.size();
+    if (size < 2) {
+      return;
+    }
+    Entry<T>[] entries = new Entry[size];
+    int pos = 0;
+    for (T bean : list) {
+      entries[pos++] = new Entry<>(comparator.sortKey(bean), bean);
+    }
+
+    Comparator<Entry<T>> keyComparator = (e1, e2) -> comparator.compareKeys(e1.key, e2.key);
+    if (parallel) {
+      Arrays.parallelSort(entries, keyComparator);
+    } else {
+      Arrays.sort(entries, keyComparator);
+    }
+
+    ListIterator<T> it = list.listIterator();
+    for (Entry<T> entry : entries) {
+      it.next();
+      it.set(entry.bean);
+    }
+  }
+}
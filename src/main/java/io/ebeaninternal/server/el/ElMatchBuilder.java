@@ -10,6 +10,28 @@ import java.util.regex.Pattern;
  */
 class ElMatchBuilder {
 
+  /**
+   * All the child matchers match (the root of the compiled filter expression).
+   */
+  static class And<T> implements ElMatcher<T> {
+
+    final ElMatcher<T>[] matchers;
+
+    And(ElMatcher<T>[] matchers) {
+      this.matchers = matchers;
+    }
+
+    @Override
+    public boolean isMatch(T bean) {
+      for (ElMatcher<T> matcher : matchers) {
+        if (!matcher.isMatch(bean)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
   /**
    * Case insensitive equals.
    */
@@ -1,5 +1,6 @@
 package io.ebeaninternal.server.expression;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.ebean.*;
 import io.ebean.event.BeanQueryRequest;
 import io.ebean.search.Match;
@@ -16,6 +17,7 @@ import io.ebeaninternal.api.SpiJunction;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -25,6 +27,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Default implementation of ExpressionList.
@@ -367,6 +370,26 @@ public class DefaultExpressionList<T> implements SpiExpressionList<T> {
     return query.findIterate();
   }
 
+  @Override
+  public Stream<T> findStream() {
+    return query.findStream();
+  }
+
+  @Override
+  public Stream<T> findLargeStream() {
+    return query.findLargeStream();
+  }
+
+  @Override
+  public void findJson(Writer writer) {
+    query.findJson(writer);
+  }
+
+  @Override
+  public void findJson(JsonGenerator generator) {
+    query.findJson(generator);
+  }
+
   @Override
   public void findEach(Consumer<T> consumer) {
     query.findEach(consumer);
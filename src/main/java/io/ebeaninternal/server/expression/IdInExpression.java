@@ -1,11 +1,15 @@
 package io.ebeaninternal.server.expression;
 
+import io.ebean.config.dbplatform.MultiValueBind;
+import io.ebean.event.BeanQueryRequest;
 import io.ebeaninternal.api.ManyWhereJoins;
 import io.ebeaninternal.api.SpiExpression;
 import io.ebeaninternal.api.SpiExpressionRequest;
 import io.ebeaninternal.api.SpiExpressionValidation;
+import io.ebeaninternal.api.SpiQuery;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
 import io.ebeaninternal.server.deploy.id.IdBinder;
+import io.ebeaninternal.server.persist.MultiValueWrapper;
 
 import java.io.IOException;
 import java.util.Collection;
@@ -18,10 +22,46 @@ public class IdInExpression extends NonPrepareExpression {
 
   private final Collection<?> idCollection;
 
+  /**
+   * The number of Id values bound when padding (0 when not prepared).
+   */
+  private int bindCount;
+
+  /**
+   * When not null the Id values are bound as a single parameter.
+   */
+  private MultiValueBind multiValueBind;
+
+  private Class<?> valueType;
+
   public IdInExpression(Collection<?> idCollection) {
     this.idCollection = idCollection;
   }
 
+  @Override
+  public void prepareExpression(BeanQueryRequest<?> request) {
+
+    bindCount = idCollection.size();
+    multiValueBind = null;
+    if (request != null && bindCount > 0) {
+      IdBinder idBinder = ((SpiQuery<?>) request.getQuery()).getBeanDescriptor().getIdBinder();
+      if (!idBinder.isComplexId()) {
+        valueType = idBinder.getBeanProperty().getPropertyType();
+        multiValueBind = InBindHelp.multiValueBind(request, valueType);
+      }
+      if (multiValueBind == null && InBindHelp.isPadding(request)) {
+        bindCount = InBindHelp.padSize(bindCount);
+      }
+    }
+  }
+
+  /**
+   * Return the number of Id values to bind (including padding).
+   */
+  private int bindCount() {
+    return Math.max(bindCount, idCollection.size());
+  }
+
   @Override
   public String nestedPath(BeanDescriptor<?> desc) {
     return null;
@@ -50,8 +90,24 @@ public class IdInExpression extends NonPrepareExpression {
     BeanDescriptor<?> descriptor = r.getBeanDescriptor();
     IdBinder idBinder = descriptor.getIdBinder();
 
+    if (multiValueBind != null) {
+      Object[] values = new Object[idCollection.size()];
+      int i = 0;
+      for (Object id : idCollection) {
+        values[i++] = idBinder.convertId(id);
+      }
+      request.addBindValue(new MultiValueWrapper(multiValueBind, valueType, values));
+      return;
+    }
+
+    Object lastId = null;
     for (Object id : idCollection) {
       idBinder.addIdInBindValue(request, id);
+      lastId = id;
+    }
+    // pad by repeating the last Id value
+    for (int i = idCollection.size(); i < bindCount(); i++) {
+      idBinder.addIdInBindValue(request, lastId);
     }
   }
 
@@ -67,7 +123,7 @@ public class IdInExpression extends NonPrepareExpression {
       request.append("1=0"); // append false for this stage
     } else {
       request.append(descriptor.getIdBinder().getBindIdInSql(null));
-      String inClause = idBinder.getIdInValueExpr(idCollection.size());
+      String inClause = idBinder.getIdInValueExpr(bindCount());
       request.append(inClause);
     }
   }
@@ -82,17 +138,24 @@ public class IdInExpression extends NonPrepareExpression {
       request.append("1=0"); // append false for this stage
     } else {
       request.append(descriptor.getIdBinderInLHSSql());
-      String inClause = idBinder.getIdInValueExpr(idCollection.size());
-      request.append(inClause);
+      if (multiValueBind != null) {
+        request.append(multiValueBind.getInExpression(false, valueType));
+      } else {
+        request.append(idBinder.getIdInValueExpr(bindCount()));
+      }
     }
   }
 
   /**
-   * Incorporates the number of Id values to bind.
+   * Incorporates the number of Id values to bind (or the type when bound as a single parameter).
    */
   @Override
   public void queryPlanHash(StringBuilder builder) {
-    builder.append("IdIn[").append("?").append(idCollection.size()).append("]");
+    if (multiValueBind != null) {
+      builder.append("IdIn[").append("?A").append(valueType.getName()).append("]");
+    } else {
+      builder.append("IdIn[").append("?").append(bindCount()).append("]");
+    }
   }
 
   @Override
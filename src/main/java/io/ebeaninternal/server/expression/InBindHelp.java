@@ -0,0 +1,62 @@
+package io.ebeaninternal.server.expression;
+
+import io.ebean.config.dbplatform.MultiValueBind;
+import io.ebean.event.BeanQueryRequest;
+import io.ebeaninternal.api.SpiEbeanServer;
+
+import java.util.Collection;
+
+/**
+ * Helper for binding IN expression values either padded to power of two sizes
+ * or as a single array parameter (such that the query plan is stable regardless
+ * of the number of values).
+ */
+class InBindHelp {
+
+  /**
+   * Return the MultiValueBind to use or null when the values are not bound as a single parameter.
+   */
+  static MultiValueBind multiValueBind(BeanQueryRequest<?> request, Class<?> valueType) {
+    if (request == null || valueType == null) {
+      return null;
+    }
+    SpiEbeanServer server = (SpiEbeanServer) request.getEbeanServer();
+    if (!server.getServerConfig().isInListArrayBinding()) {
+      return null;
+    }
+    MultiValueBind multiValueBind = server.getDatabasePlatform().getMultiValueBind();
+    return (multiValueBind != null && multiValueBind.isTypeSupported(valueType)) ? multiValueBind : null;
+  }
+
+  /**
+   * Return true if IN lists should be padded to power of two sizes.
+   */
+  static boolean isPadding(BeanQueryRequest<?> request) {
+    return request != null && ((SpiEbeanServer) request.getEbeanServer()).getServerConfig().isInListPadding();
+  }
+
+  /**
+   * Return the number of values to bind given padding to power of two sizes.
+   */
+  static int padSize(int size) {
+    return (size <= 1) ? size : Integer.highestOneBit(size - 1) << 1;
+  }
+
+  /**
+   * Return the common type of the values or null if there are null values or mixed types.
+   */
+  static Class<?> valueType(Collection<?> values) {
+    Class<?> valueType = null;
+    for (Object value : values) {
+      if (value == null) {
+        return null;
+      }
+      if (valueType == null) {
+        valueType = value.getClass();
+      } else if (valueType != value.getClass()) {
+        return null;
+      }
+    }
+    return valueType;
+  }
+}
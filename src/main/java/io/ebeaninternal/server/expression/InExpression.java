@@ -1,10 +1,13 @@
 package io.ebeaninternal.server.expression;
 
 import io.ebean.bean.EntityBean;
+import io.ebean.config.dbplatform.MultiValueBind;
 import io.ebean.event.BeanQueryRequest;
 import io.ebeaninternal.api.SpiExpression;
 import io.ebeaninternal.api.SpiExpressionRequest;
+import io.ebeaninternal.api.SpiQuery;
 import io.ebeaninternal.server.el.ElPropertyValue;
+import io.ebeaninternal.server.persist.MultiValueWrapper;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -20,6 +23,23 @@ class InExpression extends AbstractExpression {
 
   private Object[] bindValues;
 
+  /**
+   * The number of values bound (greater than the number of values when padding).
+   */
+  private int bindCount;
+
+  /**
+   * When not null the values are bound as a single parameter.
+   */
+  private MultiValueBind multiValueBind;
+
+  /**
+   * The values bound as a single parameter (the Id values for an associated bean property).
+   */
+  private Object[] multiValues;
+
+  private Class<?> valueType;
+
   InExpression(String propertyName, Collection<?> sourceValues, boolean not) {
     super(propertyName);
     this.sourceValues = sourceValues;
@@ -43,6 +63,54 @@ class InExpression extends AbstractExpression {
   @Override
   public void prepareExpression(BeanQueryRequest<?> request) {
     bindValues = values();
+    bindCount = bindValues.length;
+    multiValueBind = null;
+    if (bindCount > 0) {
+      multiValues = multiValues(request);
+      if (multiValues != null) {
+        valueType = InBindHelp.valueType(Arrays.asList(multiValues));
+        multiValueBind = InBindHelp.multiValueBind(request, valueType);
+      }
+      if (multiValueBind == null && InBindHelp.isPadding(request)) {
+        bindCount = InBindHelp.padSize(bindCount);
+      }
+    }
+  }
+
+  /**
+   * Return the values that could be bound as a single parameter or null if they can not be.
+   * <p>
+   * For an associated bean property these are the (single) Id values of the beans.
+   * </p>
+   */
+  private Object[] multiValues(BeanQueryRequest<?> request) {
+    if (request == null) {
+      return null;
+    }
+    ElPropertyValue prop = ((SpiQuery<?>) request.getQuery()).getBeanDescriptor().getElGetValue(propName);
+    if (prop == null || !prop.isAssocId()) {
+      return bindValues;
+    }
+    Object[] ids = new Object[bindValues.length];
+    for (int i = 0; i < bindValues.length; i++) {
+      if (!(bindValues[i] instanceof EntityBean)) {
+        return null;
+      }
+      Object[] beanIds = prop.getAssocIdValues((EntityBean) bindValues[i]);
+      if (beanIds == null || beanIds.length != 1) {
+        // embedded id not supported
+        return null;
+      }
+      ids[i] = beanIds[0];
+    }
+    return ids;
+  }
+
+  /**
+   * Return the value to bind at the given position (repeating the last value when padding).
+   */
+  private Object bindValue(int position) {
+    return bindValues[Math.min(position, bindValues.length - 1)];
   }
 
   @Override
@@ -53,12 +121,18 @@ class InExpression extends AbstractExpression {
   @Override
   public void addBindValues(SpiExpressionRequest request) {
 
+    if (multiValueBind != null) {
+      request.addBindValue(new MultiValueWrapper(multiValueBind, valueType, multiValues));
+      return;
+    }
+
     ElPropertyValue prop = getElProp(request);
     if (prop != null && !prop.isAssocId()) {
       prop = null;
     }
 
-    for (Object bindValue : bindValues) {
+    for (int i = 0; i < bindCount; i++) {
+      Object bindValue = bindValue(i);
       if (prop == null) {
         request.addBindValue(bindValue);
 
@@ -88,9 +162,15 @@ class InExpression extends AbstractExpression {
       prop = null;
     }
 
+    if (multiValueBind != null) {
+      request.append(prop == null ? propName : prop.getAssocIdInExpr(propName));
+      request.append(multiValueBind.getInExpression(not, valueType));
+      return;
+    }
+
     if (prop != null) {
       request.append(prop.getAssocIdInExpr(propName));
-      String inClause = prop.getAssocIdInValueExpr(bindValues.length);
+      String inClause = prop.getAssocIdInValueExpr(bindCount);
       if (not) {
         request.append(" not");
       }
@@ -102,7 +182,7 @@ class InExpression extends AbstractExpression {
         request.append(" not");
       }
       request.append(" in (?");
-      for (int i = 1; i < bindValues.length; i++) {
+      for (int i = 1; i < bindCount; i++) {
         request.append(", ").append("?");
       }
 
@@ -111,7 +191,7 @@ class InExpression extends AbstractExpression {
   }
 
   /**
-   * Based on the number of values in the in clause.
+   * Based on the number of values in the in clause (or the type of values when bound as a single parameter).
    */
   @Override
   public void queryPlanHash(StringBuilder builder) {
@@ -121,7 +201,11 @@ class InExpression extends AbstractExpression {
       builder.append("In[");
     }
     builder.append(propName);
-    builder.append(" ?").append(bindValues.length).append("]");
+    if (multiValueBind != null) {
+      builder.append(" ?A").append(valueType.getName()).append("]");
+    } else {
+      builder.append(" ?").append(bindCount).append("]");
+    }
   }
 
   @Override
@@ -1,5 +1,6 @@
 package io.ebeaninternal.server.expression;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.ebean.*;
 import io.ebean.event.BeanQueryRequest;
 import io.ebean.search.Match;
@@ -15,6 +16,7 @@ import io.ebeaninternal.api.SpiJunction;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.sql.Timestamp;
 import java.util.Collection;
 import java.util.List;
@@ -23,6 +25,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Junction implementation.
@@ -355,6 +358,26 @@ class JunctionExpression<T> implements SpiJunction<T>, SpiExpression, Expression
     return exprList.findIterate();
   }
 
+  @Override
+  public Stream<T> findStream() {
+    return exprList.findStream();
+  }
+
+  @Override
+  public Stream<T> findLargeStream() {
+    return exprList.findLargeStream();
+  }
+
+  @Override
+  public void findJson(Writer writer) {
+    exprList.findJson(writer);
+  }
+
+  @Override
+  public void findJson(JsonGenerator generator) {
+    exprList.findJson(generator);
+  }
+
   @Override
   public void findEach(Consumer<T> consumer) {
     exprList.findEach(consumer);
@@ -1,15 +1,10 @@
 package io.ebeaninternal.server.grammer;
 
-import io.ebean.Expression;
-import io.ebean.ExpressionList;
 import io.ebean.FetchConfig;
-import io.ebean.LikeType;
 import io.ebean.OrderBy;
-import io.ebeaninternal.api.SpiQuery;
 import io.ebeaninternal.server.grammer.antlr.EQLBaseListener;
 import io.ebeaninternal.server.grammer.antlr.EQLLexer;
 import io.ebeaninternal.server.grammer.antlr.EQLParser;
-import io.ebeaninternal.server.util.ArrayStack;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.TerminalNode;
@@ -17,7 +12,10 @@ import org.antlr.v4.runtime.tree.TerminalNode;
 import java.util.ArrayList;
 import java.util.List;
 
-class EqlAdapter<T> extends EQLBaseListener {
+/**
+ * Walks the parse tree recording the steps that are applied to a query.
+ */
+class EqlAdapter extends EQLBaseListener {
 
   private static final OperatorMapping operatorMapping = new OperatorMapping();
 
@@ -27,73 +25,30 @@ class EqlAdapter<T> extends EQLBaseListener {
 
   private static final String ASC = "asc";
 
-  private final SpiQuery<T> query;
+  private final List<EqlStep> steps = new ArrayList<>();
 
   private final EqlAdapterHelper helper;
 
-  private ArrayStack<ExpressionList<T>> textStack;
-
-  private ArrayStack<ExpressionList<T>> whereStack;
-
-  private boolean textMode;
-
   private List<Object> inValues;
 
   private String inPropertyName;
 
-  public EqlAdapter(SpiQuery<T> query) {
-    this.query = query;
+  EqlAdapter() {
     this.helper = new EqlAdapterHelper(this);
   }
 
   /**
-   * Return the current expression list that expressions should be added to.
-   */
-  protected ExpressionList<T> peekExprList() {
-
-    if (textMode) {
-      // return the current text expression list
-      return _peekText();
-    }
-
-    if (whereStack == null) {
-      whereStack = new ArrayStack<>();
-      whereStack.push(query.where());
-    }
-    // return the current expression list
-    return whereStack.peek();
-  }
-
-  private ExpressionList<T> _peekText() {
-    if (textStack == null) {
-      textStack = new ArrayStack<>();
-      // empty so push on the queries base expression list
-      textStack.push(query.text());
-    }
-    // return the current expression list
-    return textStack.peek();
-  }
-
-  /**
-   * Push the expression list onto the appropriate stack.
+   * Return the parsed statement.
    */
-  private void pushExprList(ExpressionList<T> list) {
-    if (textMode) {
-      textStack.push(list);
-    } else {
-      whereStack.push(list);
-    }
+  EqlStatement statement() {
+    return new EqlStatement(steps);
   }
 
   /**
-   * End a list of expressions added by 'OR'.
+   * Add a step to apply to the query.
    */
-  private void popJunction() {
-    if (textMode) {
-      textStack.pop();
-    } else {
-      whereStack.pop();
-    }
+  void addStep(EqlStep step) {
+    steps.add(step);
   }
 
   @Override
@@ -101,10 +56,14 @@ class EqlAdapter<T> extends EQLBaseListener {
 
     checkChildren(ctx, 4);
     if (DISTINCT.equals(child(ctx, 1))) {
-      query.setDistinct(true);
-      query.select(child(ctx, 3));
+      String select = child(ctx, 3);
+      addStep(target -> {
+        target.query().setDistinct(true);
+        target.query().select(select);
+      });
     } else {
-      query.select(child(ctx, 2));
+      String select = child(ctx, 2);
+      addStep(target -> target.query().select(select));
     }
   }
 
@@ -117,20 +76,28 @@ class EqlAdapter<T> extends EQLBaseListener {
 
     int noPropertiesLength = 2;
 
-    FetchConfig fetchConfig = ParseFetchConfig.parse(path);
-    if (fetchConfig != null) {
+    String fetchConfigText = null;
+    if (ParseFetchConfig.parse(path) != null) {
+      // a new FetchConfig is created per query as it is mutable
+      fetchConfigText = path;
       noPropertiesLength = 3;
       path = child(ctx, 2);
     }
+    String fetchPath = path;
+    String configText = fetchConfigText;
     if (childCount == noPropertiesLength) {
-      query.fetch(path, fetchConfig);
+      addStep(target -> target.query().fetch(fetchPath, fetchConfig(configText)));
 
     } else {
       String fetchProperties = trimParenthesis(ctx.getChild(noPropertiesLength).getText());
-      query.fetch(path, fetchProperties, fetchConfig);
+      addStep(target -> target.query().fetch(fetchPath, fetchProperties, fetchConfig(configText)));
     }
   }
 
+  private static FetchConfig fetchConfig(String fetchConfigText) {
+    return (fetchConfigText == null) ? null : ParseFetchConfig.parse(fetchConfigText);
+  }
+
   @Override
   public void enterOrderby_property(EQLParser.Orderby_propertyContext ctx) {
 
@@ -156,7 +123,10 @@ class EqlAdapter<T> extends EQLBaseListener {
       }
     }
 
-    query.orderBy().add(new OrderBy.Property(path, asc, nulls, nullsFirstLast));
+    boolean ascending = asc;
+    String nullsValue = nulls;
+    String nullsOrder = nullsFirstLast;
+    addStep(target -> target.query().orderBy().add(new OrderBy.Property(path, ascending, nullsValue, nullsOrder)));
   }
 
   @Override
@@ -164,13 +134,15 @@ class EqlAdapter<T> extends EQLBaseListener {
 
     try {
       String limitValue = child(ctx, 1);
-      query.setMaxRows(Integer.parseInt(limitValue));
+      int maxRows = Integer.parseInt(limitValue);
+      addStep(target -> target.query().setMaxRows(maxRows));
 
       int childCount = ctx.getChildCount();
       if (childCount == 3) {
         ParseTree offsetTree = ctx.getChild(2);
         String offsetValue = offsetTree.getChild(1).getText();
-        query.setFirstRow(Integer.parseInt(offsetValue));
+        int firstRow = Integer.parseInt(offsetValue);
+        addStep(target -> target.query().setFirstRow(firstRow));
       }
     } catch (NumberFormatException e) {
       throw new IllegalArgumentException("Error parsing limit or offset parameter - not an integer", e);
@@ -251,25 +223,25 @@ class EqlAdapter<T> extends EQLBaseListener {
   @Override
   public void enterIsNull_expression(EQLParser.IsNull_expressionContext ctx) {
     String path = getLeftHandSidePath(ctx);
-    peekExprList().isNull(path);
+    addStep(target -> target.peekExprList().isNull(path));
   }
 
   @Override
   public void enterIsNotNull_expression(EQLParser.IsNotNull_expressionContext ctx) {
     String path = getLeftHandSidePath(ctx);
-    peekExprList().isNotNull(path);
+    addStep(target -> target.peekExprList().isNotNull(path));
   }
 
   @Override
   public void enterIsEmpty_expression(EQLParser.IsEmpty_expressionContext ctx) {
     String path = getLeftHandSidePath(ctx);
-    peekExprList().isEmpty(path);
+    addStep(target -> target.peekExprList().isEmpty(path));
   }
 
   @Override
   public void enterIsNotEmpty_expression(EQLParser.IsNotEmpty_expressionContext ctx) {
     String path = getLeftHandSidePath(ctx);
-    peekExprList().isNotEmpty(path);
+    addStep(target -> target.peekExprList().isNotEmpty(path));
   }
 
   @Override
@@ -333,42 +305,42 @@ class EqlAdapter<T> extends EQLBaseListener {
   public void enterConditional_term(EQLParser.Conditional_termContext ctx) {
     int childCount = ctx.getChildCount();
     if (childCount > 1) {
-      pushExprList(peekExprList().and());
+      addStep(EqlApply::pushAnd);
     }
   }
 
   @Override
   public void exitConditional_term(EQLParser.Conditional_termContext ctx) {
     if (ctx.getChildCount() > 1) {
-      popJunction();
+      addStep(EqlApply::popJunction);
     }
   }
 
   @Override
   public void enterConditional_expression(EQLParser.Conditional_expressionContext ctx) {
     if (ctx.getChildCount() > 1) {
-      pushExprList(peekExprList().or());
+      addStep(EqlApply::pushOr);
     }
   }
 
   @Override
   public void exitConditional_expression(EQLParser.Conditional_expressionContext ctx) {
     if (ctx.getChildCount() > 1) {
-      popJunction();
+      addStep(EqlApply::popJunction);
     }
   }
 
   @Override
   public void enterConditional_factor(EQLParser.Conditional_factorContext ctx) {
     if (ctx.getChildCount() > 1) {
-      pushExprList(peekExprList().not());
+      addStep(EqlApply::pushNot);
     }
   }
 
   @Override
   public void exitConditional_factor(EQLParser.Conditional_factorContext ctx) {
     if (ctx.getChildCount() > 1) {
-      popJunction();
+      addStep(EqlApply::popJunction);
     }
   }
 
@@ -389,16 +361,4 @@ class EqlAdapter<T> extends EQLBaseListener {
       throw new IllegalStateException("expecting " + min + " children for comparison? " + ctx);
     }
   }
-
-  public Object namedParam(String parameterName) {
-    return query.createNamedParameter(parameterName);
-  }
-
-  public Expression like(boolean caseInsensitive, LikeType likeType, String property, Object bindValue) {
-    return query.getExpressionFactory().like(property, bindValue, caseInsensitive, likeType);
-  }
-
-  public Expression ieq(String property, Object bindValue) {
-    return query.getExpressionFactory().ieqObject(property, bindValue);
-  }
 }
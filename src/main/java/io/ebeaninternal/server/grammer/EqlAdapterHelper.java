@@ -1,6 +1,5 @@
 package io.ebeaninternal.server.grammer;
 
-import io.ebean.ExpressionList;
 import io.ebean.LikeType;
 
 import java.math.BigDecimal;
@@ -8,9 +7,9 @@ import java.util.List;
 
 class EqlAdapterHelper {
 
-  private final EqlAdapter<?> owner;
+  private final EqlAdapter owner;
 
-  public EqlAdapterHelper(EqlAdapter<?> owner) {
+  EqlAdapterHelper(EqlAdapter owner) {
     this.owner = owner;
   }
 
@@ -42,64 +41,68 @@ class EqlAdapterHelper {
   }
 
   protected void addBetweenProperty(String rawValue, String lowProperty, String highProperty) {
-    peekExprList().betweenProperties(lowProperty, highProperty, bind(rawValue));
+    Object value = bind(rawValue);
+    owner.addStep(target -> target.peekExprList().betweenProperties(lowProperty, highProperty, target.bind(value)));
   }
 
   protected void addBetween(String path, String value1, String value2) {
-    peekExprList().between(path, bind(value1), bind(value2));
+    Object low = bind(value1);
+    Object high = bind(value2);
+    owner.addStep(target -> target.peekExprList().between(path, target.bind(low), target.bind(high)));
   }
 
   protected void addIn(String path, List<Object> inValues) {
-    peekExprList().in(path, inValues);
+    owner.addStep(target -> target.peekExprList().in(path, target.bindAll(inValues)));
   }
 
-  protected void addExpression(String path, EqlOperator op, String value) {
+  protected void addExpression(String path, EqlOperator op, String rawValue) {
 
+    Object value = bind(rawValue);
     switch (op) {
       case EQ:
-        peekExprList().eq(path, bind(value));
+        owner.addStep(target -> target.peekExprList().eq(path, target.bind(value)));
         break;
       case IEQ:
-        peekExprList().add(owner.ieq(path, bind(value)));
+        owner.addStep(target -> target.peekExprList().add(target.ieq(path, value)));
         break;
       case NE:
-        peekExprList().ne(path, bind(value));
+        owner.addStep(target -> target.peekExprList().ne(path, target.bind(value)));
         break;
       case GT:
-        peekExprList().gt(path, bind(value));
+        owner.addStep(target -> target.peekExprList().gt(path, target.bind(value)));
         break;
       case LT:
-        peekExprList().lt(path, bind(value));
+        owner.addStep(target -> target.peekExprList().lt(path, target.bind(value)));
         break;
       case GTE:
-        peekExprList().ge(path, bind(value));
+        owner.addStep(target -> target.peekExprList().ge(path, target.bind(value)));
         break;
       case LTE:
-        peekExprList().le(path, bind(value));
+        owner.addStep(target -> target.peekExprList().le(path, target.bind(value)));
         break;
       case LIKE:
-        addLike(false, LikeType.RAW, path, bind(value));
+        addLike(false, LikeType.RAW, path, value);
         break;
       case CONTAINS:
-        addLike(false, LikeType.CONTAINS, path, bind(value));
+        addLike(false, LikeType.CONTAINS, path, value);
         break;
       case STARTS_WITH:
-        addLike(false, LikeType.STARTS_WITH, path, bind(value));
+        addLike(false, LikeType.STARTS_WITH, path, value);
         break;
       case ENDS_WITH:
-        addLike(false, LikeType.ENDS_WITH, path, bind(value));
+        addLike(false, LikeType.ENDS_WITH, path, value);
         break;
       case ILIKE:
-        addLike(true, LikeType.RAW, path, bind(value));
+        addLike(true, LikeType.RAW, path, value);
         break;
       case ICONTAINS:
-        addLike(true, LikeType.CONTAINS, path, bind(value));
+        addLike(true, LikeType.CONTAINS, path, value);
         break;
       case ISTARTS_WITH:
-        addLike(true, LikeType.STARTS_WITH, path, bind(value));
+        addLike(true, LikeType.STARTS_WITH, path, value);
         break;
       case IENDS_WITH:
-        addLike(true, LikeType.ENDS_WITH, path, bind(value));
+        addLike(true, LikeType.ENDS_WITH, path, value);
         break;
       default:
         throw new IllegalStateException("Unhandled operator " + op);
@@ -107,8 +110,8 @@ class EqlAdapterHelper {
 
   }
 
-  private void addLike(boolean caseInsensitive, LikeType likeType, String path, Object bindValue) {
-    peekExprList().add(owner.like(caseInsensitive, likeType, path, bindValue));
+  private void addLike(boolean caseInsensitive, LikeType likeType, String path, Object value) {
+    owner.addStep(target -> target.peekExprList().add(target.like(caseInsensitive, likeType, path, value)));
   }
 
   protected Object bind(String value) {
@@ -116,10 +119,6 @@ class EqlAdapterHelper {
     return getBindValue(valueType, value);
   }
 
-  private ExpressionList<?> peekExprList() {
-    return owner.peekExprList();
-  }
-
   private Object getBindValue(ValueType valueType, String value) {
     switch (valueType) {
       case BOOL:
@@ -129,7 +128,7 @@ class EqlAdapterHelper {
       case STRING:
         return unquote(value);
       case NAMED_PARAM:
-        return owner.namedParam(value.substring(1));
+        return new NamedParameter(value.substring(1));
       default:
         throw new IllegalArgumentException("Unhandled valueType " + valueType);
     }
@@ -0,0 +1,104 @@
+package io.ebeaninternal.server.grammer;
+
+import io.ebean.Expression;
+import io.ebean.ExpressionList;
+import io.ebean.LikeType;
+import io.ebeaninternal.api.SpiQuery;
+import io.ebeaninternal.server.util.ArrayStack;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Applies the steps of a parsed EQL statement to a query.
+ */
+class EqlApply<T> {
+
+  private final SpiQuery<T> query;
+
+  private ArrayStack<ExpressionList<T>> whereStack;
+
+  EqlApply(SpiQuery<T> query) {
+    this.query = query;
+  }
+
+  /**
+   * Return the query being built.
+   */
+  SpiQuery<T> query() {
+    return query;
+  }
+
+  /**
+   * Return the current expression list that expressions should be added to.
+   */
+  ExpressionList<T> peekExprList() {
+
+    if (whereStack == null) {
+      whereStack = new ArrayStack<>();
+      whereStack.push(query.where());
+    }
+    // return the current expression list
+    return whereStack.peek();
+  }
+
+  /**
+   * Start a list of expressions added by 'AND'.
+   */
+  void pushAnd() {
+    ExpressionList<T> junction = peekExprList().and();
+    whereStack.push(junction);
+  }
+
+  /**
+   * Start a list of expressions added by 'OR'.
+   */
+  void pushOr() {
+    ExpressionList<T> junction = peekExprList().or();
+    whereStack.push(junction);
+  }
+
+  /**
+   * Start a list of expressions added by 'NOT'.
+   */
+  void pushNot() {
+    ExpressionList<T> junction = peekExprList().not();
+    whereStack.push(junction);
+  }
+
+  /**
+   * End a junction list of expressions.
+   */
+  void popJunction() {
+    whereStack.pop();
+  }
+
+  /**
+   * Return the value to bind replacing a named parameter placeholder with the query named parameter.
+   */
+  Object bind(Object value) {
+    if (value instanceof NamedParameter) {
+      return query.createNamedParameter(((NamedParameter) value).getName());
+    }
+    return value;
+  }
+
+  /**
+   * Return the values to bind.
+   */
+  List<Object> bindAll(List<Object> values) {
+    List<Object> bindValues = new ArrayList<>(values.size());
+    for (Object value : values) {
+      bindValues.add(bind(value));
+    }
+    return bindValues;
+  }
+
+  Expression like(boolean caseInsensitive, LikeType likeType, String property, Object bindValue) {
+    return query.getExpressionFactory().like(property, bind(bindValue), caseInsensitive, likeType);
+  }
+
+  Expression ieq(String property, Object bindValue) {
+    return query.getExpressionFactory().ieqObject(property, bind(bindValue));
+  }
+}
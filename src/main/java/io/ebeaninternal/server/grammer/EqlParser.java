@@ -21,6 +21,13 @@ public class EqlParser {
    * Parse the raw EQL query and apply it to the supplied query.
    */
   public static <T> void parse(String raw, SpiQuery<T> query) {
+    parse(raw).apply(query);
+  }
+
+  /**
+   * Parse the raw EQL query returning the parsed statement that can be applied to queries.
+   */
+  public static EqlStatement parse(String raw) {
 
     EQLLexer lexer = new EQLLexer(new ANTLRInputStream(raw));
     CommonTokenStream tokens = new CommonTokenStream(lexer);
@@ -28,12 +35,12 @@ public class EqlParser {
     parser.addErrorListener(errorListener);
     EQLParser.Select_statementContext context = parser.select_statement();
 
-    EqlAdapter<T> adapter = new EqlAdapter<>(query);
+    EqlAdapter adapter = new EqlAdapter();
 
     ParseTreeWalker walker = new ParseTreeWalker();
     walker.walk(adapter, context);
 
-    query.simplifyExpressions();
+    return adapter.statement();
   }
 
   static class ErrorListener extends BaseErrorListener {
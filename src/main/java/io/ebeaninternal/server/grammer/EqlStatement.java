@@ -0,0 +1,33 @@
+package io.ebeaninternal.server.grammer;
+
+import io.ebeaninternal.api.SpiQuery;
+
+import java.util.List;
+
+/**
+ * The parsed form of an EQL statement.
+ * <p>
+ * This is immutable and holds literal bind values and named parameter placeholders
+ * such that it can be applied to many queries without parsing the EQL again.
+ * </p>
+ */
+public final class EqlStatement {
+
+  private final EqlStep[] steps;
+
+  EqlStatement(List<EqlStep> steps) {
+    this.steps = steps.toArray(new EqlStep[steps.size()]);
+  }
+
+  /**
+   * Apply the statement to the given query.
+   */
+  public <T> void apply(SpiQuery<T> query) {
+
+    EqlApply<T> target = new EqlApply<>(query);
+    for (EqlStep step : steps) {
+      step.apply(target);
+    }
+    query.simplifyExpressions();
+  }
+}
@@ -0,0 +1,130 @@
+package io.ebeaninternal.server.grammer;
+
+import io.ebean.meta.MetaEqlCacheStatistic;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of parsed EQL statements keyed by the EQL text (held per bean type).
+ * <p>
+ * When the cache reaches the maximum size it is cleared and the frequently used
+ * statements are parsed and added again. This keeps the hit path lock free and suits
+ * the typical case of a relatively small number of distinct EQL statements per type.
+ * </p>
+ */
+public final class EqlStatementCache {
+
+  /**
+   * The default maximum number of parsed statements per bean type.
+   */
+  public static final int DEFAULT_MAX_SIZE = 1000;
+
+  private final ConcurrentHashMap<String, EqlStatement> cache = new ConcurrentHashMap<>();
+
+  private final LongAdder hitCount = new LongAdder();
+
+  private final LongAdder missCount = new LongAdder();
+
+  private final Class<?> beanType;
+
+  private final int maxSize;
+
+  public EqlStatementCache(Class<?> beanType) {
+    this(beanType, DEFAULT_MAX_SIZE);
+  }
+
+  public EqlStatementCache(Class<?> beanType, int maxSize) {
+    this.beanType = beanType;
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Return the parsed statement for the given EQL parsing it if not already cached.
+   */
+  public EqlStatement get(String eql) {
+
+    EqlStatement statement = cache.get(eql);
+    if (statement != null) {
+      hitCount.increment();
+      return statement;
+    }
+
+    missCount.increment();
+    statement = EqlParser.parse(eql);
+    if (cache.size() >= maxSize) {
+      cache.clear();
+    }
+    cache.put(eql, statement);
+    return statement;
+  }
+
+  /**
+   * Return the number of statements in the cache.
+   */
+  public int size() {
+    return cache.size();
+  }
+
+  /**
+   * Clear the cache.
+   */
+  public void clear() {
+    cache.clear();
+  }
+
+  /**
+   * Return the statistics optionally resetting the hit and miss counters.
+   */
+  public MetaEqlCacheStatistic getStatistic(boolean reset) {
+    long hits = reset ? hitCount.sumThenReset() : hitCount.sum();
+    long misses = reset ? missCount.sumThenReset() : missCount.sum();
+    return new Statistic(beanType, cache.size(), hits, misses);
+  }
+
+  private static final class Statistic implements MetaEqlCacheStatistic {
+
+    private final Class<?> beanType;
+    private final int size;
+    private final long hitCount;
+    private final long missCount;
+
+    Statistic(Class<?> beanType, int size, long hitCount, long missCount) {
+      this.beanType = beanType;
+      this.size = size;
+      this.hitCount = hitCount;
+      this.missCount = missCount;
+    }
+
+    @Override
+    public String toString() {
+      return "beanType:" + beanType.getName() + " size:" + size + " hit:" + hitCount + " miss:" + missCount;
+    }
+
+    @Override
+    public Class<?> getBeanType() {
+      return beanType;
+    }
+
+    @Override
+    public int getSize() {
+      return size;
+    }
+
+    @Override
+    public long getHitCount() {
+      return hitCount;
+    }
+
+    @Override
+    public long getMissCount() {
+      return missCount;
+    }
+
+    @Override
+    public int getHitRatio() {
+      long total = hitCount + missCount;
+      return (total == 0) ? 0 : (int) (hitCount * 100 / total);
+    }
+  }
+}
@@ -0,0 +1,13 @@
+package io.ebeaninternal.server.grammer;
+
+/**
+ * A step of a parsed EQL statement that is applied to a query.
+ */
+@FunctionalInterface
+interface EqlStep {
+
+  /**
+   * Apply this step to the query being built.
+   */
+  void apply(EqlApply<?> target);
+}
@@ -29,7 +29,7 @@ public final class ShutdownManager {
 
   static boolean stopping;
 
-  static SpiContainer container;
+  static final List<SpiContainer> containers = new ArrayList<>();
 
   static {
     // Register the Shutdown hook
@@ -43,7 +43,23 @@ public final class ShutdownManager {
   }
 
   public static void registerContainer(SpiContainer ebeanContainer) {
-    container = ebeanContainer;
+    //noinspection SynchronizationOnStaticField
+    synchronized (servers) {
+      containers.add(ebeanContainer);
+    }
+  }
+
+  /**
+   * Deregister a container.
+   * <p>
+   * This is done when the container is shutdown.
+   * </p>
+   */
+  public static void deregisterContainer(SpiContainer ebeanContainer) {
+    //noinspection SynchronizationOnStaticField
+    synchronized (servers) {
+      containers.remove(ebeanContainer);
+    }
   }
 
   /**
@@ -139,7 +155,8 @@ public final class ShutdownManager {
         }
       }
 
-      if (container != null) {
+      // copy as the containers deregister as they shutdown
+      for (SpiContainer container : new ArrayList<>(containers)) {
         // shutdown cluster networking if active
         container.shutdown();
       }
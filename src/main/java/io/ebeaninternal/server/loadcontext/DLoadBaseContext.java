@@ -3,13 +3,14 @@ package io.ebeaninternal.server.loadcontext;
 import io.ebean.FetchConfig;
 import io.ebean.bean.ObjectGraphNode;
 import io.ebean.bean.PersistenceContext;
+import io.ebeaninternal.api.LoadSecondaryQuery;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
 import io.ebeaninternal.server.querydefn.OrmQueryProperties;
 
 /**
  * Base class for Bean and BeanCollection loading (lazy loading and query join loading).
  */
-public abstract class DLoadBaseContext {
+public abstract class DLoadBaseContext implements LoadSecondaryQuery {
 
   protected final DLoadContext parent;
 
@@ -1,5 +1,6 @@
 package io.ebeaninternal.server.loadcontext;
 
+import io.ebean.Transaction;
 import io.ebean.bean.BeanLoader;
 import io.ebean.bean.EntityBeanIntercept;
 import io.ebean.bean.PersistenceContext;
@@ -13,6 +14,7 @@ import io.ebeaninternal.server.querydefn.OrmQueryProperties;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Default implementation of LoadBeanContext.
@@ -69,6 +71,11 @@ public class DLoadBeanContext extends DLoadBaseContext implements LoadBeanContex
 
   @Override
   public void loadSecondaryQuery(OrmQueryRequest<?> parentRequest, boolean forEach) {
+    loadSecondaryQuery(parentRequest, parentRequest.getTransaction(), forEach);
+  }
+
+  @Override
+  public void loadSecondaryQuery(OrmQueryRequest<?> parentRequest, Transaction transaction, boolean forEach) {
 
     if (!queryFetch) {
       throw new IllegalStateException("Not expecting loadSecondaryQuery() to be called?");
@@ -77,7 +84,7 @@ public class DLoadBeanContext extends DLoadBaseContext implements LoadBeanContex
       if (bufferList != null) {
         for (LoadBuffer loadBuffer : bufferList) {
           if (!loadBuffer.list.isEmpty()) {
-            LoadBeanRequest req = new LoadBeanRequest(loadBuffer, parentRequest);
+            LoadBeanRequest req = new LoadBeanRequest(loadBuffer, parentRequest, transaction);
             parent.getEbeanServer().loadBean(req);
             if (!queryProps.isQueryFetchAll()) {
               // Stop - only fetch the first batch ... the rest will be lazy loaded
@@ -174,16 +181,15 @@ public class DLoadBeanContext extends DLoadBaseContext implements LoadBeanContex
         return;
       }
 
-      if (context.hitCache && context.desc.cacheBeanLoad(ebi, persistenceContext)) {
-        // successfully hit the L2 cache so don't invoke DB lazy loading
-        list.remove(ebi);
-        return;
-      }
-
       if (context.hitCache) {
-        // check each of the beans in the batch to see if they are in the L2 cache.
-        // bean successfully loaded from L2 cache so remove from batch load
-        list.removeIf(batchEbi -> batchEbi != ebi && context.desc.cacheBeanLoad(batchEbi, persistenceContext));
+        // check all the beans in the batch against the L2 cache using a single bulk
+        // lookup, beans successfully loaded from L2 cache are removed from the batch load
+        Set<EntityBeanIntercept> hits = context.desc.cacheBeanLoadAll(list, persistenceContext, ebi.getLazyLoadProperty());
+        list.removeIf(hits::contains);
+        if (hits.contains(ebi)) {
+          // successfully hit the L2 cache so don't invoke DB lazy loading
+          return;
+        }
       }
 
       LoadBeanRequest req = new LoadBeanRequest(this, ebi.getLazyLoadProperty(), context.hitCache);
@@ -6,6 +6,7 @@ import io.ebean.bean.EntityBeanIntercept;
 import io.ebean.bean.ObjectGraphNode;
 import io.ebean.bean.ObjectGraphOrigin;
 import io.ebean.bean.PersistenceContext;
+import io.ebean.util.SplitName;
 import io.ebeaninternal.api.LoadContext;
 import io.ebeaninternal.api.LoadSecondaryQuery;
 import io.ebeaninternal.api.SpiEbeanServer;
@@ -20,9 +21,12 @@ import io.ebeaninternal.server.el.ElPropertyValue;
 import io.ebeaninternal.server.querydefn.OrmQueryProperties;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Default implementation of LoadContext.
@@ -190,18 +194,59 @@ public class DLoadContext implements LoadContext {
   public void executeSecondaryQueries(OrmQueryRequest<?> parentRequest, boolean forEach) {
 
     if (secQuery != null) {
-      for (OrmQueryProperties aSecQuery : secQuery) {
-        LoadSecondaryQuery load = getLoadSecondaryQuery(aSecQuery.getPath());
-        load.loadSecondaryQuery(parentRequest, forEach);
+      int parallelism = secondaryQueryParallelism(parentRequest, forEach);
+      if (parallelism > 1) {
+        executeParallel(parentRequest, parallelism);
+      } else {
+        for (OrmQueryProperties aSecQuery : secQuery) {
+          LoadSecondaryQuery load = getLoadSecondaryQuery(aSecQuery.getPath());
+          load.loadSecondaryQuery(parentRequest, forEach);
+        }
       }
     }
   }
 
+  /**
+   * Return the number of secondary queries that can execute in parallel.
+   * <p>
+   * Parallel execution requires the parent query to have created its own transaction as the
+   * parallel queries use other transactions (and would not see uncommitted changes).
+   * </p>
+   */
+  private int secondaryQueryParallelism(OrmQueryRequest<?> parentRequest, boolean forEach) {
+    if (forEach || secQuery.size() < 2 || !parentRequest.isCreatedTransaction()) {
+      return 1;
+    }
+    return ebeanServer.getServerConfig().getSecondaryQueryParallelism();
+  }
+
+  /**
+   * Execute the secondary queries in depth order with the queries at the same depth
+   * executing in parallel (except queries loading the same bean type).
+   */
+  private void executeParallel(OrmQueryRequest<?> parentRequest, int parallelism) {
+
+    Map<Integer, Map<BeanDescriptor<?>, List<DLoadBaseContext>>> depthMap = new TreeMap<>();
+    for (OrmQueryProperties aSecQuery : secQuery) {
+      String path = aSecQuery.getPath();
+      DLoadBaseContext load = getLoadSecondaryQuery(path);
+      int depth = SplitName.count(path);
+      depthMap.computeIfAbsent(depth, k -> new LinkedHashMap<>())
+        .computeIfAbsent(load.desc, k -> new ArrayList<>())
+        .add(load);
+    }
+
+    DParallelSecondaryQuery parallel = new DParallelSecondaryQuery(ebeanServer, tenantId, parentRequest, parallelism);
+    for (Map<BeanDescriptor<?>, List<DLoadBaseContext>> tasks : depthMap.values()) {
+      parallel.execute(new ArrayList<>(tasks.values()));
+    }
+  }
+
   /**
    * Return the LoadBeanContext or LoadManyContext for the given path.
    */
-  private LoadSecondaryQuery getLoadSecondaryQuery(String path) {
-    LoadSecondaryQuery beanLoad = beanMap.get(path);
+  private DLoadBaseContext getLoadSecondaryQuery(String path) {
+    DLoadBaseContext beanLoad = beanMap.get(path);
     if (beanLoad == null) {
       beanLoad = manyMap.get(path);
     }
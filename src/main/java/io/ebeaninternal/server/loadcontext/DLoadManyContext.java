@@ -1,8 +1,8 @@
 package io.ebeaninternal.server.loadcontext;
 
+import io.ebean.Transaction;
 import io.ebean.bean.BeanCollection;
 import io.ebean.bean.BeanCollectionLoader;
-import io.ebean.bean.EntityBean;
 import io.ebean.bean.ObjectGraphNode;
 import io.ebean.bean.PersistenceContext;
 import io.ebeaninternal.api.LoadManyBuffer;
@@ -16,6 +16,7 @@ import io.ebeaninternal.server.querydefn.OrmQueryProperties;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 public class DLoadManyContext extends DLoadBaseContext implements LoadManyContext {
 
@@ -90,6 +91,11 @@ public class DLoadManyContext extends DLoadBaseContext implements LoadManyContex
 
   @Override
   public void loadSecondaryQuery(OrmQueryRequest<?> parentRequest, boolean forEach) {
+    loadSecondaryQuery(parentRequest, parentRequest.getTransaction(), forEach);
+  }
+
+  @Override
+  public void loadSecondaryQuery(OrmQueryRequest<?> parentRequest, Transaction transaction, boolean forEach) {
 
     if (!queryFetch) {
       throw new IllegalStateException("Not expecting loadSecondaryQuery() to be called?");
@@ -98,7 +104,7 @@ public class DLoadManyContext extends DLoadBaseContext implements LoadManyContex
       if (bufferList != null) {
         for (LoadBuffer loadBuffer : bufferList) {
           if (!loadBuffer.list.isEmpty()) {
-            LoadManyRequest req = new LoadManyRequest(loadBuffer, parentRequest);
+            LoadManyRequest req = new LoadManyRequest(loadBuffer, parentRequest, transaction);
             parent.getEbeanServer().loadMany(req);
             if (!queryProps.isQueryFetchAll()) {
               // Stop - only fetch the first batch ... the rest will be lazy loaded
@@ -207,18 +213,16 @@ public class DLoadManyContext extends DLoadBaseContext implements LoadManyContex
       synchronized (this) {
         boolean useCache = context.hitCache && !onlyIds;
         if (useCache) {
-          EntityBean ownerBean = bc.getOwnerBean();
-          BeanDescriptor<?> parentDesc = context.desc.getBeanDescriptor(ownerBean.getClass());
-          Object parentId = parentDesc.getId(ownerBean);
-          if (parentDesc.cacheManyPropLoad(context.property, bc, parentId, context.parent.isReadOnly())) {
+          // check all the beanCollections in the batch using a single bulk cache lookup against
+          // the descriptor owning the property (the owner beans can be of mixed inheritance types)
+          Set<BeanCollection<?>> hits = context.desc.cacheManyPropLoadAll(context.property, list, context.parent.isReadOnly());
+          list.removeIf(hits::contains);
+          if (hits.contains(bc)) {
             // we loaded the bean from cache
-            list.remove(bc);
             return;
           }
         }
 
-        // Should reduce the list by checking each beanCollection in the L2 first before executing the query
-
         LoadManyRequest req = new LoadManyRequest(this, onlyIds, useCache);
         context.parent.getEbeanServer().loadMany(req);
       }
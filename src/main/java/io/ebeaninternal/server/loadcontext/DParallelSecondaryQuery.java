@@ -0,0 +1,127 @@
+package io.ebeaninternal.server.loadcontext;
+
+import io.ebean.BackgroundExecutor;
+import io.ebean.Transaction;
+import io.ebeaninternal.api.SpiEbeanServer;
+import io.ebeaninternal.api.SpiTransaction;
+import io.ebeaninternal.server.core.OrmQueryRequest;
+
+import javax.persistence.PersistenceException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Executes a group of independent secondary queries in parallel.
+ * <p>
+ * The calling thread executes secondary queries using the transaction of the parent request
+ * and up to (parallelism - 1) background threads execute the remaining secondary queries each
+ * using its own query only transaction. The tasks are assigned round robin up front with the
+ * first task executed by the calling thread. The loaded beans are merged into the (thread safe)
+ * persistence context of the parent request.
+ * </p>
+ * <p>
+ * Each task is a list of secondary queries that are executed sequentially (as they load beans
+ * of the same type that could otherwise be loaded concurrently).
+ * </p>
+ */
+final class DParallelSecondaryQuery {
+
+  private final SpiEbeanServer server;
+
+  private final Object tenantId;
+
+  private final OrmQueryRequest<?> parentRequest;
+
+  private final int parallelism;
+
+  DParallelSecondaryQuery(SpiEbeanServer server, Object tenantId, OrmQueryRequest<?> parentRequest, int parallelism) {
+    this.server = server;
+    this.tenantId = tenantId;
+    this.parentRequest = parentRequest;
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * Execute the tasks returning when all of them have completed.
+   */
+  void execute(List<List<DLoadBaseContext>> tasks) {
+
+    int slots = Math.min(parallelism, tasks.size());
+    List<List<List<DLoadBaseContext>>> assigned = new ArrayList<>(slots);
+    for (int i = 0; i < slots; i++) {
+      assigned.add(new ArrayList<>());
+    }
+    for (int i = 0; i < tasks.size(); i++) {
+      assigned.get(i % slots).add(tasks.get(i));
+    }
+
+    int workers = slots - 1;
+    AtomicReference<RuntimeException> error = new AtomicReference<>();
+    CountDownLatch latch = new CountDownLatch(workers);
+    BackgroundExecutor executor = server.getBackgroundExecutor();
+    for (int i = 1; i <= workers; i++) {
+      List<List<DLoadBaseContext>> workerTasks = assigned.get(i);
+      executor.execute(() -> {
+        try {
+          executeWithOwnTransaction(workerTasks);
+        } catch (RuntimeException e) {
+          error.compareAndSet(null, e);
+        } finally {
+          latch.countDown();
+        }
+      });
+    }
+
+    try {
+      executeTasks(assigned.get(0), parentRequest.getTransaction());
+    } catch (RuntimeException e) {
+      error.compareAndSet(null, e);
+    }
+
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new PersistenceException("Interrupted waiting for secondary queries", e);
+    }
+
+    RuntimeException e = error.get();
+    if (e != null) {
+      throw e;
+    }
+  }
+
+  /**
+   * Execute the tasks using a transaction created when the first task is executed.
+   */
+  private void executeWithOwnTransaction(List<List<DLoadBaseContext>> tasks) {
+    SpiTransaction transaction = null;
+    try {
+      for (List<DLoadBaseContext> task : tasks) {
+        if (transaction == null) {
+          transaction = parentRequest.getQuery().isUseReadOnlyDataSource()
+            ? server.createReadOnlyTransaction(tenantId) : server.createQueryTransaction(tenantId);
+        }
+        executeTask(task, transaction);
+      }
+    } finally {
+      if (transaction != null) {
+        transaction.end();
+      }
+    }
+  }
+
+  private void executeTasks(List<List<DLoadBaseContext>> tasks, Transaction transaction) {
+    for (List<DLoadBaseContext> task : tasks) {
+      executeTask(task, transaction);
+    }
+  }
+
+  private void executeTask(List<DLoadBaseContext> task, Transaction transaction) {
+    for (DLoadBaseContext load : task) {
+      load.loadSecondaryQuery(parentRequest, transaction, false);
+    }
+  }
+}
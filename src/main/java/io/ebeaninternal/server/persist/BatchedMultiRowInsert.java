@@ -0,0 +1,166 @@
+package io.ebeaninternal.server.persist;
+
+import io.ebeaninternal.api.SpiTransaction;
+import io.ebeaninternal.server.core.timezone.DataTimeZone;
+import io.ebeaninternal.server.type.DataBind;
+import io.ebeaninternal.server.type.DataBindCapture;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A batch of inserts executed as multi-row inserts.
+ * <p>
+ * Rather than adding each row to a JDBC batch the bind values of each row are
+ * captured. On execute the rows are sent as <code>insert into t (..) values (..),(..),...</code>
+ * statements with as many rows per statement as the maximum number of bind
+ * parameters allows (and at most 1000 rows per statement).
+ * </p>
+ */
+public class BatchedMultiRowInsert extends BatchedPstmt {
+
+  /**
+   * The maximum number of rows in a single insert statement.
+   */
+  static final int MAX_ROWS = 1000;
+
+  private final Connection connection;
+
+  /**
+   * The transaction used to log the executed statements (null for no logging).
+   */
+  private final SpiTransaction transaction;
+
+  private final DataTimeZone dataTimeZone;
+
+  private final String[] generatedKeyColumns;
+
+  private final int maxBindParameters;
+
+  /**
+   * The insert sql up to and including the values keyword.
+   */
+  private final String sqlPrefix;
+
+  /**
+   * The values of a single row including the brackets.
+   */
+  private final String sqlRow;
+
+  private final List<DataBindCapture> rows = new ArrayList<>();
+
+  /**
+   * Create for the given single row insert sql executed using the transaction (logging the statements).
+   */
+  public BatchedMultiRowInsert(SpiTransaction transaction, DataTimeZone dataTimeZone, String sql, boolean isGenKeys,
+                               String[] generatedKeyColumns, int maxBindParameters) {
+    this(transaction.getInternalConnection(), transaction, dataTimeZone, sql, isGenKeys, generatedKeyColumns, maxBindParameters);
+  }
+
+  /**
+   * Create for the given single row insert sql.
+   */
+  public BatchedMultiRowInsert(Connection connection, DataTimeZone dataTimeZone, String sql, boolean isGenKeys,
+                               String[] generatedKeyColumns, int maxBindParameters) {
+    this(connection, null, dataTimeZone, sql, isGenKeys, generatedKeyColumns, maxBindParameters);
+  }
+
+  private BatchedMultiRowInsert(Connection connection, SpiTransaction transaction, DataTimeZone dataTimeZone, String sql,
+                                boolean isGenKeys, String[] generatedKeyColumns, int maxBindParameters) {
+    super(null, isGenKeys, sql);
+    this.connection = connection;
+    this.transaction = transaction;
+    this.dataTimeZone = dataTimeZone;
+    this.generatedKeyColumns = generatedKeyColumns;
+    this.maxBindParameters = maxBindParameters;
+    int pos = sql.indexOf(") values (") + 9;
+    this.sqlPrefix = sql.substring(0, pos);
+    this.sqlRow = sql.substring(pos);
+  }
+
+  /**
+   * Add the captured bind values of a row.
+   */
+  public void addRow(DataBindCapture row) {
+    rows.add(row);
+  }
+
+  /**
+   * Return the number of rows to insert per statement.
+   */
+  static int rowsPerStatement(int maxBindParameters, int bindsPerRow, int rowCount) {
+    int max = (bindsPerRow == 0) ? MAX_ROWS : Math.max(1, maxBindParameters / bindsPerRow);
+    return Math.min(rowCount, Math.min(MAX_ROWS, max));
+  }
+
+  /**
+   * Return the insert sql for the given number of rows.
+   */
+  String sql(int rowCount) {
+    StringBuilder sb = new StringBuilder(sqlPrefix.length() + (sqlRow.length() + 1) * rowCount);
+    sb.append(sqlPrefix);
+    for (int i = 0; i < rowCount; i++) {
+      if (i > 0) {
+        sb.append(",");
+      }
+      sb.append(sqlRow);
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Execute the rows as multi-row insert statements.
+   */
+  @Override
+  public void executeBatch(boolean getGeneratedKeys) throws SQLException {
+
+    int total = rows.size();
+    if (total != list.size()) {
+      throw new SQLException("Multi-row insert has " + total + " rows of bind values but " + list.size() + " batched requests for " + sqlPrefix);
+    }
+    if (total > 0) {
+      int chunk = rowsPerStatement(maxBindParameters, rows.get(0).size(), total);
+      boolean genKeys = isGenKeys && getGeneratedKeys;
+      for (int start = 0; start < total; start += chunk) {
+        execute(start, Math.min(total, start + chunk), genKeys);
+      }
+    }
+    postExecute();
+    rows.clear();
+  }
+
+  private void execute(int start, int end, boolean genKeys) throws SQLException {
+
+    String chunkSql = sql(end - start);
+    if (transaction != null && transaction.isLogSql()) {
+      transaction.logSql(chunkSql + "; -- rows:" + (end - start));
+    }
+    try (PreparedStatement stmt = genKeys ? connection.prepareStatement(chunkSql, generatedKeyColumns) : connection.prepareStatement(chunkSql)) {
+      DataBind dataBind = new DataBind(dataTimeZone, stmt, connection);
+      for (int i = start; i < end; i++) {
+        rows.get(i).replay(dataBind);
+      }
+      int rowCount = stmt.executeUpdate();
+
+      // row counts per row are not known when the total does not match
+      int perRow = (rowCount == end - start) ? 1 : Statement.SUCCESS_NO_INFO;
+      for (int i = start; i < end; i++) {
+        list.get(i).checkRowCount(perRow);
+      }
+      if (genKeys) {
+        try (ResultSet rset = stmt.getGeneratedKeys()) {
+          int index = start;
+          while (index < end && rset.next()) {
+            list.get(index++).setGeneratedKey(rset.getObject(1));
+          }
+        }
+      }
+    }
+  }
+
+}
@@ -22,12 +22,12 @@ public class BatchedPstmt {
   /**
    * True if an insert that uses generated keys.
    */
-  private final boolean isGenKeys;
+  protected final boolean isGenKeys;
 
   /**
    * The list of BatchPostExecute used to perform post processing.
    */
-  private final ArrayList<BatchPostExecute> list = new ArrayList<>();
+  protected final ArrayList<BatchPostExecute> list = new ArrayList<>();
 
   private final String sql;
 
@@ -92,7 +92,7 @@ public class BatchedPstmt {
     }
   }
 
-  private void postExecute() {
+  protected void postExecute() {
     for (BatchPostExecute aList : list) {
       aList.postExecute();
     }
@@ -38,6 +38,15 @@ public class BatchedPstmtHolder {
    * This will return null if no matching PreparedStatement is found.
    */
   public PreparedStatement getStmt(String stmtKey, BatchPostExecute postExecute) {
+    BatchedPstmt bs = getBatched(stmtKey, postExecute);
+    return (bs == null) ? null : bs.getStatement();
+  }
+
+  /**
+   * Return the BatchedPstmt if it has already been used in this Batch.
+   * This will return null if no matching BatchedPstmt is found.
+   */
+  public BatchedPstmt getBatched(String stmtKey, BatchPostExecute postExecute) {
     BatchedPstmt bs = stmtMap.get(stmtKey);
     if (bs == null) {
       // the PreparedStatement has need been created
@@ -52,7 +61,7 @@ public class BatchedPstmtHolder {
     if (bsSize > maxSize) {
       maxSize = bsSize;
     }
-    return bs.getStatement();
+    return bs;
   }
 
   /**
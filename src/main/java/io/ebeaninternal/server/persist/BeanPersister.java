@@ -1,6 +1,9 @@
 package io.ebeaninternal.server.persist;
 
+import io.ebeaninternal.api.SpiTransaction;
 import io.ebeaninternal.server.core.PersistRequestBean;
+import io.ebeaninternal.server.core.timezone.DataTimeZone;
+import io.ebeaninternal.server.deploy.BeanDescriptor;
 
 import javax.persistence.PersistenceException;
 
@@ -24,4 +27,9 @@ public interface BeanPersister {
    */
   int delete(PersistRequestBean<?> request) throws PersistenceException;
 
+  /**
+   * Create a bulk insert for the bean type.
+   */
+  BulkInsert createBulkInsert(BeanDescriptor<?> desc, SpiTransaction transaction, DataTimeZone dataTimeZone);
+
 }
@@ -178,6 +178,11 @@ public class Binder {
       bindObject(dataBind, null, Types.OTHER);
       return null;
 
+    } else if (value instanceof MultiValueWrapper) {
+      // IN expression values bound as a single parameter
+      ((MultiValueWrapper) value).bind(dataBind);
+      return value;
+
     } else {
 
       ScalarType<?> type = typeManager.getScalarType(value.getClass());
@@ -0,0 +1,33 @@
+package io.ebeaninternal.server.persist;
+
+import io.ebean.bean.EntityBean;
+
+/**
+ * Bulk insert of beans of a single type.
+ * <p>
+ * Beans are inserted without per bean lifecycle events (persist controllers and
+ * listeners), cascading, change logs or L2 cache notification. Instead the table
+ * is registered as modified (inserted) with the transaction.
+ * </p>
+ * <p>
+ * On Postgres the rows are streamed using COPY FROM STDIN and on other platforms
+ * executed as multi-row inserts (or JDBC batch when not supported).
+ * </p>
+ */
+public interface BulkInsert {
+
+  /**
+   * Add a bean to insert.
+   */
+  void add(EntityBean bean);
+
+  /**
+   * Insert any remaining beans returning the total number of rows inserted.
+   */
+  int end();
+
+  /**
+   * Abort the bulk insert after an error.
+   */
+  void cancel();
+}
@@ -164,6 +164,16 @@ public final class DefaultPersister implements Persister {
     return draftHandler.getDrafts();
   }
 
+  @Override
+  public BulkInsert createBulkInsert(Class<?> beanType, Transaction transaction) {
+
+    BeanManager<?> mgr = beanDescriptorManager.getBeanManager(beanType);
+    if (mgr == null) {
+      throw new PersistenceException(errNotRegistered(beanType));
+    }
+    return mgr.getBeanPersister().createBulkInsert(mgr.getBeanDescriptor(), (SpiTransaction) transaction, server.getDataTimeZone());
+  }
+
   /**
    * Helper method to return the list of Id values for the list of beans.
    */
@@ -399,8 +409,24 @@ public final class DefaultPersister implements Persister {
    */
   @Override
   public void insert(EntityBean bean, Transaction t) {
+    insertRequest(createRequest(bean, t, PersistRequest.Type.INSERT));
+  }
+
+  /**
+   * Insert or update this bean based on its id value.
+   */
+  @Override
+  public void upsert(EntityBean bean, Transaction t) {
 
     PersistRequestBean<?> req = createRequest(bean, t, PersistRequest.Type.INSERT);
+    req.setUpsert();
+    insertRequest(req);
+  }
+
+  /**
+   * Execute the top level insert (or upsert) request.
+   */
+  private void insertRequest(PersistRequestBean<?> req) {
     try {
       req.initTransIfRequiredWithBatchCascade();
       insert(req);
@@ -456,8 +482,9 @@ public final class DefaultPersister implements Persister {
       request.executeOrQueue();
 
       if (request.isPersistCascade()) {
-        // save any associated List held beans
-        saveAssocMany(true, request, true);
+        // save any associated List held beans (with upsert the parent may have existed)
+        boolean inserted = !request.isUpsert();
+        saveAssocMany(inserted, request, inserted);
       }
     } finally {
       request.unRegisterBean();
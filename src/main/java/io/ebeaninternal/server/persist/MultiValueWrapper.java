@@ -0,0 +1,37 @@
+package io.ebeaninternal.server.persist;
+
+import io.ebean.config.dbplatform.MultiValueBind;
+import io.ebeaninternal.server.type.DataBind;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * The values of an IN expression that are bound as a single parameter.
+ */
+public final class MultiValueWrapper {
+
+  private final MultiValueBind multiValueBind;
+
+  private final Class<?> valueType;
+
+  private final Object[] values;
+
+  public MultiValueWrapper(MultiValueBind multiValueBind, Class<?> valueType, Object[] values) {
+    this.multiValueBind = multiValueBind;
+    this.valueType = valueType;
+    this.values = values;
+  }
+
+  /**
+   * Bind the values as a single parameter.
+   */
+  void bind(DataBind dataBind) throws SQLException {
+    dataBind.setMultiValues(multiValueBind, valueType, values);
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(values);
+  }
+}
@@ -0,0 +1,305 @@
+package io.ebeaninternal.server.persist.dml;
+
+import io.ebean.bean.EntityBean;
+import io.ebean.config.dbplatform.DatabasePlatform;
+import io.ebeaninternal.api.SpiTransaction;
+import io.ebeaninternal.server.core.PersistRequestBean;
+import io.ebeaninternal.server.core.timezone.DataTimeZone;
+import io.ebeaninternal.server.deploy.BeanDescriptor;
+import io.ebeaninternal.server.deploy.BeanProperty;
+import io.ebeaninternal.server.persist.BatchPostExecute;
+import io.ebeaninternal.server.persist.BatchedMultiRowInsert;
+import io.ebeaninternal.server.persist.BatchedPstmt;
+import io.ebeaninternal.server.persist.BulkInsert;
+import io.ebeaninternal.server.persist.DmlUtil;
+import io.ebeaninternal.server.persist.dmlbind.BindableRequest;
+import io.ebeaninternal.server.type.DataBind;
+import io.ebeaninternal.server.type.DataBindCapture;
+
+import javax.persistence.PersistenceException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bulk insert of beans of a single type using the InsertMeta bindings.
+ * <p>
+ * The bind values of each bean are captured and then either streamed using COPY
+ * (Postgres) or executed in batches as multi-row inserts (or JDBC batch). COPY
+ * is only used when the id values are known (assigned or generated by sequence
+ * or UUID) as the generated keys of identity columns are not returned by COPY.
+ * </p>
+ */
+final class BulkInsertHandler implements BulkInsert, BindableRequest {
+
+  /**
+   * The minimum number of rows executed per batch.
+   */
+  private static final int MIN_BATCH_SIZE = 1000;
+
+  private final DatabasePlatform dbPlatform;
+
+  private final BeanDescriptor<?> desc;
+
+  private final InsertMeta meta;
+
+  private final SpiTransaction transaction;
+
+  private final Connection connection;
+
+  private final DataTimeZone dataTimeZone;
+
+  private final int batchSize;
+
+  private final long now;
+
+  private final boolean idGenerator;
+
+  private final List<DataBindCapture> rows = new ArrayList<>();
+
+  private final List<EntityBean> beans = new ArrayList<>();
+
+  /**
+   * The bind values of the current bean.
+   */
+  private DataBindCapture dataBind;
+
+  /**
+   * The insert sql of the current rows.
+   */
+  private String sql;
+
+  private boolean useGeneratedKeys;
+
+  private PostgresCopyIn copyIn;
+
+  private int rowCount;
+
+  BulkInsertHandler(DatabasePlatform dbPlatform, BeanDescriptor<?> desc, InsertMeta meta, SpiTransaction transaction, DataTimeZone dataTimeZone) {
+    this.dbPlatform = dbPlatform;
+    this.desc = desc;
+    this.meta = meta;
+    this.transaction = transaction;
+    // execute any batched statements first (e.g. the inserts of the parent rows)
+    transaction.flush();
+    this.connection = transaction.getInternalConnection();
+    this.dataTimeZone = dataTimeZone;
+    this.batchSize = Math.max(MIN_BATCH_SIZE, transaction.getBatchSize());
+    this.now = System.currentTimeMillis();
+    BeanProperty idProperty = desc.getIdProperty();
+    this.idGenerator = desc.isUseIdGenerator() && idProperty != null && !idProperty.isEmbedded();
+  }
+
+  @Override
+  public void add(EntityBean bean) {
+    try {
+      for (BeanProperty prop : desc.propertiesGenInsert()) {
+        prop.setValue(bean, prop.getGeneratedProperty().getInsertValue(prop, bean, now));
+      }
+      boolean withId = !DmlUtil.isNullOrZero(desc.getId(bean));
+      if (!withId) {
+        if (idGenerator) {
+          desc.convertSetId(desc.nextId(transaction), bean);
+          withId = true;
+        } else if (meta.isConcatenatedKey()) {
+          throw new PersistenceException("Bulk insert of " + desc.getFullName() + " requires the id values to be set");
+        }
+      }
+      String rowSql = meta.getSql(withId, false);
+      if (!rowSql.equals(sql)) {
+        flush();
+        start(rowSql, !withId && meta.supportsGetGeneratedKeys());
+      }
+
+      dataBind = new DataBindCapture();
+      meta.bind(this, bean, withId, false);
+      if (copyIn != null) {
+        // rows are counted by the COPY on end
+        copyIn.add(dataBind);
+      } else {
+        rows.add(dataBind);
+        beans.add(bean);
+        if (rows.size() >= batchSize) {
+          flush();
+        }
+      }
+      // if the bean is persisted again then it should result in an update
+      bean._ebean_getIntercept().setLoaded();
+      desc.setAllLoaded(bean);
+      desc.setDraft(bean);
+
+    } catch (SQLException e) {
+      throw translate(e);
+    }
+  }
+
+  @Override
+  public int end() {
+    try {
+      flush();
+    } catch (SQLException e) {
+      throw translate(e);
+    }
+    if (rowCount > 0) {
+      // notify the table (rather than each bean) as inserted
+      transaction.getEvent().add(desc.getBaseTable(), true, false, false);
+      if (desc.isDraftable()) {
+        transaction.getEvent().add(desc.getDraftTable(), true, false, false);
+      }
+      if (transaction.isLogSummary()) {
+        transaction.logSummary("BulkInsert " + desc.getFullName() + " rows:" + rowCount);
+      }
+    }
+    return rowCount;
+  }
+
+  @Override
+  public void cancel() {
+    if (copyIn != null) {
+      copyIn.cancel();
+      copyIn = null;
+    }
+    rows.clear();
+    beans.clear();
+  }
+
+  private PersistenceException translate(SQLException e) {
+    cancel();
+    return dbPlatform.translate("Error[" + e.getMessage() + "] executing bulk insert of " + desc.getFullName(), e);
+  }
+
+  /**
+   * Start rows for the given insert sql.
+   */
+  private void start(String rowSql, boolean genKeys) throws SQLException {
+    this.sql = rowSql;
+    this.useGeneratedKeys = genKeys;
+    if (!genKeys && meta.isSupportsCopyIn()) {
+      String copySql = PostgresCopyIn.copySql(rowSql);
+      if (copySql != null) {
+        copyIn = new PostgresCopyIn(connection, dataTimeZone, copySql);
+      }
+    }
+  }
+
+  /**
+   * Execute the current rows.
+   */
+  private void flush() throws SQLException {
+    if (copyIn != null) {
+      rowCount += (int) copyIn.end();
+      copyIn = null;
+
+    } else if (!rows.isEmpty()) {
+      if (meta.isSupportsMultiRowInsert(useGeneratedKeys)) {
+        executeMultiRow();
+      } else {
+        executeBatch();
+      }
+      rowCount += rows.size();
+      rows.clear();
+      beans.clear();
+    }
+  }
+
+  private void executeMultiRow() throws SQLException {
+    BatchedMultiRowInsert insert = new BatchedMultiRowInsert(transaction, dataTimeZone, sql, useGeneratedKeys,
+      meta.getIdentityDbColumns(), meta.getMaxBindParameters());
+    for (int i = 0; i < rows.size(); i++) {
+      insert.add(new BulkRow(desc, beans.get(i)));
+      insert.addRow(rows.get(i));
+    }
+    insert.executeBatch(true);
+  }
+
+  private void executeBatch() throws SQLException {
+    PreparedStatement pstmt = useGeneratedKeys ? connection.prepareStatement(sql, meta.getIdentityDbColumns()) : connection.prepareStatement(sql);
+    BatchedPstmt batch = new BatchedPstmt(pstmt, useGeneratedKeys, sql);
+    try {
+      for (int i = 0; i < rows.size(); i++) {
+        rows.get(i).replay(new DataBind(dataTimeZone, pstmt, connection));
+        pstmt.addBatch();
+        batch.add(new BulkRow(desc, beans.get(i)));
+      }
+      batch.executeBatch(true);
+    } finally {
+      batch.close();
+    }
+  }
+
+  @Override
+  public void setIdValue(Object idValue) {
+    // not logged
+  }
+
+  @Override
+  public void bind(Object value, BeanProperty prop) throws SQLException {
+    prop.bind(dataBind, value);
+  }
+
+  @Override
+  public void bind(Object value, int sqlType) throws SQLException {
+    dataBind.setObject(value, sqlType);
+  }
+
+  @Override
+  public void bindNoLog(Object value, int sqlType, String logPlaceHolder) throws SQLException {
+    dataBind.setObject(value, sqlType);
+  }
+
+  @Override
+  public void bindNoLog(Object value, BeanProperty prop) throws SQLException {
+    prop.bind(dataBind, value);
+  }
+
+  @Override
+  public void registerGeneratedVersion(Object value) {
+    // only used for update
+  }
+
+  /**
+   * Not supported as there is no persist request per bean.
+   */
+  @Override
+  public PersistRequestBean<?> getPersistRequest() {
+    throw new PersistenceException("Bulk insert of " + desc.getFullName()
+      + " does not support unidirectional relationships or associated beans without an id");
+  }
+
+  @Override
+  public long now() {
+    return now;
+  }
+
+  /**
+   * Sets the generated key of an inserted row.
+   */
+  private static final class BulkRow implements BatchPostExecute {
+
+    private final BeanDescriptor<?> desc;
+
+    private final EntityBean bean;
+
+    BulkRow(BeanDescriptor<?> desc, EntityBean bean) {
+      this.desc = desc;
+      this.bean = bean;
+    }
+
+    @Override
+    public void checkRowCount(int rowCount) {
+      // not checked for inserts
+    }
+
+    @Override
+    public void setGeneratedKey(Object idValue) {
+      desc.convertSetId(idValue, bean);
+    }
+
+    @Override
+    public void postExecute() {
+      // no per bean post processing
+    }
+  }
+}
@@ -2,8 +2,12 @@ package io.ebeaninternal.server.persist.dml;
 
 import io.ebean.config.dbplatform.DatabasePlatform;
 import io.ebean.util.StringHelper;
+import io.ebeaninternal.api.SpiTransaction;
 import io.ebeaninternal.server.core.PersistRequestBean;
+import io.ebeaninternal.server.core.timezone.DataTimeZone;
+import io.ebeaninternal.server.deploy.BeanDescriptor;
 import io.ebeaninternal.server.persist.BeanPersister;
+import io.ebeaninternal.server.persist.BulkInsert;
 
 import java.sql.SQLException;
 
@@ -57,6 +61,11 @@ public final class DmlBeanPersister implements BeanPersister {
     execute(request, new UpdateHandler(request, updateMeta));
   }
 
+  @Override
+  public BulkInsert createBulkInsert(BeanDescriptor<?> desc, SpiTransaction transaction, DataTimeZone dataTimeZone) {
+    return new BulkInsertHandler(dbPlatform, desc, insertMeta, transaction, dataTimeZone);
+  }
+
   /**
    * execute request taking batching into account.
    */
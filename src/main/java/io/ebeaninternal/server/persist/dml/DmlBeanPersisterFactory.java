@@ -14,9 +14,9 @@ public class DmlBeanPersisterFactory implements BeanPersisterFactory {
 
   private final MetaFactory metaFactory;
 
-  public DmlBeanPersisterFactory(DatabasePlatform dbPlatform) {
+  public DmlBeanPersisterFactory(DatabasePlatform dbPlatform, boolean multiRowInsert) {
     this.dbPlatform = dbPlatform;
-    this.metaFactory = new MetaFactory(dbPlatform);
+    this.metaFactory = new MetaFactory(dbPlatform, multiRowInsert);
   }
 
   /**
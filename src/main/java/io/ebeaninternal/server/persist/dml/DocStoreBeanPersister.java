@@ -1,7 +1,11 @@
 package io.ebeaninternal.server.persist.dml;
 
+import io.ebeaninternal.api.SpiTransaction;
 import io.ebeaninternal.server.core.PersistRequestBean;
+import io.ebeaninternal.server.core.timezone.DataTimeZone;
+import io.ebeaninternal.server.deploy.BeanDescriptor;
 import io.ebeaninternal.server.persist.BeanPersister;
+import io.ebeaninternal.server.persist.BulkInsert;
 
 import javax.persistence.PersistenceException;
 
@@ -34,4 +38,9 @@ class DocStoreBeanPersister implements BeanPersister {
     request.docStorePersist();
     return 0;
   }
+
+  @Override
+  public BulkInsert createBulkInsert(BeanDescriptor<?> desc, SpiTransaction transaction, DataTimeZone dataTimeZone) {
+    throw new PersistenceException("Bulk insert is not supported for doc store only bean " + desc.getFullName());
+  }
 }
@@ -1,5 +1,8 @@
 package io.ebeaninternal.server.persist.dml;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Helper to support the generation of DML statements.
  */
@@ -11,6 +14,10 @@ public class GenerateDmlRequest {
 
   private StringBuilder insertBindBuffer;
 
+  private final List<String> insertColumns = new ArrayList<>();
+
+  private final List<String> insertBinds = new ArrayList<>();
+
   private String prefix;
   private String prefix2;
 
@@ -50,6 +57,8 @@ public class GenerateDmlRequest {
         insertBindBuffer.append(",");
       }
       insertBindBuffer.append(bind);
+      insertColumns.add(column);
+      insertBinds.add(bind);
     } else {
       sb.append("=");
       sb.append(bind);
@@ -69,6 +78,20 @@ public class GenerateDmlRequest {
     return insertBindBuffer.toString();
   }
 
+  /**
+   * Return the columns appended in insert mode.
+   */
+  public List<String> getInsertColumns() {
+    return insertColumns;
+  }
+
+  /**
+   * Return the bind expressions (typically "?") of the columns appended in insert mode.
+   */
+  public List<String> getInsertBinds() {
+    return insertBinds;
+  }
+
   @Override
   public String toString() {
     return sb.toString();
@@ -5,7 +5,11 @@ import io.ebeaninternal.api.SpiTransaction;
 import io.ebeaninternal.server.core.Message;
 import io.ebeaninternal.server.core.PersistRequestBean;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
+import io.ebeaninternal.server.persist.BatchedMultiRowInsert;
+import io.ebeaninternal.server.persist.BatchedPstmt;
+import io.ebeaninternal.server.persist.BatchedPstmtHolder;
 import io.ebeaninternal.server.persist.DmlUtil;
+import io.ebeaninternal.server.type.DataBindCapture;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,6 +48,11 @@ public class InsertHandler extends DmlHandler {
    */
   private String selectLastInsertedId;
 
+  /**
+   * The multi-row insert this row is added to (when batched as a multi-row insert).
+   */
+  private BatchedMultiRowInsert multiRowInsert;
+
   /**
    * Create to handle the insert execution.
    */
@@ -85,20 +94,59 @@ public class InsertHandler extends DmlHandler {
     SpiTransaction t = persistRequest.getTransaction();
 
     // get the appropriate sql
-    sql = meta.getSql(withId, persistRequest.isPublish());
+    boolean upsert = withId && persistRequest.isUpsert();
+    if (upsert) {
+      // insert or update given the id value
+      sql = meta.getUpsertSql(persistRequest.isPublish());
+    } else {
+      sql = meta.getSql(withId, persistRequest.isPublish());
+    }
 
-    PreparedStatement pstmt;
-    if (persistRequest.isBatched()) {
-      pstmt = getPstmt(t, sql, persistRequest, useGeneratedKeys);
+    if (!upsert && persistRequest.isBatched() && meta.isMultiRowInsert(useGeneratedKeys)) {
+      // capture the bind values for the row of a multi-row insert
+      multiRowInsert = getMultiRowInsert(t, sql);
+      dataBind = new DataBindCapture();
     } else {
-      pstmt = getPstmt(t, sql, useGeneratedKeys);
+      PreparedStatement pstmt;
+      if (persistRequest.isBatched()) {
+        pstmt = getPstmt(t, sql, persistRequest, useGeneratedKeys);
+      } else {
+        pstmt = getPstmt(t, sql, useGeneratedKeys);
+      }
+      dataBind = bind(pstmt);
     }
-    dataBind = bind(pstmt);
     meta.bind(this, bean, withId, persistRequest.isPublish());
 
     logSql(sql);
   }
 
+  /**
+   * Return the multi-row insert the bind values of this row are added to.
+   */
+  private BatchedMultiRowInsert getMultiRowInsert(SpiTransaction t, String sql) {
+
+    BatchedPstmtHolder batch = t.getBatchControl().getPstmtHolder();
+    BatchedPstmt bs = batch.getBatched(sql, persistRequest);
+    if (bs == null) {
+      bs = new BatchedMultiRowInsert(t, persistRequest.getDataTimeZone(), sql, useGeneratedKeys,
+        meta.getIdentityDbColumns(), meta.getMaxBindParameters());
+      batch.addStmt(bs, persistRequest);
+    }
+    return (BatchedMultiRowInsert) bs;
+  }
+
+  /**
+   * Add this for batch execution (as a row of a multi-row insert if used).
+   */
+  @Override
+  public void addBatch() throws SQLException {
+    if (multiRowInsert != null) {
+      multiRowInsert.addRow((DataBindCapture) dataBind);
+    } else {
+      super.addBatch();
+    }
+  }
+
   /**
    * Check with useGeneratedKeys to get appropriate PreparedStatement.
    */
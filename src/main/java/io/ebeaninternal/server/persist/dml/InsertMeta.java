@@ -2,15 +2,23 @@ package io.ebeaninternal.server.persist.dml;
 
 import io.ebean.bean.EntityBean;
 import io.ebean.config.dbplatform.DatabasePlatform;
+import io.ebean.config.dbplatform.SqlUpsert;
 import io.ebeaninternal.server.core.PersistRequestBean;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
+import io.ebeaninternal.server.deploy.BeanProperty;
 import io.ebeaninternal.server.deploy.InheritInfo;
 import io.ebeaninternal.server.persist.dmlbind.Bindable;
 import io.ebeaninternal.server.persist.dmlbind.BindableDiscriminator;
 import io.ebeaninternal.server.persist.dmlbind.BindableId;
 import io.ebeaninternal.server.persist.dmlbind.BindableList;
+import io.ebeaninternal.server.persist.dmlbind.BindableRequest;
 
+import javax.persistence.PersistenceException;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Meta data for insert handler. The meta data is for a particular bean type. It
@@ -23,6 +31,14 @@ public final class InsertMeta {
   private final String sqlDraftNullId;
   private final String sqlDraftWithId;
 
+  /**
+   * Insert or update sql (null when not supported by the platform).
+   */
+  private final String sqlUpsert;
+  private final String sqlDraftUpsert;
+
+  private final String fullName;
+
   private final BindableId id;
 
   private final Bindable discriminator;
@@ -46,9 +62,27 @@ public final class InsertMeta {
 
   private final boolean emptyStringToNull;
 
-  public InsertMeta(DatabasePlatform dbPlatform, BeanDescriptor<?> desc, Bindable shadowFKey, BindableId id, BindableList all) {
+  /**
+   * Set when batched inserts are executed as multi-row inserts.
+   */
+  private final boolean multiRowInsert;
+
+  private final boolean supportsMultiRowInsert;
+
+  private final boolean multiRowInsertGeneratedKeys;
+
+  private final boolean supportsCopyIn;
+
+  private final int maxBindParameters;
+
+  public InsertMeta(DatabasePlatform dbPlatform, BeanDescriptor<?> desc, Bindable shadowFKey, BindableId id, BindableList all, boolean multiRowInsert) {
 
     this.emptyStringToNull = dbPlatform.isTreatEmptyStringsAsNull();
+    this.multiRowInsert = multiRowInsert;
+    this.supportsMultiRowInsert = dbPlatform.isSupportsMultiRowInsert();
+    this.supportsCopyIn = dbPlatform.isSupportsCopyIn();
+    this.multiRowInsertGeneratedKeys = dbPlatform.isMultiRowInsertGeneratedKeys();
+    this.maxBindParameters = dbPlatform.getMaxBindParameters();
     this.discriminator = getDiscriminator(desc);
     this.id = id;
     this.all = all;
@@ -61,6 +95,19 @@ public final class InsertMeta {
     this.sqlWithId = genSql(false, tableName, false);
     this.sqlDraftWithId = desc.isDraftable() ? genSql(false, draftTableName, true) : sqlWithId;
 
+    this.fullName = desc.getFullName();
+    SqlUpsert upsert = dbPlatform.getSqlUpsert();
+    if (upsert == null) {
+      this.sqlUpsert = null;
+      this.sqlDraftUpsert = null;
+    } else {
+      Set<String> insertOnly = insertOnlyColumns(desc);
+      BeanProperty versionProperty = desc.getVersionProperty();
+      String versionColumn = (versionProperty == null) ? null : versionProperty.getDbColumn();
+      this.sqlUpsert = genUpsertSql(upsert, tableName, false, insertOnly, versionColumn);
+      this.sqlDraftUpsert = desc.isDraftable() ? genUpsertSql(upsert, draftTableName, true, insertOnly, versionColumn) : sqlUpsert;
+    }
+
     // only available for single Id property
     if (id.isConcatenated()) {
       // concatenated key
@@ -97,6 +144,19 @@ public final class InsertMeta {
     }
   }
 
+  /**
+   * Return the columns of generated properties that are only set on insert (like @WhenCreated).
+   */
+  private static Set<String> insertOnlyColumns(BeanDescriptor<?> desc) {
+    Set<String> columns = new HashSet<>();
+    for (BeanProperty prop : desc.propertiesGenInsert()) {
+      if (!prop.getGeneratedProperty().includeInUpdate()) {
+        columns.add(prop.getDbColumn());
+      }
+    }
+    return columns;
+  }
+
   /**
    * Return true if empty strings should be treated as null.
    */
@@ -135,6 +195,37 @@ public final class InsertMeta {
     return supportsGetGeneratedKeys;
   }
 
+  /**
+   * Return true if batched inserts should be executed as multi-row inserts.
+   * <p>
+   * When using getGeneratedKeys this requires the driver to return a key per row.
+   * </p>
+   */
+  public boolean isMultiRowInsert(boolean useGeneratedKeys) {
+    return multiRowInsert && (!useGeneratedKeys || multiRowInsertGeneratedKeys);
+  }
+
+  /**
+   * Return true if bulk inserts can be executed as multi-row inserts (regardless of the server configuration).
+   */
+  public boolean isSupportsMultiRowInsert(boolean useGeneratedKeys) {
+    return supportsMultiRowInsert && (!useGeneratedKeys || multiRowInsertGeneratedKeys);
+  }
+
+  /**
+   * Return true if bulk inserts can use COPY FROM STDIN.
+   */
+  public boolean isSupportsCopyIn() {
+    return supportsCopyIn;
+  }
+
+  /**
+   * Return the maximum number of bind parameters for a multi-row insert.
+   */
+  public int getMaxBindParameters() {
+    return maxBindParameters;
+  }
+
   /**
    * Return true if the Id can be derived from other property values.
    */
@@ -145,7 +236,7 @@ public final class InsertMeta {
   /**
    * Bind the request based on whether the id value(s) are null.
    */
-  public void bind(DmlHandler request, EntityBean bean, boolean withId, boolean publish) throws SQLException {
+  public void bind(BindableRequest request, EntityBean bean, boolean withId, boolean publish) throws SQLException {
 
     if (withId) {
       id.dmlBind(request, bean);
@@ -175,6 +266,45 @@ public final class InsertMeta {
     }
   }
 
+  /**
+   * Return the insert or update sql (with the id value set).
+   */
+  public String getUpsertSql(boolean publish) {
+    if (sqlUpsert == null) {
+      throw new PersistenceException("Upsert of " + fullName + " is not supported by the database platform");
+    }
+    return publish ? sqlUpsert : sqlDraftUpsert;
+  }
+
+  private String genUpsertSql(SqlUpsert upsert, String table, boolean draftTable, Set<String> insertOnly, String versionColumn) {
+
+    GenerateDmlRequest keyRequest = new GenerateDmlRequest();
+    keyRequest.setInsertSetMode();
+    id.dmlAppend(keyRequest);
+    List<String> keyColumns = keyRequest.getInsertColumns();
+    if (keyColumns.isEmpty()) {
+      // no id property so not supported
+      return null;
+    }
+
+    GenerateDmlRequest request = new GenerateDmlRequest();
+    request.setInsertSetMode();
+    appendColumns(request, false, draftTable);
+
+    List<String> columns = request.getInsertColumns();
+    List<String> updateColumns = new ArrayList<>(columns.size());
+    for (String column : columns) {
+      if (!keyColumns.contains(column) && !insertOnly.contains(column) && !column.equals(versionColumn)) {
+        updateColumns.add(column);
+      }
+    }
+    if (versionColumn != null && !columns.contains(versionColumn)) {
+      versionColumn = null;
+    }
+    // the version column is incremented (rather than set) when the row exists
+    return upsert.upsert(table, keyColumns, columns, request.getInsertBinds(), updateColumns, versionColumn);
+  }
+
   private String genSql(boolean nullId, String table, boolean draftTable) {
 
     GenerateDmlRequest request = new GenerateDmlRequest();
@@ -182,6 +312,15 @@ public final class InsertMeta {
 
     request.append("insert into ").append(table);
     request.append(" (");
+    appendColumns(request, nullId, draftTable);
+    request.append(") values (");
+    request.append(request.getInsertBindBuffer());
+    request.append(")");
+
+    return request.toString();
+  }
+
+  private void appendColumns(GenerateDmlRequest request, boolean nullId, boolean draftTable) {
 
     if (!nullId) {
       id.dmlAppend(request);
@@ -200,12 +339,6 @@ public final class InsertMeta {
     } else {
       allExcludeDraftOnly.dmlAppend(request);
     }
-
-    request.append(") values (");
-    request.append(request.getInsertBindBuffer());
-    request.append(")");
-
-    return request.toString();
   }
 
 }
@@ -0,0 +1,96 @@
+package io.ebeaninternal.server.persist.dml;
+
+import io.ebeaninternal.server.core.timezone.DataTimeZone;
+import io.ebeaninternal.server.type.DataBindCapture;
+import io.ebeaninternal.server.type.DataBindCopy;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Streams rows to Postgres using COPY FROM STDIN (text format).
+ */
+final class PostgresCopyIn {
+
+  private static final Logger logger = LoggerFactory.getLogger(PostgresCopyIn.class);
+
+  /**
+   * Size of the buffer of formatted rows that is written per call.
+   */
+  private static final int FLUSH_SIZE = 64 * 1024;
+
+  private final StringBuilder buffer = new StringBuilder(FLUSH_SIZE + 1024);
+
+  private final DataBindCopy dataBind;
+
+  private final CopyIn copyIn;
+
+  /**
+   * Return the COPY statement for the given insert sql or null if COPY can not be used.
+   * <p>
+   * COPY can only be used when all the insert values are plain bind parameters (so not
+   * when using functions like encryption).
+   * </p>
+   */
+  static String copySql(String insertSql) {
+    int pos = insertSql.indexOf(") values (");
+    if (pos == -1 || !insertSql.startsWith("insert into ")) {
+      return null;
+    }
+    String values = insertSql.substring(pos + 10, insertSql.length() - 1);
+    if (values.isEmpty() || !values.replace("?", "").replace(",", "").isEmpty()) {
+      return null;
+    }
+    return "copy " + insertSql.substring(12, pos + 1) + " from stdin";
+  }
+
+  PostgresCopyIn(Connection connection, DataTimeZone dataTimeZone, String copySql) throws SQLException {
+    this.dataBind = new DataBindCopy(dataTimeZone, buffer);
+    this.copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(copySql);
+  }
+
+  /**
+   * Add a row formatting the captured bind values.
+   */
+  void add(DataBindCapture row) throws SQLException {
+    row.replay(dataBind);
+    dataBind.endRow();
+    if (buffer.length() >= FLUSH_SIZE) {
+      flush();
+    }
+  }
+
+  private void flush() throws SQLException {
+    if (buffer.length() > 0) {
+      byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+      copyIn.writeToCopy(bytes, 0, bytes.length);
+      buffer.setLength(0);
+    }
+  }
+
+  /**
+   * Complete the COPY returning the number of rows inserted.
+   */
+  long end() throws SQLException {
+    flush();
+    return copyIn.endCopy();
+  }
+
+  /**
+   * Cancel the COPY.
+   */
+  void cancel() {
+    try {
+      if (copyIn.isActive()) {
+        copyIn.cancelCopy();
+      }
+    } catch (SQLException e) {
+      logger.warn("Error cancelling COPY", e);
+    }
+  }
+}
@@ -0,0 +1,298 @@
+package io.ebeaninternal.server.query;
+
+import io.ebean.SqlQuery;
+import io.ebean.SqlRow;
+import io.ebeaninternal.server.core.BasicTypeConverter;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * SqlRow used to return raw SQL query results backed by an Object array.
+ * <p>
+ * Refer to {@link SqlQuery} for examples.
+ * </p>
+ * <p>
+ * All the rows of a result set share the same {@link SqlRowColumns} which maps
+ * the (case insensitive) column name to the index into the values array. This
+ * avoids building a hash map per row which is significant for large queries.
+ * </p>
+ * <p>
+ * Putting a value for a name that is not one of the columns or removing a
+ * column converts this row to be backed by a LinkedHashMap such that the full
+ * Map contract is supported.
+ * </p>
+ */
+public class ArraySqlRow extends AbstractMap<String, Object> implements SqlRow {
+
+  private static final long serialVersionUID = -4893178305123488374L;
+
+  private final String dbTrueValue;
+
+  private final SqlRowColumns columns;
+
+  private final Object[] values;
+
+  /**
+   * Map used after a change that does not fit the shared columns.
+   */
+  private Map<String, Object> map;
+
+  private transient Set<Map.Entry<String, Object>> entrySet;
+
+  /**
+   * Create with the shared columns and values read for this row.
+   */
+  public ArraySqlRow(SqlRowColumns columns, Object[] values, String dbTrueValue) {
+    this.columns = columns;
+    this.values = values;
+    this.dbTrueValue = dbTrueValue;
+  }
+
+  /**
+   * Convert to be backed by a LinkedHashMap.
+   */
+  private Map<String, Object> map() {
+    if (map == null) {
+      Map<String, Object> copy = new LinkedHashMap<>(values.length * 2);
+      for (int i = 0; i < values.length; i++) {
+        copy.put(columns.name(i), values[i]);
+      }
+      map = copy;
+    }
+    return map;
+  }
+
+  /**
+   * Keys internally always lower cased to take out differences in database dictionaries.
+   */
+  private Object asKey(Object name) {
+    return ((String) name).toLowerCase();
+  }
+
+  @Override
+  public Iterator<String> keys() {
+    return keySet().iterator();
+  }
+
+  @Override
+  public Object get(Object name) {
+    if (map != null) {
+      return map.get(asKey(name));
+    }
+    int pos = columns.indexOf(name);
+    return pos < 0 ? null : values[pos];
+  }
+
+  @Override
+  public boolean containsKey(Object name) {
+    if (map != null) {
+      return map.containsKey(asKey(name));
+    }
+    return columns.indexOf(name) >= 0;
+  }
+
+  @Override
+  public Object put(String name, Object value) {
+    return setInternal(name, value);
+  }
+
+  @Override
+  public Object set(String name, Object value) {
+    return setInternal(name, value);
+  }
+
+  private Object setInternal(String name, Object newValue) {
+    if (map == null) {
+      int pos = columns.indexOf(name);
+      if (pos > -1) {
+        Object oldValue = values[pos];
+        values[pos] = newValue;
+        return oldValue;
+      }
+    }
+    return map().put(name.toLowerCase(), newValue);
+  }
+
+  @Override
+  public Object remove(Object name) {
+    if (map == null && columns.indexOf(name) < 0) {
+      return null;
+    }
+    return map().remove(asKey(name));
+  }
+
+  @Override
+  public void clear() {
+    map().clear();
+  }
+
+  @Override
+  public int size() {
+    return map != null ? map.size() : values.length;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public Set<Map.Entry<String, Object>> entrySet() {
+    if (map != null) {
+      return map.entrySet();
+    }
+    if (entrySet == null) {
+      entrySet = new EntrySet();
+    }
+    return entrySet;
+  }
+
+  @Override
+  public UUID getUUID(String name) {
+    return BasicTypeConverter.toUUID(get(name));
+  }
+
+  @Override
+  public Boolean getBoolean(String name) {
+    return BasicTypeConverter.toBoolean(get(name), dbTrueValue);
+  }
+
+  @Override
+  public Integer getInteger(String name) {
+    return BasicTypeConverter.toInteger(get(name));
+  }
+
+  @Override
+  public BigDecimal getBigDecimal(String name) {
+    return BasicTypeConverter.toBigDecimal(get(name));
+  }
+
+  @Override
+  public Long getLong(String name) {
+    return BasicTypeConverter.toLong(get(name));
+  }
+
+  @Override
+  public Double getDouble(String name) {
+    return BasicTypeConverter.toDouble(get(name));
+  }
+
+  @Override
+  public Float getFloat(String name) {
+    return BasicTypeConverter.toFloat(get(name));
+  }
+
+  @Override
+  public String getString(String name) {
+    return BasicTypeConverter.toString(get(name));
+  }
+
+  @Override
+  public java.util.Date getUtilDate(String name) {
+    return BasicTypeConverter.toUtilDate(get(name));
+  }
+
+  @Override
+  public Date getDate(String name) {
+    return BasicTypeConverter.toDate(get(name));
+  }
+
+  @Override
+  public Timestamp getTimestamp(String name) {
+    return BasicTypeConverter.toTimestamp(get(name));
+  }
+
+  /**
+   * Entry set over the values array (only used prior to conversion to a map).
+   */
+  private final class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+    @Override
+    public Iterator<Map.Entry<String, Object>> iterator() {
+      if (map != null) {
+        return map.entrySet().iterator();
+      }
+      return new EntryIterator();
+    }
+
+    @Override
+    public int size() {
+      return ArraySqlRow.this.size();
+    }
+  }
+
+  private final class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+
+    private int pos;
+
+    @Override
+    public boolean hasNext() {
+      return pos < values.length;
+    }
+
+    @Override
+    public Map.Entry<String, Object> next() {
+      if (pos >= values.length) {
+        throw new NoSuchElementException();
+      }
+      return new Entry(pos++);
+    }
+  }
+
+  private final class Entry implements Map.Entry<String, Object> {
+
+    private final int pos;
+
+    Entry(int pos) {
+      this.pos = pos;
+    }
+
+    @Override
+    public String getKey() {
+      return columns.name(pos);
+    }
+
+    @Override
+    public Object getValue() {
+      return values[pos];
+    }
+
+    @Override
+    public Object setValue(Object value) {
+      Object oldValue = values[pos];
+      values[pos] = value;
+      return oldValue;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Map.Entry)) {
+        return false;
+      }
+      Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+      Object value = values[pos];
+      return getKey().equals(e.getKey()) && (value == null ? e.getValue() == null : value.equals(e.getValue()));
+    }
+
+    @Override
+    public int hashCode() {
+      Object value = values[pos];
+      return getKey().hashCode() ^ (value == null ? 0 : value.hashCode());
+    }
+
+    @Override
+    public String toString() {
+      return getKey() + "=" + values[pos];
+    }
+  }
+}
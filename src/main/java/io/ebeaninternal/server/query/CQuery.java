@@ -21,12 +21,14 @@ import io.ebeaninternal.server.deploy.BeanCollectionHelpFactory;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
 import io.ebeaninternal.server.deploy.BeanPropertyAssocMany;
 import io.ebeaninternal.server.deploy.DbReadContext;
+import io.ebeaninternal.server.text.json.SpiJsonWriter;
 import io.ebeaninternal.server.type.DataBind;
 import io.ebeaninternal.server.type.DataReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.persistence.PersistenceException;
+import java.io.IOException;
 import java.lang.ref.WeakReference;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -525,6 +527,20 @@ public class CQuery<T> implements DbReadContext, CancelableQuery {
     }
   }
 
+  /**
+   * Read the rows writing each one as a JSON object of a JSON array (without building beans).
+   */
+  void writeJson(SpiJsonWriter writeJson) throws SQLException, IOException {
+
+    writeJson.writeStartArray();
+    while (!cancelled && moveToNextRow()) {
+      rootNode.jsonWrite(this, writeJson);
+      loadedBeanCount++;
+    }
+    writeJson.writeEndArray();
+    updateExecutionStatisticsIterator();
+  }
+
   /**
    * Read version beans and their effective dates.
    */
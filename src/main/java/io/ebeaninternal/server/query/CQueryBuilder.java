@@ -111,6 +111,8 @@ class CQueryBuilder {
       return new CQueryUpdate(type, request, predicates, queryPlan.getSql());
     }
 
+    long startNanos = System.nanoTime();
+
     predicates.prepare(true);
 
     SqlTree sqlTree = createSqlTree(request, predicates);
@@ -124,7 +126,7 @@ class CQueryBuilder {
 
     // cache the query plan
     queryPlan = new CQueryPlan(request, sql, sqlTree, false, false, predicates.getLogWhereSql());
-    request.putQueryPlan(queryPlan);
+    request.putQueryPlan(queryPlan, startNanos);
     return new CQueryUpdate(type, request, predicates, sql);
   }
 
@@ -192,6 +194,8 @@ class CQueryBuilder {
       return new CQueryFetchSingleAttribute(request, predicates, queryPlan);
     }
 
+    long startNanos = System.nanoTime();
+
     // use RawSql or generated Sql
     predicates.prepare(true);
 
@@ -199,7 +203,7 @@ class CQueryBuilder {
     SqlLimitResponse s = buildSql(null, request, predicates, sqlTree);
 
     queryPlan = new CQueryPlan(request, s.getSql(), sqlTree, false, s.isIncludesRowNumberColumn(), predicates.getLogWhereSql());
-    request.putQueryPlan(queryPlan);
+    request.putQueryPlan(queryPlan, startNanos);
     return new CQueryFetchSingleAttribute(request, predicates, queryPlan);
   }
 
@@ -255,6 +259,8 @@ class CQueryBuilder {
       return new CQueryRowCount(request, predicates, sql);
     }
 
+    long startNanos = System.nanoTime();
+
     predicates.prepare(true);
 
     SqlTree sqlTree = createSqlTree(request, predicates);
@@ -281,7 +287,7 @@ class CQueryBuilder {
 
     // cache the query plan
     queryPlan = new CQueryPlan(request, sql, sqlTree, false, s.isIncludesRowNumberColumn(), predicates.getLogWhereSql());
-    request.putQueryPlan(queryPlan);
+    request.putQueryPlan(queryPlan, startNanos);
 
     return new CQueryRowCount(request, predicates, sql);
   }
@@ -302,6 +308,8 @@ class CQueryBuilder {
       return new CQuery<>(request, predicates, queryPlan);
     }
 
+    long startNanos = System.nanoTime();
+
     // RawSql or Generated Sql query
 
     // Prepare the where, having and order by clauses.
@@ -340,7 +348,7 @@ class CQueryBuilder {
 
     // cache the query plan because we can reuse it and also
     // gather query performance statistics based on it.
-    request.putQueryPlan(queryPlan);
+    request.putQueryPlan(queryPlan, startNanos);
 
     return new CQuery<>(request, predicates, queryPlan);
   }
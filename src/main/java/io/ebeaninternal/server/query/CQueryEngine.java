@@ -6,6 +6,7 @@ import io.ebean.Version;
 import io.ebean.bean.BeanCollection;
 import io.ebean.bean.EntityBean;
 import io.ebean.bean.ObjectGraphNode;
+import io.ebean.text.json.JsonIOException;
 import io.ebean.config.ServerConfig;
 import io.ebean.config.dbplatform.DatabasePlatform;
 import io.ebean.util.StringHelper;
@@ -17,11 +18,13 @@ import io.ebeaninternal.server.core.OrmQueryRequest;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
 import io.ebeaninternal.server.lib.util.Str;
 import io.ebeaninternal.server.persist.Binder;
+import io.ebeaninternal.server.text.json.SpiJsonWriter;
 import io.ebeaninternal.server.transaction.TransactionManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.persistence.PersistenceException;
+import java.io.IOException;
 import java.sql.SQLException;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -240,6 +243,49 @@ public class CQueryEngine {
     }
   }
 
+  /**
+   * Execute the query writing the rows as JSON while the resultSet is read (without building beans).
+   */
+  public <T> void findJson(OrmQueryRequest<T> request, SpiJsonWriter writeJson) {
+
+    CQuery<T> cquery = queryBuilder.buildQuery(request);
+    request.setCancelableQuery(cquery);
+
+    try {
+      if (cquery.getManyProperty() != null) {
+        throw new PersistenceException("findJson() does not support a fetch join to the ToMany property "
+          + cquery.getManyProperty().getFullBeanName());
+      }
+      if (defaultFetchSizeFindEach > 0) {
+        request.setDefaultFetchBuffer(defaultFetchSizeFindEach);
+      }
+      if (!cquery.prepareBindExecuteQueryForwardOnly(forwardOnlyHintOnFindIterate)) {
+        // query has been cancelled already
+        logger.trace("Future fetch already cancelled");
+        return;
+      }
+
+      if (request.isLogSql()) {
+        logSql(cquery);
+      }
+
+      cquery.writeJson(writeJson);
+
+      if (request.isLogSummary()) {
+        logFindManySummary(cquery);
+      }
+
+    } catch (SQLException e) {
+      throw cquery.createPersistenceException(e);
+
+    } catch (IOException e) {
+      throw new JsonIOException(e);
+
+    } finally {
+      cquery.close();
+    }
+  }
+
   /**
    * Execute the find versions query returning version beans.
    */
@@ -15,18 +15,35 @@ class CQueryIteratorSimple<T> implements QueryIterator<T> {
 
   private final OrmQueryRequest<T> request;
 
+  private boolean closed;
+
   CQueryIteratorSimple(CQuery<T> cquery, OrmQueryRequest<T> request) {
     this.cquery = cquery;
     this.request = request;
   }
 
+  /**
+   * Return true if there is another bean closing the iterator when the rows are exhausted.
+   */
   @Override
   public boolean hasNext() {
+    if (closed) {
+      return false;
+    }
     try {
       request.flushPersistenceContextOnIterate();
-      return cquery.hasNext();
+      boolean hasNext = cquery.hasNext();
+      if (!hasNext) {
+        close();
+      }
+      return hasNext;
     } catch (SQLException e) {
-      throw cquery.createPersistenceException(e);
+      PersistenceException pe = cquery.createPersistenceException(e);
+      close();
+      throw pe;
+    } catch (RuntimeException e) {
+      close();
+      throw e;
     }
   }
 
@@ -38,6 +55,10 @@ class CQueryIteratorSimple<T> implements QueryIterator<T> {
 
   @Override
   public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
     cquery.updateExecutionStatisticsIterator();
     cquery.close();
     request.endTransIfRequired();
@@ -19,6 +19,8 @@ class CQueryIteratorWithBuffer<T> implements QueryIterator<T> {
 
   private boolean moreToLoad = true;
 
+  private boolean closed;
+
   CQueryIteratorWithBuffer(CQuery<T> cquery, OrmQueryRequest<T> request, int bufferSize) {
     this.cquery = cquery;
     this.request = request;
@@ -26,9 +28,15 @@ class CQueryIteratorWithBuffer<T> implements QueryIterator<T> {
     this.buffer = new ArrayList<>(bufferSize);
   }
 
+  /**
+   * Return true if there is another bean closing the iterator when the rows are exhausted.
+   */
   @Override
   @SuppressWarnings("unchecked")
   public boolean hasNext() {
+    if (closed) {
+      return false;
+    }
     try {
       if (buffer.isEmpty() && moreToLoad) {
         // load buffer
@@ -44,10 +52,19 @@ class CQueryIteratorWithBuffer<T> implements QueryIterator<T> {
         }
         request.executeSecondaryQueries(true);
       }
-      return !buffer.isEmpty();
+      if (buffer.isEmpty()) {
+        close();
+        return false;
+      }
+      return true;
 
     } catch (SQLException e) {
-      throw cquery.createPersistenceException(e);
+      PersistenceException pe = cquery.createPersistenceException(e);
+      close();
+      throw pe;
+    } catch (RuntimeException e) {
+      close();
+      throw e;
     }
   }
 
@@ -58,6 +75,10 @@ class CQueryIteratorWithBuffer<T> implements QueryIterator<T> {
 
   @Override
   public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
     cquery.updateExecutionStatisticsIterator();
     cquery.close();
     request.endTransIfRequired();
@@ -4,6 +4,7 @@ import io.ebean.bean.ObjectGraphNode;
 import io.ebean.config.dbplatform.SqlLimitResponse;
 import io.ebeaninternal.api.CQueryPlanKey;
 import io.ebeaninternal.api.SpiEbeanServer;
+import io.ebeaninternal.server.cache.QueryCacheStamps;
 import io.ebeaninternal.server.core.OrmQueryRequest;
 import io.ebeaninternal.server.core.timezone.DataTimeZone;
 import io.ebeaninternal.server.deploy.BeanProperty;
@@ -78,6 +79,11 @@ public class CQueryPlan {
    */
   private volatile String auditQueryHash;
 
+  /**
+   * Columns the sql refers to used to validate query cache entries (lazily derived from the sql).
+   */
+  private volatile String[] dependentColumns;
+
   /**
    * Create a query plan based on a OrmQueryRequest.
    */
@@ -196,6 +202,19 @@ public class CQueryPlan {
     return sql;
   }
 
+  /**
+   * Return the columns the sql refers to used to invalidate query cache entries.
+   */
+  public String[] getDependentColumns() {
+    String[] columns = dependentColumns;
+    if (columns == null) {
+      // benign race here
+      columns = QueryCacheStamps.dependentColumns(sql);
+      dependentColumns = columns;
+    }
+    return columns;
+  }
+
   SqlTree getSqlTree() {
     return sqlTree;
   }
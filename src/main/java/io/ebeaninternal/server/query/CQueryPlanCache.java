@@ -0,0 +1,213 @@
+package io.ebeaninternal.server.query;
+
+import io.ebean.cache.ServerCacheOptions;
+import io.ebean.cache.ServerCacheStatistics;
+import io.ebean.meta.MetaQueryPlanCacheStatistic;
+import io.ebeaninternal.api.CQueryPlanKey;
+import io.ebeaninternal.server.cache.TinyLfuServerCache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Size bounded cache of query plans for all the bean types of a server.
+ * <p>
+ * Uses W-TinyLFU eviction (recency window with frequency based admission) such that
+ * frequently used query plans are retained when there are many dynamic query shapes.
+ * </p>
+ */
+public final class CQueryPlanCache {
+
+  private final TinyLfuServerCache cache;
+
+  private final LongAdder buildCount = new LongAdder();
+
+  private final LongAdder buildNanos = new LongAdder();
+
+  public CQueryPlanCache(int maxSize) {
+    ServerCacheOptions options = new ServerCacheOptions();
+    options.setMaxSize(maxSize);
+    options.setMaxIdleSecs(0);
+    options.setMaxSecsToLive(0);
+    this.cache = new TinyLfuServerCache("queryPlan", null, options);
+  }
+
+  /**
+   * Return the query plan for the given bean type and key (or null).
+   */
+  public CQueryPlan get(Class<?> beanType, CQueryPlanKey key) {
+    return (CQueryPlan) cache.get(new Key(beanType, key));
+  }
+
+  /**
+   * Put the query plan into the cache recording the time taken to build it.
+   */
+  public void put(Class<?> beanType, CQueryPlanKey key, CQueryPlan plan, long buildStartNanos) {
+    buildNanos.add(System.nanoTime() - buildStartNanos);
+    buildCount.increment();
+    cache.put(new Key(beanType, key), plan);
+  }
+
+  /**
+   * Return the query plans in the cache for the given bean type.
+   * <p>
+   * This scans all the plans so when collecting for many bean types use {@link #plansByType()}.
+   * </p>
+   */
+  public List<CQueryPlan> plans(Class<?> beanType) {
+    List<CQueryPlan> plans = new ArrayList<>();
+    for (Object value : cache.values()) {
+      CQueryPlan plan = (CQueryPlan) value;
+      if (plan.getBeanType() == beanType) {
+        plans.add(plan);
+      }
+    }
+    return plans;
+  }
+
+  /**
+   * Return the query plans in the cache grouped by bean type (in a single pass).
+   */
+  public Map<Class<?>, List<CQueryPlan>> plansByType() {
+    Map<Class<?>, List<CQueryPlan>> map = new HashMap<>();
+    for (Object value : cache.values()) {
+      CQueryPlan plan = (CQueryPlan) value;
+      map.computeIfAbsent(plan.getBeanType(), k -> new ArrayList<>()).add(plan);
+    }
+    return map;
+  }
+
+  /**
+   * Reset the statistics on all the query plans.
+   */
+  public void resetStatistics() {
+    for (Object value : cache.values()) {
+      ((CQueryPlan) value).resetStatistics();
+    }
+  }
+
+  /**
+   * Return the number of query plans in the cache.
+   */
+  public int size() {
+    return cache.size();
+  }
+
+  /**
+   * Clear the cache.
+   */
+  public void clear() {
+    cache.clear();
+  }
+
+  /**
+   * Return the statistics optionally resetting the counters.
+   */
+  public MetaQueryPlanCacheStatistic getStatistic(boolean reset) {
+    ServerCacheStatistics cacheStats = cache.getStatistics(reset);
+    long count = reset ? buildCount.sumThenReset() : buildCount.sum();
+    long nanos = reset ? buildNanos.sumThenReset() : buildNanos.sum();
+    return new Statistic(cacheStats, count, TimeUnit.NANOSECONDS.toMicros(nanos));
+  }
+
+  /**
+   * Key combining the bean type and query plan key.
+   */
+  private static final class Key {
+
+    private final Class<?> beanType;
+
+    private final CQueryPlanKey planKey;
+
+    private final int hash;
+
+    Key(Class<?> beanType, CQueryPlanKey planKey) {
+      this.beanType = beanType;
+      this.planKey = planKey;
+      this.hash = 92821 * beanType.hashCode() + planKey.hashCode();
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) obj;
+      return beanType == other.beanType && planKey.equals(other.planKey);
+    }
+  }
+
+  private static final class Statistic implements MetaQueryPlanCacheStatistic {
+
+    private final ServerCacheStatistics cacheStats;
+
+    private final long buildCount;
+
+    private final long buildTimeMicros;
+
+    Statistic(ServerCacheStatistics cacheStats, long buildCount, long buildTimeMicros) {
+      this.cacheStats = cacheStats;
+      this.buildCount = buildCount;
+      this.buildTimeMicros = buildTimeMicros;
+    }
+
+    @Override
+    public String toString() {
+      return "size:" + getSize() + " maxSize:" + getMaxSize() + " hitRatio:" + getHitRatio()
+        + " hit:" + getHitCount() + " miss:" + getMissCount() + " evict:" + getEvictCount()
+        + " buildCount:" + buildCount + " buildMicros:" + buildTimeMicros;
+    }
+
+    @Override
+    public int getSize() {
+      return cacheStats.getSize();
+    }
+
+    @Override
+    public int getMaxSize() {
+      return cacheStats.getMaxSize();
+    }
+
+    @Override
+    public long getHitCount() {
+      return cacheStats.getHitCount();
+    }
+
+    @Override
+    public long getMissCount() {
+      return cacheStats.getMissCount();
+    }
+
+    @Override
+    public int getHitRatio() {
+      return cacheStats.getHitRatio();
+    }
+
+    @Override
+    public long getEvictCount() {
+      return cacheStats.getEvictByLRU();
+    }
+
+    @Override
+    public long getBuildCount() {
+      return buildCount;
+    }
+
+    @Override
+    public long getBuildTimeMicros() {
+      return buildTimeMicros;
+    }
+  }
+}
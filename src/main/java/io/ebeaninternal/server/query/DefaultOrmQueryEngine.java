@@ -10,6 +10,7 @@ import io.ebeaninternal.api.SpiTransaction;
 import io.ebeaninternal.server.core.OrmQueryEngine;
 import io.ebeaninternal.server.core.OrmQueryRequest;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
+import io.ebeaninternal.server.text.json.SpiJsonWriter;
 
 import javax.persistence.PersistenceException;
 import java.sql.SQLException;
@@ -118,6 +119,13 @@ public class DefaultOrmQueryEngine implements OrmQueryEngine {
     return queryEngine.findIterate(request);
   }
 
+  @Override
+  public <T> void findJson(OrmQueryRequest<T> request, SpiJsonWriter writeJson) {
+
+    flushJdbcBatchOnQuery(request);
+    queryEngine.findJson(request, writeJson);
+  }
+
   @Override
   public <T> List<Version<T>> findVersions(OrmQueryRequest<T> request) {
 
@@ -146,9 +154,7 @@ public class DefaultOrmQueryEngine implements OrmQueryEngine {
       // load the individual beans into the bean cache
       BeanDescriptor<T> descriptor = request.getBeanDescriptor();
       Collection<T> c = result.getActualDetails();
-      for (T bean : c) {
-        descriptor.cacheBeanPut((EntityBean) bean);
-      }
+      descriptor.cacheBeanPutAll(c);
     }
 
     if (!result.isEmpty() && query.getUseQueryCache().isPut()) {
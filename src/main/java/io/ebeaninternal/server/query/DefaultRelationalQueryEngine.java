@@ -9,9 +9,15 @@ import io.ebeaninternal.server.persist.Binder;
 import javax.persistence.PersistenceException;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Perform native sql fetches.
@@ -92,6 +98,21 @@ public class DefaultRelationalQueryEngine implements RelationalQueryEngine {
     }
   }
 
+  @Override
+  public Stream<SqlRow> findStream(RelationalQueryRequest request) {
+
+    try {
+      request.executeSql(binder);
+    } catch (Exception e) {
+      request.close();
+      throw new PersistenceException(Message.msg("fetch.error", e.getMessage(), request.getSql()), e);
+    }
+
+    RowIterator iterator = new RowIterator(request);
+    Spliterator<SqlRow> spliterator = Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL);
+    return StreamSupport.stream(spliterator, false).onClose(iterator::close);
+  }
+
   private void logSummary(RelationalQueryRequest request, long startTime) {
 
     if (request.isLogSummary()) {
@@ -107,4 +128,70 @@ public class DefaultRelationalQueryEngine implements RelationalQueryEngine {
     return request.createNewRow(dbTrueValue);
   }
 
+  /**
+   * Iterator reading rows from the ResultSet as they are requested.
+   */
+  private final class RowIterator implements Iterator<SqlRow> {
+
+    private final RelationalQueryRequest request;
+
+    private final long startTime = System.currentTimeMillis();
+
+    private Boolean hasNext;
+
+    private boolean closed;
+
+    RowIterator(RelationalQueryRequest request) {
+      this.request = request;
+    }
+
+    /**
+     * Return true if there is another row closing the resources when the rows are exhausted.
+     */
+    @Override
+    public boolean hasNext() {
+      if (hasNext == null) {
+        try {
+          hasNext = !closed && request.next();
+        } catch (SQLException e) {
+          close();
+          throw new PersistenceException(Message.msg("fetch.error", e.getMessage(), request.getSql()), e);
+        }
+        if (!hasNext) {
+          close();
+        }
+      }
+      return hasNext;
+    }
+
+    @Override
+    public SqlRow next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      hasNext = null;
+      try {
+        return readRow(request);
+      } catch (SQLException e) {
+        close();
+        throw new PersistenceException(Message.msg("fetch.error", e.getMessage(), request.getSql()), e);
+      }
+    }
+
+    /**
+     * Close the resultSet and end the transaction if it was created for the query.
+     */
+    void close() {
+      if (!closed) {
+        closed = true;
+        try {
+          logSummary(request, startTime);
+          request.close();
+        } finally {
+          request.endTransIfRequired();
+        }
+      }
+    }
+  }
+
 }
@@ -0,0 +1,104 @@
+package io.ebeaninternal.server.query;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The columns of a SqlQuery result set shared by all the rows read.
+ * <p>
+ * Holds the immutable mapping of (lower cased) column name to the index into
+ * the values array of each {@link ArraySqlRow}.
+ * </p>
+ */
+public final class SqlRowColumns implements Serializable {
+
+  private static final long serialVersionUID = 2358764105346287217L;
+
+  /**
+   * The unique lower cased column names in result set order.
+   */
+  private final String[] names;
+
+  /**
+   * Map of lower cased column name to index into names (and row values).
+   */
+  private final Map<String, Integer> index;
+
+  /**
+   * Per result set column (0 based) the index into the row values.
+   */
+  private final int[] positions;
+
+  /**
+   * Create given the column labels from the ResultSetMetaData.
+   * <p>
+   * Duplicate column labels map to the same index with the later column value
+   * taking precedence (matching the prior Map based behaviour).
+   * </p>
+   */
+  public SqlRowColumns(String[] columnLabels) {
+    this.positions = new int[columnLabels.length];
+    Map<String, Integer> map = new HashMap<>(columnLabels.length * 2);
+    String[] unique = new String[columnLabels.length];
+    int count = 0;
+    for (int i = 0; i < columnLabels.length; i++) {
+      String key = columnLabels[i].toLowerCase();
+      Integer existing = map.get(key);
+      if (existing == null) {
+        map.put(key, count);
+        unique[count] = key;
+        positions[i] = count++;
+      } else {
+        positions[i] = existing;
+      }
+    }
+    this.index = map;
+    this.names = (count == unique.length) ? unique : Arrays.copyOf(unique, count);
+  }
+
+  /**
+   * Return the number of (unique) columns.
+   */
+  public int size() {
+    return names.length;
+  }
+
+  /**
+   * Return the number of columns in the result set.
+   */
+  public int columnCount() {
+    return positions.length;
+  }
+
+  /**
+   * Return the index into the row values for the given result set column (0 based).
+   */
+  public int position(int column) {
+    return positions[column];
+  }
+
+  /**
+   * Return the lower cased column name at the given index.
+   */
+  public String name(int pos) {
+    return names[pos];
+  }
+
+  /**
+   * Return the index for the given name (case insensitive) or -1 if not a column.
+   */
+  public int indexOf(Object name) {
+    if (!(name instanceof String)) {
+      return -1;
+    }
+    // most often the name is already lower case so try that first
+    Integer pos = index.get(name);
+    if (pos == null) {
+      pos = index.get(((String) name).toLowerCase());
+    }
+    return pos == null ? -1 : pos;
+  }
+
+}
@@ -5,8 +5,10 @@ import io.ebean.bean.EntityBean;
 import io.ebeaninternal.api.SpiQuery;
 import io.ebeaninternal.server.deploy.DbReadContext;
 import io.ebeaninternal.server.deploy.DbSqlContext;
+import io.ebeaninternal.server.text.json.SpiJsonWriter;
 import io.ebeaninternal.server.type.ScalarType;
 
+import java.io.IOException;
 import java.sql.SQLException;
 import java.util.List;
 
@@ -68,6 +70,13 @@ interface SqlTreeNode {
    */
   EntityBean load(DbReadContext ctx, EntityBean localBean, EntityBean contextBean) throws SQLException;
 
+  /**
+   * Read the row data from the resultSet writing it as JSON rather than building a bean.
+   *
+   * @param writeJson The JSON writer or null to just skip over the columns (of a null bean)
+   */
+  void jsonWrite(DbReadContext ctx, SpiJsonWriter writeJson) throws SQLException, IOException;
+
   /**
    * Load a version of a @History bean with effective dates.
    */
@@ -19,8 +19,10 @@ import io.ebeaninternal.server.deploy.DbSqlContext;
 import io.ebeaninternal.server.deploy.InheritInfo;
 import io.ebeaninternal.server.deploy.TableJoin;
 import io.ebeaninternal.server.deploy.id.IdBinder;
+import io.ebeaninternal.server.text.json.SpiJsonWriter;
 import io.ebeaninternal.server.type.ScalarType;
 
+import java.io.IOException;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.HashMap;
@@ -381,6 +383,88 @@ class SqlTreeNodeBean implements SqlTreeNode {
     }
   }
 
+  @Override
+  public void jsonWrite(DbReadContext ctx, SpiJsonWriter writeJson) throws SQLException, IOException {
+
+    InheritInfo localInfo = null;
+    BeanDescriptor<?> localDesc = desc;
+    IdBinder localIdBinder = idBinder;
+    boolean nullBean = (writeJson == null);
+
+    if (inheritInfo != null) {
+      localInfo = inheritInfo.readType(ctx);
+      if (localInfo == null) {
+        nullBean = true;
+      } else {
+        localDesc = localInfo.desc();
+        localIdBinder = localInfo.getIdBinder();
+      }
+    }
+
+    Object id = null;
+    if (readId) {
+      id = localIdBinder.read(ctx);
+      if (id == null) {
+        nullBean = true;
+      }
+    }
+
+    if (nullBean) {
+      if (writeJson != null && nodeBeanProp != null) {
+        writeJson.writeNullField(nodeBeanProp.getJsonKey());
+      }
+      jsonIgnore(ctx);
+      return;
+    }
+
+    if (nodeBeanProp != null) {
+      writeJson.writeFieldName(nodeBeanProp.getJsonKey());
+    }
+    writeJson.writeStartObject();
+    if (localInfo != null) {
+      writeJson.writeStringField(localInfo.getDiscriminatorColumn(), localInfo.getDiscriminatorStringValue());
+    }
+    if (readId) {
+      localDesc.getIdProperty().jsonWriteValue(writeJson, id);
+    }
+
+    boolean rawSql = ctx.isRawSql();
+    boolean draftQuery = ctx.isDraftQuery();
+    for (BeanProperty property : properties) {
+      if (rawSql || property.isLoadProperty(draftQuery)) {
+        // take account of inheritance with a 'local' version of the property
+        BeanProperty p = (localInfo == null) ? property : localDesc.getBeanProperty(property.getName());
+        if (p == null || (localInfo != null && !p.isAssignableFrom(localInfo.getType()))) {
+          property.loadIgnore(ctx);
+        } else {
+          p.jsonWriteRead(ctx, writeJson);
+        }
+      }
+    }
+
+    for (SqlTreeNode child : children) {
+      child.jsonWrite(ctx, writeJson);
+    }
+    writeJson.writeEndObject();
+  }
+
+  /**
+   * Skip over the remaining columns of a null bean.
+   */
+  private void jsonIgnore(DbReadContext ctx) throws SQLException, IOException {
+
+    boolean rawSql = ctx.isRawSql();
+    boolean draftQuery = ctx.isDraftQuery();
+    for (BeanProperty property : properties) {
+      if (rawSql || property.isLoadProperty(draftQuery)) {
+        property.loadIgnore(ctx);
+      }
+    }
+    for (SqlTreeNode child : children) {
+      child.jsonWrite(ctx, null);
+    }
+  }
+
   /**
    * Create lazy loading proxies for the Many's except for the one that is
    * included in the actual query.
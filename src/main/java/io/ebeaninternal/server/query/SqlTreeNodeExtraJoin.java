@@ -9,8 +9,10 @@ import io.ebeaninternal.server.deploy.BeanPropertyAssocMany;
 import io.ebeaninternal.server.deploy.DbReadContext;
 import io.ebeaninternal.server.deploy.DbSqlContext;
 import io.ebeaninternal.server.deploy.TableJoin;
+import io.ebeaninternal.server.text.json.SpiJsonWriter;
 import io.ebeaninternal.server.type.ScalarType;
 
+import java.io.IOException;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
@@ -164,6 +166,13 @@ class SqlTreeNodeExtraJoin implements SqlTreeNode {
     return null;
   }
 
+  /**
+   * Does nothing.
+   */
+  @Override
+  public void jsonWrite(DbReadContext ctx, SpiJsonWriter writeJson) throws SQLException, IOException {
+  }
+
   /**
    * Does nothing.
    */
@@ -10,8 +10,10 @@ import io.ebeaninternal.server.deploy.BeanPropertyAssocOne;
 import io.ebeaninternal.server.deploy.DbReadContext;
 import io.ebeaninternal.server.deploy.DbSqlContext;
 import io.ebeaninternal.server.deploy.TableJoin;
+import io.ebeaninternal.server.text.json.SpiJsonWriter;
 import io.ebeaninternal.server.type.ScalarType;
 
+import java.io.IOException;
 import java.sql.SQLException;
 import java.util.List;
 
@@ -130,6 +132,11 @@ class SqlTreeNodeManyWhereJoin implements SqlTreeNode {
     return null;
   }
 
+  @Override
+  public void jsonWrite(DbReadContext ctx, SpiJsonWriter writeJson) throws SQLException, IOException {
+    // nothing to do here
+  }
+
   @Override
   public <T> Version<T> loadVersion(DbReadContext ctx) throws SQLException {
     // nothing to do here
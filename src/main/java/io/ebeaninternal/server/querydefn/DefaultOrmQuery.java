@@ -1,5 +1,6 @@
 package io.ebeaninternal.server.querydefn;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.ebean.*;
 import io.ebean.OrderBy.Property;
 import io.ebean.bean.CallStack;
@@ -9,6 +10,7 @@ import io.ebean.bean.PersistenceContext;
 import io.ebean.event.BeanQueryRequest;
 import io.ebean.event.readaudit.ReadEvent;
 import io.ebean.plugin.BeanType;
+import io.ebean.text.json.JsonIOException;
 import io.ebeaninternal.api.*;
 import io.ebeaninternal.server.autotune.ProfilingListener;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
@@ -20,6 +22,8 @@ import io.ebeaninternal.server.query.CancelableQuery;
 import io.ebeaninternal.server.query.NativeSqlQueryPlanKey;
 import io.ebeaninternal.server.rawsql.SpiRawSql;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -31,6 +35,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Default implementation of an Object Relational query.
@@ -174,6 +179,10 @@ public class DefaultOrmQuery<T> implements SpiQuery<T> {
 
   private CacheMode useQueryCache = CacheMode.OFF;
 
+  private Boolean cacheMissCoalescing;
+
+  private boolean useReadOnlyDataSource = true;
+
   private Boolean readOnly;
 
   private PersistenceContextScope persistenceContextScope;
@@ -647,6 +656,8 @@ public class DefaultOrmQuery<T> implements SpiQuery<T> {
     copy.loadBeanCache = loadBeanCache;
     copy.excludeBeanCache = excludeBeanCache;
     copy.useQueryCache = useQueryCache;
+    copy.cacheMissCoalescing = cacheMissCoalescing;
+    copy.useReadOnlyDataSource = useReadOnlyDataSource;
     copy.readOnly = readOnly;
     if (detail != null) {
       copy.detail = detail.copy();
@@ -888,7 +899,7 @@ public class DefaultOrmQuery<T> implements SpiQuery<T> {
   }
 
   @Override
-  public void logSecondaryQuery(SpiQuery<?> query) {
+  public synchronized void logSecondaryQuery(SpiQuery<?> query) {
     if (loggedSecondaryQueries == null) {
       loggedSecondaryQueries = new ArrayList<>();
     }
@@ -1092,6 +1103,28 @@ public class DefaultOrmQuery<T> implements SpiQuery<T> {
     return this;
   }
 
+  @Override
+  public DefaultOrmQuery<T> setCacheMissCoalescing(boolean cacheMissCoalescing) {
+    this.cacheMissCoalescing = cacheMissCoalescing;
+    return this;
+  }
+
+  @Override
+  public Boolean getCacheMissCoalescing() {
+    return cacheMissCoalescing;
+  }
+
+  @Override
+  public DefaultOrmQuery<T> setUseReadOnlyDataSource(boolean useReadOnlyDataSource) {
+    this.useReadOnlyDataSource = useReadOnlyDataSource;
+    return this;
+  }
+
+  @Override
+  public boolean isUseReadOnlyDataSource() {
+    return useReadOnlyDataSource && forUpdate == null && type != Type.DELETE && type != Type.UPDATE;
+  }
+
   @Override
   public boolean isLoadBeanCache() {
     // not using L2 cache for asDraft() query
@@ -1198,6 +1231,32 @@ public class DefaultOrmQuery<T> implements SpiQuery<T> {
     return server.findIterate(this, null);
   }
 
+  @Override
+  public Stream<T> findStream() {
+    return server.findStream(this, null);
+  }
+
+  @Override
+  public Stream<T> findLargeStream() {
+    return server.findLargeStream(this, null);
+  }
+
+  @Override
+  public void findJson(Writer writer) {
+    JsonGenerator generator = server.json().createGenerator(writer);
+    findJson(generator);
+    try {
+      generator.flush();
+    } catch (IOException e) {
+      throw new JsonIOException(e);
+    }
+  }
+
+  @Override
+  public void findJson(JsonGenerator generator) {
+    server.findJson(this, generator, null);
+  }
+
   @Override
   public List<Version<T>> findVersions() {
     this.temporalMode = TemporalMode.VERSIONS;
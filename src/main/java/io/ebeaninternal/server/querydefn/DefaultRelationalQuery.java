@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Default implementation of SQuery - SQL Query.
@@ -57,6 +58,16 @@ public class DefaultRelationalQuery implements SpiSqlQuery {
     server.findEachWhile(this, consumer, null);
   }
 
+  @Override
+  public Stream<SqlRow> findStream() {
+    return server.findStream(this, null);
+  }
+
+  @Override
+  public Stream<SqlRow> findLargeStream() {
+    return server.findLargeStream(this, null);
+  }
+
   @Override
   public List<SqlRow> findList() {
     return server.findList(this, null);
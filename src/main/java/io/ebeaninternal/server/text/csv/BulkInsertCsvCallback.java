@@ -0,0 +1,52 @@
+package io.ebeaninternal.server.text.csv;
+
+import io.ebean.EbeanServer;
+import io.ebean.bean.EntityBean;
+import io.ebean.text.csv.DefaultCsvCallback;
+import io.ebeaninternal.api.SpiEbeanServer;
+import io.ebeaninternal.server.persist.BulkInsert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * CsvCallback that bulk inserts the beans (rather than saving each bean).
+ */
+class BulkInsertCsvCallback<T> extends DefaultCsvCallback<T> {
+
+  private static final Logger logger = LoggerFactory.getLogger(BulkInsertCsvCallback.class);
+
+  private final Class<T> beanType;
+
+  private BulkInsert bulkInsert;
+
+  BulkInsertCsvCallback(Class<T> beanType, int logInfoFrequency) {
+    super(0, logInfoFrequency);
+    this.beanType = beanType;
+  }
+
+  @Override
+  public void begin(EbeanServer server) {
+    super.begin(server);
+    bulkInsert = ((SpiEbeanServer) server).createBulkInsert(beanType, transaction);
+  }
+
+  @Override
+  public void processBean(int row, String[] line, T bean) {
+    bulkInsert.add((EntityBean) bean);
+    if (logInfoFrequency > 0 && (row % logInfoFrequency == 0)) {
+      logger.info("processed " + row + " rows");
+    }
+  }
+
+  @Override
+  public void end(int row) {
+    bulkInsert.end();
+    super.end(row);
+  }
+
+  @Override
+  public void endWithError(int row, Exception e) {
+    bulkInsert.cancel();
+    super.endWithError(row, e);
+  }
+}
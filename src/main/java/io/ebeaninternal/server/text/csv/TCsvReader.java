@@ -55,6 +55,8 @@ public class TCsvReader<T> implements CsvReader<T> {
 
   private boolean addPropertiesFromHeader;
 
+  private boolean bulkInsert;
+
   public TCsvReader(EbeanServer server, BeanDescriptor<T> descriptor) {
     this.server = server;
     this.descriptor = descriptor;
@@ -85,6 +87,11 @@ public class TCsvReader<T> implements CsvReader<T> {
     this.persistBatchSize = persistBatchSize;
   }
 
+  @Override
+  public void setBulkInsert(boolean bulkInsert) {
+    this.bulkInsert = bulkInsert;
+  }
+
   @Override
   public void setIgnoreHeader() {
     setHasHeader(true, false);
@@ -170,8 +177,11 @@ public class TCsvReader<T> implements CsvReader<T> {
 
   @Override
   public void process(Reader reader) throws Exception {
-    DefaultCsvCallback<T> callback = new DefaultCsvCallback<>(persistBatchSize, logInfoFrequency);
-    process(reader, callback);
+    if (bulkInsert) {
+      process(reader, new BulkInsertCsvCallback<>(descriptor.getBeanType(), logInfoFrequency));
+    } else {
+      process(reader, new DefaultCsvCallback<>(persistBatchSize, logInfoFrequency));
+    }
   }
 
   @Override
@@ -1,5 +1,6 @@
 package io.ebeaninternal.server.text.json;
 
+import com.fasterxml.jackson.core.SerializableString;
 import io.ebean.bean.EntityBean;
 import io.ebean.text.json.JsonWriter;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
@@ -56,6 +57,16 @@ public interface SpiJsonWriter extends JsonWriter {
    */
   void endAssocMany();
 
+  /**
+   * Write the field name using its precomputed (already quoted and encoded) form.
+   */
+  void writeFieldName(SerializableString name);
+
+  /**
+   * Write a null value for the field (if null values are included).
+   */
+  void writeNullField(SerializableString name);
+
   /**
    * Write value using underlying Jaskson object mapper if available.
    */
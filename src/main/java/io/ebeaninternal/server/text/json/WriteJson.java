@@ -1,6 +1,7 @@
 package io.ebeaninternal.server.text.json;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.ebean.FetchPath;
 import io.ebean.bean.EntityBean;
@@ -10,6 +11,7 @@ import io.ebean.text.json.JsonIOException;
 import io.ebean.text.json.JsonWriteBeanVisitor;
 import io.ebeaninternal.api.SpiEbeanServer;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
+import io.ebeaninternal.server.deploy.BeanJsonWritePlan;
 import io.ebeaninternal.server.deploy.BeanProperty;
 import io.ebeaninternal.server.util.ArrayStack;
 
@@ -176,6 +178,27 @@ public class WriteJson implements SpiJsonWriter {
     }
   }
 
+  @Override
+  public void writeFieldName(SerializableString name) {
+    try {
+      generator.writeFieldName(name);
+    } catch (IOException e) {
+      throw new JsonIOException(e);
+    }
+  }
+
+  @Override
+  public void writeNullField(SerializableString name) {
+    if (isIncludeNull()) {
+      try {
+        generator.writeFieldName(name);
+        generator.writeNull();
+      } catch (IOException e) {
+        throw new JsonIOException(e);
+      }
+    }
+  }
+
   @Override
   public void writeNullField(String name) {
     if (isIncludeNull()) {
@@ -400,7 +423,7 @@ public class WriteJson implements SpiJsonWriter {
     String path = pathStack.peekWithNull();
     JsonWriteBeanVisitor<?> visitor = (visitors == null) ? null : visitors.get(path);
     if (fetchPath == null) {
-      return new WriteBean(desc, bean, visitor);
+      return new WriteBean(desc, desc.jsonWritePlan(false, null), bean, visitor);
     }
 
     boolean explicitAllProps = false;
@@ -411,7 +434,7 @@ public class WriteJson implements SpiJsonWriter {
         currentIncludeProps = null;
       }
     }
-    return new WriteBean(desc, explicitAllProps, currentIncludeProps, bean, visitor);
+    return new WriteBean(desc, desc.jsonWritePlan(explicitAllProps, currentIncludeProps), bean, visitor);
   }
 
   @Override
@@ -444,81 +467,27 @@ public class WriteJson implements SpiJsonWriter {
 
   public static class WriteBean {
 
-    final boolean explicitAllProps;
-    final Set<String> currentIncludeProps;
     final BeanDescriptor<?> desc;
+    final BeanJsonWritePlan plan;
     final EntityBean currentBean;
 
     @SuppressWarnings("rawtypes")
     final JsonWriteBeanVisitor visitor;
 
-    WriteBean(BeanDescriptor<?> desc, EntityBean currentBean, JsonWriteBeanVisitor<?> visitor) {
-      this(desc, false, null, currentBean, visitor);
-    }
-
-    WriteBean(BeanDescriptor<?> desc, boolean explicitAllProps, Set<String> currentIncludeProps, EntityBean currentBean, JsonWriteBeanVisitor<?> visitor) {
+    WriteBean(BeanDescriptor<?> desc, BeanJsonWritePlan plan, EntityBean currentBean, JsonWriteBeanVisitor<?> visitor) {
       super();
       this.desc = desc;
+      this.plan = plan;
       this.currentBean = currentBean;
-      this.explicitAllProps = explicitAllProps;
-      this.currentIncludeProps = currentIncludeProps;
       this.visitor = visitor;
     }
 
-    private boolean isReferenceOnly() {
-      return !explicitAllProps && currentIncludeProps == null && currentBean._ebean_getIntercept().isReference();
-    }
-
-    private boolean isIncludeProperty(BeanProperty prop) {
-      if (explicitAllProps)
-        return true;
-      if (currentIncludeProps != null) {
-        // explicitly controlled by pathProperties
-        return currentIncludeProps.contains(prop.getName());
-      } else {
-        // include only loaded properties
-        return currentBean._ebean_getIntercept().isLoadedProperty(prop.getPropertyIndex());
-      }
-    }
-
-    private boolean isIncludeTransientProperty(BeanProperty prop) {
-      if (prop.isUnmappedJson()) {
-        return false;
-      } else if (!explicitAllProps && currentIncludeProps != null) {
-        // explicitly controlled by pathProperties
-        return currentIncludeProps.contains(prop.getName());
-      } else {
-        // by default include transient properties
-        return true;
-      }
-    }
-
     @SuppressWarnings("unchecked")
     public void write(WriteJson writeJson) {
 
       try {
-        BeanProperty beanProp = desc.getIdProperty();
-        if (beanProp != null) {
-          if (isIncludeProperty(beanProp)) {
-            beanProp.jsonWrite(writeJson, currentBean);
-          }
-        }
-
-        if (!isReferenceOnly()) {
-          // render all the properties and invoke lazy loading if required
-          BeanProperty[] props = desc.propertiesNonTransient();
-          for (BeanProperty prop1 : props) {
-            if (isIncludeProperty(prop1)) {
-              prop1.jsonWrite(writeJson, currentBean);
-            }
-          }
-          props = desc.propertiesTransient();
-          for (BeanProperty prop : props) {
-            if (isIncludeTransientProperty(prop)) {
-              prop.jsonWrite(writeJson, currentBean);
-            }
-          }
-        }
+        // render the planned properties and invoke lazy loading if required
+        plan.write(writeJson, currentBean);
 
         BeanProperty unmappedJson = desc.propertyUnmappedJson();
         if (unmappedJson != null && unmappedJson.isJsonSerialize()) {
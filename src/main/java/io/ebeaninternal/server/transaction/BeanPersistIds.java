@@ -4,15 +4,20 @@ import io.ebeaninternal.api.SpiEbeanServer;
 import io.ebeaninternal.server.cluster.BinaryMessage;
 import io.ebeaninternal.server.cluster.BinaryMessageList;
 import io.ebeaninternal.server.core.PersistRequest;
+import io.ebeaninternal.server.cluster.VarInt;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
+import io.ebeaninternal.server.deploy.BeanProperty;
 import io.ebeaninternal.server.deploy.id.IdBinder;
 
 import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Wraps the information representing a Inserted Updated or Deleted Bean.
@@ -29,6 +34,21 @@ import java.util.List;
  */
 public class BeanPersistIds {
 
+  /**
+   * Compact encoding of ids using IdBinder.writeData().
+   */
+  private static final int ID_GENERIC = 0;
+
+  /**
+   * Compact encoding of Long ids as varint deltas.
+   */
+  private static final int ID_LONG = 1;
+
+  /**
+   * Compact encoding of Integer ids as varint deltas.
+   */
+  private static final int ID_INTEGER = 2;
+
   private final BeanDescriptor<?> beanDescriptor;
 
   private final String descriptorId;
@@ -92,6 +112,144 @@ public class BeanPersistIds {
     writeIdList(beanDescriptor, 2, deleteIds, msgList);
   }
 
+  /**
+   * Read the compact form written by {@link #writeCompact(DataOutput)}.
+   */
+  static BeanPersistIds readCompact(BeanDescriptor<?> desc, DataInput dataInput) throws IOException {
+
+    BeanPersistIds bp = new BeanPersistIds(desc);
+    int mask = dataInput.readByte();
+    if ((mask & 1) != 0) {
+      bp.insertIds = bp.readCompactIds(dataInput);
+    }
+    if ((mask & 2) != 0) {
+      bp.updateIds = bp.readCompactIds(dataInput);
+    }
+    if ((mask & 4) != 0) {
+      bp.deleteIds = bp.readCompactIds(dataInput);
+    }
+    return bp;
+  }
+
+  /**
+   * Write the insert, update and delete ids in compact form.
+   * <p>
+   * Integer and Long ids are written as varint deltas (which is compact for
+   * ascending ids) and duplicate ids are removed.
+   * </p>
+   */
+  void writeCompact(DataOutput dataOutput) throws IOException {
+
+    int mask = (isEmpty(insertIds) ? 0 : 1) | (isEmpty(updateIds) ? 0 : 2) | (isEmpty(deleteIds) ? 0 : 4);
+    dataOutput.writeByte(mask);
+    if (!isEmpty(insertIds)) {
+      writeCompactIds(dataOutput, insertIds);
+    }
+    if (!isEmpty(updateIds)) {
+      writeCompactIds(dataOutput, updateIds);
+    }
+    if (!isEmpty(deleteIds)) {
+      writeCompactIds(dataOutput, deleteIds);
+    }
+  }
+
+  private static boolean isEmpty(List<Object> ids) {
+    return ids == null || ids.isEmpty();
+  }
+
+  private void writeCompactIds(DataOutput dataOutput, List<Object> idList) throws IOException {
+
+    Set<Object> ids = new LinkedHashSet<>(idList);
+    int encoding = idEncoding(ids);
+    VarInt.writeInt(dataOutput, ids.size());
+    dataOutput.writeByte(encoding);
+    if (encoding == ID_GENERIC) {
+      IdBinder idBinder = beanDescriptor.getIdBinder();
+      for (Object id : ids) {
+        idBinder.writeData(dataOutput, id);
+      }
+    } else {
+      long previous = 0;
+      for (Object id : ids) {
+        long value = ((Number) id).longValue();
+        VarInt.writeSigned(dataOutput, value - previous);
+        previous = value;
+      }
+    }
+  }
+
+  private List<Object> readCompactIds(DataInput dataInput) throws IOException {
+
+    int count = VarInt.readInt(dataInput);
+    int encoding = dataInput.readByte();
+    List<Object> idList = new ArrayList<>(count);
+    if (encoding == ID_GENERIC) {
+      IdBinder idBinder = beanDescriptor.getIdBinder();
+      for (int i = 0; i < count; i++) {
+        idList.add(idBinder.readData(dataInput));
+      }
+    } else {
+      long value = 0;
+      for (int i = 0; i < count; i++) {
+        value += VarInt.readSigned(dataInput);
+        idList.add(encoding == ID_LONG ? (Object) value : (Object) (int) value);
+      }
+    }
+    return idList;
+  }
+
+  /**
+   * Return the compact encoding to use for the given ids.
+   */
+  private int idEncoding(Set<Object> ids) {
+
+    BeanProperty idProperty = beanDescriptor.getIdProperty();
+    if (idProperty == null) {
+      return ID_GENERIC;
+    }
+    Class<?> type = idProperty.getPropertyType();
+    if (type == Long.class || type == long.class) {
+      return allInstanceOf(ids, Long.class) ? ID_LONG : ID_GENERIC;
+    }
+    if (type == Integer.class || type == int.class) {
+      return allInstanceOf(ids, Integer.class) ? ID_INTEGER : ID_GENERIC;
+    }
+    return ID_GENERIC;
+  }
+
+  private static boolean allInstanceOf(Set<Object> ids, Class<?> type) {
+    for (Object id : ids) {
+      if (!type.isInstance(id)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Merge the ids of the other BeanPersistIds (of the same bean type) into this one.
+   */
+  void merge(BeanPersistIds other) {
+    insertIds = append(insertIds, other.insertIds);
+    updateIds = append(updateIds, other.updateIds);
+    deleteIds = append(deleteIds, other.deleteIds);
+  }
+
+  private static List<Object> append(List<Object> ids, List<Object> other) {
+    if (other == null) {
+      return ids;
+    }
+    if (ids == null) {
+      return new ArrayList<>(other);
+    }
+    ids.addAll(other);
+    return ids;
+  }
+
+  String getDescriptorId() {
+    return descriptorId;
+  }
+
   private List<Object> readIdList(DataInput dataInput, IdBinder idBinder) throws IOException {
 
     int count = dataInput.readInt();
@@ -222,15 +380,15 @@ public class BeanPersistIds {
     // any change invalidates the query cache
     beanDescriptor.clearQueryCache();
 
+    Set<Object> ids = new LinkedHashSet<>();
     if (updateIds != null) {
-      for (Object id : updateIds) {
-        beanDescriptor.cacheHandleDeleteById(id);
-      }
+      ids.addAll(updateIds);
     }
     if (deleteIds != null) {
-      for (Object id : deleteIds) {
-        beanDescriptor.cacheHandleDeleteById(id);
-      }
+      ids.addAll(deleteIds);
+    }
+    if (!ids.isEmpty()) {
+      beanDescriptor.cacheHandleDeleteByIds(ids);
     }
   }
 }
@@ -0,0 +1,157 @@
+package io.ebeaninternal.server.transaction;
+
+import io.ebean.bean.PersistenceContext;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * PersistenceContext that supports concurrent access.
+ * <p>
+ * Unlike DefaultPersistenceContext there is no single lock. Each bean type has
+ * its own ConcurrentHashMap such that an object graph can be processed via a
+ * parallel stream or lazy loaded from multiple threads without those threads
+ * serialising on the persistence context.
+ * </p>
+ * <p>
+ * Selected using {@link io.ebean.PersistenceContextScope#QUERY_CONCURRENT} on the
+ * query or as the server default scope.
+ * </p>
+ */
+public final class ConcurrentPersistenceContext implements PersistenceContext {
+
+  /**
+   * Map used hold caches. One cache per bean type.
+   */
+  private final ConcurrentMap<Class<?>, ClassContext> typeCache = new ConcurrentHashMap<>();
+
+  /**
+   * Create a new PersistenceContext.
+   */
+  public ConcurrentPersistenceContext() {
+  }
+
+  /**
+   * Set an object into the PersistenceContext.
+   */
+  @Override
+  public void put(Class<?> rootType, Object id, Object bean) {
+    if (id != null && bean != null) {
+      getClassContext(rootType).map.put(id, bean);
+    }
+  }
+
+  @Override
+  public Object putIfAbsent(Class<?> rootType, Object id, Object bean) {
+    if (id == null || bean == null) {
+      return null;
+    }
+    return getClassContext(rootType).map.putIfAbsent(id, bean);
+  }
+
+  /**
+   * Return an object given its type and unique id.
+   */
+  @Override
+  public Object get(Class<?> rootType, Object id) {
+    ClassContext classMap = typeCache.get(rootType);
+    return (classMap == null || id == null) ? null : classMap.map.get(id);
+  }
+
+  @Override
+  public WithOption getWithOption(Class<?> rootType, Object id) {
+    ClassContext classMap = typeCache.get(rootType);
+    return (classMap == null || id == null) ? null : classMap.getWithOption(id);
+  }
+
+  /**
+   * Return the number of beans of the given type in the persistence context.
+   */
+  @Override
+  public int size(Class<?> rootType) {
+    ClassContext classMap = typeCache.get(rootType);
+    return classMap == null ? 0 : classMap.map.size();
+  }
+
+  /**
+   * Clear the PersistenceContext.
+   */
+  @Override
+  public void clear() {
+    typeCache.clear();
+  }
+
+  @Override
+  public void clear(Class<?> rootType) {
+    ClassContext classMap = typeCache.get(rootType);
+    if (classMap != null) {
+      classMap.map.clear();
+    }
+  }
+
+  @Override
+  public void deleted(Class<?> rootType, Object id) {
+    if (id != null) {
+      getClassContext(rootType).deleted(id);
+    }
+  }
+
+  @Override
+  public void clear(Class<?> rootType, Object id) {
+    ClassContext classMap = typeCache.get(rootType);
+    if (classMap != null && id != null) {
+      classMap.map.remove(id);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return typeCache.toString();
+  }
+
+  private ClassContext getClassContext(Class<?> rootType) {
+    ClassContext classMap = typeCache.get(rootType);
+    if (classMap != null) {
+      return classMap;
+    }
+    return typeCache.computeIfAbsent(rootType, k -> new ClassContext());
+  }
+
+  private static class ClassContext {
+
+    private final ConcurrentMap<Object, Object> map = new ConcurrentHashMap<>();
+
+    private volatile Set<Object> deleteSet;
+
+    private ClassContext() {
+    }
+
+    @Override
+    public String toString() {
+      return "size:" + map.size();
+    }
+
+    private WithOption getWithOption(Object id) {
+      Set<Object> deleted = deleteSet;
+      if (deleted != null && deleted.contains(id)) {
+        return WithOption.DELETED;
+      }
+      Object bean = map.get(id);
+      return (bean == null) ? null : new WithOption(bean);
+    }
+
+    private void deleted(Object id) {
+      if (deleteSet == null) {
+        synchronized (this) {
+          if (deleteSet == null) {
+            deleteSet = ConcurrentHashMap.newKeySet();
+          }
+        }
+      }
+      deleteSet.add(id);
+      map.remove(id);
+    }
+  }
+
+}
@@ -20,6 +20,11 @@ public interface DataSourceSupplier {
    */
   DataSource getDataSource();
 
+  /**
+   * Return the read only DataSource or null if there is not one (or it is not supported).
+   */
+  DataSource getReadOnlyDataSource();
+
   /**
    * Return a connection from the DataSource taking into account a tenantId for multi-tenant lazy loading.
    *
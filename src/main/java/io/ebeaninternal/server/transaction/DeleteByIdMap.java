@@ -30,7 +30,7 @@ public final class DeleteByIdMap {
       BeanDescriptor<?> d = deleteIds.getBeanDescriptor();
       List<Object> idValues = deleteIds.getDeleteIds();
       if (idValues != null) {
-        d.queryCacheClear(changeSet);
+        d.queryCacheDelete(changeSet);
         for (Object idValue : idValues) {
           d.cacheHandleDeleteById(idValue, changeSet);
         }
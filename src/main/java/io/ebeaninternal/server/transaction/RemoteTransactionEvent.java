@@ -3,13 +3,26 @@ package io.ebeaninternal.server.transaction;
 import io.ebeaninternal.api.SpiEbeanServer;
 import io.ebeaninternal.api.TransactionEventTable.TableIUD;
 import io.ebeaninternal.server.cluster.BinaryMessageList;
+import io.ebeaninternal.server.cluster.VarInt;
+import io.ebeaninternal.server.deploy.BeanDescriptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public class RemoteTransactionEvent implements Runnable {
 
+  private static final Logger logger = LoggerFactory.getLogger(RemoteTransactionEvent.class);
+
   private final List<BeanPersistIds> beanPersistList = new ArrayList<>();
 
   private List<TableIUD> tableList;
@@ -20,6 +33,11 @@ public class RemoteTransactionEvent implements Runnable {
 
   private transient SpiEbeanServer server;
 
+  /**
+   * The System.nanoTime() this event was created (after commit).
+   */
+  private long createdNanos = System.nanoTime();
+
   public RemoteTransactionEvent(String serverName) {
     this.serverName = serverName;
   }
@@ -67,6 +85,142 @@ public class RemoteTransactionEvent implements Runnable {
     }
   }
 
+  /**
+   * Write the event in compact form.
+   * <p>
+   * Each bean type name is written once and then referenced by its ordinal within
+   * the message. Deletes by id are written as BeanPersistIds (as per the BinaryMessage form).
+   * The ids of each bean type are prefixed by their length such that a reader that does not
+   * know the bean type can skip them.
+   * </p>
+   */
+  public void writeCompact(DataOutput dataOutput) throws IOException {
+
+    List<TableIUD> tables = (tableList == null) ? Collections.emptyList() : tableList;
+    VarInt.writeInt(dataOutput, tables.size());
+    for (TableIUD tableIUD : tables) {
+      tableIUD.writeCompact(dataOutput);
+    }
+
+    List<BeanPersistIds> persistIds = new ArrayList<>(beanPersistList);
+    if (deleteByIdMap != null) {
+      persistIds.addAll(deleteByIdMap.values());
+    }
+
+    Map<String, Integer> ordinals = new LinkedHashMap<>();
+    for (BeanPersistIds ids : persistIds) {
+      ordinals.putIfAbsent(ids.getDescriptorId(), ordinals.size());
+    }
+    VarInt.writeInt(dataOutput, ordinals.size());
+    for (String descriptorId : ordinals.keySet()) {
+      dataOutput.writeUTF(descriptorId);
+    }
+
+    VarInt.writeInt(dataOutput, persistIds.size());
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(64);
+    DataOutputStream idsOut = new DataOutputStream(buffer);
+    for (BeanPersistIds ids : persistIds) {
+      VarInt.writeInt(dataOutput, ordinals.get(ids.getDescriptorId()));
+      buffer.reset();
+      ids.writeCompact(idsOut);
+      idsOut.flush();
+      VarInt.writeInt(dataOutput, buffer.size());
+      dataOutput.write(buffer.toByteArray());
+    }
+  }
+
+  /**
+   * Read the compact form written by {@link #writeCompact(DataOutput)}.
+   * <p>
+   * The ids of bean types not known to the server (e.g. a node running a different
+   * version of the application) are skipped.
+   * </p>
+   */
+  public static RemoteTransactionEvent readCompact(SpiEbeanServer server, DataInput dataInput) throws IOException {
+
+    RemoteTransactionEvent event = new RemoteTransactionEvent(server);
+
+    int tableCount = VarInt.readInt(dataInput);
+    for (int i = 0; i < tableCount; i++) {
+      event.addTableIUD(TableIUD.readCompact(dataInput));
+    }
+
+    int typeCount = VarInt.readInt(dataInput);
+    BeanDescriptor<?>[] descriptors = new BeanDescriptor<?>[typeCount];
+    for (int i = 0; i < typeCount; i++) {
+      String descriptorId = dataInput.readUTF();
+      descriptors[i] = server.getBeanDescriptorById(descriptorId);
+      if (descriptors[i] == null) {
+        logger.debug("Skipping ids of unknown bean type {} for server {}", descriptorId, server.getName());
+      }
+    }
+
+    int persistCount = VarInt.readInt(dataInput);
+    for (int i = 0; i < persistCount; i++) {
+      int ordinal = VarInt.readInt(dataInput);
+      if (ordinal >= typeCount) {
+        throw new IOException("Invalid bean type ordinal " + ordinal);
+      }
+      int length = VarInt.readInt(dataInput);
+      if (descriptors[ordinal] == null) {
+        dataInput.readFully(new byte[length]);
+      } else {
+        event.addBeanPersistIds(BeanPersistIds.readCompact(descriptors[ordinal], dataInput));
+      }
+    }
+    return event;
+  }
+
+  /**
+   * Merge the other event (for the same server) into this one.
+   * <p>
+   * Used to coalesce the events of many transactions into a single broadcast. The
+   * other event is not modified. Deletes by id are merged as BeanPersistIds.
+   * </p>
+   */
+  public void merge(RemoteTransactionEvent other) {
+
+    createdNanos = Math.min(createdNanos, other.createdNanos);
+
+    if (other.tableList != null) {
+      for (TableIUD otherTable : other.tableList) {
+        mergeTable(otherTable);
+      }
+    }
+    for (BeanPersistIds otherIds : other.beanPersistList) {
+      mergeBeanPersistIds(otherIds);
+    }
+    if (other.deleteByIdMap != null) {
+      for (BeanPersistIds otherIds : other.deleteByIdMap.values()) {
+        mergeBeanPersistIds(otherIds);
+      }
+    }
+  }
+
+  private void mergeTable(TableIUD otherTable) {
+    if (tableList != null) {
+      for (TableIUD tableIUD : tableList) {
+        if (tableIUD.getTableName().equals(otherTable.getTableName())) {
+          tableIUD.add(otherTable);
+          return;
+        }
+      }
+    }
+    addTableIUD(otherTable.copy());
+  }
+
+  private void mergeBeanPersistIds(BeanPersistIds otherIds) {
+    for (BeanPersistIds ids : beanPersistList) {
+      if (ids.getDescriptorId().equals(otherIds.getDescriptorId())) {
+        ids.merge(otherIds);
+        return;
+      }
+    }
+    BeanPersistIds ids = new BeanPersistIds(otherIds.getBeanDescriptor());
+    ids.merge(otherIds);
+    beanPersistList.add(ids);
+  }
+
   public boolean isEmpty() {
     return beanPersistList.isEmpty()
       && (tableList == null || tableList.isEmpty())
@@ -84,6 +238,13 @@ public class RemoteTransactionEvent implements Runnable {
     tableList.add(tableIud);
   }
 
+  /**
+   * Return the System.nanoTime() this event was created (the earliest for a merged event).
+   */
+  public long getCreatedNanos() {
+    return createdNanos;
+  }
+
   public String getServerName() {
     return serverName;
   }
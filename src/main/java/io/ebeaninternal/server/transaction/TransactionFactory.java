@@ -36,6 +36,16 @@ abstract class TransactionFactory {
    */
   abstract SpiTransaction createTransaction(boolean explicit, int isolationLevel);
 
+  /**
+   * Return true if there is a read only DataSource.
+   */
+  abstract boolean isReadOnlyDataSource();
+
+  /**
+   * Return a new transaction using a connection from the read only DataSource.
+   */
+  abstract SpiTransaction createReadOnlyTransaction(boolean explicit, int isolationLevel);
+
   /**
    * Set the Transaction Isolation level if required.
    */
@@ -15,23 +15,37 @@ class TransactionFactoryBasic extends TransactionFactory {
 
   private final DataSource dataSource;
 
+  private final DataSource readOnlyDataSource;
+
   TransactionFactoryBasic(TransactionManager manager, DataSourceSupplier dataSourceSupplier) {
     super(manager);
     this.dataSource = dataSourceSupplier.getDataSource();
+    this.readOnlyDataSource = dataSourceSupplier.getReadOnlyDataSource();
   }
 
   @Override
   public SpiTransaction createQueryTransaction(Object tenantId) {
-    return create(false);
+    return create(false, dataSource);
   }
 
   @Override
   public SpiTransaction createTransaction(boolean explicit, int isolationLevel) {
-    SpiTransaction t = create(explicit);
+    SpiTransaction t = create(explicit, dataSource);
+    return setIsolationLevel(t, explicit, isolationLevel);
+  }
+
+  @Override
+  boolean isReadOnlyDataSource() {
+    return readOnlyDataSource != null;
+  }
+
+  @Override
+  SpiTransaction createReadOnlyTransaction(boolean explicit, int isolationLevel) {
+    SpiTransaction t = create(explicit, readOnlyDataSource);
     return setIsolationLevel(t, explicit, isolationLevel);
   }
 
-  private SpiTransaction create(boolean explicit) {
+  private SpiTransaction create(boolean explicit, DataSource dataSource) {
     Connection c = null;
     try {
       c = dataSource.getConnection();
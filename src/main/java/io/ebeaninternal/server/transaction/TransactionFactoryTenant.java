@@ -35,6 +35,17 @@ class TransactionFactoryTenant extends TransactionFactory {
     return setIsolationLevel(t, explicit, isolationLevel);
   }
 
+  @Override
+  boolean isReadOnlyDataSource() {
+    // not supported with multi-tenancy
+    return false;
+  }
+
+  @Override
+  SpiTransaction createReadOnlyTransaction(boolean explicit, int isolationLevel) {
+    return createTransaction(explicit, isolationLevel);
+  }
+
   private SpiTransaction create(boolean explicit, Object tenantId) {
     Connection c = null;
     try {
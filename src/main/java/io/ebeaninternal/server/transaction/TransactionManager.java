@@ -8,6 +8,7 @@ import io.ebean.config.dbplatform.DatabasePlatform.OnQueryOnly;
 import io.ebean.event.changelog.ChangeLogListener;
 import io.ebean.event.changelog.ChangeLogPrepare;
 import io.ebean.event.changelog.ChangeSet;
+import io.ebean.meta.MetaDataSourceRoutingStatistic;
 import io.ebeaninternal.api.SpiTransaction;
 import io.ebeaninternal.api.TransactionEvent;
 import io.ebeaninternal.api.TransactionEventTable;
@@ -26,6 +27,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Manages transactions.
@@ -103,6 +105,10 @@ public class TransactionManager {
 
   private final TransactionFactory transactionFactory;
 
+  private final LongAdder readOnlyCount = new LongAdder();
+
+  private final LongAdder primaryQueryCount = new LongAdder();
+
   private final DatabasePlatform databasePlatform;
 
   /**
@@ -246,10 +252,46 @@ public class TransactionManager {
     return transactionFactory.createTransaction(explicit, isolationLevel);
   }
 
+  /**
+   * Create a query only transaction using the primary DataSource.
+   */
   public SpiTransaction createQueryTransaction(Object tenantId) {
+    primaryQueryCount.increment();
     return transactionFactory.createQueryTransaction(tenantId);
   }
 
+  /**
+   * Create a query only transaction using the read only DataSource if there is one
+   * (otherwise the primary DataSource).
+   */
+  public SpiTransaction createReadOnlyTransaction(Object tenantId) {
+    if (!transactionFactory.isReadOnlyDataSource()) {
+      return createQueryTransaction(tenantId);
+    }
+    readOnlyCount.increment();
+    return transactionFactory.createReadOnlyTransaction(false, -1);
+  }
+
+  /**
+   * Create a new Transaction using the read only DataSource if there is one (otherwise the primary DataSource).
+   */
+  public SpiTransaction createReadOnlyTransaction(boolean explicit, int isolationLevel) {
+    if (!transactionFactory.isReadOnlyDataSource()) {
+      return createTransaction(explicit, isolationLevel);
+    }
+    readOnlyCount.increment();
+    return transactionFactory.createReadOnlyTransaction(explicit, isolationLevel);
+  }
+
+  /**
+   * Return the counts of transactions using the read only and primary DataSource.
+   */
+  public MetaDataSourceRoutingStatistic getRoutingStatistic(boolean reset) {
+    long readOnly = reset ? readOnlyCount.sumThenReset() : readOnlyCount.sum();
+    long primary = reset ? primaryQueryCount.sumThenReset() : primaryQueryCount.sum();
+    return new RoutingStatistic(readOnly, primary);
+  }
+
   /**
    * Create a new transaction.
    */
@@ -402,4 +444,30 @@ public class TransactionManager {
     }
   }
 
+  private static final class RoutingStatistic implements MetaDataSourceRoutingStatistic {
+
+    private final long readOnlyCount;
+
+    private final long primaryCount;
+
+    RoutingStatistic(long readOnlyCount, long primaryCount) {
+      this.readOnlyCount = readOnlyCount;
+      this.primaryCount = primaryCount;
+    }
+
+    @Override
+    public String toString() {
+      return "readOnly:" + readOnlyCount + " primary:" + primaryCount;
+    }
+
+    @Override
+    public long getReadOnlyCount() {
+      return readOnlyCount;
+    }
+
+    @Override
+    public long getPrimaryCount() {
+      return primaryCount;
+    }
+  }
 }
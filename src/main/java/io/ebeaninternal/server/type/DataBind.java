@@ -1,5 +1,6 @@
 package io.ebeaninternal.server.type;
 
+import io.ebean.config.dbplatform.MultiValueBind;
 import io.ebeaninternal.server.core.timezone.DataTimeZone;
 
 import java.io.ByteArrayInputStream;
@@ -161,6 +162,10 @@ public class DataBind {
     pstmt.setCharacterStream(++pos, reader, content.length());
   }
 
+  public void setMultiValues(MultiValueBind multiValueBind, Class<?> valueType, Object[] values) throws SQLException {
+    multiValueBind.bindMultiValues(connection, pstmt, ++pos, valueType, values);
+  }
+
   public void setArray(String arrayType, Object[] elements) throws SQLException {
     Array array = connection.createArrayOf(arrayType, elements);
     pstmt.setArray(++pos, array);
@@ -0,0 +1,176 @@
+package io.ebeaninternal.server.type;
+
+import io.ebean.config.dbplatform.MultiValueBind;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DataBind that captures the bind values such that they can later be replayed
+ * onto a real statement.
+ * <p>
+ * Used for multi-row inserts where the bind values of each row are captured and
+ * then replayed (in row order) onto a single insert statement.
+ * </p>
+ */
+public class DataBindCapture extends DataBind {
+
+  /**
+   * A captured bind value.
+   */
+  private interface Bind {
+    void bind(DataBind dataBind) throws SQLException;
+  }
+
+  private final List<Bind> binds = new ArrayList<>();
+
+  public DataBindCapture() {
+    super(null, null, null);
+  }
+
+  /**
+   * Replay the captured bind values onto the given DataBind.
+   */
+  public void replay(DataBind dataBind) throws SQLException {
+    for (Bind bind : binds) {
+      bind.bind(dataBind);
+    }
+  }
+
+  /**
+   * Return the number of bind values captured.
+   */
+  public int size() {
+    return binds.size();
+  }
+
+  @Override
+  public void close() {
+    // nothing to close
+  }
+
+  @Override
+  public int currentPos() {
+    return binds.size();
+  }
+
+  @Override
+  public int executeUpdate() throws SQLException {
+    throw new SQLException("Not supported on captured bind values");
+  }
+
+  @Override
+  public void setObject(Object value) {
+    binds.add(b -> b.setObject(value));
+  }
+
+  @Override
+  public void setObject(Object value, int sqlType) {
+    binds.add(b -> b.setObject(value, sqlType));
+  }
+
+  @Override
+  public void setNull(int jdbcType) {
+    binds.add(b -> b.setNull(jdbcType));
+  }
+
+  @Override
+  public void setString(String s) {
+    binds.add(b -> b.setString(s));
+  }
+
+  @Override
+  public void setInt(int i) {
+    binds.add(b -> b.setInt(i));
+  }
+
+  @Override
+  public void setLong(long i) {
+    binds.add(b -> b.setLong(i));
+  }
+
+  @Override
+  public void setShort(short i) {
+    binds.add(b -> b.setShort(i));
+  }
+
+  @Override
+  public void setFloat(float i) {
+    binds.add(b -> b.setFloat(i));
+  }
+
+  @Override
+  public void setDouble(double i) {
+    binds.add(b -> b.setDouble(i));
+  }
+
+  @Override
+  public void setBigDecimal(BigDecimal v) {
+    binds.add(b -> b.setBigDecimal(v));
+  }
+
+  @Override
+  public void setDate(java.sql.Date v) {
+    binds.add(b -> b.setDate(v));
+  }
+
+  @Override
+  public void setTimestamp(Timestamp v) {
+    binds.add(b -> b.setTimestamp(v));
+  }
+
+  @Override
+  public void setTime(Time v) {
+    binds.add(b -> b.setTime(v));
+  }
+
+  @Override
+  public void setBoolean(boolean v) {
+    binds.add(b -> b.setBoolean(v));
+  }
+
+  @Override
+  public void setBytes(byte[] v) {
+    binds.add(b -> b.setBytes(v));
+  }
+
+  @Override
+  public void setByte(byte v) {
+    binds.add(b -> b.setByte(v));
+  }
+
+  @Override
+  public void setChar(char v) {
+    binds.add(b -> b.setChar(v));
+  }
+
+  @Override
+  public void setBinaryStream(InputStream inputStream, long length) {
+    binds.add(b -> b.setBinaryStream(inputStream, length));
+  }
+
+  @Override
+  public void setBlob(byte[] bytes) {
+    binds.add(b -> b.setBlob(bytes));
+  }
+
+  @Override
+  public void setClob(String content) {
+    binds.add(b -> b.setClob(content));
+  }
+
+  @Override
+  public void setMultiValues(MultiValueBind multiValueBind, Class<?> valueType, Object[] values) {
+    binds.add(b -> b.setMultiValues(multiValueBind, valueType, values));
+  }
+
+  @Override
+  public void setArray(String arrayType, Object[] elements) {
+    binds.add(b -> b.setArray(arrayType, elements));
+  }
+}
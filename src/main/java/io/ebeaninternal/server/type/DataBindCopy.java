@@ -0,0 +1,278 @@
+package io.ebeaninternal.server.type;
+
+import io.ebean.config.dbplatform.MultiValueBind;
+import io.ebeaninternal.server.core.timezone.DataTimeZone;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.ZoneId;
+import java.util.Calendar;
+
+/**
+ * DataBind that formats the bind values as a row of COPY FROM STDIN text format.
+ * <p>
+ * Columns are tab delimited, rows are newline terminated and null is <code>\N</code>.
+ * Backslash, tab, newline and carriage return in values are escaped.
+ * </p>
+ */
+public class DataBindCopy extends DataBind {
+
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  private final DataTimeZone dataTimeZone;
+
+  private final StringBuilder buffer;
+
+  private int columns;
+
+  public DataBindCopy(DataTimeZone dataTimeZone, StringBuilder buffer) {
+    super(dataTimeZone, null, null);
+    this.dataTimeZone = dataTimeZone;
+    this.buffer = buffer;
+  }
+
+  /**
+   * End the current row.
+   */
+  public void endRow() {
+    buffer.append('\n');
+    columns = 0;
+  }
+
+  @Override
+  public void close() {
+    // nothing to close
+  }
+
+  @Override
+  public int currentPos() {
+    return columns;
+  }
+
+  @Override
+  public int executeUpdate() throws SQLException {
+    throw new SQLException("Not supported for COPY");
+  }
+
+  private void delimit() {
+    if (columns++ > 0) {
+      buffer.append('\t');
+    }
+  }
+
+  private void raw(String value) {
+    delimit();
+    buffer.append(value);
+  }
+
+  private void text(String value) {
+    delimit();
+    for (int i = 0; i < value.length(); i++) {
+      char ch = value.charAt(i);
+      switch (ch) {
+        case '\\':
+          buffer.append("\\\\");
+          break;
+        case '\t':
+          buffer.append("\\t");
+          break;
+        case '\n':
+          buffer.append("\\n");
+          break;
+        case '\r':
+          buffer.append("\\r");
+          break;
+        default:
+          buffer.append(ch);
+      }
+    }
+  }
+
+  /**
+   * Return the value in bytea hex format.
+   */
+  static String hex(byte[] bytes) {
+    char[] chars = new char[2 + bytes.length * 2];
+    chars[0] = '\\';
+    chars[1] = 'x';
+    for (int i = 0; i < bytes.length; i++) {
+      chars[2 + i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+      chars[3 + i * 2] = HEX[bytes[i] & 0xF];
+    }
+    return new String(chars);
+  }
+
+  /**
+   * Return the value as an array literal.
+   */
+  static String array(Object[] elements) {
+    StringBuilder sb = new StringBuilder(elements.length * 10).append('{');
+    for (int i = 0; i < elements.length; i++) {
+      if (i > 0) {
+        sb.append(',');
+      }
+      Object element = elements[i];
+      if (element == null) {
+        sb.append("NULL");
+      } else {
+        sb.append('"');
+        String value = element.toString();
+        for (int j = 0; j < value.length(); j++) {
+          char ch = value.charAt(j);
+          if (ch == '"' || ch == '\\') {
+            sb.append('\\');
+          }
+          sb.append(ch);
+        }
+        sb.append('"');
+      }
+    }
+    return sb.append('}').toString();
+  }
+
+  /**
+   * Return the timestamp in ISO format with the offset of the time zone used by setTimestamp()
+   * (the DataTimeZone or the JVM default) such that timestamptz columns get the same instant
+   * and timestamp columns get the same local date time as the JDBC bind.
+   */
+  private String timestamp(Timestamp value) {
+    Calendar timeZone = dataTimeZone.getTimeZone();
+    ZoneId zone = (timeZone == null) ? ZoneId.systemDefault() : timeZone.getTimeZone().toZoneId();
+    return value.toInstant().atZone(zone).toOffsetDateTime().toString();
+  }
+
+  @Override
+  public void setObject(Object value) {
+    if (value == null) {
+      raw("\\N");
+    } else if (value instanceof byte[]) {
+      text(hex((byte[]) value));
+    } else if (value instanceof Timestamp) {
+      text(timestamp((Timestamp) value));
+    } else if (value instanceof Object[]) {
+      text(array((Object[]) value));
+    } else {
+      text(value.toString());
+    }
+  }
+
+  @Override
+  public void setObject(Object value, int sqlType) {
+    setObject(value);
+  }
+
+  @Override
+  public void setNull(int jdbcType) {
+    raw("\\N");
+  }
+
+  @Override
+  public void setString(String s) {
+    setObject(s);
+  }
+
+  @Override
+  public void setInt(int i) {
+    raw(Integer.toString(i));
+  }
+
+  @Override
+  public void setLong(long i) {
+    raw(Long.toString(i));
+  }
+
+  @Override
+  public void setShort(short i) {
+    raw(Short.toString(i));
+  }
+
+  @Override
+  public void setFloat(float i) {
+    raw(Float.toString(i));
+  }
+
+  @Override
+  public void setDouble(double i) {
+    raw(Double.toString(i));
+  }
+
+  @Override
+  public void setBigDecimal(BigDecimal v) {
+    setObject(v == null ? null : v.toPlainString());
+  }
+
+  @Override
+  public void setDate(java.sql.Date v) {
+    setObject(v);
+  }
+
+  @Override
+  public void setTimestamp(Timestamp v) {
+    setObject(v);
+  }
+
+  @Override
+  public void setTime(Time v) {
+    setObject(v);
+  }
+
+  @Override
+  public void setBoolean(boolean v) {
+    raw(v ? "t" : "f");
+  }
+
+  @Override
+  public void setBytes(byte[] v) {
+    setObject(v);
+  }
+
+  @Override
+  public void setByte(byte v) {
+    raw(Byte.toString(v));
+  }
+
+  @Override
+  public void setChar(char v) {
+    setObject(String.valueOf(v));
+  }
+
+  @Override
+  public void setBinaryStream(InputStream inputStream, long length) throws SQLException {
+    try {
+      ByteArrayOutputStream out = new ByteArrayOutputStream((int) length);
+      byte[] buf = new byte[8192];
+      int len;
+      while ((len = inputStream.read(buf)) > -1) {
+        out.write(buf, 0, len);
+      }
+      setObject(out.toByteArray());
+    } catch (IOException e) {
+      throw new SQLException("Error reading stream for COPY", e);
+    }
+  }
+
+  @Override
+  public void setBlob(byte[] bytes) {
+    setObject(bytes);
+  }
+
+  @Override
+  public void setClob(String content) {
+    setObject(content);
+  }
+
+  @Override
+  public void setMultiValues(MultiValueBind multiValueBind, Class<?> valueType, Object[] values) throws SQLException {
+    throw new SQLException("Multi value binding not supported for COPY");
+  }
+
+  @Override
+  public void setArray(String arrayType, Object[] elements) {
+    setObject(elements);
+  }
+}
@@ -141,6 +141,11 @@ public final class DefaultTypeManager implements TypeManager {
 
   private final boolean postgres;
 
+  /**
+   * When true the @DbJson Map, List and Set content is parsed on first access.
+   */
+  private final boolean dbJsonLazyParse;
+
   private final boolean offlineMigrationGeneration;
 
   // OPTIONAL ScalarTypes registered if Jackson/JsonNode is in the classpath
@@ -184,6 +189,7 @@ public final class DefaultTypeManager implements TypeManager {
 
     this.extraTypeFactory = new DefaultTypeFactory(config);
     this.postgres = isPostgres(config.getDatabasePlatform());
+    this.dbJsonLazyParse = config.isDbJsonLazyParse();
     this.arrayTypeListFactory = arrayTypeListFactory(postgres, config.getDatabasePlatform());
     this.arrayTypeSetFactory = arrayTypeSetFactory(postgres, config.getDatabasePlatform());
 
@@ -357,7 +363,7 @@ public final class DefaultTypeManager implements TypeManager {
     if (type.equals(List.class)) {
       DocPropertyType docType = getDocType(genericType);
       if (isValueTypeSimple(genericType)) {
-        return ScalarTypeJsonList.typeFor(postgres, dbType, docType);
+        return ScalarTypeJsonList.typeFor(postgres, dbType, docType, dbJsonLazyParse);
       } else {
         return createJsonObjectMapperType(type, genericType, dbType, docType);
       }
@@ -366,7 +372,7 @@ public final class DefaultTypeManager implements TypeManager {
     if (type.equals(Set.class)) {
       DocPropertyType docType = getDocType(genericType);
       if (isValueTypeSimple(genericType)) {
-        return ScalarTypeJsonSet.typeFor(postgres, dbType, docType);
+        return ScalarTypeJsonSet.typeFor(postgres, dbType, docType, dbJsonLazyParse);
       } else {
         return createJsonObjectMapperType(type, genericType, dbType, docType);
       }
@@ -374,7 +380,7 @@ public final class DefaultTypeManager implements TypeManager {
 
     if (type.equals(Map.class)) {
       if (isMapValueTypeObject(genericType)) {
-        return ScalarTypeJsonMap.typeFor(postgres, dbType);
+        return ScalarTypeJsonMap.typeFor(postgres, dbType, dbJsonLazyParse);
       } else {
         return createJsonObjectMapperType(type, genericType, dbType, DocPropertyType.OBJECT);
       }
@@ -435,7 +441,7 @@ public final class DefaultTypeManager implements TypeManager {
     if (objectMapper == null) {
       throw new IllegalArgumentException("Type [" + type + "] unsupported for @DbJson mapping - Jackson ObjectMapper not present");
     }
-    return ScalarTypeJsonObjectMapper.createTypeFor(postgres, type, (ObjectMapper) objectMapper, genericType, dbType, docType);
+    return ScalarTypeJsonObjectMapper.createTypeFor(postgres, type, (ObjectMapper) objectMapper, genericType, dbType, docType, dbJsonLazyParse);
   }
 
   /**
@@ -2,6 +2,7 @@ package io.ebeaninternal.server.type;
 
 import io.ebean.config.dbplatform.DbPlatformType;
 import io.ebean.text.json.EJson;
+import io.ebeaninternal.json.LazyJson;
 import io.ebeanservice.docstore.api.mapping.DocPropertyType;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
@@ -20,15 +21,22 @@ public class ScalarTypeJsonList {
    * Return the appropriate ScalarType based requested dbType and if Postgres.
    */
   public static ScalarType<?> typeFor(boolean postgres, int dbType, DocPropertyType docType) {
+    return typeFor(postgres, dbType, docType, false);
+  }
+
+  /**
+   * Return the appropriate ScalarType with optional lazy parsing of the JSON content.
+   */
+  public static ScalarType<?> typeFor(boolean postgres, int dbType, DocPropertyType docType, boolean lazy) {
     if (postgres) {
       switch (dbType) {
         case DbPlatformType.JSONB:
-          return new ScalarTypeJsonList.JsonB(docType);
+          return new ScalarTypeJsonList.JsonB(docType, lazy);
         case DbPlatformType.JSON:
-          return new ScalarTypeJsonList.Json(docType);
+          return new ScalarTypeJsonList.Json(docType, lazy);
       }
     }
-    return new ScalarTypeJsonList.Varchar(docType);
+    return new ScalarTypeJsonList.Varchar(docType, lazy);
   }
 
   /**
@@ -36,7 +44,11 @@ public class ScalarTypeJsonList {
    */
   public static class Varchar extends ScalarTypeJsonList.Base {
     public Varchar(DocPropertyType docType) {
-      super(Types.VARCHAR, docType);
+      this(docType, false);
+    }
+
+    Varchar(DocPropertyType docType, boolean lazy) {
+      super(Types.VARCHAR, docType, lazy);
     }
   }
 
@@ -44,8 +56,8 @@ public class ScalarTypeJsonList {
    * List mapped to Postgres JSON.
    */
   private static class Json extends ScalarTypeJsonList.PgBase {
-    public Json(DocPropertyType docType) {
-      super(DbPlatformType.JSON, PostgresHelper.JSON_TYPE, docType);
+    Json(DocPropertyType docType, boolean lazy) {
+      super(DbPlatformType.JSON, PostgresHelper.JSON_TYPE, docType, lazy);
     }
   }
 
@@ -53,8 +65,8 @@ public class ScalarTypeJsonList {
    * List mapped to Postgres JSONB.
    */
   private static class JsonB extends ScalarTypeJsonList.PgBase {
-    public JsonB(DocPropertyType docType) {
-      super(DbPlatformType.JSONB, PostgresHelper.JSONB_TYPE, docType);
+    JsonB(DocPropertyType docType, boolean lazy) {
+      super(DbPlatformType.JSONB, PostgresHelper.JSONB_TYPE, docType, lazy);
     }
   }
 
@@ -64,12 +76,21 @@ public class ScalarTypeJsonList {
   @SuppressWarnings("rawtypes")
   private abstract static class Base extends ScalarTypeJsonCollection<List> {
 
-    public Base(int dbType, DocPropertyType docType) {
+    /**
+     * When true the JSON content is parsed on first access.
+     */
+    final boolean lazy;
+
+    public Base(int dbType, DocPropertyType docType, boolean lazy) {
       super(List.class, dbType, docType);
+      this.lazy = lazy;
     }
 
     @Override
     public List read(DataReader dataReader) throws SQLException {
+      if (lazy) {
+        return LazyJson.parseList(dataReader.getString());
+      }
       try {
         // parse JSON into modifyAware list
         return EJson.parseList(dataReader.getString(), true);
@@ -81,8 +102,12 @@ public class ScalarTypeJsonList {
     @Override
     public void bind(DataBind b, List value) throws SQLException {
 
+      String rawJson = LazyJson.unparsedJson(value);
       if (value == null) {
         b.setNull(Types.VARCHAR);
+      } else if (rawJson != null) {
+        // not accessed so bind the raw JSON content as read
+        b.setString(rawJson);
       } else if (value.isEmpty()) {
         b.setString("[]");
       } else {
@@ -96,6 +121,10 @@ public class ScalarTypeJsonList {
 
     @Override
     public String formatValue(List value) {
+      String rawJson = LazyJson.unparsedJson(value);
+      if (rawJson != null) {
+        return rawJson;
+      }
       try {
         return EJson.write(value);
       } catch (IOException e) {
@@ -119,7 +148,12 @@ public class ScalarTypeJsonList {
 
     @Override
     public void jsonWrite(JsonGenerator writer, List value) throws IOException {
-      EJson.write(value, writer);
+      String rawJson = LazyJson.unparsedJson(value);
+      if (rawJson != null) {
+        writer.writeRawValue(rawJson);
+      } else {
+        EJson.write(value, writer);
+      }
     }
 
   }
@@ -131,8 +165,8 @@ public class ScalarTypeJsonList {
 
     final String pgType;
 
-    PgBase(int jdbcType, String pgType, DocPropertyType docType) {
-      super(jdbcType, docType);
+    PgBase(int jdbcType, String pgType, DocPropertyType docType, boolean lazy) {
+      super(jdbcType, docType, lazy);
       this.pgType = pgType;
     }
 
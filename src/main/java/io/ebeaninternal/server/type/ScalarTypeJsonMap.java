@@ -3,6 +3,7 @@ package io.ebeaninternal.server.type;
 import io.ebean.config.dbplatform.DbPlatformType;
 import io.ebean.text.TextException;
 import io.ebean.text.json.EJson;
+import io.ebeaninternal.json.LazyJson;
 import io.ebeaninternal.json.ModifyAwareOwner;
 import io.ebeaninternal.util.EncodeUtil;
 import io.ebeanservice.docstore.api.mapping.DocPropertyType;
@@ -31,11 +32,40 @@ public abstract class ScalarTypeJsonMap extends ScalarTypeBase<Map> {
   private static final ScalarTypeJsonMap JSON = new ScalarTypeJsonMapPostgres.JSON();
   private static final ScalarTypeJsonMap JSONB = new ScalarTypeJsonMapPostgres.JSONB();
 
+  private static final ScalarTypeJsonMap LAZY_CLOB = new ScalarTypeJsonMap.Clob(true);
+  private static final ScalarTypeJsonMap LAZY_BLOB = new ScalarTypeJsonMap.Blob(true);
+  private static final ScalarTypeJsonMap LAZY_VARCHAR = new ScalarTypeJsonMap.Varchar(true);
+  private static final ScalarTypeJsonMap LAZY_JSON = new ScalarTypeJsonMapPostgres.JSON(true);
+  private static final ScalarTypeJsonMap LAZY_JSONB = new ScalarTypeJsonMapPostgres.JSONB(true);
+
   /**
    * Return the ScalarType for the requested dbType and postgres.
    */
   public static ScalarTypeJsonMap typeFor(boolean postgres, int dbType) {
+    return typeFor(postgres, dbType, false);
+  }
 
+  /**
+   * Return the ScalarType for the requested dbType and postgres with lazy parsing of the JSON content.
+   */
+  public static ScalarTypeJsonMap typeFor(boolean postgres, int dbType, boolean lazy) {
+
+    if (lazy) {
+      switch (dbType) {
+        case Types.VARCHAR:
+          return LAZY_VARCHAR;
+        case Types.BLOB:
+          return LAZY_BLOB;
+        case Types.CLOB:
+          return LAZY_CLOB;
+        case DbPlatformType.JSONB:
+          return postgres ? LAZY_JSONB : LAZY_CLOB;
+        case DbPlatformType.JSON:
+          return postgres ? LAZY_JSON : LAZY_CLOB;
+        default:
+          throw new IllegalStateException("Unknown dbType " + dbType);
+      }
+    }
     switch (dbType) {
       case Types.VARCHAR:
         return VARCHAR;
@@ -55,7 +85,11 @@ public abstract class ScalarTypeJsonMap extends ScalarTypeBase<Map> {
   public static class Clob extends ScalarTypeJsonMap {
 
     public Clob() {
-      super(Types.CLOB);
+      this(false);
+    }
+
+    Clob(boolean lazy) {
+      super(Types.CLOB, lazy);
     }
 
     @Override
@@ -65,20 +99,28 @@ public abstract class ScalarTypeJsonMap extends ScalarTypeBase<Map> {
       if (content == null) {
         return null;
       }
-      return parse(content);
+      return readJson(content);
     }
   }
 
   public static class Varchar extends ScalarTypeJsonMap {
 
     public Varchar() {
-      super(Types.VARCHAR);
+      this(false);
+    }
+
+    Varchar(boolean lazy) {
+      super(Types.VARCHAR, lazy);
     }
   }
 
   public static class Blob extends ScalarTypeJsonMap {
     public Blob() {
-      super(Types.BLOB);
+      this(false);
+    }
+
+    Blob(boolean lazy) {
+      super(Types.BLOB, lazy);
     }
 
     @Override
@@ -90,7 +132,7 @@ public abstract class ScalarTypeJsonMap extends ScalarTypeBase<Map> {
       }
       try {
         try (InputStreamReader reader = new InputStreamReader(is)) {
-          return parse(reader);
+          return lazy ? LazyJson.parseObject(readContent(reader)) : parse(reader);
         }
       } catch (IOException e) {
         throw new SQLException("Error reading Blob stream from DB", e);
@@ -109,8 +151,38 @@ public abstract class ScalarTypeJsonMap extends ScalarTypeBase<Map> {
     }
   }
 
+  /**
+   * When true the JSON content is parsed on first access.
+   */
+  final boolean lazy;
+
   public ScalarTypeJsonMap(int jdbcType) {
+    this(jdbcType, false);
+  }
+
+  ScalarTypeJsonMap(int jdbcType, boolean lazy) {
     super(Map.class, false, jdbcType);
+    this.lazy = lazy;
+  }
+
+  /**
+   * Return the Map for the raw JSON content (parsed lazily or now).
+   */
+  Map readJson(String rawJson) {
+    return lazy ? LazyJson.parseObject(rawJson) : parse(rawJson);
+  }
+
+  /**
+   * Read all the content from the reader.
+   */
+  static String readContent(Reader reader) throws IOException {
+    StringBuilder sb = new StringBuilder(512);
+    char[] buffer = new char[512];
+    int len;
+    while ((len = reader.read(buffer)) != -1) {
+      sb.append(buffer, 0, len);
+    }
+    return sb.toString();
   }
 
   /**
@@ -136,7 +208,7 @@ public abstract class ScalarTypeJsonMap extends ScalarTypeBase<Map> {
     if (rawJson == null) {
       return null;
     }
-    return parse(rawJson);
+    return readJson(rawJson);
   }
 
   @Override
@@ -162,6 +234,11 @@ public abstract class ScalarTypeJsonMap extends ScalarTypeBase<Map> {
 
   @Override
   public String formatValue(Map v) {
+    String rawJson = LazyJson.unparsedJson(v);
+    if (rawJson != null) {
+      // not accessed so write back the raw JSON content as read
+      return rawJson;
+    }
     try {
       return EJson.write(v);
     } catch (IOException e) {
@@ -218,7 +295,12 @@ public abstract class ScalarTypeJsonMap extends ScalarTypeBase<Map> {
 
   @Override
   public void jsonWrite(JsonGenerator writer, Map value) throws IOException {
-    EJson.write(value, writer);
+    String rawJson = LazyJson.unparsedJson(value);
+    if (rawJson != null) {
+      writer.writeRawValue(rawJson);
+    } else {
+      EJson.write(value, writer);
+    }
   }
 
   @Override
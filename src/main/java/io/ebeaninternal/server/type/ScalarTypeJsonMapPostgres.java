@@ -12,8 +12,8 @@ public abstract class ScalarTypeJsonMapPostgres extends ScalarTypeJsonMap {
 
   final String postgresType;
 
-  ScalarTypeJsonMapPostgres(int jdbcType, String postgresType) {
-    super(jdbcType);
+  ScalarTypeJsonMapPostgres(int jdbcType, String postgresType, boolean lazy) {
+    super(jdbcType, lazy);
     this.postgresType = postgresType;
   }
 
@@ -31,7 +31,11 @@ public abstract class ScalarTypeJsonMapPostgres extends ScalarTypeJsonMap {
   public static class JSON extends ScalarTypeJsonMapPostgres {
 
     public JSON() {
-      super(DbPlatformType.JSON, PostgresHelper.JSON_TYPE);
+      this(false);
+    }
+
+    JSON(boolean lazy) {
+      super(DbPlatformType.JSON, PostgresHelper.JSON_TYPE, lazy);
     }
   }
 
@@ -41,7 +45,11 @@ public abstract class ScalarTypeJsonMapPostgres extends ScalarTypeJsonMap {
   public static class JSONB extends ScalarTypeJsonMapPostgres {
 
     public JSONB() {
-      super(DbPlatformType.JSONB, PostgresHelper.JSONB_TYPE);
+      this(false);
+    }
+
+    JSONB(boolean lazy) {
+      super(DbPlatformType.JSONB, PostgresHelper.JSONB_TYPE, lazy);
     }
   }
 }
@@ -1,6 +1,7 @@
 package io.ebeaninternal.server.type;
 
 import io.ebean.config.dbplatform.DbPlatformType;
+import io.ebeaninternal.json.LazyJson;
 import io.ebeaninternal.json.ModifyAwareList;
 import io.ebeaninternal.json.ModifyAwareMap;
 import io.ebeaninternal.json.ModifyAwareOwner;
@@ -33,16 +34,27 @@ public class ScalarTypeJsonObjectMapper {
    */
   public static ScalarType<?> createTypeFor(boolean postgres, Class<?> type, ObjectMapper objectMapper,
                                             Type genericType, int dbType, DocPropertyType docType) {
+    return createTypeFor(postgres, type, objectMapper, genericType, dbType, docType, false);
+  }
+
+  /**
+   * Create and return the appropriate ScalarType with optional lazy parsing of Set, List and Map values.
+   * <p>
+   * Other types are always parsed when read (as they can not be wrapped).
+   * </p>
+   */
+  public static ScalarType<?> createTypeFor(boolean postgres, Class<?> type, ObjectMapper objectMapper,
+                                            Type genericType, int dbType, DocPropertyType docType, boolean lazy) {
 
     String pgType = getPostgresType(postgres, dbType);
     if (Set.class.equals(type)) {
-      return new OmSet(objectMapper, genericType, dbType, pgType, docType);
+      return new OmSet(objectMapper, genericType, dbType, pgType, docType, lazy);
     }
     if (List.class.equals(type)) {
-      return new OmList(objectMapper, genericType, dbType, pgType, docType);
+      return new OmList(objectMapper, genericType, dbType, pgType, docType, lazy);
     }
     if (Map.class.equals(type)) {
-      return new OmMap(objectMapper, genericType, dbType, pgType);
+      return new OmMap(objectMapper, genericType, dbType, pgType, lazy);
     }
     return new GenericObject(objectMapper, genericType, dbType, pgType);
   }
@@ -65,7 +77,7 @@ public class ScalarTypeJsonObjectMapper {
   private static class GenericObject extends Base<Object> {
 
     public GenericObject(ObjectMapper objectMapper, Type type, int dbType, String pgType) {
-      super(Object.class, objectMapper, type, dbType, pgType, DocPropertyType.OBJECT);
+      super(Object.class, objectMapper, type, dbType, pgType, DocPropertyType.OBJECT, false);
     }
   }
 
@@ -75,13 +87,17 @@ public class ScalarTypeJsonObjectMapper {
   @SuppressWarnings("rawtypes")
   private static class OmSet extends Base<Set> {
 
-    public OmSet(ObjectMapper objectMapper, Type type, int dbType, String pgType, DocPropertyType docType) {
-      super(Set.class, objectMapper, type, dbType, pgType, docType);
+    public OmSet(ObjectMapper objectMapper, Type type, int dbType, String pgType, DocPropertyType docType, boolean lazy) {
+      super(Set.class, objectMapper, type, dbType, pgType, docType, lazy);
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public Set read(DataReader reader) throws SQLException {
+      if (lazy) {
+        String json = readJson(reader);
+        return json == null ? null : LazyJson.set(json, (rawJson, owner) -> readValue(rawJson));
+      }
       Set value = super.read(reader);
       return value == null ? null : new ModifyAwareSet(value);
     }
@@ -93,13 +109,17 @@ public class ScalarTypeJsonObjectMapper {
   @SuppressWarnings("rawtypes")
   private static class OmList extends Base<List> {
 
-    public OmList(ObjectMapper objectMapper, Type type, int dbType, String pgType, DocPropertyType docType) {
-      super(List.class, objectMapper, type, dbType, pgType, docType);
+    public OmList(ObjectMapper objectMapper, Type type, int dbType, String pgType, DocPropertyType docType, boolean lazy) {
+      super(List.class, objectMapper, type, dbType, pgType, docType, lazy);
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public List read(DataReader reader) throws SQLException {
+      if (lazy) {
+        String json = readJson(reader);
+        return json == null ? null : LazyJson.list(json, (rawJson, owner) -> readValue(rawJson));
+      }
       List value = super.read(reader);
       return value == null ? null : new ModifyAwareList(value);
     }
@@ -111,13 +131,17 @@ public class ScalarTypeJsonObjectMapper {
   @SuppressWarnings("rawtypes")
   private static class OmMap extends Base<Map> {
 
-    public OmMap(ObjectMapper objectMapper, Type type, int dbType, String pgType) {
-      super(Map.class, objectMapper, type, dbType, pgType, DocPropertyType.OBJECT);
+    public OmMap(ObjectMapper objectMapper, Type type, int dbType, String pgType, boolean lazy) {
+      super(Map.class, objectMapper, type, dbType, pgType, DocPropertyType.OBJECT, lazy);
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public Map read(DataReader reader) throws SQLException {
+      if (lazy) {
+        String json = readJson(reader);
+        return json == null ? null : LazyJson.map(json, (rawJson, owner) -> readValue(rawJson));
+      }
       Map value = super.read(reader);
       return value == null ? null : new ModifyAwareMap(value);
     }
@@ -137,11 +161,17 @@ public class ScalarTypeJsonObjectMapper {
 
     private final DocPropertyType docType;
 
+    /**
+     * When true the JSON content is parsed on first access.
+     */
+    final boolean lazy;
+
     /**
      * Construct given the object mapper, property type and DB type for storage.
      */
-    public Base(Class<T> cls, ObjectMapper objectMapper, Type type, int dbType, String pgType, DocPropertyType docType) {
+    public Base(Class<T> cls, ObjectMapper objectMapper, Type type, int dbType, String pgType, DocPropertyType docType, boolean lazy) {
       super(cls, false, dbType);
+      this.lazy = lazy;
       this.pgType = pgType;
       this.docType = docType;
       this.objectMapper = objectMapper;
@@ -166,17 +196,32 @@ public class ScalarTypeJsonObjectMapper {
 
     @Override
     public T read(DataReader reader) throws SQLException {
-      String json = reader.getString();
-      if (json == null || json.isEmpty()) {
+      String json = readJson(reader);
+      if (json == null) {
         return null;
       }
       try {
-        return objectMapper.readValue(json, javaType);
+        return readValue(json);
       } catch (IOException e) {
         throw new SQLException("Unable to convert JSON", e);
       }
     }
 
+    /**
+     * Return the raw JSON content read (null for null or empty content).
+     */
+    String readJson(DataReader reader) throws SQLException {
+      String json = reader.getString();
+      return (json == null || json.isEmpty()) ? null : json;
+    }
+
+    /**
+     * Parse the JSON content using the ObjectMapper.
+     */
+    <V> V readValue(String json) throws IOException {
+      return objectMapper.readValue(json, javaType);
+    }
+
     @Override
     public void bind(DataBind bind, T value) throws SQLException {
       if (pgType != null) {
@@ -186,11 +231,16 @@ public class ScalarTypeJsonObjectMapper {
         if (value == null) {
           bind.setNull(Types.VARCHAR); // use varchar, otherwise SqlServer/db2 will fail with 'Invalid JDBC data type 5.001.'
         } else {
-          try {
-            String json = objectMapper.writeValueAsString(value);
-            bind.setString(json);
-          } catch (JsonProcessingException e) {
-            throw new SQLException("Unable to create JSON", e);
+          String rawJson = LazyJson.unparsedJson(value);
+          if (rawJson != null) {
+            // not accessed so bind the raw JSON content as read
+            bind.setString(rawJson);
+          } else {
+            try {
+              bind.setString(objectMapper.writeValueAsString(value));
+            } catch (JsonProcessingException e) {
+              throw new SQLException("Unable to create JSON", e);
+            }
           }
         }
       }
@@ -211,6 +261,10 @@ public class ScalarTypeJsonObjectMapper {
 
     @Override
     public String formatValue(T value) {
+      String rawJson = LazyJson.unparsedJson(value);
+      if (rawJson != null) {
+        return rawJson;
+      }
       try {
         return objectMapper.writeValueAsString(value);
       } catch (JsonProcessingException e) {
@@ -249,7 +303,12 @@ public class ScalarTypeJsonObjectMapper {
 
     @Override
     public void jsonWrite(JsonGenerator writer, T value) throws IOException {
-      objectMapper.writeValue(writer, value);
+      String rawJson = LazyJson.unparsedJson(value);
+      if (rawJson != null) {
+        writer.writeRawValue(rawJson);
+      } else {
+        objectMapper.writeValue(writer, value);
+      }
     }
 
     @Override
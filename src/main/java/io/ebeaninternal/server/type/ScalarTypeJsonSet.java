@@ -2,6 +2,7 @@ package io.ebeaninternal.server.type;
 
 import io.ebean.config.dbplatform.DbPlatformType;
 import io.ebean.text.json.EJson;
+import io.ebeaninternal.json.LazyJson;
 import io.ebeanservice.docstore.api.mapping.DocPropertyType;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
@@ -23,15 +24,22 @@ public class ScalarTypeJsonSet {
    * Return the appropriate ScalarType for the requested dbType and Postgres.
    */
   public static ScalarType<?> typeFor(boolean postgres, int dbType, DocPropertyType docPropertyType) {
+    return typeFor(postgres, dbType, docPropertyType, false);
+  }
+
+  /**
+   * Return the appropriate ScalarType with optional lazy parsing of the JSON content.
+   */
+  public static ScalarType<?> typeFor(boolean postgres, int dbType, DocPropertyType docPropertyType, boolean lazy) {
     if (postgres) {
       switch (dbType) {
         case DbPlatformType.JSONB:
-          return new ScalarTypeJsonSet.JsonB(docPropertyType);
+          return new ScalarTypeJsonSet.JsonB(docPropertyType, lazy);
         case DbPlatformType.JSON:
-          return new ScalarTypeJsonSet.Json(docPropertyType);
+          return new ScalarTypeJsonSet.Json(docPropertyType, lazy);
       }
     }
-    return new ScalarTypeJsonSet.Varchar(docPropertyType);
+    return new ScalarTypeJsonSet.Varchar(docPropertyType, lazy);
   }
 
   /**
@@ -39,7 +47,11 @@ public class ScalarTypeJsonSet {
    */
   public static class Varchar extends ScalarTypeJsonSet.Base {
     public Varchar(DocPropertyType docPropertyType) {
-      super(Types.VARCHAR, docPropertyType);
+      this(docPropertyType, false);
+    }
+
+    Varchar(DocPropertyType docPropertyType, boolean lazy) {
+      super(Types.VARCHAR, docPropertyType, lazy);
     }
   }
 
@@ -47,8 +59,8 @@ public class ScalarTypeJsonSet {
    * List mapped to Postgres JSON.
    */
   private static class Json extends ScalarTypeJsonSet.PgBase {
-    public Json(DocPropertyType docPropertyType) {
-      super(DbPlatformType.JSON, PostgresHelper.JSON_TYPE, docPropertyType);
+    Json(DocPropertyType docPropertyType, boolean lazy) {
+      super(DbPlatformType.JSON, PostgresHelper.JSON_TYPE, docPropertyType, lazy);
     }
   }
 
@@ -56,8 +68,8 @@ public class ScalarTypeJsonSet {
    * List mapped to Postgres JSONB.
    */
   private static class JsonB extends ScalarTypeJsonSet.PgBase {
-    public JsonB(DocPropertyType docPropertyType) {
-      super(DbPlatformType.JSONB, PostgresHelper.JSONB_TYPE, docPropertyType);
+    JsonB(DocPropertyType docPropertyType, boolean lazy) {
+      super(DbPlatformType.JSONB, PostgresHelper.JSONB_TYPE, docPropertyType, lazy);
     }
   }
 
@@ -67,12 +79,21 @@ public class ScalarTypeJsonSet {
   @SuppressWarnings("rawtypes")
   private abstract static class Base extends ScalarTypeJsonCollection<Set> {
 
-    public Base(int dbType, DocPropertyType docPropertyType) {
+    /**
+     * When true the JSON content is parsed on first access.
+     */
+    final boolean lazy;
+
+    public Base(int dbType, DocPropertyType docPropertyType, boolean lazy) {
       super(Set.class, dbType, docPropertyType);
+      this.lazy = lazy;
     }
 
     @Override
     public Set read(DataReader dataReader) throws SQLException {
+      if (lazy) {
+        return LazyJson.parseSet(dataReader.getString());
+      }
       try {
         // parse JSON into modifyAware list
         return EJson.parseSet(dataReader.getString(), true);
@@ -84,8 +105,12 @@ public class ScalarTypeJsonSet {
     @Override
     public void bind(DataBind b, Set value) throws SQLException {
 
+      String rawJson = LazyJson.unparsedJson(value);
       if (value == null) {
         b.setNull(Types.VARCHAR);
+      } else if (rawJson != null) {
+        // not accessed so bind the raw JSON content as read
+        b.setString(rawJson);
       } else if (value.isEmpty()) {
         b.setString("[]");
       } else {
@@ -99,6 +124,10 @@ public class ScalarTypeJsonSet {
 
     @Override
     public String formatValue(Set value) {
+      String rawJson = LazyJson.unparsedJson(value);
+      if (rawJson != null) {
+        return rawJson;
+      }
       try {
         return EJson.write(value);
       } catch (IOException e) {
@@ -122,7 +151,12 @@ public class ScalarTypeJsonSet {
 
     @Override
     public void jsonWrite(JsonGenerator writer, Set value) throws IOException {
-      EJson.write(value, writer);
+      String rawJson = LazyJson.unparsedJson(value);
+      if (rawJson != null) {
+        writer.writeRawValue(rawJson);
+      } else {
+        EJson.write(value, writer);
+      }
     }
 
     @SuppressWarnings("unchecked")
@@ -138,8 +172,8 @@ public class ScalarTypeJsonSet {
 
     final String pgType;
 
-    PgBase(int jdbcType, String pgType, DocPropertyType docPropertyType) {
-      super(jdbcType, docPropertyType);
+    PgBase(int jdbcType, String pgType, DocPropertyType docPropertyType, boolean lazy) {
+      super(jdbcType, docPropertyType, lazy);
       this.pgType = pgType;
     }
 
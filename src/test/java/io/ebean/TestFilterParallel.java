@@ -0,0 +1,149 @@
+package io.ebean;
+
+import io.ebeaninternal.server.deploy.BeanDescriptor;
+import org.junit.Test;
+import org.tests.model.basic.Customer;
+import org.tests.model.basic.Order;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestFilterParallel extends BaseTestCase {
+
+  private List<Order> orders(int count) {
+
+    List<Customer> customers = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      Customer customer = new Customer();
+      customer.setId(i);
+      // some customers without a name (nulls sort high)
+      customer.setName(i % 10 == 0 ? null : "cust" + (i % 17));
+      customers.add(customer);
+    }
+
+    List<Order> orders = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      Order order = new Order();
+      order.setId(i);
+      order.setStatus(Order.Status.values()[i % Order.Status.values().length]);
+      order.setCustomer(customers.get((i * 7) % customers.size()));
+      orders.add(order);
+    }
+    return orders;
+  }
+
+  private List<Integer> ids(List<Order> orders) {
+    List<Integer> ids = new ArrayList<>(orders.size());
+    for (Order order : orders) {
+      ids.add(order.getId());
+    }
+    return ids;
+  }
+
+  @Test
+  public void sort_expect_stable() {
+
+    List<Order> orders = orders(200);
+    List<Order> expected = new ArrayList<>(orders);
+    expected.sort((o1, o2) -> o1.getStatus().compareTo(o2.getStatus()));
+
+    Ebean.sort(orders, "status");
+    assertThat(ids(orders)).isEqualTo(ids(expected));
+  }
+
+  @Test
+  public void sort_compound() {
+
+    List<Order> orders = orders(200);
+    Ebean.sort(orders, "customer.name desc, id");
+    assertThat(orders.get(0).getCustomer().getName()).isNull();
+
+    for (int i = 1; i < orders.size(); i++) {
+      String name0 = orders.get(i - 1).getCustomer().getName();
+      String name1 = orders.get(i).getCustomer().getName();
+      if (name1 == null) {
+        // nulls high with desc means all the nulls come first
+        assertThat(name0).isNull();
+      } else if (name0 != null) {
+        assertThat(name0.compareTo(name1)).isGreaterThanOrEqualTo(0);
+        if (name0.equals(name1)) {
+          assertThat(orders.get(i - 1).getId()).isLessThan(orders.get(i).getId());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void filter_parallel_expect_sameAsSequential() {
+
+    List<Order> orders = orders(5000);
+
+    List<Order> sequential = Ebean.filter(Order.class)
+      .sort("customer.name, id desc")
+      .eq("status", Order.Status.NEW)
+      .isNotNull("customer.name")
+      .filter(orders);
+
+    List<Order> parallel = Ebean.filter(Order.class)
+      .sort("customer.name, id desc")
+      .eq("status", Order.Status.NEW)
+      .isNotNull("customer.name")
+      .parallel()
+      .filter(orders);
+
+    assertThat(sequential).isNotEmpty();
+    assertThat(ids(parallel)).isEqualTo(ids(sequential));
+  }
+
+  @Test
+  public void filter_parallel_maxRows() {
+
+    List<Order> orders = orders(5000);
+
+    Filter<Order> filter = Ebean.filter(Order.class)
+      .sort("id desc")
+      .ne("status", Order.Status.NEW)
+      .maxRows(10)
+      .parallel();
+
+    List<Order> result = filter.filter(orders);
+    assertThat(result).hasSize(10);
+    assertThat(result.get(0).getId()).isEqualTo(4999);
+
+    // the filter can be reused
+    assertThat(ids(filter.filter(orders))).isEqualTo(ids(result));
+  }
+
+  @Test
+  public void filter_sameExpression_expect_planCompiledOnceAndValuesBound() {
+
+    List<Order> orders = orders(200);
+
+    List<Order> newOrders = Ebean.filter(Order.class)
+      .eq("status", Order.Status.NEW)
+      .gt("customer.id", 10)
+      .filter(orders);
+
+    List<Order> shippedOrders = Ebean.filter(Order.class)
+      .eq("status", Order.Status.SHIPPED)
+      .gt("customer.id", 10)
+      .filter(orders);
+
+    assertThat(newOrders).isNotEmpty();
+    for (Order order : newOrders) {
+      assertThat(order.getStatus()).isEqualTo(Order.Status.NEW);
+      assertThat(order.getCustomer().getId()).isGreaterThan(10);
+    }
+    assertThat(shippedOrders).isNotEmpty();
+    for (Order order : shippedOrders) {
+      assertThat(order.getStatus()).isEqualTo(Order.Status.SHIPPED);
+      assertThat(order.getCustomer().getId()).isGreaterThan(10);
+    }
+
+    // the compiled plan is cached on the descriptor by the operators and property paths
+    BeanDescriptor<Order> descriptor = spiEbeanServer().getBeanDescriptor(Order.class);
+    assertThat(descriptor.getElFilterPlan("EQ:status,GT:customer.id,", key -> null)).isNotNull();
+  }
+}
@@ -0,0 +1,189 @@
+package io.ebean.config.dbplatform;
+
+import io.ebean.BackgroundExecutor;
+import io.ebean.Transaction;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SequenceIdGeneratorTest {
+
+  /**
+   * Runs background tasks on the calling thread.
+   */
+  static class CallerRunsExecutor implements BackgroundExecutor {
+
+    @Override
+    public void execute(Runnable r) {
+      r.run();
+    }
+
+    @Override
+    public void executePeriodically(Runnable r, long delay, TimeUnit unit) {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  /**
+   * Generator with a simulated sequence.
+   */
+  static class TestGenerator extends SequenceIdGenerator {
+
+    final AtomicLong sequence = new AtomicLong();
+
+    final AtomicInteger queryCount = new AtomicInteger();
+
+    final List<Integer> loadSizes = new ArrayList<>();
+
+    TestGenerator(BackgroundExecutor be, int batchSize) {
+      super(be, null, "test_seq", batchSize);
+    }
+
+    @Override
+    public String getSql(int batchSize) {
+      return null;
+    }
+
+    @Override
+    protected ArrayList<Long> getMoreIds(int loadSize, Transaction t) {
+      // the sequence query is never executed holding the monitor
+      assertThat(Thread.holdsLock(monitor)).isFalse();
+      queryCount.incrementAndGet();
+      synchronized (loadSizes) {
+        loadSizes.add(loadSize);
+      }
+      ArrayList<Long> ids = new ArrayList<>(loadSize);
+      for (int i = 0; i < loadSize; i++) {
+        ids.add(sequence.incrementAndGet());
+      }
+      return ids;
+    }
+  }
+
+  @Test
+  public void nextId_inOrder_withBackgroundLoad() {
+
+    TestGenerator gen = new TestGenerator(new CallerRunsExecutor(), 20);
+    for (long i = 1; i <= 100; i++) {
+      assertThat(gen.nextId(null)).isEqualTo(i);
+    }
+    // 1 synchronous load followed by background loads at half way (next block ready ahead)
+    assertThat(gen.loadSizes).containsOnly(20);
+    assertThat(gen.queryCount.get()).isEqualTo(6);
+  }
+
+  @Test
+  public void nextId_batchSizeOne() {
+
+    TestGenerator gen = new TestGenerator(new CallerRunsExecutor(), 1);
+    for (long i = 1; i <= 10; i++) {
+      assertThat(gen.nextId(null)).isEqualTo(i);
+    }
+    assertThat(gen.queryCount.get()).isEqualTo(10);
+  }
+
+  @Test
+  public void nextId_idListAddedBySubclass_usedFirst() {
+
+    TestGenerator gen = new TestGenerator(new CallerRunsExecutor(), 20);
+    synchronized (gen.monitor) {
+      gen.idList.add(1000L);
+      gen.idList.add(1001L);
+    }
+    assertThat(gen.nextId(null)).isEqualTo(1000L);
+    assertThat(gen.nextId(null)).isEqualTo(1001L);
+    assertThat(gen.nextId(null)).isEqualTo(1L);
+  }
+
+  @Test
+  public void loadMoreIds_addsReady() {
+
+    TestGenerator gen = new TestGenerator(new CallerRunsExecutor(), 20);
+    gen.loadMoreIds(5, null);
+    for (long i = 1; i <= 5; i++) {
+      assertThat(gen.nextId(null)).isEqualTo(i);
+    }
+    // half way through the loaded block loads the next batch
+    assertThat(gen.loadSizes).containsExactly(5, 20);
+  }
+
+  @Test
+  public void preAllocateIds_notCapped() {
+
+    TestGenerator gen = new TestGenerator(new CallerRunsExecutor(), 20);
+    gen.preAllocateIds(2500);
+    assertThat(gen.loadSizes).containsExactly(1000, 1000, 500);
+
+    for (long i = 1; i <= 2500; i++) {
+      assertThat(gen.nextId(null)).isEqualTo(i);
+    }
+    // half way through the last block loads the next block
+    assertThat(gen.loadSizes).containsExactly(1000, 1000, 500, 20);
+
+    // only loads the shortfall given the 20 ready
+    gen.preAllocateIds(21);
+    assertThat(gen.loadSizes).containsExactly(1000, 1000, 500, 20, 1);
+  }
+
+  @Test
+  public void preAllocateIds_takesIntoAccountReady() {
+
+    TestGenerator gen = new TestGenerator(new CallerRunsExecutor(), 20);
+    gen.preAllocateIds(500);
+    gen.preAllocateIds(500);
+    assertThat(gen.loadSizes).containsExactly(500);
+  }
+
+  @Test
+  public void nextId_concurrent_unique() throws Exception {
+
+    ExecutorService background = Executors.newSingleThreadExecutor();
+    ExecutorService pool = Executors.newFixedThreadPool(8);
+    try {
+      TestGenerator gen = new TestGenerator(new BackgroundExecutor() {
+        @Override
+        public void execute(Runnable r) {
+          background.execute(r);
+        }
+
+        @Override
+        public void executePeriodically(Runnable r, long delay, TimeUnit unit) {
+          throw new UnsupportedOperationException();
+        }
+      }, 50);
+      Set<Object> allIds = ConcurrentHashMap.newKeySet();
+
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < 8; t++) {
+        futures.add(pool.submit(() -> {
+          for (int i = 0; i < 5000; i++) {
+            allIds.add(gen.nextId(null));
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+
+      assertThat(allIds).hasSize(40000);
+      Set<Integer> sizes = new HashSet<>(gen.loadSizes);
+      assertThat(sizes).containsOnly(50);
+
+    } finally {
+      pool.shutdown();
+      background.shutdown();
+    }
+  }
+}
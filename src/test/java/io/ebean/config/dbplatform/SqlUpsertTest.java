@@ -0,0 +1,122 @@
+package io.ebean.config.dbplatform;
+
+import io.ebean.config.dbplatform.h2.H2Platform;
+import io.ebean.config.dbplatform.mysql.MySqlPlatform;
+import io.ebean.config.dbplatform.oracle.OraclePlatform;
+import io.ebean.config.dbplatform.postgres.Postgres8Platform;
+import io.ebean.config.dbplatform.postgres.PostgresPlatform;
+import io.ebean.config.dbplatform.sqlite.SQLitePlatform;
+import io.ebean.config.dbplatform.sqlserver.SqlServerPlatform;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqlUpsertTest {
+
+  private final List<String> keys = Collections.singletonList("id");
+  private final List<String> columns = Arrays.asList("id", "name", "when_created");
+  private final List<String> binds = Arrays.asList("?", "?", "?");
+  private final List<String> updates = Collections.singletonList("name");
+
+  private final List<String> versionColumns = Arrays.asList("id", "name", "version");
+
+  private String upsert(DatabasePlatform platform) {
+    return platform.getSqlUpsert().upsert("o_customer", keys, columns, binds, updates, null);
+  }
+
+  @Test
+  public void postgres() {
+
+    assertThat(upsert(new PostgresPlatform())).isEqualTo("insert into o_customer (id, name, when_created) values (?,?,?)"
+      + " on conflict (id) do update set name = excluded.name");
+  }
+
+  @Test
+  public void postgres_when_noUpdateColumns() {
+
+    String sql = new PostgresPlatform().getSqlUpsert().upsert("t", keys, keys, Collections.singletonList("?"), Collections.emptyList(), null);
+    assertThat(sql).isEqualTo("insert into t (id) values (?) on conflict (id) do nothing");
+  }
+
+  @Test
+  public void mysql() {
+
+    assertThat(upsert(new MySqlPlatform())).isEqualTo("insert into o_customer (id, name, when_created) values (?,?,?)"
+      + " on duplicate key update name = values(name)");
+  }
+
+  @Test
+  public void h2() {
+
+    assertThat(upsert(new H2Platform())).isEqualTo("merge into o_customer (id, name, when_created) key (id) values (?,?,?)");
+  }
+
+  @Test
+  public void sqlServer() {
+
+    assertThat(upsert(new SqlServerPlatform())).isEqualTo("merge into o_customer t using (values (?,?,?)) s (id,name,when_created)"
+      + " on (t.id = s.id) when matched then update set name = s.name"
+      + " when not matched then insert (id,name,when_created) values (s.id,s.name,s.when_created);");
+  }
+
+  @Test
+  public void oracle() {
+
+    assertThat(upsert(new OraclePlatform())).isEqualTo("merge into o_customer t using (select ? id, ? name, ? when_created from dual) s"
+      + " on (t.id = s.id) when matched then update set name = s.name"
+      + " when not matched then insert (id,name,when_created) values (s.id,s.name,s.when_created)");
+  }
+
+  @Test
+  public void merge_when_concatenatedKey() {
+
+    String sql = new MergeUpsert().upsert("t", Arrays.asList("a", "b"), Arrays.asList("a", "b", "c"), binds, Collections.singletonList("c"), null);
+    assertThat(sql).isEqualTo("merge into t t using (values (?,?,?)) s (a,b,c) on (t.a = s.a and t.b = s.b)"
+      + " when matched then update set c = s.c when not matched then insert (a,b,c) values (s.a,s.b,s.c)");
+  }
+
+  private String upsertVersion(DatabasePlatform platform) {
+    return platform.getSqlUpsert().upsert("o_customer", keys, versionColumns, binds, updates, "version");
+  }
+
+  @Test
+  public void postgres_version_expect_increment() {
+
+    assertThat(upsertVersion(new PostgresPlatform())).isEqualTo("insert into o_customer as t (id, name, version) values (?,?,?)"
+      + " on conflict (id) do update set name = excluded.name, version = t.version + 1");
+  }
+
+  @Test
+  public void mysql_version_expect_increment() {
+
+    assertThat(upsertVersion(new MySqlPlatform())).isEqualTo("insert into o_customer (id, name, version) values (?,?,?)"
+      + " on duplicate key update name = values(name), version = version + 1");
+  }
+
+  @Test
+  public void h2_version_expect_increment() {
+
+    assertThat(upsertVersion(new H2Platform())).isEqualTo("merge into o_customer (id, name, version) key (id)"
+      + " select s.c1, s.c2, case when t.id is null then s.c3 else t.version + 1 end"
+      + " from (select * from (values (?,?,?))) s left join o_customer t on t.id = s.c1");
+  }
+
+  @Test
+  public void sqlServer_version_expect_increment() {
+
+    assertThat(upsertVersion(new SqlServerPlatform())).isEqualTo("merge into o_customer t using (values (?,?,?)) s (id,name,version)"
+      + " on (t.id = s.id) when matched then update set name = s.name, version = t.version + 1"
+      + " when not matched then insert (id,name,version) values (s.id,s.name,s.version);");
+  }
+
+  @Test
+  public void notSupported() {
+
+    assertThat(new Postgres8Platform().getSqlUpsert()).isNull();
+    assertThat(new SQLitePlatform().getSqlUpsert()).isNull();
+  }
+}
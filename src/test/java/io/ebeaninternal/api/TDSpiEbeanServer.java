@@ -1,5 +1,6 @@
 package io.ebeaninternal.api;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.ebean.*;
 import io.ebean.annotation.TxIsolation;
 import io.ebean.bean.BeanCollection;
@@ -18,6 +19,7 @@ import io.ebean.text.json.JsonContext;
 import io.ebeaninternal.dbmigration.ddlgeneration.DdlHandler;
 import io.ebeaninternal.server.core.timezone.DataTimeZone;
 import io.ebeaninternal.server.deploy.BeanDescriptor;
+import io.ebeaninternal.server.persist.BulkInsert;
 import io.ebeaninternal.server.query.CQuery;
 import io.ebeaninternal.server.transaction.RemoteTransactionEvent;
 
@@ -32,6 +34,7 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 
 /**
@@ -103,6 +106,16 @@ public class TDSpiEbeanServer implements SpiEbeanServer {
     return null;
   }
 
+  @Override
+  public boolean isCacheMissCoalescing(SpiQuery<?> query) {
+    return false;
+  }
+
+  @Override
+  public BulkInsert createBulkInsert(Class<?> beanType, Transaction transaction) {
+    return null;
+  }
+
   @Override
   public DocumentStore docStore() {
     return null;
@@ -173,6 +186,11 @@ public class TDSpiEbeanServer implements SpiEbeanServer {
     return null;
   }
 
+  @Override
+  public SpiTransaction createReadOnlyTransaction(Object tenantId) {
+    return null;
+  }
+
   @Override
   public void remoteTransactionEvent(RemoteTransactionEvent event) {
 
@@ -498,6 +516,21 @@ public class TDSpiEbeanServer implements SpiEbeanServer {
     return null;
   }
 
+  @Override
+  public <T> Stream<T> findStream(Query<T> query, Transaction transaction) {
+    return null;
+  }
+
+  @Override
+  public <T> Stream<T> findLargeStream(Query<T> query, Transaction transaction) {
+    return null;
+  }
+
+  @Override
+  public <T> void findJson(Query<T> query, JsonGenerator generator, Transaction transaction) {
+
+  }
+
   @Override
   public <T> void findEach(Query<T> query, Consumer<T> consumer, Transaction transaction) {
 
@@ -571,6 +604,16 @@ public class TDSpiEbeanServer implements SpiEbeanServer {
   public void findEachWhile(SqlQuery query, Predicate<SqlRow> consumer, Transaction transaction) {
   }
 
+  @Override
+  public Stream<SqlRow> findStream(SqlQuery query, Transaction transaction) {
+    return null;
+  }
+
+  @Override
+  public Stream<SqlRow> findLargeStream(SqlQuery query, Transaction transaction) {
+    return null;
+  }
+
   @Override
   public SqlRow findOne(SqlQuery query, Transaction transaction) {
     return null;
@@ -806,6 +849,36 @@ public class TDSpiEbeanServer implements SpiEbeanServer {
 
   }
 
+  @Override
+  public void upsert(Object bean) {
+
+  }
+
+  @Override
+  public void upsert(Object bean, Transaction transaction) {
+
+  }
+
+  @Override
+  public void upsertAll(Collection<?> beans) {
+
+  }
+
+  @Override
+  public void upsertAll(Collection<?> beans, Transaction transaction) {
+
+  }
+
+  @Override
+  public int bulkInsert(Collection<?> beans) {
+    return 0;
+  }
+
+  @Override
+  public int bulkInsert(Collection<?> beans, Transaction transaction) {
+    return 0;
+  }
+
   @Override
   public void slowQueryCheck(long executionTimeMicros, int rowCount, SpiQuery<?> query) {
 
@@ -0,0 +1,146 @@
+package io.ebeaninternal.json;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LazyJsonTest {
+
+  @Test
+  public void parseObject_expect_unparsedUntilAccessed() {
+
+    Map<String, Object> map = LazyJson.parseObject("{\"a\":1,\"b\":\"two\"}");
+    assertThat(LazyJson.unparsedJson(map)).isEqualTo("{\"a\":1,\"b\":\"two\"}");
+    assertThat(((ModifyAwareOwner) map).isMarkedDirty()).isFalse();
+
+    assertThat(map.get("b")).isEqualTo("two");
+    assertThat(map).hasSize(2);
+    assertThat(LazyJson.unparsedJson(map)).isNull();
+    assertThat(((ModifyAwareOwner) map).isMarkedDirty()).isFalse();
+  }
+
+  @Test
+  public void parseObject_when_modified_expect_dirty() {
+
+    Map<String, Object> map = LazyJson.parseObject("{\"a\":1}");
+    map.put("c", 3);
+
+    assertThat(((ModifyAwareOwner) map).isMarkedDirty()).isTrue();
+    assertThat(map).containsKeys("a", "c");
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void parseObject_when_nestedModified_expect_dirty() {
+
+    Map<String, Object> map = LazyJson.parseObject("{\"a\":{\"b\":[1,2]}}");
+    Map<String, Object> nested = (Map<String, Object>) map.get("a");
+    assertThat(((ModifyAwareOwner) map).isMarkedDirty()).isFalse();
+
+    ((List<Object>) nested.get("b")).add(3);
+    assertThat(((ModifyAwareOwner) map).isMarkedDirty()).isTrue();
+  }
+
+  @Test
+  public void parseList() {
+
+    List<Object> list = LazyJson.parseList("[\"a\",\"b\"]");
+    assertThat(LazyJson.unparsedJson(list)).isEqualTo("[\"a\",\"b\"]");
+
+    assertThat(list).containsExactly("a", "b");
+    assertThat(LazyJson.unparsedJson(list)).isNull();
+
+    list.remove("a");
+    assertThat(((ModifyAwareOwner) list).isMarkedDirty()).isTrue();
+  }
+
+  @Test
+  public void parseSet() {
+
+    Set<Object> set = LazyJson.parseSet("[\"a\",\"b\",\"a\"]");
+    assertThat(LazyJson.unparsedJson(set)).isNotNull();
+
+    assertThat(set).containsExactly("a", "b");
+    assertThat(((ModifyAwareOwner) set).isMarkedDirty()).isFalse();
+  }
+
+  @Test
+  public void parse_when_null_expect_null() {
+
+    assertThat(LazyJson.parseObject(null)).isNull();
+    assertThat(LazyJson.parseList(null)).isNull();
+    assertThat(LazyJson.parseSet(null)).isNull();
+    assertThat(LazyJson.unparsedJson(null)).isNull();
+  }
+
+  @Test
+  public void unparsedJson_when_notLazy_expect_null() {
+
+    assertThat(LazyJson.unparsedJson(new ModifyAwareMap<>(new java.util.LinkedHashMap<>()))).isNull();
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void serialise_expect_parsedValue() throws IOException, ClassNotFoundException {
+
+    Map<String, Object> map = LazyJson.parseObject("{\"a\":\"one\"}");
+
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    try (ObjectOutputStream oos = new ObjectOutputStream(os)) {
+      oos.writeObject(map);
+    }
+    try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(os.toByteArray()))) {
+      Map<String, Object> read = (Map<String, Object>) ois.readObject();
+      assertThat(read.get("a")).isEqualTo("one");
+      assertThat(LazyJson.unparsedJson(read)).isNull();
+    }
+  }
+
+  @Test
+  public void value_when_concurrentFirstAccess_expect_parsedOnce() throws Exception {
+
+    AtomicInteger parseCount = new AtomicInteger();
+    Map<String, Object> map = LazyJson.map("{\"b\":\"two\"}", (rawJson, owner) -> {
+      parseCount.incrementAndGet();
+      LockSupport.parkNanos(10_000_000);
+      return LazyJson.parseObject(rawJson);
+    });
+
+    int threads = 8;
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<Object>> results = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        results.add(executor.submit(() -> {
+          start.await();
+          return map.get("b");
+        }));
+      }
+      start.countDown();
+      for (Future<Object> result : results) {
+        assertThat(result.get()).isEqualTo("two");
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertThat(parseCount.get()).isEqualTo(1);
+    assertThat(LazyJson.unparsedJson(map)).isNull();
+  }
+}
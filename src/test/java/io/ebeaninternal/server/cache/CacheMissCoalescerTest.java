@@ -0,0 +1,81 @@
+package io.ebeaninternal.server.cache;
+
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CacheMissCoalescerTest {
+
+  @Test
+  public void acquire_when_noLoadInFlight_expect_loader() {
+
+    CacheMissCoalescer coalescer = new CacheMissCoalescer();
+    assertThat(coalescer.acquire("a")).isTrue();
+    assertThat(coalescer.acquire("b")).isTrue();
+    assertThat(coalescer.inFlightCount()).isEqualTo(2);
+
+    coalescer.release("a");
+    coalescer.release("b");
+    assertThat(coalescer.inFlightCount()).isEqualTo(0);
+
+    // released so the next miss loads again
+    assertThat(coalescer.acquire("a")).isTrue();
+    coalescer.release("a");
+
+    assertThat(coalescer.getLoadCount(true)).isEqualTo(3);
+    assertThat(coalescer.getLoadCount(false)).isEqualTo(0);
+    assertThat(coalescer.getWaitCount(false)).isEqualTo(0);
+  }
+
+  @Test
+  public void acquire_when_loadInFlight_expect_waitForRelease() throws Exception {
+
+    CacheMissCoalescer coalescer = new CacheMissCoalescer();
+    assertThat(coalescer.acquire("a")).isTrue();
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<Boolean> waiter = executor.submit(() -> coalescer.acquire("a"));
+
+      Thread.sleep(50);
+      assertThat(waiter.isDone()).isFalse();
+
+      coalescer.release("a");
+      assertThat(waiter.get(5, TimeUnit.SECONDS)).isFalse();
+
+    } finally {
+      executor.shutdown();
+    }
+
+    assertThat(coalescer.inFlightCount()).isEqualTo(0);
+    assertThat(coalescer.getLoadCount(false)).isEqualTo(1);
+    assertThat(coalescer.getWaitCount(false)).isEqualTo(1);
+    assertThat(coalescer.getTimeoutCount(false)).isEqualTo(0);
+  }
+
+  @Test
+  public void acquire_when_loadNotReleased_expect_timeout() {
+
+    CacheMissCoalescer coalescer = new CacheMissCoalescer(10);
+    assertThat(coalescer.acquire("a")).isTrue();
+    assertThat(coalescer.acquire("a")).isFalse();
+
+    assertThat(coalescer.getWaitCount(true)).isEqualTo(1);
+    assertThat(coalescer.getTimeoutCount(true)).isEqualTo(1);
+    assertThat(coalescer.getTimeoutCount(false)).isEqualTo(0);
+    coalescer.release("a");
+  }
+
+  @Test
+  public void release_when_notAcquired_expect_noop() {
+
+    CacheMissCoalescer coalescer = new CacheMissCoalescer();
+    coalescer.release("a");
+    assertThat(coalescer.inFlightCount()).isEqualTo(0);
+  }
+}
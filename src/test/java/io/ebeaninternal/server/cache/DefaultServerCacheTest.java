@@ -1,9 +1,16 @@
 package io.ebeaninternal.server.cache;
 
 import io.ebean.cache.ServerCacheOptions;
+import io.ebean.cache.ServerCacheStatistics;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public class DefaultServerCacheTest {
 
@@ -50,6 +57,45 @@ public class DefaultServerCacheTest {
     assertEquals(0, cache.size());
   }
 
+  @Test
+  public void getAll_putAll_removeAll() {
+
+    DefaultServerCache cache = createCache();
+
+    Map<Object, Object> values = new LinkedHashMap<>();
+    values.put("A", "a");
+    values.put("B", "b");
+    values.put("C", "c");
+    cache.putAll(values);
+    assertEquals(3, cache.size());
+
+    Map<Object, Object> hits = cache.getAll(new HashSet<>(Arrays.asList("A", "C", "D")));
+    assertEquals(2, hits.size());
+    assertEquals("a", hits.get("A"));
+    assertEquals("c", hits.get("C"));
+    assertTrue(!hits.containsKey("D"));
+
+    cache.removeAll(new HashSet<>(Arrays.asList("A", "B", "D")));
+    assertEquals(1, cache.size());
+
+    ServerCacheStatistics statistics = cache.getStatistics(false);
+    assertEquals(3, statistics.getInsertCount());
+    assertEquals(2, statistics.getHitCount());
+    assertEquals(1, statistics.getMissCount());
+    assertEquals(2, statistics.getRemoveCount());
+  }
+
+  @Test
+  public void values_expect_lastAccessTimeUnchanged() {
+
+    DefaultServerCache cache = createCache();
+    cache.put("A", "a");
+    long lastAccess = cache.map.get("A").getLastAccessTime();
+
+    assertEquals(Arrays.asList("a"), cache.values());
+    assertEquals(lastAccess, cache.map.get("A").getLastAccessTime());
+  }
+
   @Test
   public void trimFreq_halfIdle() throws Exception {
 
@@ -0,0 +1,104 @@
+package io.ebeaninternal.server.cache;
+
+import io.ebean.cache.ServerCacheInvalidation;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashSet;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class QueryCacheStampsTest {
+
+  private QueryCacheEntry entry(String sql) {
+    return new QueryCacheEntry("value", QueryCacheStamps.dependentColumns(sql), QueryCacheStamps.currentGeneration());
+  }
+
+  @Test
+  public void dependentColumns() {
+
+    String[] columns = QueryCacheStamps.dependentColumns("select t0.id, t0.\"Name\" from o_country t0 where t0.code = ? and t0.x > 10");
+    assertThat(columns).contains("id", "name", "o_country", "code", "x");
+    assertThat(columns).doesNotContain("10", "*");
+  }
+
+  @Test
+  public void dependentColumns_when_selectStar() {
+
+    assertThat(QueryCacheStamps.dependentColumns("select * from foo")).contains("*");
+    assertThat(QueryCacheStamps.dependentColumns("select count(*) from foo")).doesNotContain("*");
+  }
+
+  @Test
+  public void column() {
+
+    assertThat(QueryCacheStamps.column("Name")).isEqualTo("name");
+    assertThat(QueryCacheStamps.column("\"order\"")).isEqualTo("order");
+    assertThat(QueryCacheStamps.column("[order]")).isEqualTo("order");
+    assertThat(QueryCacheStamps.column("my col")).isNull();
+    assertThat(QueryCacheStamps.column(null)).isNull();
+  }
+
+  @Test
+  public void check_when_changedBeforeQuery_expect_valid() {
+
+    QueryCacheStamps stamps = new QueryCacheStamps();
+    stamps.updated(QueryCacheStamps.nextGeneration(), Collections.singleton("name"));
+    stamps.inserted(QueryCacheStamps.nextGeneration());
+
+    QueryCacheEntry entry = entry("select t0.id from foo t0 where t0.name = ?");
+    assertThat(stamps.check(entry)).isNull();
+  }
+
+  @Test
+  public void check_when_update() {
+
+    QueryCacheStamps stamps = new QueryCacheStamps();
+    QueryCacheEntry entry = entry("select t0.id from foo t0 where t0.name = ?");
+
+    stamps.updated(QueryCacheStamps.nextGeneration(), new HashSet<>(asList("other", "version")));
+    assertThat(stamps.check(entry)).isNull();
+
+    stamps.updated(QueryCacheStamps.nextGeneration(), Collections.singleton("name"));
+    assertThat(stamps.check(entry)).isEqualTo(ServerCacheInvalidation.UPDATE);
+  }
+
+  @Test
+  public void check_when_updateUnknownColumns() {
+
+    QueryCacheStamps stamps = new QueryCacheStamps();
+    QueryCacheEntry entry = entry("select t0.id from foo t0");
+
+    stamps.updated(QueryCacheStamps.nextGeneration(), null);
+    assertThat(stamps.check(entry)).isEqualTo(ServerCacheInvalidation.UPDATE);
+  }
+
+  @Test
+  public void check_when_allColumns() {
+
+    QueryCacheStamps stamps = new QueryCacheStamps();
+    QueryCacheEntry star = entry("select * from foo");
+    QueryCacheEntry all = new QueryCacheEntry("value", null, QueryCacheStamps.currentGeneration());
+
+    stamps.updated(QueryCacheStamps.nextGeneration(), Collections.singleton("other"));
+    assertThat(stamps.check(star)).isEqualTo(ServerCacheInvalidation.UPDATE);
+    assertThat(stamps.check(all)).isEqualTo(ServerCacheInvalidation.UPDATE);
+  }
+
+  @Test
+  public void check_when_insertOrDelete() {
+
+    QueryCacheStamps stamps = new QueryCacheStamps();
+    QueryCacheEntry entry = entry("select t0.id from foo t0");
+
+    stamps.inserted(QueryCacheStamps.nextGeneration());
+    assertThat(stamps.check(entry)).isEqualTo(ServerCacheInvalidation.INSERT);
+
+    stamps.deleted(QueryCacheStamps.nextGeneration());
+    assertThat(stamps.check(entry)).isEqualTo(ServerCacheInvalidation.DELETE);
+
+    // entries created after the changes are valid
+    assertThat(stamps.check(entry("select t0.id from foo t0"))).isNull();
+  }
+}
@@ -0,0 +1,206 @@
+package io.ebeaninternal.server.cache;
+
+import io.ebean.cache.ServerCache;
+import io.ebean.cache.ServerCacheOptions;
+import io.ebean.cache.ServerCacheStatistics;
+import io.ebean.cache.ServerCacheType;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TinyLfuServerCacheTest {
+
+  private TinyLfuServerCache createCache(int maxSize) {
+
+    ServerCacheOptions cacheOptions = new ServerCacheOptions();
+    cacheOptions.setMaxSize(maxSize);
+    cacheOptions.setMaxIdleSecs(60);
+    cacheOptions.setMaxSecsToLive(600);
+
+    return new TinyLfuServerCache("foo", null, cacheOptions);
+  }
+
+  @Test
+  public void put_get_remove() {
+
+    TinyLfuServerCache cache = createCache(100);
+    assertThat(cache.put("A", "a1")).isNull();
+    assertThat(cache.put("A", "a2")).isEqualTo("a1");
+    assertThat(cache.get("A")).isEqualTo("a2");
+    assertThat(cache.get("B")).isNull();
+    assertThat(cache.size()).isEqualTo(1);
+
+    assertThat(cache.remove("A")).isEqualTo("a2");
+    assertThat(cache.size()).isEqualTo(0);
+
+    ServerCacheStatistics statistics = cache.getStatistics(false);
+    assertThat(statistics.getInsertCount()).isEqualTo(1);
+    assertThat(statistics.getUpdateCount()).isEqualTo(1);
+    assertThat(statistics.getHitCount()).isEqualTo(1);
+    assertThat(statistics.getMissCount()).isEqualTo(1);
+    assertThat(statistics.getRemoveCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void put_boundedByMaxSize_onEachPut() {
+
+    TinyLfuServerCache cache = createCache(100);
+    for (int i = 0; i < 1000; i++) {
+      cache.put(i, i);
+      assertThat(cache.size()).isLessThanOrEqualTo(100);
+    }
+
+    ServerCacheStatistics statistics = cache.getStatistics(false);
+    assertThat(statistics.getEvictByLRU()).isEqualTo(900);
+    assertThat(statistics.getSize()).isEqualTo(100);
+  }
+
+  @Test
+  public void frequentlyUsed_isRetained() {
+
+    TinyLfuServerCache cache = createCache(100);
+    for (int i = 0; i < 50; i++) {
+      cache.put("hot" + i, i);
+    }
+    for (int j = 0; j < 5; j++) {
+      for (int i = 0; i < 50; i++) {
+        cache.get("hot" + i);
+      }
+    }
+
+    // a scan of one hit wonders should not flush the frequently used entries
+    for (int i = 0; i < 10000; i++) {
+      cache.put("scan" + i, i);
+    }
+
+    int retained = 0;
+    for (int i = 0; i < 50; i++) {
+      if (cache.get("hot" + i) != null) {
+        retained++;
+      }
+    }
+    assertThat(retained).isGreaterThan(45);
+    assertThat(cache.size()).isLessThanOrEqualTo(100);
+  }
+
+  @Test
+  public void putAll_boundedByMaxSize() {
+
+    TinyLfuServerCache cache = createCache(10);
+    Map<Object, Object> values = new LinkedHashMap<>();
+    for (int i = 0; i < 50; i++) {
+      values.put(i, i);
+    }
+    cache.putAll(values);
+    assertThat(cache.size()).isEqualTo(10);
+
+    Map<Object, Object> hits = cache.getAll(new HashSet<>(values.keySet()));
+    assertThat(hits).hasSize(10);
+
+    cache.removeAll(new HashSet<>(hits.keySet()));
+    assertThat(cache.size()).isEqualTo(0);
+    assertThat(cache.getAll(new HashSet<>(Arrays.asList(1, 2)))).isEmpty();
+  }
+
+  @Test
+  public void clear() {
+
+    TinyLfuServerCache cache = createCache(10);
+    for (int i = 0; i < 20; i++) {
+      cache.put(i, i);
+    }
+    cache.clear();
+    assertThat(cache.size()).isEqualTo(0);
+
+    for (int i = 0; i < 20; i++) {
+      cache.put(i, i);
+    }
+    assertThat(cache.size()).isEqualTo(10);
+    assertThat(cache.getStatistics(false).getClearCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void clear_expect_nodesUnlinked() {
+
+    TinyLfuServerCache.AccessOrderDeque deque = new TinyLfuServerCache.AccessOrderDeque();
+    TinyLfuServerCache.Node a = new TinyLfuServerCache.Node("a", "a", 1);
+    TinyLfuServerCache.Node b = new TinyLfuServerCache.Node("b", "b", 2);
+    deque.addLast(a);
+    a.queue = TinyLfuServerCache.PROBATION;
+    deque.addLast(b);
+    b.queue = TinyLfuServerCache.PROBATION;
+
+    deque.clear();
+    assertThat(a.queue).isEqualTo(TinyLfuServerCache.NONE);
+    assertThat(b.queue).isEqualTo(TinyLfuServerCache.NONE);
+    assertThat(a.next).isNull();
+    assertThat(b.prev).isNull();
+
+    // a node added after the clear is not affected by the stale nodes
+    TinyLfuServerCache.Node c = new TinyLfuServerCache.Node("c", "c", 3);
+    deque.addLast(c);
+    assertThat(deque.first).isSameAs(c);
+    assertThat(deque.last).isSameAs(c);
+    assertThat(deque.size).isEqualTo(1);
+  }
+
+  @Test
+  public void clear_concurrentWithGetAndPut() throws InterruptedException {
+
+    TinyLfuServerCache cache = createCache(50);
+    AtomicBoolean running = new AtomicBoolean(true);
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      int seed = t;
+      threads.add(new Thread(() -> {
+        int i = seed;
+        while (running.get()) {
+          int key = i++ % 200;
+          cache.put(key, i);
+          cache.get(key);
+          cache.get((key * 7) % 200);
+        }
+      }));
+    }
+    threads.add(new Thread(() -> {
+      while (running.get()) {
+        cache.clear();
+      }
+    }));
+    threads.forEach(Thread::start);
+    Thread.sleep(500);
+    running.set(false);
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertThat(cache.policySize()).isEqualTo(cache.size());
+    for (int i = 0; i < 500; i++) {
+      cache.put(i, i);
+      cache.get(i % 20);
+    }
+    assertThat(cache.size()).isEqualTo(50);
+    assertThat(cache.policySize()).isEqualTo(50);
+  }
+
+  @Test
+  public void factory_boundedTypes() {
+
+    DefaultServerCacheFactory factory = new DefaultServerCacheFactory(null, EnumSet.of(ServerCacheType.BEAN));
+
+    ServerCache beanCache = factory.createCache(ServerCacheType.BEAN, "b", null, new ServerCacheOptions());
+    ServerCache queryCache = factory.createCache(ServerCacheType.QUERY, "q", null, new ServerCacheOptions());
+
+    assertThat(beanCache).isInstanceOf(TinyLfuServerCache.class);
+    assertThat(queryCache).isNotInstanceOf(TinyLfuServerCache.class);
+  }
+}
@@ -0,0 +1,130 @@
+package io.ebeaninternal.server.cluster;
+
+import io.ebean.BaseTestCase;
+import io.ebean.Ebean;
+import io.ebean.cache.ServerCache;
+import io.ebean.config.ContainerConfig;
+import io.ebeaninternal.api.SpiEbeanServer;
+import io.ebeaninternal.api.TransactionEventTable.TableIUD;
+import io.ebeaninternal.server.transaction.RemoteTransactionEvent;
+import org.junit.Test;
+import org.tests.model.basic.OCachedBean;
+
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClusterManagerTest extends BaseTestCase {
+
+  private final SpiEbeanServer server = (SpiEbeanServer) Ebean.getDefaultServer();
+
+  private final List<RemoteTransactionEvent> sent = new CopyOnWriteArrayList<>();
+
+  private ClusterBroadcastFactory capturingFactory() {
+    return (manager, properties) -> new ClusterBroadcast() {
+      @Override
+      public void startup() {
+      }
+
+      @Override
+      public void shutdown() {
+      }
+
+      @Override
+      public void broadcast(RemoteTransactionEvent event) {
+        sent.add(event);
+      }
+    };
+  }
+
+  private RemoteTransactionEvent event(String table) {
+    RemoteTransactionEvent event = new RemoteTransactionEvent(server.getName());
+    event.addTableIUD(new TableIUD(table, false, true, false));
+    return event;
+  }
+
+  @Test
+  public void broadcast_noCoalesce() {
+
+    ClusterManager manager = new ClusterManager(new ContainerConfig(), capturingFactory());
+    manager.broadcast(event("T1"));
+    manager.broadcast(event("T2"));
+
+    assertThat(sent).hasSize(2);
+  }
+
+  @Test
+  public void broadcast_coalesce() throws InterruptedException {
+
+    ContainerConfig config = new ContainerConfig();
+    config.setClusterCoalesceMillis(50);
+
+    ClusterManager manager = new ClusterManager(config, capturingFactory());
+    manager.broadcast(event("T1"));
+    manager.broadcast(event("T2"));
+    manager.broadcast(event("T1"));
+    assertThat(sent).isEmpty();
+
+    for (int i = 0; i < 100 && sent.isEmpty(); i++) {
+      Thread.sleep(20);
+    }
+    assertThat(sent).hasSize(1);
+    assertThat(sent.get(0).getTableIUDList()).hasSize(2);
+
+    manager.broadcast(event("T3"));
+    manager.shutdown();
+    // pending events are sent on shutdown
+    assertThat(sent).hasSize(2);
+  }
+
+  @Test
+  public void broadcast_afterShutdown_expect_dropped() {
+
+    ContainerConfig config = new ContainerConfig();
+    config.setClusterCoalesceMillis(50);
+
+    ClusterManager coalescing = new ClusterManager(config, capturingFactory());
+    coalescing.shutdown();
+    coalescing.broadcast(event("T1"));
+    coalescing.flush();
+
+    ClusterManager direct = new ClusterManager(new ContainerConfig(), capturingFactory());
+    direct.shutdown();
+    direct.broadcast(event("T1"));
+
+    assertThat(sent).isEmpty();
+  }
+
+  @Test
+  public void loopback_invalidatesRemoteCache() {
+
+    Properties properties = new Properties();
+    properties.setProperty("ebean.cluster.loopback.name", "clusterManagerTest");
+    ContainerConfig config = new ContainerConfig();
+    config.setProperties(properties);
+
+    ClusterManager local = new ClusterManager(config, new LoopbackClusterBroadcastFactory());
+    ClusterManager remote = new ClusterManager(config, new LoopbackClusterBroadcastFactory());
+    local.registerServer(server);
+    remote.registerServer(server);
+    try {
+      OCachedBean bean = new OCachedBean();
+      bean.setName("loopback");
+      server.save(bean);
+
+      ServerCache beanCache = server.getServerCacheManager().getBeanCache(OCachedBean.class);
+      server.find(OCachedBean.class, bean.getId());
+      assertThat(beanCache.size()).isGreaterThan(0);
+
+      local.broadcast(event(server.getBeanDescriptor(OCachedBean.class).getBaseTable()));
+
+      assertThat(beanCache.size()).isEqualTo(0);
+
+    } finally {
+      local.shutdown();
+      remote.shutdown();
+    }
+  }
+}
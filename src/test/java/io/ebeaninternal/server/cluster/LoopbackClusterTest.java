@@ -0,0 +1,109 @@
+package io.ebeaninternal.server.cluster;
+
+import io.ebean.BaseTestCase;
+import io.ebean.EbeanServer;
+import io.ebean.config.ContainerConfig;
+import io.ebean.config.ServerConfig;
+import io.ebeaninternal.server.core.DefaultContainer;
+import org.avaje.datasource.DataSourceConfig;
+import org.junit.Test;
+import org.tests.model.basic.EBasicVer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LoopbackClusterTest extends BaseTestCase {
+
+  private static final String CLUSTER = "loopbackClusterTest";
+
+  /**
+   * Create a cluster member (with its own container) using the loopback broadcast.
+   */
+  private EbeanServer createNode(int node, List<DefaultContainer> containers) {
+
+    System.setProperty("ebean.ignoreExtraDdl", "true");
+
+    Properties properties = new Properties();
+    properties.setProperty("ebean.cluster.active", "true");
+    properties.setProperty("ebean.cluster.type", "loopback");
+    properties.setProperty("ebean.cluster.loopback.name", CLUSTER);
+    ContainerConfig containerConfig = new ContainerConfig();
+    containerConfig.loadFromProperties(properties);
+
+    DataSourceConfig dataSourceConfig = new DataSourceConfig();
+    dataSourceConfig.setUsername("sa");
+    dataSourceConfig.setPassword("");
+    dataSourceConfig.setUrl("jdbc:h2:mem:loopbackNode");
+    dataSourceConfig.setDriver("org.h2.Driver");
+
+    ServerConfig config = new ServerConfig();
+    config.setName("loopbackNode");
+    config.setDataSourceConfig(dataSourceConfig);
+    config.setDdlGenerate(node == 0);
+    config.setDdlRun(node == 0);
+    config.setDefaultServer(false);
+    config.setRegister(false);
+    config.addClass(EBasicVer.class);
+
+    DefaultContainer container = new DefaultContainer(containerConfig);
+    containers.add(container);
+    return container.createServer(config);
+  }
+
+  private void awaitDeliveries(LoopbackCluster cluster, int count) throws InterruptedException {
+    for (int i = 0; i < 100 && cluster.getDeliveryCount() < count; i++) {
+      Thread.sleep(20);
+    }
+  }
+
+  @Test
+  public void update_expect_remoteCacheInvalidated() throws InterruptedException {
+
+    List<DefaultContainer> containers = new ArrayList<>();
+    List<EbeanServer> nodes = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      nodes.add(createNode(i, containers));
+    }
+    LoopbackCluster cluster = LoopbackCluster.get(CLUSTER);
+    try {
+      assertThat(cluster.getMemberCount()).isEqualTo(3);
+
+      EbeanServer node0 = nodes.get(0);
+      EBasicVer bean = new EBasicVer("before");
+      node0.save(bean);
+      // the insert is broadcast in the background so wait for it before resetting the statistics
+      awaitDeliveries(cluster, 2);
+
+      // load into the L2 cache of the other nodes
+      for (EbeanServer node : nodes) {
+        assertThat(node.find(EBasicVer.class, bean.getId()).getName()).isEqualTo("before");
+      }
+      cluster.resetStatistics();
+
+      bean.setName("after");
+      node0.save(bean);
+
+      awaitDeliveries(cluster, 2);
+      assertThat(cluster.getMessageCount()).isEqualTo(1);
+      assertThat(cluster.getDeliveryCount()).isEqualTo(2);
+      assertThat(cluster.getMaxLatencyMicros()).isGreaterThan(0);
+
+      for (EbeanServer node : nodes) {
+        assertThat(node.find(EBasicVer.class, bean.getId()).getName()).isEqualTo("after");
+      }
+
+    } finally {
+      for (EbeanServer node : nodes) {
+        node.shutdown(false, false);
+      }
+      for (DefaultContainer container : containers) {
+        container.shutdownContainer();
+      }
+      cluster.shutdown();
+    }
+    assertThat(cluster.getMemberCount()).isEqualTo(0);
+  }
+}
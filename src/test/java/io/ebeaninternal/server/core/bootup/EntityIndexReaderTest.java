@@ -0,0 +1,69 @@
+package io.ebeaninternal.server.core.bootup;
+
+import org.junit.Test;
+import org.tests.model.basic.CKeyParentId;
+import org.tests.model.basic.Customer;
+import org.tests.model.prnt.MPrinter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EntityIndexReaderTest {
+
+  private final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+  @Test
+  public void readIndex() {
+
+    List<String> classNames = readIndex("META-INF/test/test-entities.idx");
+    assertThat(classNames).containsExactly(
+      "org.tests.model.basic.Customer",
+      "org.tests.model.basic.CKeyParentId",
+      "org.tests.model.basic.event.CustomerPersistAdapter",
+      "org.tests.model.basic.DoesNotExist",
+      "org.tests.model.prnt.MPrinter");
+  }
+
+  @Test
+  public void readIndex_when_notFound() {
+
+    assertThat(readIndex("META-INF/test/does-not-exist.idx")).isEmpty();
+  }
+
+  @Test
+  public void fromIndex() {
+
+    BootupClasses bc = BootupClassPathSearch.fromIndex(classLoader, readIndex("META-INF/test/test-entities.idx"), null);
+
+    assertThat(bc.getEntities()).containsExactly(Customer.class, MPrinter.class);
+    assertThat(bc.getEmbeddables()).containsExactly(CKeyParentId.class);
+    assertThat(bc.getBeanPersistControllers()).hasSize(1);
+  }
+
+  @Test
+  public void fromIndex_withPackages() {
+
+    List<String> packages = Collections.singletonList("org.tests.model.prnt");
+    BootupClasses bc = BootupClassPathSearch.fromIndex(classLoader, readIndex("META-INF/test/test-entities.idx"), packages);
+
+    assertThat(bc.getEntities()).containsExactly(MPrinter.class);
+    assertThat(bc.getEmbeddables()).isEmpty();
+  }
+
+  @Test
+  public void uncoveredPackages() {
+
+    List<String> classNames = readIndex("META-INF/test/test-entities.idx");
+    List<String> packages = Arrays.asList("org.tests.model.basic", "org.tests.model.prnt", "org.tests.model.embedded", "org.tests");
+
+    assertThat(BootupClassPathSearch.uncoveredPackages(classNames, packages)).containsExactly("org.tests.model.embedded");
+    assertThat(BootupClassPathSearch.uncoveredPackages(classNames, null)).isEmpty();
+  }
+
+  private List<String> readIndex(String path) {
+    return EntityIndexReader.readIndex(classLoader, path);
+  }
+}
@@ -0,0 +1,72 @@
+package io.ebeaninternal.server.deploy;
+
+import io.ebean.BaseTestCase;
+import io.ebean.EbeanServerFactory;
+import io.ebean.config.ContainerConfig;
+import io.ebean.config.ServerConfig;
+import io.ebeaninternal.api.SpiEbeanServer;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BeanDescriptorManagerDeployParallelismTest extends BaseTestCase {
+
+  @Test
+  public void deploy_parallel_expect_sameAsSingleThreaded() {
+
+    SpiEbeanServer single = create("deploySingle", 1);
+    SpiEbeanServer parallel = create("deployParallel", 4);
+    try {
+      List<String> singleDesc = describe(single);
+      assertThat(singleDesc).isNotEmpty();
+      assertThat(describe(parallel)).isEqualTo(singleDesc);
+
+    } finally {
+      single.shutdown(true, false);
+      parallel.shutdown(true, false);
+    }
+  }
+
+  private List<String> describe(SpiEbeanServer server) {
+    List<String> list = new ArrayList<>();
+    for (BeanDescriptor<?> desc : server.getBeanDescriptors()) {
+      StringBuilder sb = new StringBuilder(desc.getFullName()).append(' ').append(desc.getBaseTable());
+      for (BeanProperty prop : desc.propertiesNonTransient()) {
+        sb.append(' ').append(prop.getName()).append(':').append(prop.getDbColumn());
+      }
+      list.add(sb.toString());
+    }
+    return list;
+  }
+
+  private SpiEbeanServer create(String name, int deployParallelism) {
+
+    ServerConfig config = new ServerConfig();
+    config.setName(name);
+
+    Properties properties = new Properties();
+    properties.setProperty("datasource." + name + ".username", "sa");
+    properties.setProperty("datasource." + name + ".password", "");
+    properties.setProperty("datasource." + name + ".databaseUrl", "jdbc:h2:mem:" + name + ";");
+    properties.setProperty("datasource." + name + ".databaseDriver", "org.h2.Driver");
+
+    config.loadFromProperties(properties);
+    config.setContainerConfig(new ContainerConfig());
+    config.setDefaultServer(false);
+    config.setRegister(false);
+    config.setDdlGenerate(false);
+    config.setDdlRun(false);
+    config.getPackages().add("org.tests.model.m2m");
+    config.getPackages().add("org.tests.model.embedded");
+    config.getPackages().add("org.tests.model.onetoone");
+    config.getPackages().add("org.tests.model.inheritmany");
+    config.getPackages().add("org.tests.model.softdelete");
+    config.setDeployParallelism(deployParallelism);
+
+    return (SpiEbeanServer) EbeanServerFactory.create(config);
+  }
+}
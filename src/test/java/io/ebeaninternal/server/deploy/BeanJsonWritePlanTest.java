@@ -0,0 +1,63 @@
+package io.ebeaninternal.server.deploy;
+
+import io.ebean.BaseTestCase;
+import io.ebean.Ebean;
+import io.ebean.FetchPath;
+import io.ebean.text.PathProperties;
+import org.junit.Test;
+import org.tests.model.basic.Customer;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BeanJsonWritePlanTest extends BaseTestCase {
+
+  private BeanDescriptor<Customer> customerDesc = spiEbeanServer().getBeanDescriptor(Customer.class);
+
+  @Test
+  public void jsonWritePlan_expect_cached() {
+
+    assertThat(customerDesc.jsonWritePlan(false, null)).isSameAs(customerDesc.jsonWritePlan(false, null));
+    assertThat(customerDesc.jsonWritePlan(true, null)).isSameAs(customerDesc.jsonWritePlan(true, null));
+    assertThat(customerDesc.jsonWritePlan(true, null)).isNotSameAs(customerDesc.jsonWritePlan(false, null));
+
+    Set<String> include = new LinkedHashSet<>(Arrays.asList("id", "name"));
+    BeanJsonWritePlan plan = customerDesc.jsonWritePlan(false, include);
+    assertThat(customerDesc.jsonWritePlan(false, new HashSet<>(Arrays.asList("name", "id")))).isSameAs(plan);
+
+    // mutating the include properties does not alter the cached plan
+    include.add("status");
+    assertThat(customerDesc.jsonWritePlan(false, include)).isNotSameAs(plan);
+  }
+
+  @Test
+  public void toJson_withPathProperties() {
+
+    Customer customer = new Customer();
+    customer.setId(42);
+    customer.setName("rob");
+    customer.setSmallnote("note");
+
+    FetchPath paths = PathProperties.parse("(smallnote,id)");
+    String json = Ebean.json().toJson(customer, paths);
+
+    // written in property order rather than path properties order
+    assertThat(json).isEqualTo("{\"id\":42,\"smallnote\":\"note\"}");
+  }
+
+  @Test
+  public void toJson_loadedProperties() {
+
+    Customer customer = new Customer();
+    customer.setId(42);
+    customer.setName("rob");
+
+    String json = Ebean.json().toJson(customer);
+    assertThat(json).startsWith("{\"id\":42,\"name\":\"rob\"");
+    assertThat(json).doesNotContain("smallnote");
+  }
+}
@@ -0,0 +1,29 @@
+package io.ebeaninternal.server.expression;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InBindHelpTest {
+
+  @Test
+  public void padSize() {
+    assertThat(InBindHelp.padSize(0)).isEqualTo(0);
+    assertThat(InBindHelp.padSize(1)).isEqualTo(1);
+    assertThat(InBindHelp.padSize(2)).isEqualTo(2);
+    assertThat(InBindHelp.padSize(3)).isEqualTo(4);
+    assertThat(InBindHelp.padSize(5)).isEqualTo(8);
+    assertThat(InBindHelp.padSize(8)).isEqualTo(8);
+    assertThat(InBindHelp.padSize(9)).isEqualTo(16);
+    assertThat(InBindHelp.padSize(1000)).isEqualTo(1024);
+  }
+
+  @Test
+  public void valueType() {
+    assertThat(InBindHelp.valueType(Arrays.asList(1L, 2L))).isEqualTo(Long.class);
+    assertThat(InBindHelp.valueType(Arrays.asList(1L, 2))).isNull();
+    assertThat(InBindHelp.valueType(Arrays.asList("a", null))).isNull();
+  }
+}
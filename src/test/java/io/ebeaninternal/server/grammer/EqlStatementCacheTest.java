@@ -0,0 +1,79 @@
+package io.ebeaninternal.server.grammer;
+
+import io.ebean.BaseTestCase;
+import io.ebean.Ebean;
+import io.ebean.Query;
+import io.ebean.meta.MetaEqlCacheStatistic;
+import org.junit.Test;
+import org.tests.model.basic.Customer;
+import org.tests.model.basic.ResetBasicData;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EqlStatementCacheTest extends BaseTestCase {
+
+  @Test
+  public void get_hitAndMiss() {
+
+    EqlStatementCache cache = new EqlStatementCache(Customer.class);
+
+    EqlStatement first = cache.get("where name = :name order by id");
+    EqlStatement second = cache.get("where name = :name order by id");
+    assertThat(second).isSameAs(first);
+    assertThat(cache.size()).isEqualTo(1);
+
+    MetaEqlCacheStatistic statistic = cache.getStatistic(true);
+    assertThat(statistic.getHitCount()).isEqualTo(1);
+    assertThat(statistic.getMissCount()).isEqualTo(1);
+    assertThat(statistic.getHitRatio()).isEqualTo(50);
+
+    statistic = cache.getStatistic(false);
+    assertThat(statistic.getHitCount()).isEqualTo(0);
+    assertThat(statistic.getSize()).isEqualTo(1);
+  }
+
+  @Test
+  public void get_boundedByMaxSize() {
+
+    EqlStatementCache cache = new EqlStatementCache(Customer.class, 10);
+    for (int i = 0; i < 25; i++) {
+      cache.get("where id = " + i);
+      assertThat(cache.size()).isLessThanOrEqualTo(10);
+    }
+  }
+
+  @Test
+  public void createQuery_reusesParsedStatement() {
+
+    ResetBasicData.reset();
+
+    String eql = "where name = :name or name = :other order by id limit 10";
+
+    Query<Customer> query0 = Ebean.createQuery(Customer.class, eql);
+    Query<Customer> query1 = Ebean.createQuery(Customer.class, eql);
+
+    // named parameters are per query
+    query0.setParameter("name", "Rob").setParameter("other", "Fiona");
+    query1.setParameter("name", "DoesNotExist").setParameter("other", "DoesNotExist");
+
+    List<Customer> list0 = query0.findList();
+    List<Customer> list1 = query1.findList();
+    assertThat(list0).isNotEmpty();
+    assertThat(list0).extracting("name").containsOnly("Rob", "Fiona");
+    assertThat(list1).isEmpty();
+    assertThat(query1.getGeneratedSql()).isEqualTo(query0.getGeneratedSql());
+    assertThat(query0.getGeneratedSql()).contains("where (t0.name = ?  or t0.name = ? )  order by t0.id");
+
+    List<MetaEqlCacheStatistic> statistics = Ebean.getDefaultServer().getMetaInfoManager().collectEqlCacheStatistics(false);
+    MetaEqlCacheStatistic customerStats = null;
+    for (MetaEqlCacheStatistic statistic : statistics) {
+      if (statistic.getBeanType().equals(Customer.class)) {
+        customerStats = statistic;
+      }
+    }
+    assertThat(customerStats).isNotNull();
+    assertThat(customerStats.getHitCount()).isGreaterThanOrEqualTo(1);
+  }
+}
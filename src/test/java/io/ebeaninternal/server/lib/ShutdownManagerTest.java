@@ -2,9 +2,13 @@ package io.ebeaninternal.server.lib;
 
 import io.ebean.BaseTestCase;
 import io.ebean.Ebean;
+import io.ebean.config.ContainerConfig;
+import io.ebeaninternal.server.core.DefaultContainer;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 public class ShutdownManagerTest extends BaseTestCase {
 
   /**
@@ -29,4 +33,13 @@ public class ShutdownManagerTest extends BaseTestCase {
     Ebean.getDefaultServer();
   }
 
+  @Test
+  public void shutdownContainer_expect_deregistered() {
+
+    DefaultContainer container = new DefaultContainer(new ContainerConfig());
+    assertThat(ShutdownManager.containers).contains(container);
+
+    container.shutdownContainer();
+    assertThat(ShutdownManager.containers).doesNotContain(container);
+  }
 }
@@ -0,0 +1,92 @@
+package io.ebeaninternal.server.persist;
+
+import io.ebeaninternal.server.core.timezone.NoDataTimeZone;
+import io.ebeaninternal.server.type.DataBindCapture;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BatchedMultiRowInsertTest {
+
+  private static final String SQL = "insert into mr_test (id, name) values (?,?)";
+
+  @Test
+  public void rowsPerStatement() {
+
+    assertThat(BatchedMultiRowInsert.rowsPerStatement(999, 2, 10)).isEqualTo(10);
+    assertThat(BatchedMultiRowInsert.rowsPerStatement(999, 2, 5000)).isEqualTo(499);
+    assertThat(BatchedMultiRowInsert.rowsPerStatement(32767, 2, 5000)).isEqualTo(1000);
+    assertThat(BatchedMultiRowInsert.rowsPerStatement(10, 20, 5000)).isEqualTo(1);
+    assertThat(BatchedMultiRowInsert.rowsPerStatement(999, 0, 5000)).isEqualTo(1000);
+  }
+
+  @Test
+  public void sql() {
+
+    BatchedMultiRowInsert insert = new BatchedMultiRowInsert((Connection) null, null, SQL, false, null, 999);
+    assertThat(insert.sql(1)).isEqualTo(SQL);
+    assertThat(insert.sql(3)).isEqualTo("insert into mr_test (id, name) values (?,?),(?,?),(?,?)");
+  }
+
+  @Test
+  public void executeBatch() throws SQLException {
+
+    try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:multiRowInsertTest")) {
+      try (Statement stmt = connection.createStatement()) {
+        stmt.execute("create table mr_test (id integer primary key, name varchar(20))");
+      }
+
+      // 4 bind parameters per statement so 2 rows per statement
+      BatchedMultiRowInsert insert = new BatchedMultiRowInsert(connection, new NoDataTimeZone(), SQL, false, null, 4);
+      List<PostExecute> executes = new ArrayList<>();
+      for (int i = 0; i < 5; i++) {
+        DataBindCapture row = new DataBindCapture();
+        row.setInt(i);
+        row.setString("name" + i);
+        PostExecute postExecute = new PostExecute();
+        executes.add(postExecute);
+        insert.add(postExecute);
+        insert.addRow(row);
+      }
+      insert.executeBatch(true);
+
+      for (PostExecute execute : executes) {
+        assertThat(execute.rowCount).isEqualTo(1);
+        assertThat(execute.postExecuted).isTrue();
+      }
+      try (Statement stmt = connection.createStatement(); ResultSet rset = stmt.executeQuery("select count(*), max(name) from mr_test")) {
+        rset.next();
+        assertThat(rset.getInt(1)).isEqualTo(5);
+        assertThat(rset.getString(2)).isEqualTo("name4");
+      }
+    }
+  }
+
+  private static class PostExecute implements BatchPostExecute {
+
+    int rowCount = -99;
+    boolean postExecuted;
+
+    @Override
+    public void checkRowCount(int rowCount) {
+      this.rowCount = rowCount;
+    }
+
+    @Override
+    public void setGeneratedKey(Object idValue) {
+    }
+
+    @Override
+    public void postExecute() {
+      postExecuted = true;
+    }
+  }
+}
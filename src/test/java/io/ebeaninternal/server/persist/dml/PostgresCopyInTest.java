@@ -0,0 +1,21 @@
+package io.ebeaninternal.server.persist.dml;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PostgresCopyInTest {
+
+  @Test
+  public void copySql() {
+
+    assertThat(PostgresCopyIn.copySql("insert into o_customer (id, name, status) values (?,?,?)"))
+      .isEqualTo("copy o_customer (id, name, status) from stdin");
+  }
+
+  @Test
+  public void copySql_when_functionInValues_expect_null() {
+
+    assertThat(PostgresCopyIn.copySql("insert into e_basic_enc (id, name) values (?,pgp_sym_encrypt(?,?))")).isNull();
+  }
+}
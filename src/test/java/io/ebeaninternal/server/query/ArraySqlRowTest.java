@@ -0,0 +1,89 @@
+package io.ebeaninternal.server.query;
+
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ArraySqlRowTest {
+
+  private final SqlRowColumns columns = new SqlRowColumns(new String[]{"ID", "Name", "status"});
+
+  private ArraySqlRow row(Object... values) {
+    return new ArraySqlRow(columns, values, "T");
+  }
+
+  @Test
+  public void get_caseInsensitive() {
+
+    ArraySqlRow row = row(1, "Rob", "T");
+
+    assertThat(row.get("id")).isEqualTo(1);
+    assertThat(row.get("Id")).isEqualTo(1);
+    assertThat(row.getString("NAME")).isEqualTo("Rob");
+    assertThat(row.getBoolean("status")).isTrue();
+    assertThat(row.containsKey("Name")).isTrue();
+    assertThat(row.containsKey("junk")).isFalse();
+    assertThat(row.get("junk")).isNull();
+    assertThat(row.size()).isEqualTo(3);
+    assertThat(row.keySet()).containsExactly("id", "name", "status");
+    assertThat(row.toString()).isEqualTo("{id=1, name=Rob, status=T}");
+  }
+
+  @Test
+  public void columns_sharedAcrossRows() {
+
+    ArraySqlRow row0 = row(1, "Rob", null);
+    ArraySqlRow row1 = row(2, "Fiona", null);
+
+    row0.set("Name", "Bob");
+    assertThat(row0.get("name")).isEqualTo("Bob");
+    assertThat(row1.get("name")).isEqualTo("Fiona");
+    assertThat(row0.containsKey("status")).isTrue();
+    assertThat(row0.get("status")).isNull();
+  }
+
+  @Test
+  public void mapContract_equalsLinkedHashMap() {
+
+    Map<String, Object> expected = new LinkedHashMap<>();
+    expected.put("id", 1);
+    expected.put("name", "Rob");
+    expected.put("status", null);
+
+    ArraySqlRow row = row(1, "Rob", null);
+    assertThat(row).isEqualTo(expected);
+    assertThat(row.hashCode()).isEqualTo(expected.hashCode());
+    assertThat(row.entrySet()).isEqualTo(expected.entrySet());
+  }
+
+  @Test
+  public void put_newKey_remove() {
+
+    ArraySqlRow row = row(1, "Rob", null);
+    row.put("Extra", 42);
+    assertThat(row.get("extra")).isEqualTo(42);
+    assertThat(row.get("name")).isEqualTo("Rob");
+    assertThat(row.keySet()).containsExactly("id", "name", "status", "extra");
+
+    row.remove("NAME");
+    assertThat(row.containsKey("name")).isFalse();
+    assertThat(row.size()).isEqualTo(3);
+
+    row.clear();
+    assertThat(row.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void duplicateColumnLabels() {
+
+    SqlRowColumns dup = new SqlRowColumns(new String[]{"id", "name", "ID"});
+    assertThat(dup.size()).isEqualTo(2);
+    assertThat(dup.columnCount()).isEqualTo(3);
+    assertThat(dup.position(2)).isEqualTo(0);
+    assertThat(dup.indexOf("Name")).isEqualTo(1);
+    assertThat(dup.indexOf("junk")).isEqualTo(-1);
+  }
+}
@@ -0,0 +1,58 @@
+package io.ebeaninternal.server.transaction;
+
+import io.ebean.bean.PersistenceContext;
+import org.junit.Test;
+import org.tests.model.basic.Customer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.StrictAssertions.assertThat;
+
+public class ConcurrentPersistenceContextTest extends DefaultPersistenceContextTest {
+
+  @Override
+  PersistenceContext pc() {
+    return new ConcurrentPersistenceContext();
+  }
+
+  @Test
+  public void putIfAbsent_concurrent_oneInstancePerId() throws Exception {
+
+    PersistenceContext pc = pc();
+    ConcurrentHashMap<Integer, Object> winners = new ConcurrentHashMap<>();
+
+    ExecutorService pool = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < 8; t++) {
+        futures.add(pool.submit(() -> {
+          for (int i = 0; i < 1000; i++) {
+            Customer customer = new Customer();
+            Object existing = pc.putIfAbsent(Customer.class, i, customer);
+            Object bean = (existing == null) ? customer : existing;
+            Object prior = winners.putIfAbsent(i, bean);
+            if (prior != null) {
+              assertThat(bean).isSameAs(prior);
+            }
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get(10, TimeUnit.SECONDS);
+      }
+    } finally {
+      pool.shutdown();
+    }
+
+    assertThat(pc.size(Customer.class)).isEqualTo(1000);
+    for (int i = 0; i < 1000; i++) {
+      assertThat(pc.get(Customer.class, i)).isSameAs(winners.get(i));
+    }
+  }
+}
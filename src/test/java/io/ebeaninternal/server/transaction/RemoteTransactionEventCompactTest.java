@@ -0,0 +1,188 @@
+package io.ebeaninternal.server.transaction;
+
+import io.ebean.BaseTestCase;
+import io.ebean.Ebean;
+import io.ebeaninternal.api.SpiEbeanServer;
+import io.ebeaninternal.api.TransactionEventTable.TableIUD;
+import io.ebeaninternal.server.cluster.BinaryMessage;
+import io.ebeaninternal.server.cluster.BinaryMessageList;
+import io.ebeaninternal.server.cluster.ClusterMessageCodec;
+import io.ebeaninternal.server.core.PersistRequest;
+import org.junit.Test;
+import org.tests.model.basic.Customer;
+import org.tests.model.basic.OCachedBean;
+import org.tests.model.basic.UUOne;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RemoteTransactionEventCompactTest extends BaseTestCase {
+
+  private final SpiEbeanServer server = (SpiEbeanServer) Ebean.getDefaultServer();
+
+  private final ClusterMessageCodec codec = new ClusterMessageCodec(0);
+
+  private RemoteTransactionEvent roundTrip(ClusterMessageCodec codec, RemoteTransactionEvent event) throws IOException {
+    return codec.decode(codec.encode(event), name -> server.getName().equals(name) ? server : null);
+  }
+
+  private BeanPersistIds persistIds(Class<?> beanType, PersistRequest.Type type, Object... ids) {
+    BeanPersistIds persistIds = new BeanPersistIds(server.getBeanDescriptor(beanType));
+    for (Object id : ids) {
+      persistIds.addId(type, (java.io.Serializable) id);
+    }
+    return persistIds;
+  }
+
+  @Test
+  public void roundTrip() throws IOException {
+
+    RemoteTransactionEvent event = new RemoteTransactionEvent(server.getName());
+    event.addTableIUD(new TableIUD("O_CUSTOMER", true, false, true));
+    event.addBeanPersistIds(persistIds(Customer.class, PersistRequest.Type.UPDATE, 3, 1, 2));
+    event.addBeanPersistIds(persistIds(OCachedBean.class, PersistRequest.Type.INSERT, 10L, 11L));
+    event.addBeanPersistIds(persistIds(UUOne.class, PersistRequest.Type.DELETE, UUID.randomUUID()));
+
+    RemoteTransactionEvent read = roundTrip(codec, event);
+
+    assertThat(read.getServer()).isSameAs(server);
+    assertThat(read.toString()).isEqualTo(event.toString());
+  }
+
+  @Test
+  public void roundTrip_deleteByIdMap_readAsBeanPersistIds() throws IOException {
+
+    DeleteByIdMap deleteByIdMap = new DeleteByIdMap();
+    deleteByIdMap.addList(server.getBeanDescriptor(Customer.class), Arrays.asList(7, 8));
+
+    RemoteTransactionEvent event = new RemoteTransactionEvent(server.getName());
+    event.setDeleteByIdMap(deleteByIdMap);
+
+    RemoteTransactionEvent read = roundTrip(codec, event);
+    assertThat(read.getBeanPersistList()).hasSize(1);
+    assertThat(read.getBeanPersistList().get(0).getDeleteIds()).containsExactly(7, 8);
+  }
+
+  @Test
+  public void encode_smallerThanBinaryMessages() throws IOException {
+
+    RemoteTransactionEvent event = new RemoteTransactionEvent(server.getName());
+    BeanPersistIds updates = persistIds(OCachedBean.class, PersistRequest.Type.UPDATE);
+    for (long i = 1000; i < 2000; i++) {
+      updates.addId(PersistRequest.Type.UPDATE, i);
+    }
+    event.addBeanPersistIds(updates);
+
+    BinaryMessageList messageList = new BinaryMessageList();
+    event.writeBinaryMessage(messageList);
+    int binarySize = 0;
+    for (BinaryMessage message : messageList.getList()) {
+      binarySize += message.getByteArray().length;
+    }
+
+    byte[] compact = codec.encode(event);
+    assertThat(compact.length * 4).isLessThan(binarySize);
+    assertThat(roundTrip(codec, event).toString()).isEqualTo(event.toString());
+  }
+
+  @Test
+  public void encode_compressed() throws IOException {
+
+    RemoteTransactionEvent event = new RemoteTransactionEvent(server.getName());
+    BeanPersistIds deletes = persistIds(UUOne.class, PersistRequest.Type.DELETE);
+    UUID id = UUID.randomUUID();
+    for (int i = 0; i < 200; i++) {
+      deletes.addId(PersistRequest.Type.DELETE, id);
+      event.addTableIUD(new TableIUD("TABLE_" + i, false, true, false));
+    }
+    event.addBeanPersistIds(deletes);
+
+    ClusterMessageCodec compressing = new ClusterMessageCodec(100);
+    assertThat(compressing.encode(event).length).isLessThan(codec.encode(event).length);
+
+    RemoteTransactionEvent read = roundTrip(compressing, event);
+    assertThat(read.getTableIUDList()).hasSize(200);
+    // duplicate ids are removed
+    assertThat(read.getBeanPersistList().get(0).getDeleteIds()).containsExactly(id);
+  }
+
+  @Test
+  public void decode_unknownServer_expect_null() throws IOException {
+
+    RemoteTransactionEvent event = new RemoteTransactionEvent("notAServer");
+    event.addTableIUD(new TableIUD("O_CUSTOMER", true, false, false));
+
+    assertThat(codec.decode(codec.encode(event), name -> null)).isNull();
+  }
+
+  /**
+   * Return the server with the given bean type unknown (as per a node running a different version).
+   */
+  private SpiEbeanServer serverWithout(Class<?> beanType) {
+    String unknownId = server.getBeanDescriptor(beanType).getDescriptorId();
+    return (SpiEbeanServer) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{SpiEbeanServer.class}, (proxy, method, args) -> {
+      if (method.getName().equals("getBeanDescriptorById") && unknownId.equals(args[0])) {
+        return null;
+      }
+      try {
+        return method.invoke(server, args);
+      } catch (InvocationTargetException e) {
+        throw e.getCause();
+      }
+    });
+  }
+
+  @Test
+  public void decode_unknownBeanType_expect_skipped() throws IOException {
+
+    RemoteTransactionEvent event = new RemoteTransactionEvent(server.getName());
+    event.addTableIUD(new TableIUD("O_CUSTOMER", true, false, false));
+    event.addBeanPersistIds(persistIds(Customer.class, PersistRequest.Type.UPDATE, 1, 2));
+    event.addBeanPersistIds(persistIds(UUOne.class, PersistRequest.Type.DELETE, UUID.randomUUID(), UUID.randomUUID()));
+    event.addBeanPersistIds(persistIds(OCachedBean.class, PersistRequest.Type.INSERT, 10L));
+
+    SpiEbeanServer otherServer = serverWithout(UUOne.class);
+    RemoteTransactionEvent read = codec.decode(codec.encode(event), name -> otherServer);
+
+    assertThat(read.getTableIUDList()).hasSize(1);
+    assertThat(read.getBeanPersistList()).hasSize(2);
+    assertThat(read.getBeanPersistList().get(0).getBeanDescriptor().getBeanType()).isEqualTo(Customer.class);
+    assertThat(read.getBeanPersistList().get(0).toString()).contains("updateIds:[1, 2]");
+    assertThat(read.getBeanPersistList().get(1).getBeanDescriptor().getBeanType()).isEqualTo(OCachedBean.class);
+    assertThat(read.getBeanPersistList().get(1).toString()).contains("insertIds:[10]");
+  }
+
+  @Test
+  public void merge() {
+
+    RemoteTransactionEvent event0 = new RemoteTransactionEvent(server.getName());
+    event0.addTableIUD(new TableIUD("O_CUSTOMER", true, false, false));
+    event0.addBeanPersistIds(persistIds(Customer.class, PersistRequest.Type.UPDATE, 1, 2));
+
+    RemoteTransactionEvent event1 = new RemoteTransactionEvent(server.getName());
+    event1.addTableIUD(new TableIUD("O_CUSTOMER", false, false, true));
+    event1.addBeanPersistIds(persistIds(Customer.class, PersistRequest.Type.UPDATE, 3));
+    event1.addBeanPersistIds(persistIds(OCachedBean.class, PersistRequest.Type.DELETE, 4L));
+
+    RemoteTransactionEvent merged = new RemoteTransactionEvent(server.getName());
+    merged.merge(event0);
+    merged.merge(event1);
+
+    assertThat(merged.getTableIUDList()).hasSize(1);
+    TableIUD tableIUD = merged.getTableIUDList().get(0);
+    assertThat(tableIUD.isInsert()).isTrue();
+    assertThat(tableIUD.isUpdate()).isFalse();
+    assertThat(tableIUD.isDelete()).isTrue();
+    assertThat(merged.getBeanPersistList()).hasSize(2);
+    assertThat(merged.getBeanPersistList().get(0).toString()).contains("updateIds:[1, 2, 3]");
+
+    // the merged events are not modified
+    assertThat(event0.getTableIUDList().get(0).isDelete()).isFalse();
+    assertThat(event0.getBeanPersistList().get(0).toString()).contains("updateIds:[1, 2]");
+  }
+}
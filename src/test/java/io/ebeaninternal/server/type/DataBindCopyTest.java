@@ -0,0 +1,77 @@
+package io.ebeaninternal.server.type;
+
+import io.ebeaninternal.server.core.timezone.NoDataTimeZone;
+import io.ebeaninternal.server.core.timezone.SimpleDataTimeZone;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DataBindCopyTest {
+
+  @Test
+  public void formatRow() throws SQLException {
+
+    StringBuilder buffer = new StringBuilder();
+    DataBindCopy bind = new DataBindCopy(new NoDataTimeZone(), buffer);
+    bind.setLong(42);
+    bind.setString("a\tb\\c\nd");
+    bind.setNull(Types.VARCHAR);
+    bind.setBoolean(true);
+    bind.setBigDecimal(new BigDecimal("1.50"));
+    bind.setBytes(new byte[]{1, (byte) 0xAB});
+    bind.endRow();
+    bind.setInt(1);
+    bind.setObject(null);
+    bind.endRow();
+
+    assertThat(buffer.toString()).isEqualTo("42\ta\\tb\\\\c\\nd\t\\N\tt\t1.50\t\\\\x01ab\n1\t\\N\n");
+  }
+
+  @Test
+  public void formatTimestamp() throws SQLException {
+
+    StringBuilder buffer = new StringBuilder();
+    DataBindCopy bind = new DataBindCopy(new NoDataTimeZone(), buffer);
+    Timestamp ts = Timestamp.valueOf("2017-03-04 10:11:12.5");
+    bind.setTimestamp(ts);
+
+    // with the offset of the JVM default time zone (as per the JDBC bind)
+    assertThat(OffsetDateTime.parse(buffer.toString()).toInstant()).isEqualTo(ts.toInstant());
+  }
+
+  @Test
+  public void formatTimestamp_when_dataTimeZone_expect_offset() throws SQLException {
+
+    StringBuilder buffer = new StringBuilder();
+    DataBindCopy bind = new DataBindCopy(new SimpleDataTimeZone("Pacific/Auckland"), buffer);
+    bind.setTimestamp(Timestamp.from(Instant.parse("2017-03-04T10:11:12.5Z")));
+
+    assertThat(buffer.toString()).isEqualTo("2017-03-04T23:11:12.500+13:00");
+  }
+
+  @Test
+  public void array() {
+
+    assertThat(DataBindCopy.array(new Object[]{"a", null, "b\"c"})).isEqualTo("{\"a\",NULL,\"b\\\"c\"}");
+  }
+
+  @Test
+  public void replayCapture() throws SQLException {
+
+    DataBindCapture capture = new DataBindCapture();
+    capture.setString("x");
+    capture.setInt(7);
+    assertThat(capture.size()).isEqualTo(2);
+
+    StringBuilder buffer = new StringBuilder();
+    capture.replay(new DataBindCopy(new NoDataTimeZone(), buffer));
+    assertThat(buffer.toString()).isEqualTo("x\t7");
+  }
+}
@@ -0,0 +1,128 @@
+package org.tests.batchinsert;
+
+import io.ebean.BaseTestCase;
+import io.ebean.EbeanServer;
+import io.ebean.EbeanServerFactory;
+import io.ebean.Transaction;
+import io.ebean.config.ContainerConfig;
+import io.ebean.config.ServerConfig;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.ebeantest.LoggedSqlCollector;
+import org.junit.Test;
+import org.tests.model.basic.EBasicVer;
+import org.tests.model.basic.UUOne;
+import org.tests.model.basic.UUTwo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestBatchInsertMultiRow extends BaseTestCase {
+
+  private static EbeanServer server;
+
+  @BeforeClass
+  public static void create() {
+
+    System.setProperty("ebean.ignoreExtraDdl", "true");
+
+    ServerConfig config = new ServerConfig();
+    config.setName("multiRowInsert");
+
+    Properties properties = new Properties();
+    properties.setProperty("datasource.multiRowInsert.username", "sa");
+    properties.setProperty("datasource.multiRowInsert.password", "");
+    properties.setProperty("datasource.multiRowInsert.databaseUrl", "jdbc:h2:mem:multiRowInsert;");
+    properties.setProperty("datasource.multiRowInsert.databaseDriver", "org.h2.Driver");
+
+    config.loadFromProperties(properties);
+    config.setPersistBatchMultiRowInsert(true);
+    config.setContainerConfig(new ContainerConfig());
+    config.setDdlGenerate(true);
+    config.setDdlRun(true);
+    config.setDefaultServer(false);
+    config.setRegister(false);
+
+    config.addClass(UUOne.class);
+    config.addClass(UUTwo.class);
+    config.addClass(EBasicVer.class);
+
+    server = EbeanServerFactory.create(config);
+  }
+
+  @AfterClass
+  public static void shutdown() {
+    server.shutdown(false, false);
+  }
+
+  @Test
+  public void insert_withCascade() {
+
+    List<UUOne> ones = new ArrayList<>();
+    LoggedSqlCollector.start();
+    try (Transaction txn = server.beginTransaction()) {
+      txn.setBatchMode(true);
+      txn.setBatchSize(1000);
+      for (int i = 0; i < 1100; i++) {
+        UUOne one = new UUOne();
+        one.setName("one" + i);
+        List<UUTwo> twos = new ArrayList<>();
+        for (int j = 0; j < 2; j++) {
+          UUTwo two = new UUTwo();
+          two.setName("two" + j);
+          twos.add(two);
+        }
+        one.setComments(twos);
+        server.save(one);
+        ones.add(one);
+      }
+      txn.commit();
+    }
+    List<String> sql = LoggedSqlCollector.stop();
+
+    assertThat(multiRowInserts(sql, "uuone")).isNotEmpty();
+    assertThat(multiRowInserts(sql, "uutwo")).isNotEmpty();
+
+    assertThat(ones).extracting(UUOne::getId).doesNotContainNull();
+    assertThat(server.find(UUOne.class).findCount()).isEqualTo(1100);
+    assertThat(server.find(UUTwo.class).findCount()).isEqualTo(2200);
+
+    UUOne found = server.find(UUOne.class, ones.get(1050).getId());
+    assertThat(found.getName()).isEqualTo("one1050");
+    assertThat(found.getComments()).hasSize(2);
+  }
+
+  @Test
+  public void insert_withGeneratedKeys_usesJdbcBatch() {
+
+    // H2 does not return a key per row for a multi-row insert
+    List<EBasicVer> beans = new ArrayList<>();
+    for (int i = 0; i < 30; i++) {
+      beans.add(new EBasicVer("multi" + i));
+    }
+    LoggedSqlCollector.start();
+    server.saveAll(beans);
+    List<String> sql = LoggedSqlCollector.stop();
+
+    assertThat(multiRowInserts(sql, "e_basicver")).isEmpty();
+
+    assertThat(beans).extracting(EBasicVer::getId).doesNotContainNull();
+    assertThat(server.find(EBasicVer.class).where().startsWith("name", "multi").findCount()).isEqualTo(30);
+  }
+
+  /**
+   * Return the logged multi-row insert statements (values (...),(...)) for the given table.
+   */
+  private List<String> multiRowInserts(List<String> sql, String table) {
+    List<String> inserts = new ArrayList<>();
+    for (String statement : sql) {
+      if (statement.contains("insert into " + table + " ") && statement.contains("),(")) {
+        inserts.add(statement);
+      }
+    }
+    return inserts;
+  }
+}
@@ -0,0 +1,122 @@
+package org.tests.batchinsert;
+
+import io.ebean.BaseTestCase;
+import io.ebean.Ebean;
+import io.ebean.EbeanServer;
+import io.ebean.Transaction;
+import io.ebean.text.csv.CsvReader;
+import org.junit.Test;
+import org.tests.model.basic.EBasicVer;
+import org.tests.model.basic.UUOne;
+import org.tests.model.basic.UUTwo;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestBulkInsert extends BaseTestCase {
+
+  @Test
+  public void bulkInsert_generatedKeys() {
+
+    List<EBasicVer> beans = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      beans.add(new EBasicVer("bulkInsert" + i));
+    }
+
+    int rows = Ebean.bulkInsert(beans);
+
+    assertThat(rows).isEqualTo(50);
+    assertThat(beans).extracting(EBasicVer::getId).doesNotContainNull();
+    assertThat(beans).extracting(EBasicVer::getLastUpdate).doesNotContainNull();
+    assertThat(Ebean.find(EBasicVer.class).where().startsWith("name", "bulkInsert").findCount()).isEqualTo(50);
+
+    // persisting again is an update
+    EBasicVer bean = beans.get(10);
+    bean.setDescription("modified");
+    Ebean.save(bean);
+
+    EBasicVer found = Ebean.find(EBasicVer.class, bean.getId());
+    assertThat(found.getName()).isEqualTo("bulkInsert10");
+    assertThat(found.getDescription()).isEqualTo("modified");
+  }
+
+  @Test
+  public void bulkInsert_invalidatesQueryCache() {
+
+    EbeanServer server = Ebean.getDefaultServer();
+    server.bulkInsert(singleBean("bulkCache1"));
+
+    int count = server.find(EBasicVer.class).setUseQueryCache(true).where().startsWith("name", "bulkCache").findList().size();
+
+    server.bulkInsert(singleBean("bulkCache2"));
+
+    List<EBasicVer> list = server.find(EBasicVer.class).setUseQueryCache(true).where().startsWith("name", "bulkCache").findList();
+    assertThat(list).hasSize(count + 1);
+  }
+
+  @Test
+  public void bulkInsert_assignedIds() {
+
+    List<UUOne> beans = new ArrayList<>();
+    for (int i = 0; i < 30; i++) {
+      UUOne bean = new UUOne();
+      bean.setName("bulkUU" + i);
+      beans.add(bean);
+    }
+
+    assertThat(Ebean.bulkInsert(beans)).isEqualTo(30);
+    assertThat(beans).extracting(UUOne::getId).doesNotContainNull();
+
+    UUOne found = Ebean.find(UUOne.class, beans.get(29).getId());
+    assertThat(found.getName()).isEqualTo("bulkUU29");
+  }
+
+  @Test
+  public void csvReader_bulkInsert() throws Exception {
+
+    StringReader reader = new StringReader("bulkCsv0,first\nbulkCsv1,second\nbulkCsv2,third\n");
+
+    CsvReader<EBasicVer> csvReader = Ebean.createCsvReader(EBasicVer.class);
+    csvReader.setBulkInsert(true);
+    csvReader.addProperty("name");
+    csvReader.addProperty("description");
+    csvReader.process(reader);
+
+    List<EBasicVer> list = Ebean.find(EBasicVer.class).where().startsWith("name", "bulkCsv").orderBy("name").findList();
+    assertThat(list).extracting(EBasicVer::getDescription).containsExactly("first", "second", "third");
+  }
+
+  @Test
+  public void bulkInsert_when_parentInJdbcBatch_expect_batchFlushedFirst() {
+
+    try (Transaction transaction = Ebean.beginTransaction()) {
+      transaction.setBatchMode(true);
+      transaction.setBatchSize(100);
+
+      UUOne parent = new UUOne();
+      parent.setName("bulkParent");
+      Ebean.save(parent);
+
+      List<UUTwo> children = new ArrayList<>();
+      for (int i = 0; i < 5; i++) {
+        UUTwo child = new UUTwo();
+        child.setName("bulkChild" + i);
+        child.setMaster(parent);
+        children.add(child);
+      }
+      assertThat(Ebean.bulkInsert(children)).isEqualTo(5);
+      transaction.commit();
+    }
+
+    assertThat(Ebean.find(UUTwo.class).where().eq("master.name", "bulkParent").findCount()).isEqualTo(5);
+  }
+
+  private List<EBasicVer> singleBean(String name) {
+    List<EBasicVer> beans = new ArrayList<>();
+    beans.add(new EBasicVer(name));
+    return beans;
+  }
+}
@@ -0,0 +1,197 @@
+package org.tests.batchinsert;
+
+import io.ebean.BaseTestCase;
+import io.ebean.EbeanServer;
+import io.ebean.EbeanServerFactory;
+import io.ebean.config.ServerConfig;
+import io.ebean.config.dbplatform.h2.H2Platform;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.core.BaseConnection;
+import org.postgresql.core.QueryExecutor;
+import org.tests.model.basic.UUOne;
+import org.tests.model.basic.UUTwo;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bulk insert using COPY with the Postgres copy API stubbed (counting the rows) over H2.
+ */
+public class TestBulkInsertCopyIn extends BaseTestCase {
+
+  /**
+   * Counts the rows written to the COPY and returns the count on end (like Postgres).
+   */
+  private static class CountingCopyIn implements CopyIn {
+
+    private long rows;
+
+    @Override
+    public void writeToCopy(byte[] buf, int off, int siz) {
+      for (int i = off; i < off + siz; i++) {
+        if (buf[i] == '\n') {
+          rows++;
+        }
+      }
+    }
+
+    @Override
+    public void flushCopy() {
+    }
+
+    @Override
+    public long endCopy() {
+      return rows;
+    }
+
+    @Override
+    public int getFieldCount() {
+      return 0;
+    }
+
+    @Override
+    public int getFormat() {
+      return 0;
+    }
+
+    @Override
+    public int getFieldFormat(int field) {
+      return 0;
+    }
+
+    @Override
+    public boolean isActive() {
+      return false;
+    }
+
+    @Override
+    public void cancelCopy() {
+    }
+
+    @Override
+    public long getHandledRowCount() {
+      return rows;
+    }
+  }
+
+  private final List<String> copySql = new ArrayList<>();
+
+  private <T> T proxy(Class<T> type, Object target, Handler handler) {
+    return type.cast(Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+      Object result = handler.invoke(proxy, method, args);
+      if (result != Handler.DELEGATE) {
+        return result;
+      }
+      try {
+        return method.invoke(target, args);
+      } catch (InvocationTargetException e) {
+        throw e.getCause();
+      }
+    }));
+  }
+
+  private interface Handler {
+
+    Object DELEGATE = new Object();
+
+    Object invoke(Object proxy, Method method, Object[] args) throws Throwable;
+  }
+
+  /**
+   * Connection that unwraps to a PGConnection with the copy API stubbed.
+   */
+  private Connection connection(Connection connection) {
+    return proxy(Connection.class, connection, (proxy, method, args) -> {
+      if (method.getName().equals("unwrap") && args[0] == PGConnection.class) {
+        return copyConnection();
+      }
+      return Handler.DELEGATE;
+    });
+  }
+
+  private BaseConnection copyConnection() {
+    QueryExecutor executor = proxy(QueryExecutor.class, null, (proxy, method, args) -> {
+      if (method.getName().equals("startCopy")) {
+        copySql.add((String) args[0]);
+        return new CountingCopyIn();
+      }
+      throw new UnsupportedOperationException(method.getName());
+    });
+    return proxy(BaseConnection.class, null, (proxy, method, args) -> {
+      switch (method.getName()) {
+        case "getQueryExecutor":
+          return executor;
+        case "getAutoCommit":
+          return false;
+        case "getEncoding":
+          return null;
+        case "getCopyAPI":
+          return new CopyManager((BaseConnection) proxy);
+        default:
+          throw new UnsupportedOperationException(method.getName());
+      }
+    });
+  }
+
+  private EbeanServer createServer() {
+
+    System.setProperty("ebean.ignoreExtraDdl", "true");
+
+    JdbcDataSource h2 = new JdbcDataSource();
+    h2.setURL("jdbc:h2:mem:bulkCopyIn");
+    h2.setUser("sa");
+    h2.setPassword("");
+    DataSource dataSource = proxy(DataSource.class, h2, (proxy, method, args) -> {
+      if (method.getName().equals("getConnection")) {
+        return connection(h2.getConnection());
+      }
+      return Handler.DELEGATE;
+    });
+
+    H2Platform platform = new H2Platform();
+    platform.setSupportsCopyIn(true);
+
+    ServerConfig config = new ServerConfig();
+    config.setName("bulkCopyIn");
+    config.setDataSource(dataSource);
+    config.setDatabasePlatform(platform);
+    config.setDdlGenerate(true);
+    config.setDdlRun(true);
+    config.setDefaultServer(false);
+    config.setRegister(false);
+    config.addClass(UUOne.class);
+    config.addClass(UUTwo.class);
+    return EbeanServerFactory.create(config);
+  }
+
+  @Test
+  public void bulkInsert_expect_rowCountOfCopy() {
+
+    EbeanServer server = createServer();
+    try {
+      List<UUOne> beans = new ArrayList<>();
+      for (int i = 0; i < 25; i++) {
+        UUOne bean = new UUOne();
+        bean.setName("copy" + i);
+        beans.add(bean);
+      }
+
+      assertThat(server.bulkInsert(beans)).isEqualTo(25);
+      assertThat(copySql).containsExactly("copy uuone (id, name) from stdin");
+
+    } finally {
+      server.shutdown(false, false);
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package org.tests.cache;
+
+import io.ebean.BaseTestCase;
+import io.ebean.Ebean;
+import io.ebean.cache.ServerCache;
+import io.ebean.meta.MetaCacheMissCoalesceStatistic;
+import io.ebean.meta.MetaInfoManager;
+import org.junit.After;
+import org.junit.Test;
+import org.tests.model.basic.Country;
+import org.tests.model.basic.ResetBasicData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestCacheMissCoalescing extends BaseTestCase {
+
+  private final MetaInfoManager metaInfoManager = Ebean.getDefaultServer().getMetaInfoManager();
+
+  private MetaCacheMissCoalesceStatistic statistic(boolean reset) {
+    return metaInfoManager.getMetaBeanInfo(Country.class).getCacheMissCoalesceStatistic(reset);
+  }
+
+  private void clearCaches() {
+    awaitL2Cache();
+    ServerCache queryCache = Ebean.getServerCacheManager().getQueryCache(Country.class);
+    queryCache.clear();
+    queryCache.getStatistics(true);
+    ServerCache beanCache = Ebean.getServerCacheManager().getBeanCache(Country.class);
+    beanCache.clear();
+    beanCache.getStatistics(true);
+    statistic(true);
+  }
+
+  @After
+  public void after() {
+    clearCaches();
+  }
+
+  @Test
+  public void queryCache_when_coalescing_expect_loadCounted() {
+
+    ResetBasicData.reset();
+    clearCaches();
+
+    List<Country> list0 = Ebean.find(Country.class)
+      .setUseQueryCache(true)
+      .setCacheMissCoalescing(true)
+      .where().ilike("name", "New%")
+      .findList();
+
+    List<Country> list1 = Ebean.find(Country.class)
+      .setUseQueryCache(true)
+      .setCacheMissCoalescing(true)
+      .where().ilike("name", "New%")
+      .findList();
+
+    assertThat(list1).isSameAs(list0);
+
+    MetaCacheMissCoalesceStatistic statistic = statistic(true);
+    assertThat(statistic.getQueryCacheLoadCount()).isEqualTo(1);
+    assertThat(statistic.getQueryCacheWaitCount()).isEqualTo(0);
+
+    // reset above so Country is excluded from the collected statistics
+    for (MetaCacheMissCoalesceStatistic stat : metaInfoManager.collectCacheMissCoalesceStatistics(false)) {
+      assertThat(stat.getBeanType()).isNotEqualTo(Country.class);
+    }
+  }
+
+  @Test
+  public void queryCache_when_notCoalescing_expect_noLoadCounted() {
+
+    ResetBasicData.reset();
+    clearCaches();
+
+    Ebean.find(Country.class)
+      .setUseQueryCache(true)
+      .where().ilike("name", "Aus%")
+      .findList();
+
+    assertThat(statistic(true).getQueryCacheLoadCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void queryCache_when_concurrentMisses_expect_sameResult() throws Exception {
+
+    ResetBasicData.reset();
+    clearCaches();
+
+    int threads = 4;
+    CyclicBarrier barrier = new CyclicBarrier(threads);
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<List<Country>>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        Callable<List<Country>> task = () -> {
+          barrier.await();
+          return Ebean.find(Country.class)
+            .setUseQueryCache(true)
+            .setCacheMissCoalescing(true)
+            .order().asc("name")
+            .findList();
+        };
+        futures.add(executor.submit(task));
+      }
+      List<Country> first = futures.get(0).get();
+      for (Future<List<Country>> future : futures) {
+        assertThat(future.get()).hasSameSizeAs(first);
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    MetaCacheMissCoalesceStatistic statistic = statistic(true);
+    assertThat(statistic.getQueryCacheLoadCount()).isBetween(1L, (long) threads);
+    assertThat(statistic.getTimeoutCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void beanCache_when_coalescing_expect_loadCounted() {
+
+    ResetBasicData.reset();
+    clearCaches();
+
+    Country nz0 = Ebean.find(Country.class).setCacheMissCoalescing(true).setId("NZ").findOne();
+    Country nz1 = Ebean.find(Country.class).setCacheMissCoalescing(true).setId("NZ").findOne();
+
+    assertThat(nz0).isNotNull();
+    assertThat(nz1.getName()).isEqualTo(nz0.getName());
+
+    MetaCacheMissCoalesceStatistic statistic = statistic(true);
+    assertThat(statistic.getBeanCacheLoadCount()).isEqualTo(1);
+    assertThat(statistic.getBeanCacheWaitCount()).isEqualTo(0);
+  }
+}
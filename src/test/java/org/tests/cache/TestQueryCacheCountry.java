@@ -54,15 +54,15 @@ public class TestQueryCacheCountry extends BaseTestCase {
     Ebean.save(nz);
     awaitL2Cache();
 
-    statistics = queryCache.getStatistics(false);
-    assertEquals(0, statistics.getSize());
-
+    // the cached query depends on name so is invalidated when next read
     List<Country> countryList2 = Ebean.find(Country.class)
       .setUseQueryCache(true)
       .order().asc("name")
       .findList();
 
     Assert.assertNotSame(countryList2, countryList0);
+    statistics = queryCache.getStatistics(false);
+    assertEquals(1, statistics.getInvalidateByUpdate());
   }
 
 }
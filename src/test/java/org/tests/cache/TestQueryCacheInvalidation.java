@@ -0,0 +1,136 @@
+package org.tests.cache;
+
+import io.ebean.BaseTestCase;
+import io.ebean.Ebean;
+import io.ebean.cache.ServerCache;
+import io.ebean.cache.ServerCacheStatistics;
+import org.junit.Before;
+import org.junit.Test;
+import org.tests.inheritance.model.GroupConfiguration;
+import org.tests.inheritance.model.ProductConfiguration;
+import org.tests.model.cache.EColAB;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestQueryCacheInvalidation extends BaseTestCase {
+
+  private final ServerCache queryCache = Ebean.getServerCacheManager().getQueryCache(EColAB.class);
+
+  @Before
+  public void clearCache() {
+    queryCache.clear();
+    queryCache.getStatistics(true);
+  }
+
+  private List<EColAB> findByColumnA(String columnA) {
+    return Ebean.find(EColAB.class)
+      .setUseQueryCache(true)
+      .select("columnA")
+      .where().eq("columnA", columnA)
+      .findList();
+  }
+
+  private List<EColAB> findByColumnB(String columnB) {
+    return Ebean.find(EColAB.class)
+      .setUseQueryCache(true)
+      .select("columnB")
+      .where().eq("columnB", columnB)
+      .findList();
+  }
+
+  @Test
+  public void update_when_columnNotInQuery_expect_notInvalidated() {
+
+    EColAB bean = new EColAB("inv-A1", "inv-B1");
+    bean.save();
+
+    List<EColAB> list0 = findByColumnA("inv-A1");
+    assertThat(list0).hasSize(1);
+
+    bean.setColumnB("inv-B1-mod");
+    bean.save();
+
+    List<EColAB> list1 = findByColumnA("inv-A1");
+    assertThat(list1).isSameAs(list0);
+
+    ServerCacheStatistics statistics = queryCache.getStatistics(false);
+    assertThat(statistics.getHitCount()).isEqualTo(1);
+    assertThat(statistics.getInvalidateByUpdate()).isEqualTo(0);
+  }
+
+  @Test
+  public void update_when_columnInQuery_expect_invalidated() {
+
+    EColAB bean = new EColAB("inv-A2", "inv-B2");
+    bean.save();
+
+    List<EColAB> list0 = findByColumnB("inv-B2");
+    assertThat(list0).hasSize(1);
+
+    bean.setColumnB("inv-B2-mod");
+    bean.save();
+
+    List<EColAB> list1 = findByColumnB("inv-B2");
+    assertThat(list1).isNotSameAs(list0);
+    assertThat(list1).isEmpty();
+
+    ServerCacheStatistics statistics = queryCache.getStatistics(false);
+    assertThat(statistics.getInvalidateByUpdate()).isEqualTo(1);
+    assertThat(statistics.getHitCount()).isEqualTo(0);
+    assertThat(statistics.getMissCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void insert_expect_invalidated() {
+
+    new EColAB("inv-A3", "inv-B3").save();
+
+    List<EColAB> list0 = findByColumnA("inv-A3");
+    assertThat(list0).hasSize(1);
+
+    new EColAB("inv-A3", "other").save();
+
+    List<EColAB> list1 = findByColumnA("inv-A3");
+    assertThat(list1).hasSize(2);
+    assertThat(queryCache.getStatistics(false).getInvalidateByInsert()).isEqualTo(1);
+  }
+
+  @Test
+  public void delete_expect_invalidated() {
+
+    EColAB bean = new EColAB("inv-A4", "inv-B4");
+    bean.save();
+
+    List<EColAB> list0 = findByColumnA("inv-A4");
+    assertThat(list0).hasSize(1);
+
+    bean.delete();
+
+    List<EColAB> list1 = findByColumnA("inv-A4");
+    assertThat(list1).isEmpty();
+    assertThat(queryCache.getStatistics(false).getInvalidateByDelete()).isEqualTo(1);
+  }
+
+  @Test
+  public void insert_when_otherDiscriminator_expect_notInvalidated() {
+
+    ProductConfiguration product = new ProductConfiguration();
+    product.setName("inv-product");
+    Ebean.save(product);
+    Ebean.save(new GroupConfiguration("inv-group"));
+
+    List<ProductConfiguration> products0 = Ebean.find(ProductConfiguration.class).setUseQueryCache(true).findList();
+    List<GroupConfiguration> groups0 = Ebean.find(GroupConfiguration.class).setUseQueryCache(true).findList();
+
+    Ebean.save(new GroupConfiguration("inv-group2"));
+
+    List<ProductConfiguration> products1 = Ebean.find(ProductConfiguration.class).setUseQueryCache(true).findList();
+    List<GroupConfiguration> groups1 = Ebean.find(GroupConfiguration.class).setUseQueryCache(true).findList();
+
+    assertThat(products1).isSameAs(products0);
+    assertThat(groups1).isNotSameAs(groups0);
+    assertThat(groups1).hasSize(groups0.size() + 1);
+  }
+}
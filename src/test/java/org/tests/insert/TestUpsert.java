@@ -0,0 +1,155 @@
+package org.tests.insert;
+
+import io.ebean.BaseTestCase;
+import io.ebean.Ebean;
+import io.ebean.Transaction;
+import org.ebeantest.LoggedSqlCollector;
+import org.junit.Test;
+import org.tests.model.basic.EBasicVer;
+import org.tests.model.basic.EWithInetAddr;
+import org.tests.model.basic.UUOne;
+import org.tests.model.basic.UUTwo;
+
+import javax.persistence.OptimisticLockException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestUpsert extends BaseTestCase {
+
+  private UUOne bean(UUID id, String name) {
+    UUOne bean = new UUOne();
+    bean.setId(id);
+    bean.setName(name);
+    return bean;
+  }
+
+  @Test
+  public void upsert_insertThenUpdate() {
+
+    UUID id = UUID.randomUUID();
+    Ebean.upsert(bean(id, "upsert-insert"));
+    assertThat(Ebean.find(UUOne.class, id).getName()).isEqualTo("upsert-insert");
+
+    // a new instance with the same id results in an update
+    UUOne other = bean(id, "upsert-update");
+    Ebean.upsert(other);
+    awaitL2Cache();
+
+    assertThat(Ebean.find(UUOne.class, id).getName()).isEqualTo("upsert-update");
+    assertThat(Ebean.find(UUOne.class).where().idEq(id).findCount()).isEqualTo(1);
+
+    // upserted bean is loaded so save() is an update
+    other.setName("upsert-save");
+    Ebean.save(other);
+    awaitL2Cache();
+    assertThat(Ebean.find(UUOne.class, id).getName()).isEqualTo("upsert-save");
+  }
+
+  @Test
+  public void upsertAll_batched() {
+
+    List<UUOne> existing = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      existing.add(bean(UUID.randomUUID(), "upsertAll-" + i));
+    }
+    Ebean.insertAll(existing);
+
+    List<UUOne> beans = new ArrayList<>();
+    for (UUOne bean : existing) {
+      beans.add(bean(bean.getId(), bean.getName() + "-mod"));
+    }
+    for (int i = 5; i < 10; i++) {
+      beans.add(bean(UUID.randomUUID(), "upsertAll-" + i));
+    }
+
+    LoggedSqlCollector.start();
+    try (Transaction txn = Ebean.beginTransaction()) {
+      txn.setBatchMode(true);
+      Ebean.upsertAll(beans);
+      txn.commit();
+    }
+    List<String> sql = LoggedSqlCollector.stop();
+
+    assertThat(sql).hasSize(10);
+    if (isH2()) {
+      for (String stmt : sql) {
+        assertThat(stmt).contains("merge into uuone");
+      }
+    }
+
+    List<UUOne> found = Ebean.find(UUOne.class).where().startsWith("name", "upsertAll-").orderBy("name").findList();
+    assertThat(found).extracting(UUOne::getName).containsExactly("upsertAll-0-mod", "upsertAll-1-mod", "upsertAll-2-mod",
+      "upsertAll-3-mod", "upsertAll-4-mod", "upsertAll-5", "upsertAll-6", "upsertAll-7", "upsertAll-8", "upsertAll-9");
+  }
+
+  @Test
+  public void upsert_cascade() {
+
+    UUID id = UUID.randomUUID();
+    Ebean.insert(bean(id, "upsert-parent"));
+
+    UUOne parent = bean(id, "upsert-parent-mod");
+    UUTwo child = new UUTwo();
+    child.setName("upsert-child");
+    parent.setComments(new ArrayList<>());
+    parent.getComments().add(child);
+
+    Ebean.upsert(parent);
+
+    UUOne found = Ebean.find(UUOne.class).setId(id).fetch("comments").findOne();
+    assertThat(found.getName()).isEqualTo("upsert-parent-mod");
+    assertThat(found.getComments()).extracting(UUTwo::getName).containsExactly("upsert-child");
+  }
+
+  @Test
+  public void upsert_when_version_expect_versionIncremented() {
+
+    EWithInetAddr bean = new EWithInetAddr();
+    bean.setName("upsert-ver");
+    Ebean.save(bean);
+    bean.setName("upsert-ver1");
+    Ebean.save(bean);
+    assertThat(Ebean.find(EWithInetAddr.class, bean.getId()).getVersion()).isEqualTo(2L);
+
+    // upsert of a new instance with the same id (and no version) updates the row
+    EWithInetAddr other = new EWithInetAddr();
+    other.setId(bean.getId());
+    other.setName("upserted");
+    Ebean.upsert(other);
+    awaitL2Cache();
+
+    EWithInetAddr found = Ebean.find(EWithInetAddr.class, bean.getId());
+    assertThat(found.getName()).isEqualTo("upserted");
+    assertThat(found.getVersion()).isEqualTo(3L);
+
+    // the version of the upserted bean is unloaded so save() does not fail
+    other.setName("upserted-save");
+    Ebean.save(other);
+    awaitL2Cache();
+    assertThat(Ebean.find(EWithInetAddr.class, bean.getId()).getName()).isEqualTo("upserted-save");
+
+    // reading the version lazy loads it and save() then uses it for optimistic locking
+    assertThat(other.getVersion()).isEqualTo(3L);
+    other.setName("upserted-save2");
+    Ebean.save(other);
+    assertThat(Ebean.find(EWithInetAddr.class, bean.getId()).getVersion()).isEqualTo(4L);
+
+    // the stale bean fails the optimistic locking check
+    bean.setName("stale");
+    assertThatThrownBy(() -> Ebean.save(bean)).isInstanceOf(OptimisticLockException.class);
+  }
+
+  @Test
+  public void upsert_when_identityWithoutId_expect_insert() {
+
+    EBasicVer bean = new EBasicVer("upsert-identity");
+    Ebean.upsert(bean);
+
+    assertThat(bean.getId()).isNotNull();
+    assertThat(Ebean.find(EBasicVer.class, bean.getId()).getName()).isEqualTo("upsert-identity");
+  }
+}
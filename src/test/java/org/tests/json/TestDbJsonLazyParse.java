@@ -0,0 +1,140 @@
+package org.tests.json;
+
+import io.ebean.BaseTestCase;
+import io.ebean.EbeanServer;
+import io.ebean.EbeanServerFactory;
+import io.ebean.config.ContainerConfig;
+import io.ebean.config.ServerConfig;
+import io.ebeaninternal.json.LazyJson;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.tests.model.json.EBasicJsonList;
+import org.tests.model.json.EBasicJsonMap;
+import org.tests.model.json.EBasicJsonMapDetail;
+import org.tests.model.json.PlainBean;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestDbJsonLazyParse extends BaseTestCase {
+
+  private static EbeanServer server;
+
+  @BeforeClass
+  public static void setup() {
+    server = create();
+  }
+
+  @AfterClass
+  public static void shutdown() {
+    server.shutdown(false, false);
+  }
+
+  @Test
+  public void map_when_notAccessed_expect_unparsed() {
+
+    EBasicJsonMap bean = new EBasicJsonMap();
+    bean.setName("lazy");
+    Map<String, Object> content = new LinkedHashMap<>();
+    content.put("name", "rob");
+    content.put("size", 42);
+    bean.setContent(content);
+    server.save(bean);
+
+    EBasicJsonMap found = server.find(EBasicJsonMap.class, bean.getId());
+    assertThat(LazyJson.unparsedJson(found.getContent())).isNotNull();
+
+    // toJson() writes the raw content without parsing
+    String json = server.json().toJson(found);
+    assertThat(json).contains("\"content\":{\"name\":\"rob\",\"size\":42}");
+    assertThat(LazyJson.unparsedJson(found.getContent())).isNotNull();
+
+    // update of other property does not include the unparsed content
+    found.setName("lazy-mod");
+    assertThat(server.getBeanState(found).getDirtyValues().keySet()).containsExactly("name");
+    server.save(found);
+
+    EBasicJsonMap check = server.find(EBasicJsonMap.class, bean.getId());
+    assertThat(check.getName()).isEqualTo("lazy-mod");
+    assertThat(check.getContent().get("name")).isEqualTo("rob");
+    assertThat(LazyJson.unparsedJson(check.getContent())).isNull();
+  }
+
+  @Test
+  public void map_when_modified_expect_updated() {
+
+    EBasicJsonMap bean = new EBasicJsonMap();
+    bean.setName("lazyMod");
+    Map<String, Object> content = new LinkedHashMap<>();
+    content.put("a", "one");
+    bean.setContent(content);
+    server.save(bean);
+
+    EBasicJsonMap found = server.find(EBasicJsonMap.class, bean.getId());
+    found.getContent().put("b", "two");
+    server.save(found);
+
+    EBasicJsonMap check = server.find(EBasicJsonMap.class, bean.getId());
+    assertThat(check.getContent()).containsOnlyKeys("a", "b");
+  }
+
+  @Test
+  public void objectMapperTypes() {
+
+    EBasicJsonList bean = new EBasicJsonList();
+    bean.setName("lazyList");
+    bean.getTags().add("one");
+    bean.getTags().add("two");
+    bean.getFlags().add(42L);
+    bean.getBeanMap().put("x", new PlainBean("plain", 7));
+    server.save(bean);
+
+    EBasicJsonList found = server.find(EBasicJsonList.class, bean.getId());
+    assertThat(LazyJson.unparsedJson(found.getTags())).isNotNull();
+    assertThat(LazyJson.unparsedJson(found.getFlags())).isNotNull();
+    assertThat(LazyJson.unparsedJson(found.getBeanMap())).isNotNull();
+
+    assertThat(found.getTags()).containsExactly("one", "two");
+    assertThat(found.getFlags()).containsExactly(42L);
+    assertThat(found.getBeanMap().get("x").getName()).isEqualTo("plain");
+    assertThat(server.getBeanState(found).getDirtyValues().keySet()).isEmpty();
+
+    found.getTags().add("three");
+    server.save(found);
+
+    EBasicJsonList check = server.find(EBasicJsonList.class, bean.getId());
+    assertThat(check.getTags()).containsExactly("one", "two", "three");
+  }
+
+  private static EbeanServer create() {
+
+    System.setProperty("ebean.ignoreExtraDdl", "true");
+
+    ServerConfig config = new ServerConfig();
+    config.setName("withLazyJson");
+
+    Properties properties = new Properties();
+    properties.setProperty("datasource.withLazyJson.username", "sa");
+    properties.setProperty("datasource.withLazyJson.password", "");
+    properties.setProperty("datasource.withLazyJson.databaseUrl", "jdbc:h2:mem:withLazyJson;");
+    properties.setProperty("datasource.withLazyJson.databaseDriver", "org.h2.Driver");
+    properties.setProperty("ebean.withLazyJson.dbJsonLazyParse", "true");
+
+    config.loadFromProperties(properties);
+    config.setDdlGenerate(true);
+    config.setDdlRun(true);
+    config.setContainerConfig(new ContainerConfig());
+    config.setDefaultServer(false);
+    config.setRegister(false);
+    config.addClass(EBasicJsonMap.class);
+    config.addClass(EBasicJsonMapDetail.class);
+    config.addClass(EBasicJsonList.class);
+
+    assertThat(config.isDbJsonLazyParse()).isTrue();
+    return EbeanServerFactory.create(config);
+  }
+}
@@ -0,0 +1,133 @@
+package org.tests.query;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ebean.BaseTestCase;
+import io.ebean.Ebean;
+import io.ebean.Query;
+import org.junit.Test;
+import org.tests.model.basic.Customer;
+import org.tests.model.basic.Order;
+import org.tests.model.basic.ResetBasicData;
+
+import javax.persistence.PersistenceException;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestQueryFindJson extends BaseTestCase {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private String findJson(Query<?> query) {
+    StringWriter writer = new StringWriter();
+    query.findJson(writer);
+    return writer.toString();
+  }
+
+  /**
+   * Assert findJson() produces the same JSON as toJson() of the beans from findList().
+   * <p>
+   * Null values are removed as toJson() includes the transient properties (that findJson() does not).
+   * </p>
+   */
+  private void assertSameAsToJson(Query<?> query) throws IOException {
+
+    String json = findJson(query);
+    List<?> list = query.findList();
+
+    JsonNode expected = removeNulls(objectMapper.readTree(Ebean.json().toJson(list)));
+    assertThat(removeNulls(objectMapper.readTree(json))).isEqualTo(expected);
+    assertThat(expected.size()).isEqualTo(list.size());
+  }
+
+  private JsonNode removeNulls(JsonNode node) {
+    if (node.isObject()) {
+      Iterator<JsonNode> it = node.elements();
+      while (it.hasNext()) {
+        JsonNode value = it.next();
+        if (value.isNull()) {
+          it.remove();
+        } else {
+          removeNulls(value);
+        }
+      }
+    } else if (node.isArray()) {
+      node.forEach(this::removeNulls);
+    }
+    return node;
+  }
+
+  @Test
+  public void select() throws IOException {
+
+    ResetBasicData.reset();
+
+    assertSameAsToJson(Ebean.find(Customer.class).select("name, status").order().asc("id"));
+  }
+
+  @Test
+  public void assocOne_notJoined_expect_id() throws IOException {
+
+    ResetBasicData.reset();
+
+    Query<Order> query = Ebean.find(Order.class).select("status, orderDate, customer").order().asc("id");
+    assertSameAsToJson(query);
+
+    JsonNode first = objectMapper.readTree(findJson(query)).get(0);
+    assertThat(first.get("customer").size()).isEqualTo(1);
+    assertThat(first.get("customer").get("id").isNumber()).isTrue();
+  }
+
+  @Test
+  public void assocOne_nestedJoins() throws IOException {
+
+    ResetBasicData.reset();
+
+    Query<Order> query = Ebean.find(Order.class)
+      .select("status")
+      .fetch("customer", "name")
+      .fetch("customer.billingAddress", "line1, city")
+      .order().asc("id");
+
+    assertSameAsToJson(query);
+
+    JsonNode first = objectMapper.readTree(findJson(query)).get(0);
+    assertThat(first.get("customer").get("name").asText()).isNotEmpty();
+  }
+
+  @Test
+  public void emptyResult() {
+
+    String json = findJson(Ebean.find(Customer.class).where().eq("name", "DoesNotExist").query());
+    assertThat(json).isEqualTo("[]");
+  }
+
+  @Test
+  public void expressionList_findJson() throws IOException {
+
+    ResetBasicData.reset();
+
+    StringWriter writer = new StringWriter();
+    Ebean.find(Customer.class).select("name").order("id").where().isNotNull("name").findJson(writer);
+
+    Query<Customer> query = Ebean.find(Customer.class).select("name").order("id").where().isNotNull("name").query();
+    assertThat(objectMapper.readTree(writer.toString())).isEqualTo(objectMapper.readTree(findJson(query)));
+    assertThat(objectMapper.readTree(writer.toString()).size()).isGreaterThan(0);
+  }
+
+  @Test(expected = PersistenceException.class)
+  public void toManyFetch_expect_unsupported() {
+
+    findJson(Ebean.find(Customer.class).fetch("contacts"));
+  }
+
+  @Test(expected = PersistenceException.class)
+  public void queryJoin_expect_unsupported() {
+
+    findJson(Ebean.find(Order.class).fetchQuery("customer"));
+  }
+}
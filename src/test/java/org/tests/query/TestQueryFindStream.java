@@ -0,0 +1,146 @@
+package org.tests.query;
+
+import io.ebean.BaseTestCase;
+import io.ebean.Ebean;
+import io.ebean.SqlRow;
+import io.ebean.Transaction;
+import org.avaje.datasource.DataSourcePool;
+import org.junit.Test;
+import org.tests.model.basic.Customer;
+import org.tests.model.basic.Order;
+import org.tests.model.basic.ResetBasicData;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestQueryFindStream extends BaseTestCase {
+
+  @Test
+  public void findStream() {
+
+    ResetBasicData.reset();
+
+    int expected = Ebean.find(Customer.class).findCount();
+
+    try (Stream<Customer> stream = Ebean.find(Customer.class).where().isNotNull("name").order().asc("id").findStream()) {
+      List<String> names = stream.map(Customer::getName).collect(Collectors.toList());
+      assertThat(names).hasSize(expected);
+    }
+  }
+
+  @Test
+  public void findStream_retainsPersistenceContext() {
+
+    ResetBasicData.reset();
+
+    Map<Customer, Boolean> customers = new IdentityHashMap<>();
+    int ids;
+    try (Stream<Order> stream = Ebean.find(Order.class).fetch("customer", "name").order().asc("id").findStream()) {
+      List<Order> orders = stream.collect(Collectors.toList());
+      for (Order order : orders) {
+        customers.put(order.getCustomer(), true);
+      }
+      ids = (int) orders.stream().map(order -> order.getCustomer().getId()).distinct().count();
+    }
+    // same customer id is the same instance
+    assertThat(customers).hasSize(ids);
+  }
+
+  @Test
+  public void findLargeStream() {
+
+    ResetBasicData.reset();
+
+    int expected = Ebean.find(Order.class).findCount();
+    try (Stream<Order> stream = Ebean.find(Order.class).fetch("customer", "name").findLargeStream()) {
+      assertThat(stream.filter(order -> order.getCustomer() != null).count()).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  public void findLargeStream_clearsPersistenceContext() {
+
+    ResetBasicData.reset();
+
+    Map<Customer, Boolean> customers = new IdentityHashMap<>();
+    List<Order> orders;
+    try (Stream<Order> stream = Ebean.find(Order.class).fetch("customer", "name").order().asc("id").findLargeStream()) {
+      orders = stream.collect(Collectors.toList());
+    }
+    for (Order order : orders) {
+      customers.put(order.getCustomer(), true);
+    }
+    long ids = orders.stream().map(order -> order.getCustomer().getId()).distinct().count();
+    assertThat(ids).isLessThan(orders.size());
+    // persistence context cleared per bean so the same customer id is a different instance
+    assertThat(customers).hasSize(orders.size());
+  }
+
+  @Test
+  public void findStream_consumedWithoutClose_releasesConnection() {
+
+    ResetBasicData.reset();
+
+    DataSourcePool pool = (DataSourcePool) server().getPluginApi().getDataSource();
+    int busy = pool.getStatus(false).getBusy();
+
+    long count = Ebean.find(Customer.class).findStream().count();
+    assertThat(count).isGreaterThan(0);
+    long largeCount = Ebean.find(Order.class).fetch("customer", "name").findLargeStream().count();
+    assertThat(largeCount).isGreaterThan(0);
+    // the rows were exhausted so the resultSet and transaction are closed
+    assertThat(pool.getStatus(false).getBusy()).isEqualTo(busy);
+  }
+
+  @Test
+  public void findStream_partialConsume_closes() {
+
+    ResetBasicData.reset();
+
+    try (Transaction transaction = Ebean.beginTransaction()) {
+      try (Stream<Customer> stream = Ebean.find(Customer.class).order().asc("id").findStream()) {
+        assertThat(stream.limit(1).count()).isEqualTo(1);
+      }
+      // transaction still usable after the stream closed
+      assertThat(transaction.isActive()).isTrue();
+      assertThat(Ebean.find(Customer.class).findCount()).isGreaterThan(0);
+    }
+  }
+
+  @Test
+  public void sqlQuery_findStream() {
+
+    ResetBasicData.reset();
+
+    List<SqlRow> rows = Ebean.createSqlQuery("select id, name from o_customer order by id").findList();
+
+    try (Stream<SqlRow> stream = Ebean.createSqlQuery("select id, name from o_customer order by id").findStream()) {
+      List<Object> names = stream.map(row -> row.get("NAME")).collect(Collectors.toList());
+      assertThat(names).hasSize(rows.size());
+      assertThat(names.get(0)).isEqualTo(rows.get(0).get("name"));
+    }
+
+    try (Stream<SqlRow> stream = Ebean.createSqlQuery("select id, name from o_customer").findLargeStream()) {
+      assertThat(stream.limit(2).count()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  public void sqlQuery_findStream_consumedWithoutClose_releasesConnection() {
+
+    ResetBasicData.reset();
+
+    DataSourcePool pool = (DataSourcePool) server().getPluginApi().getDataSource();
+    int busy = pool.getStatus(false).getBusy();
+
+    long count = Ebean.createSqlQuery("select id, name from o_customer").findStream().count();
+    assertThat(count).isGreaterThan(0);
+    // the rows were exhausted so the resultSet and transaction are closed
+    assertThat(pool.getStatus(false).getBusy()).isEqualTo(busy);
+  }
+}
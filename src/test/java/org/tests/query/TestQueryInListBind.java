@@ -0,0 +1,120 @@
+package org.tests.query;
+
+import io.ebean.BaseTestCase;
+import io.ebean.Ebean;
+import io.ebean.Query;
+import io.ebean.config.ServerConfig;
+import io.ebeaninternal.api.SpiEbeanServer;
+import org.junit.After;
+import org.junit.Test;
+import org.tests.model.basic.Customer;
+import org.tests.model.basic.Order;
+import org.tests.model.basic.ResetBasicData;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestQueryInListBind extends BaseTestCase {
+
+  private final ServerConfig serverConfig = ((SpiEbeanServer) Ebean.getDefaultServer()).getServerConfig();
+
+  @After
+  public void reset() {
+    serverConfig.setInListPadding(false);
+    serverConfig.setInListArrayBinding(false);
+  }
+
+  @Test
+  public void padding_in() {
+
+    ResetBasicData.reset();
+    serverConfig.setInListPadding(true);
+
+    Query<Customer> query = Ebean.find(Customer.class).where().in("name", "Rob", "Fiona", "Junk").query();
+    List<Customer> list = query.findList();
+
+    assertThat(list).extracting("name").contains("Rob", "Fiona");
+    assertThat(query.getGeneratedSql()).contains("t0.name in (?, ?, ?, ? )");
+
+    Query<Customer> query2 = Ebean.find(Customer.class).where().notIn("name", "Rob", "Fiona", "Junk", "Other").query();
+    query2.findList();
+    assertThat(query2.getGeneratedSql()).contains("t0.name not in (?, ?, ?, ? )");
+  }
+
+  @Test
+  public void padding_idIn() {
+
+    ResetBasicData.reset();
+    serverConfig.setInListPadding(true);
+
+    Query<Customer> query = Ebean.find(Customer.class).where().idIn(1, 2, 3, 4, 5).query();
+    query.findList();
+    assertThat(query.getGeneratedSql()).contains(" in (?,?,?,?,?,?,?,?)");
+
+    Query<Customer> query2 = Ebean.find(Customer.class).where().idIn(1, 2, 3, 4, 5, 6, 7).query();
+    query2.findList();
+    assertThat(query2.getGeneratedSql()).isEqualTo(query.getGeneratedSql());
+  }
+
+  @Test
+  public void arrayBinding() {
+
+    if (!isH2() && !isPostgres()) {
+      return;
+    }
+    ResetBasicData.reset();
+    serverConfig.setInListArrayBinding(true);
+
+    Query<Customer> query = Ebean.find(Customer.class).where().in("name", Arrays.asList("Rob", "Fiona", "Junk")).query();
+    List<Customer> list = query.findList();
+    assertThat(list).extracting("name").contains("Rob", "Fiona");
+
+    Query<Customer> query2 = Ebean.find(Customer.class).where().in("name", Arrays.asList("Rob", "Fiona")).query();
+    query2.findList();
+    assertThat(query2.getGeneratedSql()).isEqualTo(query.getGeneratedSql());
+
+    List<Integer> ids = Ebean.find(Customer.class).findIds();
+    Query<Customer> idQuery = Ebean.find(Customer.class).where().idIn(ids).query();
+    assertThat(idQuery.findList()).hasSize(ids.size());
+
+    Query<Customer> notInQuery = Ebean.find(Customer.class).where().notIn("name", Arrays.asList("Rob", "Fiona")).query();
+    assertThat(notInQuery.findList()).extracting("name").doesNotContain("Rob", "Fiona");
+
+    if (isH2()) {
+      assertThat(query.getGeneratedSql()).contains("t0.name in (select * from table(x varchar = ?))");
+      assertThat(idQuery.getGeneratedSql()).contains("t0.id in (select * from table(x int = ?))");
+      assertThat(notInQuery.getGeneratedSql()).contains("t0.name not in (select * from table(x varchar = ?))");
+    } else {
+      assertThat(query.getGeneratedSql()).contains("t0.name = any(?)");
+      assertThat(idQuery.getGeneratedSql()).contains("t0.id = any(?)");
+    }
+  }
+
+  @Test
+  public void arrayBinding_assocId() {
+
+    if (!isH2() && !isPostgres()) {
+      return;
+    }
+    ResetBasicData.reset();
+    serverConfig.setInListArrayBinding(true);
+
+    List<Customer> customers = Ebean.find(Customer.class).where().in("name", Arrays.asList("Rob", "Fiona")).findList();
+    assertThat(customers).hasSize(2);
+
+    Query<Order> query = Ebean.find(Order.class).where().in("customer", customers).query();
+    List<Order> orders = query.findList();
+    assertThat(orders).isNotEmpty();
+    for (Order order : orders) {
+      assertThat(order.getCustomer().getName()).isIn("Rob", "Fiona");
+    }
+
+    if (isH2()) {
+      assertThat(query.getGeneratedSql()).contains("t0.kcustomer_id in (select * from table(x int = ?))");
+    } else {
+      assertThat(query.getGeneratedSql()).contains("t0.kcustomer_id = any(?)");
+    }
+  }
+}
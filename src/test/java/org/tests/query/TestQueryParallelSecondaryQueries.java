@@ -0,0 +1,115 @@
+package org.tests.query;
+
+import io.ebean.BaseTestCase;
+import io.ebean.Ebean;
+import io.ebean.Query;
+import io.ebean.Transaction;
+import io.ebean.config.ServerConfig;
+import io.ebeaninternal.api.SpiEbeanServer;
+import io.ebeaninternal.api.SpiQuery;
+import org.ebeantest.LoggedSqlCollector;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.tests.model.basic.Order;
+import org.tests.model.basic.ResetBasicData;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestQueryParallelSecondaryQueries extends BaseTestCase {
+
+  private ServerConfig serverConfig;
+
+  @Before
+  public void setParallelism() {
+    serverConfig = ((SpiEbeanServer) server()).getServerConfig();
+    serverConfig.setSecondaryQueryParallelism(4);
+  }
+
+  @After
+  public void resetParallelism() {
+    serverConfig.setSecondaryQueryParallelism(1);
+  }
+
+  private Query<Order> query() {
+    Query<Order> query = Ebean.find(Order.class)
+      .setAutoTune(false)
+      .fetchQuery("customer", "name")
+      .fetchQuery("details")
+      .fetchQuery("shipments")
+      .order().asc("id");
+
+    ((SpiQuery<?>) query).setLogSecondaryQuery(true);
+    return query;
+  }
+
+  @Test
+  public void parallel() {
+
+    ResetBasicData.reset();
+
+    LoggedSqlCollector.start();
+    Query<Order> query = query();
+    List<Order> orders = query.findList();
+    List<String> sql = LoggedSqlCollector.stop();
+
+    assertThat(((SpiQuery<?>) query).getLoggedSecondaryQueries()).hasSize(3);
+    assertThat(sql).hasSize(4);
+    // 2 tasks (customer and the Order details and shipments) with the first executed
+    // using the parent transaction and the other in a background thread with its own
+    Set<String> transactions = transactions(sql);
+    assertThat(transactions).hasSize(2);
+    assertThat(transactions).contains(transactionId(sql.get(0)));
+
+    assertLoaded(orders);
+  }
+
+  @Test
+  public void explicitTransaction_expect_notParallel() {
+
+    ResetBasicData.reset();
+
+    List<String> sql;
+    try (Transaction transaction = Ebean.beginTransaction()) {
+      LoggedSqlCollector.start();
+      List<Order> orders = query().findList();
+      sql = LoggedSqlCollector.stop();
+      assertLoaded(orders);
+      transaction.commit();
+    }
+
+    assertThat(sql).hasSize(4);
+    assertThat(transactions(sql)).hasSize(1);
+  }
+
+  private void assertLoaded(List<Order> orders) {
+
+    assertThat(orders).isNotEmpty();
+    for (Order order : orders) {
+      assertThat(order.getCustomer().getName()).isNotNull();
+      assertThat(order.getDetails()).isNotNull();
+      assertThat(order.getShipments()).isNotNull();
+    }
+    // loaded by the secondary query rather than lazy loading
+    assertThat(orders.get(0).getDetails()).isNotEmpty();
+  }
+
+  /**
+   * Return the transaction ids of the logged sql (which is prefixed with txn[id]).
+   */
+  private Set<String> transactions(List<String> sql) {
+    Set<String> txnIds = new HashSet<>();
+    for (String stmt : sql) {
+      txnIds.add(transactionId(stmt));
+    }
+    return txnIds;
+  }
+
+  private String transactionId(String stmt) {
+    return stmt.substring(0, stmt.indexOf(']') + 1);
+  }
+}
@@ -0,0 +1,41 @@
+package org.tests.query;
+
+import io.ebean.BaseTestCase;
+import io.ebean.Ebean;
+import io.ebean.PersistenceContextScope;
+import io.ebean.bean.EntityBean;
+import org.junit.Test;
+import org.tests.model.basic.Order;
+import org.tests.model.basic.ResetBasicData;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestQueryPersistenceContextConcurrent extends BaseTestCase {
+
+  @Test
+  public void parallelStream_lazyLoad() {
+
+    ResetBasicData.reset();
+
+    List<Order> orders = Ebean.find(Order.class)
+      .setPersistenceContextScope(PersistenceContextScope.QUERY_CONCURRENT)
+      .select("status")
+      .fetch("customer", "id")
+      .findList();
+
+    assertThat(orders).isNotEmpty();
+    Object pc = ((EntityBean) orders.get(0))._ebean_getIntercept().getPersistenceContext();
+    assertThat(pc.getClass().getSimpleName()).isEqualTo("ConcurrentPersistenceContext");
+
+    // lazy load the customers from multiple threads
+    Set<String> names = orders.parallelStream()
+      .map(order -> order.getCustomer().getName())
+      .collect(Collectors.toSet());
+
+    assertThat(names).isNotEmpty();
+  }
+}
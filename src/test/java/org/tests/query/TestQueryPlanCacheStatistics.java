@@ -0,0 +1,45 @@
+package org.tests.query;
+
+import io.ebean.BaseTestCase;
+import io.ebean.Ebean;
+import io.ebean.meta.MetaInfoManager;
+import io.ebean.meta.MetaQueryPlanCacheStatistic;
+import org.junit.Test;
+import org.tests.model.basic.Customer;
+import org.tests.model.basic.ResetBasicData;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestQueryPlanCacheStatistics extends BaseTestCase {
+
+  @Test
+  public void test() {
+
+    ResetBasicData.reset();
+
+    MetaInfoManager metaInfoManager = Ebean.getDefaultServer().getMetaInfoManager();
+    metaInfoManager.getQueryPlanCacheStatistic(true);
+
+    for (int i = 0; i < 3; i++) {
+      Ebean.find(Customer.class)
+        .where().startsWith("name", "Rob").gt("id", i)
+        .setMaxRows(17)
+        .findList();
+    }
+
+    MetaQueryPlanCacheStatistic statistic = metaInfoManager.getQueryPlanCacheStatistic(true);
+    assertThat(statistic.getBuildCount()).isEqualTo(1);
+    assertThat(statistic.getBuildTimeMicros()).isGreaterThan(0);
+    assertThat(statistic.getHitCount()).isGreaterThanOrEqualTo(2);
+    assertThat(statistic.getMissCount()).isEqualTo(1);
+    assertThat(statistic.getSize()).isGreaterThan(0).isLessThanOrEqualTo(statistic.getMaxSize());
+    assertThat(statistic.getMaxSize()).isEqualTo(10000);
+
+    // the per bean type query plan statistics are still collected
+    assertThat(metaInfoManager.getMetaBeanInfo(Customer.class).collectAllQueryPlanStatistics(false)).isNotEmpty();
+
+    statistic = metaInfoManager.getQueryPlanCacheStatistic(false);
+    assertThat(statistic.getBuildCount()).isEqualTo(0);
+    assertThat(statistic.getHitCount()).isEqualTo(0);
+  }
+}
@@ -0,0 +1,118 @@
+package org.tests.transaction;
+
+import io.ebean.BaseTestCase;
+import io.ebean.EbeanServer;
+import io.ebean.EbeanServerFactory;
+import io.ebean.Transaction;
+import io.ebean.TxScope;
+import io.ebean.config.ContainerConfig;
+import io.ebean.config.ServerConfig;
+import io.ebean.meta.MetaDataSourceRoutingStatistic;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.tests.model.basic.EBasicVer;
+
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestReadOnlyDataSource extends BaseTestCase {
+
+  private static EbeanServer server;
+
+  @BeforeClass
+  public static void setup() {
+    server = create();
+  }
+
+  @AfterClass
+  public static void shutdown() {
+    server.shutdown(false, false);
+  }
+
+  private MetaDataSourceRoutingStatistic routing() {
+    return server.getMetaInfoManager().getDataSourceRoutingStatistic(true);
+  }
+
+  @Test
+  public void implicitQuery_expect_readOnly() {
+
+    server.save(new EBasicVer("readOnly"));
+
+    routing();
+    server.find(EBasicVer.class).findList();
+    server.find(EBasicVer.class).findCount();
+
+    MetaDataSourceRoutingStatistic routing = routing();
+    assertThat(routing.getReadOnlyCount()).isEqualTo(2);
+    assertThat(routing.getPrimaryCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void setUseReadOnlyDataSource_false_expect_primary() {
+
+    routing();
+    server.find(EBasicVer.class).setUseReadOnlyDataSource(false).findList();
+
+    MetaDataSourceRoutingStatistic routing = routing();
+    assertThat(routing.getReadOnlyCount()).isEqualTo(0);
+    assertThat(routing.getPrimaryCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void explicitTransaction_expect_readYourWrites() {
+
+    routing();
+    try (Transaction transaction = server.beginTransaction()) {
+      EBasicVer bean = new EBasicVer("readYourWrites");
+      server.save(bean);
+      EBasicVer found = server.find(EBasicVer.class, bean.getId());
+      assertThat(found).isNotNull();
+      transaction.commit();
+    }
+
+    assertThat(routing().getReadOnlyCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void txScope_readOnly_expect_readOnly() {
+
+    routing();
+    try (Transaction transaction = server.beginTransaction(TxScope.required().setReadOnly(true))) {
+      server.find(EBasicVer.class).findList();
+      transaction.commit();
+    }
+
+    assertThat(routing().getReadOnlyCount()).isEqualTo(1);
+  }
+
+  private static EbeanServer create() {
+
+    System.setProperty("ebean.ignoreExtraDdl", "true");
+
+    ServerConfig config = new ServerConfig();
+    config.setName("withReadOnly");
+
+    Properties properties = new Properties();
+    properties.setProperty("datasource.withReadOnly.username", "sa");
+    properties.setProperty("datasource.withReadOnly.password", "");
+    properties.setProperty("datasource.withReadOnly.databaseUrl", "jdbc:h2:mem:withReadOnly;");
+    properties.setProperty("datasource.withReadOnly.databaseDriver", "org.h2.Driver");
+    // the read only DataSource (typically a read replica)
+    properties.setProperty("datasource.withReadOnly-readonly.username", "sa");
+    properties.setProperty("datasource.withReadOnly-readonly.password", "");
+    properties.setProperty("datasource.withReadOnly-readonly.databaseUrl", "jdbc:h2:mem:withReadOnly;");
+    properties.setProperty("datasource.withReadOnly-readonly.databaseDriver", "org.h2.Driver");
+
+    config.loadFromProperties(properties);
+    config.setDdlGenerate(true);
+    config.setDdlRun(true);
+    config.setContainerConfig(new ContainerConfig());
+    config.setDefaultServer(false);
+    config.setRegister(false);
+    config.addClass(EBasicVer.class);
+
+    return EbeanServerFactory.create(config);
+  }
+}